@@ -0,0 +1,46 @@
+package org.ideaccum.libs.commons.config.benchmark;
+
+import org.ideaccum.libs.commons.config.ConfigName;
+import org.ideaccum.libs.commons.config.ConfigValueParser;
+import org.ideaccum.libs.commons.config.parser.IntParser;
+import org.ideaccum.libs.commons.config.parser.IntsParser;
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.ideaccum.libs.commons.config.parser.StringsParser;
+
+/**
+ * ベンチマークで利用するプロパティアクセスキーを提供します。<br>
+ * <p>
+ * 個別環境設定情報に定義されるキーと、グローバル環境設定情報のみに定義されるキーを提供します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public final class BenchmarkConfigName<T> extends ConfigName<T> {
+
+	/** 文字列値 */
+	public static final BenchmarkConfigName<String> STRING = new BenchmarkConfigName<>("benchmark.string", StringParser.class);
+
+	/** 文字列配列値 */
+	public static final BenchmarkConfigName<String[]> STRINGS = new BenchmarkConfigName<>("benchmark.strings", StringsParser.class);
+
+	/** 整数値 */
+	public static final BenchmarkConfigName<Integer> INT = new BenchmarkConfigName<>("benchmark.int", IntParser.class);
+
+	/** 整数値配列 */
+	public static final BenchmarkConfigName<Integer[]> INTS = new BenchmarkConfigName<>("benchmark.ints", IntsParser.class);
+
+	/** グローバル環境設定情報のみに定義される文字列値 */
+	public static final BenchmarkConfigName<String> INHERITED = new BenchmarkConfigName<>("benchmark.inherited", StringParser.class);
+
+	/**
+	 * コンストラクタ<br>
+	 * @param key プロパティキー
+	 * @param parserClass プロパティパーサークラス
+	 */
+	protected BenchmarkConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+		super(key, parserClass);
+	}
+}
@@ -0,0 +1,110 @@
+package org.ideaccum.libs.commons.config.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * ベンチマークで読み込むプロパティリソースを生成する処理を提供します。<br>
+ * <p>
+ * 生成されるリソースは一時ファイルとして作成され、JVM終了時に削除されます。<br>
+ * 同一のパラメータで生成したリソース内容は常に同一となるため、異なるコミット間でのベンチマーク結果を比較することができます。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+final class BenchmarkResources {
+
+	/** 1グループあたりのプロパティ数 */
+	private static final int GROUP_SIZE = 100;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private BenchmarkResources() {
+		super();
+	}
+
+	/**
+	 * 指定されたプロパティ数のプロパティリソースを生成します。<br>
+	 * {@link org.ideaccum.libs.commons.config.benchmark.BenchmarkConfigName}で定義されているキーに加え、"benchmark.groupN.keyM"形式の階層化されたキーが定義されます。<br>
+	 * @param keys 生成するプロパティ数
+	 * @param inherited {@link org.ideaccum.libs.commons.config.benchmark.BenchmarkConfigName#INHERITED}を定義する場合にtrue
+	 * @return 生成したプロパティリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	static String createProperties(int keys, boolean inherited) throws IOException {
+		File file = createTempFile(".properties");
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.ISO_8859_1))) {
+			writer.write(BenchmarkConfigName.STRING.getKey() + "=string value\n");
+			writer.write(BenchmarkConfigName.STRINGS.getKey() + "=alpha,beta,#gamma,delta,epsilon\n");
+			writer.write(BenchmarkConfigName.INT.getKey() + "=12345\n");
+			writer.write(BenchmarkConfigName.INTS.getKey() + "=1,2,3,4,5,6,7,8,9,10\n");
+			if (inherited) {
+				writer.write(BenchmarkConfigName.INHERITED.getKey() + "=inherited value\n");
+			}
+			for (int i = 0; i <= keys - 1; i++) {
+				writer.write("benchmark.group" + (i / GROUP_SIZE) + ".key" + i + "=value" + i + "\n");
+			}
+		}
+		return file.getPath();
+	}
+
+	/**
+	 * 指定されたプロパティ数に展開されるXMLリソースを生成します。<br>
+	 * XMLリソースは{@link org.ideaccum.libs.commons.config.benchmark.BenchmarkXmlNode}の構造で生成されます。<br>
+	 * @param keys 生成するプロパティ数(10の累乗で10以上)
+	 * @return 生成したXMLリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	static String createXml(int keys) throws IOException {
+		int depth = (int) Math.round(Math.log10(keys));
+		if (depth < 1 || Math.pow(10, depth) != keys) {
+			throw new IllegalArgumentException("keys must be a power of 10: " + keys);
+		}
+		File file = createTempFile(".xml");
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8))) {
+			writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+			writer.write("<config>\n");
+			writeXmlNode(writer, depth - 1);
+			writer.write("</config>\n");
+		}
+		return file.getPath();
+	}
+
+	/**
+	 * XMLリソースの子要素を再帰的に出力します。<br>
+	 * @param writer 出力先
+	 * @param depth 残りの階層数
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static void writeXmlNode(Writer writer, int depth) throws IOException {
+		if (depth <= 0) {
+			return;
+		}
+		for (int i = 0; i <= 9; i++) {
+			writer.write("<c" + i + ">");
+			writeXmlNode(writer, depth - 1);
+			writer.write("</c" + i + ">\n");
+		}
+	}
+
+	/**
+	 * JVM終了時に削除される一時ファイルを生成します。<br>
+	 * @param suffix ファイル拡張子
+	 * @return 一時ファイル
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static File createTempFile(String suffix) throws IOException {
+		File file = File.createTempFile("config-benchmark-", suffix);
+		file.deleteOnExit();
+		return file;
+	}
+}
@@ -0,0 +1,63 @@
+package org.ideaccum.libs.commons.config.benchmark;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * ベンチマークで読み込むXMLリソースのJAXB定義構成クラスです。<br>
+ * <p>
+ * 各階層で10個の子要素を持つ再帰構造とし、階層数によってプロパティ数を調整します。<br>
+ * 最下層の要素は子要素を持たないため、未定義の子要素10個がそれぞれ空文字列のプロパティとして展開され、階層数nのXMLリソースから10^n個のプロパティが読み込まれます。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+@XmlRootElement(name = "config")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class BenchmarkXmlNode {
+
+	/** 子要素0 */
+	@XmlElement(name = "c0")
+	private BenchmarkXmlNode c0;
+
+	/** 子要素1 */
+	@XmlElement(name = "c1")
+	private BenchmarkXmlNode c1;
+
+	/** 子要素2 */
+	@XmlElement(name = "c2")
+	private BenchmarkXmlNode c2;
+
+	/** 子要素3 */
+	@XmlElement(name = "c3")
+	private BenchmarkXmlNode c3;
+
+	/** 子要素4 */
+	@XmlElement(name = "c4")
+	private BenchmarkXmlNode c4;
+
+	/** 子要素5 */
+	@XmlElement(name = "c5")
+	private BenchmarkXmlNode c5;
+
+	/** 子要素6 */
+	@XmlElement(name = "c6")
+	private BenchmarkXmlNode c6;
+
+	/** 子要素7 */
+	@XmlElement(name = "c7")
+	private BenchmarkXmlNode c7;
+
+	/** 子要素8 */
+	@XmlElement(name = "c8")
+	private BenchmarkXmlNode c8;
+
+	/** 子要素9 */
+	@XmlElement(name = "c9")
+	private BenchmarkXmlNode c9;
+}
@@ -0,0 +1,119 @@
+package org.ideaccum.libs.commons.config.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.ideaccum.libs.commons.config.Config;
+import org.ideaccum.libs.commons.config.ConfigLoadMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * プロパティ参照処理の複数スレッドでの競合時のベンチマークを提供します。<br>
+ * <p>
+ * 全スレッドが同一の環境設定情報を参照する場合と、参照中に別スレッドが再読み込みを行う場合の参照処理時間を計測します。<br>
+ * 計測機能の有効化及び、サンプリング間隔ごとの参照処理への影響も合わせて計測します。<br>
+ * スレッド数は実行環境のプロセッサ数に依存するため、異なる環境間での結果比較時は実行時オプション"-t"でスレッド数を固定して下さい。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/16  agent            計測機能の有効化有無を追加
+ *-->
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ConfigContentionBenchmark {
+
+	/** 個別環境設定情報のプロパティ数 */
+	@Param({ "100", "10000" })
+	public int keys;
+
+	/** グローバル環境設定情報継承フラグ */
+	@Param({ "false", "true" })
+	public boolean inheritGlobal;
+
+	/** 計測機能のサンプリング間隔(0:計測なし) */
+	@Param({ "0", "1", "64" })
+	public int metrics;
+
+	/** 計測対象環境設定情報 */
+	private Config config;
+
+	/** 再読み込みプロパティリソースパス */
+	private String reloadPath;
+
+	/**
+	 * ベンチマーク対象の環境設定情報を準備します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		Config.global().load(BenchmarkResources.createProperties(100, true));
+		config = Config.create(inheritGlobal).load(BenchmarkResources.createProperties(keys, false));
+		reloadPath = BenchmarkResources.createProperties(100, false);
+		if (metrics > 0) {
+			config.enableMetrics(metrics);
+		}
+	}
+
+	/**
+	 * 全スレッドから同一の文字列値を取得します。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String sharedGet() {
+		return config.get(BenchmarkConfigName.STRING);
+	}
+
+	/**
+	 * 全スレッドから同一の整数値配列をプリミティブ型配列として取得します。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	@Threads(Threads.MAX)
+	public int[] sharedGetInts() {
+		return config.getInts(BenchmarkConfigName.INTS);
+	}
+
+	/**
+	 * 再読み込みと並行して文字列値を取得します。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	@Group("reload")
+	@GroupThreads(3)
+	public String reloadReader() {
+		return config.get(BenchmarkConfigName.STRING);
+	}
+
+	/**
+	 * 参照と並行して差分プロパティリソースを再読み込みします。<br>
+	 * @return 環境設定情報
+	 */
+	@Benchmark
+	@Group("reload")
+	@GroupThreads(1)
+	public Config reloadWriter() {
+		return config.load(reloadPath, ConfigLoadMode.REPLACE_EXISTS);
+	}
+}
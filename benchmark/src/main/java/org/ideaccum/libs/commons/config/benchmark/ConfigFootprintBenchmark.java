@@ -0,0 +1,117 @@
+package org.ideaccum.libs.commons.config.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.ideaccum.libs.commons.config.Config;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 環境設定情報が保持するプロパティのメモリ使用量のベンチマークを提供します。<br>
+ * <p>
+ * プロパティ数及び、保持形式ごとにプロパティリソースを読み込んだ環境設定情報を生成し、生成前後のヒープ使用量の差を"retainedBytes"カウンタとして出力します。<br>
+ * ヒープ使用量はガベージコレクションを要求して値が安定した時点で取得するため、処理時間はメモリ使用量の計測を含む参考値となります。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(2)
+@Threads(1)
+@State(Scope.Benchmark)
+public class ConfigFootprintBenchmark {
+
+	/** 読み込むプロパティ数 */
+	@Param({ "10000", "100000" })
+	public int keys;
+
+	/** コンパクト保持フラグ */
+	@Param({ "false", "true" })
+	public boolean compact;
+
+	/** プロパティリソースパス */
+	private String propertiesPath;
+
+	/**
+	 * 読み込み対象のリソースを生成します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		propertiesPath = BenchmarkResources.createProperties(keys, false);
+	}
+
+	/**
+	 * 計測したメモリ使用量を保持するカウンタです。<br>
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+
+		/** 環境設定情報の生成前後のヒープ使用量の差(バイト) */
+		public long retainedBytes;
+
+		/**
+		 * カウンタを初期化します。<br>
+		 */
+		@Setup(Level.Iteration)
+		public void reset() {
+			retainedBytes = 0;
+		}
+	}
+
+	/**
+	 * プロパティリソースを読み込んだ環境設定情報を生成し、保持されているメモリ使用量を計測します。<br>
+	 * @param footprint メモリ使用量カウンタ
+	 * @return 環境設定情報
+	 */
+	@Benchmark
+	public Config load(Footprint footprint) {
+		long before = usedHeap();
+		Config config = Config.create(false);
+		config.setCompact(compact);
+		config.load(propertiesPath);
+		footprint.retainedBytes = usedHeap() - before;
+		return config;
+	}
+
+	/**
+	 * ガベージコレクションを要求したうえでヒープ使用量を取得します。<br>
+	 * ガベージコレクションの完了は保証されないため、使用量が減少しなくなるまで繰り返し要求します。<br>
+	 * @return ヒープ使用量(バイト)
+	 */
+	private static long usedHeap() {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i <= 9; i++) {
+			System.gc();
+			long current = memory.getHeapMemoryUsage().getUsed();
+			if (current >= used) {
+				return current;
+			}
+			used = current;
+		}
+		return used;
+	}
+}
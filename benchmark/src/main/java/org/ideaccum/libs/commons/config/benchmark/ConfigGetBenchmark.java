@@ -0,0 +1,192 @@
+package org.ideaccum.libs.commons.config.benchmark;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.ideaccum.libs.commons.config.Config;
+import org.ideaccum.libs.commons.config.ConfigName;
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * プロパティ参照処理の単一スレッドでのベンチマークを提供します。<br>
+ * <p>
+ * グローバル環境設定情報の継承有無及び、レンダラの設定有無ごとに{@link org.ideaccum.libs.commons.config.Config}の参照系メソッドの処理時間を計測します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/16  agent            部分集合の参照を追加
+ *-->
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Benchmark)
+public class ConfigGetBenchmark {
+
+	/** 個別環境設定情報のプロパティ数 */
+	@Param({ "100", "10000" })
+	public int keys;
+
+	/** グローバル環境設定情報継承フラグ */
+	@Param({ "false", "true" })
+	public boolean inheritGlobal;
+
+	/** レンダラ設定先(none:設定なし、local:個別環境設定情報、global:グローバル環境設定情報) */
+	@Param({ "none", "local", "global" })
+	public String renderer;
+
+	/** 計測対象環境設定情報 */
+	private Config config;
+
+	/** 強制指定パーサー */
+	private StringParser parser;
+
+	/**
+	 * ベンチマーク対象の環境設定情報を準備します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		Config.global().load(BenchmarkResources.createProperties(100, true));
+		config = Config.create(inheritGlobal).load(BenchmarkResources.createProperties(keys, false));
+		if ("local".equals(renderer)) {
+			config.setRenderer((name, value) -> value.replace("value", "rendered"));
+		} else if ("global".equals(renderer)) {
+			Config.global().setRenderer((name, value) -> value.replace("value", "rendered"));
+		}
+		parser = new StringParser();
+	}
+
+	/**
+	 * グローバル環境設定情報の状態を初期化します。<br>
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Config.global().setRenderer(null);
+		Config.global().destroy();
+	}
+
+	/**
+	 * 個別環境設定情報に定義された文字列値を取得します。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	public String get() {
+		return config.get(BenchmarkConfigName.STRING);
+	}
+
+	/**
+	 * グローバル環境設定情報のみに定義された文字列値を取得します(継承しない場合は未定義値の取得となります)。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	public String getInherited() {
+		return config.get(BenchmarkConfigName.INHERITED);
+	}
+
+	/**
+	 * 文字列配列値を取得します。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	public String[] getStrings() {
+		return config.get(BenchmarkConfigName.STRINGS);
+	}
+
+	/**
+	 * 整数値配列をラッパークラス配列として取得します。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	public Integer[] getIntegers() {
+		return config.get(BenchmarkConfigName.INTS);
+	}
+
+	/**
+	 * 整数値をプリミティブ型として取得します。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	public int getInt() {
+		return config.getInt(BenchmarkConfigName.INT);
+	}
+
+	/**
+	 * 整数値配列をプリミティブ型配列として取得します。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	public int[] getInts() {
+		return config.getInts(BenchmarkConfigName.INTS);
+	}
+
+	/**
+	 * パーサーを強制指定して文字列値を取得します。<br>
+	 * @return プロパティ値
+	 */
+	@Benchmark
+	public String getWithParser() {
+		return config.get(BenchmarkConfigName.STRING, parser);
+	}
+
+	/**
+	 * プロパティキーセットを取得します。<br>
+	 * @return プロパティキーセット
+	 */
+	@Benchmark
+	public Set<ConfigName<?>> keySet() {
+		return config.keySet();
+	}
+
+	/**
+	 * プロパティ情報をマップ形式で取得します。<br>
+	 * @return プロパティ情報マップ
+	 */
+	@Benchmark
+	public Map<String, Object> map() {
+		return config.map();
+	}
+
+	/**
+	 * プロパティ情報を階層マップ形式で取得します。<br>
+	 * @return 階層化されたプロパティ情報マップ
+	 */
+	@Benchmark
+	public Map<String, Object> tree() {
+		return config.tree();
+	}
+
+	/**
+	 * 階層化されたキーの1グループを部分集合として取得し、全ての値を参照します。<br>
+	 * @return 参照した値の文字数合計
+	 */
+	@Benchmark
+	public int subset() {
+		int length = 0;
+		for (String value : config.subset("benchmark.group0").values()) {
+			length += value.length();
+		}
+		return length;
+	}
+}
@@ -0,0 +1,111 @@
+package org.ideaccum.libs.commons.config.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.ideaccum.libs.commons.config.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * プロパティリソース読み込み処理のベンチマークを提供します。<br>
+ * <p>
+ * プロパティ数ごとにプロパティリソース及び、JAXBによるXMLリソースの読み込み処理時間を計測します。<br>
+ * また、解析結果のスナップショットファイルが有効な状態でのプロパティリソース及び、XMLリソースの読み込み処理時間を計測します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/16  agent            スナップショットファイルからの読み込みを追加
+ * 2026/10/17  agent            スナップショットファイルからのプロパティリソースの読み込みを追加
+ *-->
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(1)
+@State(Scope.Benchmark)
+public class ConfigLoadBenchmark {
+
+	/** 読み込むプロパティ数 */
+	@Param({ "100", "10000", "100000" })
+	public int keys;
+
+	/** プロパティリソースパス */
+	private String propertiesPath;
+
+	/** XMLリソースパス */
+	private String xmlPath;
+
+	/** 読み込み先環境設定情報 */
+	private Config config;
+
+	/** スナップショットファイルを利用する読み込み先環境設定情報 */
+	private Config snapshotConfig;
+
+	/**
+	 * 読み込み対象のリソースを生成します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		propertiesPath = BenchmarkResources.createProperties(keys, false);
+		xmlPath = BenchmarkResources.createXml(keys);
+		config = Config.create(false);
+		snapshotConfig = Config.create(false);
+		snapshotConfig.setSnapshotDirectory(Files.createTempDirectory("config-benchmark-").toString());
+		snapshotConfig.load(propertiesPath);
+		snapshotConfig.load(BenchmarkXmlNode.class, xmlPath);
+	}
+
+	/**
+	 * プロパティリソースを読み込みます。<br>
+	 * @return 環境設定情報
+	 */
+	@Benchmark
+	public Config loadProperties() {
+		return config.load(propertiesPath);
+	}
+
+	/**
+	 * XMLリソースを読み込みます。<br>
+	 * @return 環境設定情報
+	 */
+	@Benchmark
+	public Config loadXml() {
+		return config.load(BenchmarkXmlNode.class, xmlPath);
+	}
+
+	/**
+	 * セットアップ時に作成したスナップショットファイルからプロパティリソースの解析結果を読み込みます。<br>
+	 * @return 環境設定情報
+	 */
+	@Benchmark
+	public Config loadPropertiesSnapshot() {
+		return snapshotConfig.load(propertiesPath);
+	}
+
+	/**
+	 * セットアップ時に作成したスナップショットファイルからXMLリソースの解析結果を読み込みます。<br>
+	 * @return 環境設定情報
+	 */
+	@Benchmark
+	public Config loadXmlSnapshot() {
+		return snapshotConfig.load(BenchmarkXmlNode.class, xmlPath);
+	}
+}
@@ -0,0 +1,331 @@
+package org.ideaccum.libs.commons.config.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ideaccum.libs.commons.config.parser.BooleanParser;
+import org.ideaccum.libs.commons.config.parser.BooleansParser;
+import org.ideaccum.libs.commons.config.parser.DoubleParser;
+import org.ideaccum.libs.commons.config.parser.DoublesParser;
+import org.ideaccum.libs.commons.config.parser.FloatParser;
+import org.ideaccum.libs.commons.config.parser.FloatsParser;
+import org.ideaccum.libs.commons.config.parser.IntParser;
+import org.ideaccum.libs.commons.config.parser.IntsParser;
+import org.ideaccum.libs.commons.config.parser.LongParser;
+import org.ideaccum.libs.commons.config.parser.LongsParser;
+import org.ideaccum.libs.commons.config.parser.ShortParser;
+import org.ideaccum.libs.commons.config.parser.ShortsParser;
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.ideaccum.libs.commons.config.parser.StringsParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * プロパティ値パーサーのベンチマークを提供します。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.config.parser}パッケージで提供される各パーサーのパース処理時間を計測します。<br>
+ * 配列型のパーサーは要素数ごとに、ラッパークラス配列とプリミティブ型配列のそれぞれのパース処理を計測します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+@State(Scope.Benchmark)
+public class ConfigParserBenchmark {
+
+	/** 配列型パーサーの要素数 */
+	@Param({ "10", "1000" })
+	public int elements;
+
+	/** 文字列値定義値 */
+	private String text;
+
+	/** 整数値定義値 */
+	private String integer;
+
+	/** 小数値定義値 */
+	private String decimal;
+
+	/** 真偽値定義値 */
+	private String bool;
+
+	/** 文字列値配列定義値 */
+	private String strings;
+
+	/** 整数値配列定義値 */
+	private String integers;
+
+	/** 小数値配列定義値 */
+	private String decimals;
+
+	/** 真偽値配列定義値 */
+	private String booleans;
+
+	/** 文字列値パーサー */
+	private final StringParser stringParser = new StringParser();
+
+	/** 整数値パーサー */
+	private final IntParser intParser = new IntParser();
+
+	/** 長整数値パーサー */
+	private final LongParser longParser = new LongParser();
+
+	/** 短整数値パーサー */
+	private final ShortParser shortParser = new ShortParser();
+
+	/** 浮動小数値パーサー */
+	private final FloatParser floatParser = new FloatParser();
+
+	/** 長浮動小数値パーサー */
+	private final DoubleParser doubleParser = new DoubleParser();
+
+	/** 真偽値パーサー */
+	private final BooleanParser booleanParser = new BooleanParser();
+
+	/** 文字列値配列パーサー */
+	private final StringsParser stringsParser = new StringsParser();
+
+	/** 整数値配列パーサー */
+	private final IntsParser intsParser = new IntsParser();
+
+	/** 長整数値配列パーサー */
+	private final LongsParser longsParser = new LongsParser();
+
+	/** 短整数値配列パーサー */
+	private final ShortsParser shortsParser = new ShortsParser();
+
+	/** 浮動小数値配列パーサー */
+	private final FloatsParser floatsParser = new FloatsParser();
+
+	/** 長浮動小数値配列パーサー */
+	private final DoublesParser doublesParser = new DoublesParser();
+
+	/** 真偽値配列パーサー */
+	private final BooleansParser booleansParser = new BooleansParser();
+
+	/**
+	 * 単一値の定義値及び、要素数に応じた配列定義値を生成します。<br>
+	 * 配列定義値には10要素ごとにコメントトークンが含まれます。<br>
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		this.text = "string value";
+		this.integer = "12345";
+		this.decimal = "12345.6789";
+		this.bool = "true";
+		StringBuilder strings = new StringBuilder();
+		StringBuilder integers = new StringBuilder();
+		StringBuilder decimals = new StringBuilder();
+		StringBuilder booleans = new StringBuilder();
+		for (int i = 0; i <= elements - 1; i++) {
+			String delimiter = i == 0 ? "" : ",";
+			String comment = i % 10 == 9 ? "#" : "";
+			strings.append(delimiter).append(comment).append("value").append(i);
+			integers.append(delimiter).append(comment).append(i * 7);
+			decimals.append(delimiter).append(comment).append(i).append(".5");
+			booleans.append(delimiter).append(comment).append(i % 2 == 0);
+		}
+		this.strings = strings.toString();
+		this.integers = integers.toString();
+		this.decimals = decimals.toString();
+		this.booleans = booleans.toString();
+	}
+
+	/**
+	 * 文字列値としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public String stringParser() {
+		return stringParser.parse(text);
+	}
+
+	/**
+	 * 整数値としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Integer intParser() {
+		return intParser.parse(integer);
+	}
+
+	/**
+	 * 長整数値としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Long longParser() {
+		return longParser.parse(integer);
+	}
+
+	/**
+	 * 短整数値としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Short shortParser() {
+		return shortParser.parse(integer);
+	}
+
+	/**
+	 * 浮動小数値としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Float floatParser() {
+		return floatParser.parse(decimal);
+	}
+
+	/**
+	 * 長浮動小数値としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Double doubleParser() {
+		return doubleParser.parse(decimal);
+	}
+
+	/**
+	 * 真偽値としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Boolean booleanParser() {
+		return booleanParser.parse(bool);
+	}
+
+	/**
+	 * 文字列値配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public String[] stringsParser() {
+		return stringsParser.parse(strings);
+	}
+
+	/**
+	 * 整数値配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Integer[] intsParser() {
+		return intsParser.parse(integers);
+	}
+
+	/**
+	 * 整数値配列をプリミティブ型配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public int[] intsParserPrimitives() {
+		return intsParser.parsePrimitives(integers);
+	}
+
+	/**
+	 * 長整数値配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Long[] longsParser() {
+		return longsParser.parse(integers);
+	}
+
+	/**
+	 * 長整数値配列をプリミティブ型配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public long[] longsParserPrimitives() {
+		return longsParser.parsePrimitives(integers);
+	}
+
+	/**
+	 * 短整数値配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Short[] shortsParser() {
+		return shortsParser.parse(integers);
+	}
+
+	/**
+	 * 短整数値配列をプリミティブ型配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public short[] shortsParserPrimitives() {
+		return shortsParser.parsePrimitives(integers);
+	}
+
+	/**
+	 * 浮動小数値配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Float[] floatsParser() {
+		return floatsParser.parse(decimals);
+	}
+
+	/**
+	 * 浮動小数値配列をプリミティブ型配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public float[] floatsParserPrimitives() {
+		return floatsParser.parsePrimitives(decimals);
+	}
+
+	/**
+	 * 長浮動小数値配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Double[] doublesParser() {
+		return doublesParser.parse(decimals);
+	}
+
+	/**
+	 * 長浮動小数値配列をプリミティブ型配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public double[] doublesParserPrimitives() {
+		return doublesParser.parsePrimitives(decimals);
+	}
+
+	/**
+	 * 真偽値配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public Boolean[] booleansParser() {
+		return booleansParser.parse(booleans);
+	}
+
+	/**
+	 * 真偽値配列をプリミティブ型配列としてパースします。<br>
+	 * @return パース後の値
+	 */
+	@Benchmark
+	public boolean[] booleansParserPrimitives() {
+		return booleansParser.parsePrimitives(booleans);
+	}
+}
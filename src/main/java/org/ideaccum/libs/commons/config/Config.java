@@ -1,20 +1,37 @@
 package org.ideaccum.libs.commons.config;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
-import java.lang.reflect.Field;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javax.xml.bind.JAXB;
-import javax.xml.bind.annotation.XmlElement;
 
 import org.ideaccum.libs.commons.config.exception.ConfigException;
-import org.ideaccum.libs.commons.util.ClassUtil;
 import org.ideaccum.libs.commons.util.PropertiesUtil;
 import org.ideaccum.libs.commons.util.ResourceUtil;
 import org.ideaccum.libs.commons.util.StringUtil;
@@ -36,12 +53,51 @@ import org.ideaccum.libs.commons.util.StringUtil;
  * 2019/11/07  Kitagawa         get*****系メソッドを削除し、{@link #get(ConfigName)}を利用させることを強制
  * 2019/11/07  Kitagawa         シングルトンインスタンス取得と個別インスタンス生成後に利用するAPI構成に変更
  * 2019/11/27  Kitagawa         XMLリソースからの読み込みはJAXBを用いた定義構成クラスをもとに解析する仕様に変更
+ * 2026/10/16  agent            {@link #get(ConfigName)}で取得したパース済みの値をキャッシュする仕様に変更
+ * 2026/10/16  agent            プロパティ定義情報を不変スナップショットとして保持し、参照時に同期化しない仕様に変更
+ * 2026/10/16  agent            プロパティ定義情報及び、パース済みの値をConfigNameのインデックスを添字とする配列で保持する仕様に変更
+ * 2026/10/16  agent            ボクシングせずに値を提供するプリミティブ型アクセッサを追加
+ * 2026/10/16  agent            読み込み手順を記録し、プロパティリソースの変更を監視して再読み込みする機能を追加
+ * 2026/10/16  agent            プロパティ定義値の変更を通知するリスナ機能を追加
+ * 2026/10/16  agent            レンダラのキャッシュ方針に従ってレンダラ処理結果をキャッシュする仕様に変更
+ * 2026/10/16  agent            読み込み時に解決される"${キー}"形式のプロパティ参照機能を追加
+ * 2026/10/16  agent            任意数のレイヤを統合したスナップショットから値を提供する階層化機能を追加
+ * 2026/10/16  agent            複数リソースの読み込み時にリソースの解析を並列に行う機能を追加
+ * 2026/10/16  agent            バイトバッファから直接解析するプロパティリソース読み込み機能を追加
+ * 2026/10/16  agent            プロパティをバイト列に格納するコンパクト保持機能を追加
+ * 2026/10/16  agent            解析結果をスナップショットファイルに保存して再利用する機能を追加
+ * 2026/10/16  agent            XMLリソースの展開はクラスごとにキャッシュした展開手順で行う仕様に変更
+ * 2026/10/16  agent            XML構造クラスを利用せずにStAXで展開するXMLリソース読み込み機能を追加
+ * 2026/10/16  agent            接頭辞を指定したプロパティキーの取得を追加
+ * 2026/10/16  agent            接頭辞で始まるプロパティを複製せずに参照する部分集合の取得を追加
+ * 2026/10/16  agent            階層形式のマップをスナップショットごとに保持し、各階層を参照時に生成する仕様に変更
+ * 2026/10/16  agent            部分集合を設定クラスのインスタンスに設定するバインド機能を追加
+ * 2026/10/16  agent            パーサーをインスタンスごとに生成せず、プロセス全体で共有する仕様に変更
+ * 2026/10/16  agent            参照及び、読み込みの計測機能を追加
+ * 2026/10/16  agent            読み込み、反映、レンダラ処理及び、パース失敗をJava Flight Recorderのイベントとして記録する機能を追加
+ * 2026/10/17  agent            リスナへの通知を同期化ブロック外で行い、参照時に通知しない仕様に変更
+ * 2026/10/17  agent            キャッシュされた配列を複製して提供する仕様に変更
+ * 2026/10/17  agent            同一インスタンスとなるグローバル環境設定情報へのマージ処理を削除
+ * 2026/10/17  agent            レンダラの変更をバインディングに反映する仕様に変更
+ * 2026/10/17  agent            部分集合の参照後は整列済みのプロパティキーを更新時に生成する仕様に変更
  *-->
  */
 public final class Config implements Serializable {
 
+	/** シリアルバージョンUID */
+	private static final long serialVersionUID = 1L;
+
+	/** 環境設定情報自身のレイヤ名 */
+	public static final String LOCAL_LAYER = "local";
+
+	/** グローバル環境設定情報を継承する場合のレイヤ名 */
+	public static final String GLOBAL_LAYER = "global";
+
+	/** プロパティリソース監視時の変更イベント発生から再読み込みまでの待機時間初期値(ミリ秒) */
+	private static final long DEFAULT_WATCH_DELAY = 500;
+
 	/** シングルトンインスタンス */
-	private static Config global = new Config(false);
+	private static Config global = new Config(false, new ConfigLayer[0], 0);
 
 	/** ロックオブジェクト */
 	private Object lock = new Object();
@@ -49,25 +105,495 @@ public final class Config implements Serializable {
 	/** シングルトンインスタンス値継承フラグ */
 	private boolean inheritGlobal;
 
-	/** 環境設定プロパティオブジェクト */
-	private Properties properties;
+	/** 環境設定プロパティスナップショット(プロパティ参照を行う場合は参照解決後) */
+	private volatile ConfigSnapshot snapshot;
+
+	/** プロパティ参照解決前の環境設定プロパティスナップショット(プロパティ参照を行わない場合はスナップショットと同一) */
+	private volatile ConfigSnapshot source;
+
+	/** プロパティ参照解決状態(プロパティ参照を行わない場合はnull) */
+	private volatile ConfigInterpolation interpolation;
+
+	/** コンパクト保持フラグ */
+	private volatile boolean compact;
+
+	/** レイヤ(優先順、自身は含まない) */
+	private final ConfigLayer[] layers;
+
+	/** レイヤにおける自身の位置(これより前のレイヤは自身より優先される上位レイヤ) */
+	private final int local;
+
+	/** 下位レイヤを統合したスナップショット(下位レイヤが存在しない場合はnull) */
+	private volatile ConfigSnapshot lower;
+
+	/** 上位レイヤを統合したスナップショット(上位レイヤが存在しない場合はnull) */
+	private volatile ConfigSnapshot upper;
+
+	/** 自身及び、全てのレイヤを統合した参照用スナップショット */
+	private volatile ConfigSnapshot view;
+
+	/** 下位レイヤ更新フラグ(統合したスナップショットの再構築が必要な場合にtrue) */
+	private volatile boolean stale;
+
+	/** 自身をレイヤとして参照している環境設定情報 */
+	private final List<WeakReference<Config>> dependents;
 
 	/** プロパティ定義内容レンダラオブジェクト */
 	private ConfigValueRenderer renderer;
 
-	/** プロパティパースオブジェクト */
-	private Map<Class<? extends ConfigValueParser<?>>, ConfigValueParser<?>> parsers;
+	/** 状態更新リビジョン */
+	private volatile int revision;
+
+	/** パース済みプロパティ値キャッシュ */
+	private volatile ValueCache cache;
+
+	/** 現在の状態を再現するための読み込み手順(ロックオブジェクトの同期化ブロック内で置き換え) */
+	private List<LoadStep> history;
+
+	/** 読み込み手順の更新リビジョン */
+	private int historyRevision;
+
+	/** プロパティリソース監視オブジェクト */
+	private ConfigWatcher watcher;
+
+	/** プロパティリソース解析処理の実行オブジェクト(nullの場合は呼び出しスレッドで順に解析) */
+	private volatile Executor executor;
+
+	/** プロパティリソースをバイトバッファから直接解析する際の文字コード(nullの場合はPropertiesUtilで読み込み) */
+	private volatile Charset charset;
+
+	/** 解析結果のスナップショットファイル(nullの場合は常にリソースから解析) */
+	private volatile ConfigSnapshotFile snapshotFile;
+
+	/** 変更通知リスナ */
+	private final ConfigListenerRegistry listeners;
+
+	/** 変更に追従しているバインディング */
+	private final Set<ConfigBinding<?>> bindings;
+
+	/** リスナに通知済みの参照用スナップショット(ロックオブジェクトの同期化ブロック内で置き換え) */
+	private ConfigSnapshot published;
+
+	/** 通知済みの参照用スナップショットから定義値が変更された可能性のあるキー(特定できない場合はnull、ロックオブジェクトの同期化ブロック内で更新) */
+	private Set<String> changes;
+
+	/** リスナ通知中フラグ(ロックオブジェクトの同期化ブロック内で更新) */
+	private boolean dispatching;
+
+	/** 参照用スナップショットの直近の変更内容(変更されていない場合はnull) */
+	private volatile Transition transition;
+
+	/** 参照用スナップショットの統合に利用したレイヤのスナップショット(ロックオブジェクトの同期化ブロック内で置き換え) */
+	private ConfigSnapshot[] stacked;
+
+	/** 計測値(計測を行わない場合はnull) */
+	private volatile ConfigMetrics metrics;
+
+	/** 整列済みのプロパティキーを参照用スナップショットの生成時に生成するフラグ(部分集合が参照された場合にtrue) */
+	private volatile boolean indexed;
+
+	/**
+	 * 再読み込みのために記録するプロパティ読み込み手順クラスです。<br>
+	 * <p>
+	 * プロパティリソースの読み込み又は、他の環境設定情報からのマージのいずれかを表します。<br>
+	 * </p>
+	 */
+	private static final class LoadStep {
+
+		/** XML構造クラス(プロパティリソース、StAXで展開するXMLリソース又は、マージの場合はnull) */
+		private final Class<?> type;
+
+		/** XMLリソースフラグ(XML構造クラスが指定されていない場合はStAXで展開) */
+		private final boolean xml;
+
+		/** プロパティリソースパス(マージの場合はnull) */
+		private final String filePath;
+
+		/** 読み込みモード */
+		private final ConfigLoadMode mode;
+
+		/** プロパティリソースを直接解析する際の文字コード(PropertiesUtilで読み込む場合はnull) */
+		private final Charset charset;
+
+		/** マージされたスナップショット(リソース読み込みの場合はnull) */
+		private final ConfigSnapshot merged;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param type XML構造クラス(プロパティリソース又は、StAXで展開するXMLリソースの場合はnull)
+		 * @param xml XMLリソースの場合にtrue
+		 * @param filePath プロパティリソースパス
+		 * @param mode 読み込みモード
+		 * @param charset プロパティリソースを直接解析する際の文字コード
+		 */
+		private LoadStep(Class<?> type, boolean xml, String filePath, ConfigLoadMode mode, Charset charset) {
+			this.type = type;
+			this.xml = xml || type != null;
+			this.filePath = filePath;
+			this.mode = mode == null ? ConfigLoadMode.REPLACE_ALL : mode;
+			this.charset = charset;
+			this.merged = null;
+		}
+
+		/**
+		 * コンストラクタ<br>
+		 * @param merged マージされたスナップショット
+		 */
+		private LoadStep(ConfigSnapshot merged) {
+			this.type = null;
+			this.xml = false;
+			this.filePath = null;
+			this.mode = ConfigLoadMode.REPLACE_EXISTS;
+			this.charset = null;
+			this.merged = merged;
+		}
+
+		/**
+		 * プロパティリソースを読み込みます。<br>
+		 * 読み込みイベントが有効な場合は、リソースごとの読み込み処理をイベントとして記録します。<br>
+		 * @return 読み込まれたプロパティ情報(マージの場合はnull)
+		 * @throws IOException 入出力例外が発生した場合にスローされます
+		 */
+		private Map<?, ?> read() throws IOException {
+			if (merged != null) {
+				return null;
+			}
+			ConfigEvents events = ConfigEvents.INSTANCE;
+			Object event = events.beginLoad();
+			Map<?, ?> loaded;
+			if (type != null) {
+				loaded = loadFromXml(type, filePath);
+			} else {
+				loaded = xml ? ConfigXmlReader.read(filePath) : loadFromProperties(filePath, charset);
+			}
+			if (event != null) {
+				events.endLoad(event, filePath, mode, loaded);
+			}
+			return loaded;
+		}
+
+		/**
+		 * 解析結果を識別する文字列を取得します。<br>
+		 * 読み込みモードは解析結果に影響しないため含まれません。<br>
+		 * @return 解析結果を識別する文字列
+		 */
+		private String describe() {
+			return (type != null ? type.getName() : xml ? "<xml>" : "") + "|" + (charset == null ? "" : charset.name()) + "|" + filePath;
+		}
+
+		/**
+		 * 読み込まれたプロパティ情報をスナップショットに反映します。<br>
+		 * @param base 反映元スナップショット
+		 * @param loaded {@link #read()}で読み込まれたプロパティ情報
+		 * @return 反映後のスナップショット
+		 */
+		private ConfigSnapshot apply(ConfigSnapshot base, Map<?, ?> loaded) {
+			if (merged != null) {
+				return base.merge(merged);
+			}
+			return base.apply(loaded, mode);
+		}
+	}
+
+	/**
+	 * パース済みプロパティ値のキャッシュを管理するクラスです。<br>
+	 * <p>
+	 * キャッシュは生成時点の状態更新リビジョンに対してのみ有効です(下位レイヤの更新時もリビジョンが更新されます)。<br>
+	 * 値は生成時点で保持したスナップショット及び、レンダラのみから解決され、状態が更新された場合はキャッシュ内容をクリアせずにインスタンスごと破棄するため、更新前の状態でパースされた値が混在することはありません。<br>
+	 * </p>
+	 * <p>
+	 * レンダラ処理結果のキャッシュはレンダラが宣言するキャッシュ方針に従います。<br>
+	 * {@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#VOLATILE}の場合はプロパティ取得の都度レンダラ処理を行い、処理結果が前回と同一の場合のみパース済みの値を再利用します。<br>
+	 * 全てのレンダラが{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#PURE}の場合は、直前のキャッシュから定義値が変わっていないエントリを引き継ぎます。<br>
+	 * </p>
+	 */
+	private static final class ValueCache {
+
+		/** キャッシュ生成時の状態更新リビジョン */
+		private final int revision;
+
+		/** キャッシュ生成時のレイヤを統合した参照用スナップショット */
+		private final ConfigSnapshot snapshot;
+
+		/** ConfigNameインデックスを添字とするパース済みプロパティ値 */
+		private final AtomicReferenceArray<CacheEntry> named;
+
+		/** キャッシュ生成後にクラスロードされたConfigName等の配列で管理できないパース済みプロパティ値 */
+		private final ConcurrentMap<ConfigName<?>, CacheEntry> others;
+
+		/** キャッシュ生成時のグローバル環境設定情報レンダラ(継承しない場合はnull) */
+		private final ConfigValueRenderer globalRenderer;
+
+		/** キャッシュ生成時のレンダラ */
+		private final ConfigValueRenderer renderer;
+
+		/** レンダラ処理結果のキャッシュ方針 */
+		private final ConfigRenderPolicy policy;
+
+		/** 引き継ぎ元キャッシュのConfigNameインデックスを添字とするパース済みプロパティ値(引き継がない場合はnull) */
+		private final AtomicReferenceArray<CacheEntry> carriedNamed;
+
+		/** 引き継ぎ元キャッシュの配列で管理できないパース済みプロパティ値(引き継がない場合はnull) */
+		private final ConcurrentMap<ConfigName<?>, CacheEntry> carriedOthers;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param revision キャッシュ生成時の状態更新リビジョン
+		 * @param snapshot キャッシュ生成時のレイヤを統合した参照用スナップショット
+		 * @param globalRenderer キャッシュ生成時のグローバル環境設定情報レンダラ
+		 * @param renderer キャッシュ生成時のレンダラ
+		 * @param previous 直前のキャッシュ(存在しない場合はnull)
+		 */
+		private ValueCache(int revision, ConfigSnapshot snapshot, ConfigValueRenderer globalRenderer, ConfigValueRenderer renderer, ValueCache previous) {
+			this.revision = revision;
+			this.snapshot = snapshot;
+			this.named = new AtomicReferenceArray<>(ConfigName.bound());
+			this.others = new ConcurrentHashMap<>();
+			this.globalRenderer = globalRenderer;
+			this.renderer = renderer;
+			this.policy = policyOf(globalRenderer).combine(policyOf(renderer));
+			if (policy == ConfigRenderPolicy.PURE && previous != null && previous.globalRenderer == globalRenderer && previous.renderer == renderer) {
+				// 直前のキャッシュのエントリのみを参照し、引き継ぎ元の引き継ぎ情報は連鎖させない
+				this.carriedNamed = previous.named;
+				this.carriedOthers = previous.others;
+			} else {
+				this.carriedNamed = null;
+				this.carriedOthers = null;
+			}
+		}
+
+		/**
+		 * レンダラのキャッシュ方針を取得します。<br>
+		 * @param renderer レンダラ
+		 * @return キャッシュ方針(レンダラが存在しない場合は{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#PURE})
+		 */
+		private static ConfigRenderPolicy policyOf(ConfigValueRenderer renderer) {
+			return renderer == null ? ConfigRenderPolicy.PURE : renderer.getRenderPolicy();
+		}
+
+		/**
+		 * レンダラ処理結果をキャッシュできるか判定します。<br>
+		 * @return キャッシュできる場合にtrueを返却
+		 */
+		private boolean isStable() {
+			return policy != ConfigRenderPolicy.VOLATILE;
+		}
+
+		/**
+		 * レンダラが設定されているか判定します。<br>
+		 * @return レンダラが設定されている場合にtrueを返却
+		 */
+		private boolean hasRenderer() {
+			return globalRenderer != null || renderer != null;
+		}
+
+		/**
+		 * キャッシュ生成時のレンダラでプロパティ定義値を補正します。<br>
+		 * @param name プロパティアクセスキー
+		 * @param source プロパティ定義値
+		 * @return 補正後の定義値
+		 */
+		private String render(ConfigName<?> name, String source) {
+			String value = source == null ? "" : source;
+			if (globalRenderer != null) {
+				value = ConfigEvents.INSTANCE.render(globalRenderer, name, value);
+			}
+			if (renderer != null) {
+				value = ConfigEvents.INSTANCE.render(renderer, name, value);
+			}
+			return value;
+		}
+
+		/**
+		 * 直前のキャッシュから定義値が変わっていないエントリを取得します。<br>
+		 * @param name プロパティアクセスキー
+		 * @param source 現在のプロパティ定義値
+		 * @return 引き継ぎ可能なエントリ(存在しない場合はnull)
+		 */
+		private CacheEntry carried(ConfigName<?> name, String source) {
+			if (carriedNamed == null) {
+				return null;
+			}
+			CacheEntry entry = name.ordinal() < carriedNamed.length() ? carriedNamed.get(name.ordinal()) : null;
+			if (entry == null || entry.name != name) {
+				entry = carriedOthers.get(name);
+			}
+			if (entry != null && Objects.equals(entry.source, source)) {
+				return entry;
+			}
+			return null;
+		}
+
+		/**
+		 * キャッシュされているパース済みプロパティ値を取得します。<br>
+		 * @param name プロパティアクセスキー
+		 * @return キャッシュエントリ(キャッシュされていない場合はnull)
+		 */
+		private CacheEntry get(ConfigName<?> name) {
+			int ordinal = name.ordinal();
+			if (ordinal < named.length()) {
+				CacheEntry entry = named.get(ordinal);
+				if (entry == null || entry.name == name) {
+					return entry;
+				}
+			}
+			return others.get(name);
+		}
+
+		/**
+		 * パース済みプロパティ値をキャッシュします。<br>
+		 * 既に他のスレッドによりキャッシュされている場合はキャッシュ済みのエントリが優先されます。<br>
+		 * @param entry キャッシュエントリ
+		 * @return キャッシュされたエントリ
+		 */
+		private CacheEntry put(CacheEntry entry) {
+			int ordinal = entry.name.ordinal();
+			if (ordinal < named.length()) {
+				if (named.compareAndSet(ordinal, null, entry)) {
+					return entry;
+				}
+				CacheEntry current = named.get(ordinal);
+				if (current.name == entry.name) {
+					return current;
+				}
+				// 同一キーで異なるインスタンスが生成されている場合はマップ側で管理
+			}
+			CacheEntry current = others.putIfAbsent(entry.name, entry);
+			return current == null ? entry : current;
+		}
+
+		/**
+		 * パース済みプロパティ値を置き換えてキャッシュします。<br>
+		 * レンダラ処理結果をキャッシュできない場合に、直前の処理結果に対するパース済みの値を保持するために利用します。<br>
+		 * @param entry キャッシュエントリ
+		 * @return キャッシュされたエントリ
+		 */
+		private CacheEntry replace(CacheEntry entry) {
+			int ordinal = entry.name.ordinal();
+			if (ordinal < named.length()) {
+				CacheEntry current = named.get(ordinal);
+				if (current == null || current.name == entry.name) {
+					named.set(ordinal, entry);
+					return entry;
+				}
+			}
+			others.put(entry.name, entry);
+			return entry;
+		}
+
+		/**
+		 * キャッシュ生成時の状態からプロパティ定義値を取得します。<br>
+		 * @param name プロパティアクセスキー
+		 * @return プロパティ定義値
+		 */
+		private String lookup(ConfigName<?> name) {
+			return snapshot.get(name);
+		}
+	}
+
+	/**
+	 * パース済みプロパティ値のキャッシュエントリクラスです。<br>
+	 */
+	private static final class CacheEntry {
+
+		/** プロパティアクセスキー */
+		private final ConfigName<?> name;
+
+		/** レンダラ処理前のプロパティ定義値 */
+		private final String source;
+
+		/** レンダラ処理後のプロパティ定義値 */
+		private final String rendered;
+
+		/** パース済みプロパティ値 */
+		private final Object value;
+
+		/** パース済みプロパティ値のプリミティブ型配列表現(初回参照時に生成) */
+		private volatile Object primitives;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param name プロパティアクセスキー
+		 * @param source レンダラ処理前のプロパティ定義値
+		 * @param rendered レンダラ処理後のプロパティ定義値
+		 * @param value パース済みプロパティ値
+		 */
+		private CacheEntry(ConfigName<?> name, String source, String rendered, Object value) {
+			this.name = name;
+			this.source = source;
+			this.rendered = rendered;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * 参照用スナップショットの変更内容クラスです。<br>
+	 * <p>
+	 * 自身をレイヤとして参照する環境設定情報が、統合したスナップショットの再構築時に変更されたキーを特定するために利用します。<br>
+	 * 再構築時に参照したスナップショットが変更前後のスナップショットと一致しない場合、変更されたキーは特定できないものとして扱われます。<br>
+	 * </p>
+	 */
+	private static final class Transition {
+
+		/** 変更前の参照用スナップショット */
+		private final ConfigSnapshot before;
+
+		/** 変更後の参照用スナップショット */
+		private final ConfigSnapshot after;
+
+		/** 定義値が変更された可能性のあるキー(特定できない場合はnull) */
+		private final Collection<String> keys;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param before 変更前の参照用スナップショット
+		 * @param after 変更後の参照用スナップショット
+		 * @param keys 定義値が変更された可能性のあるキー(特定できない場合はnull)
+		 */
+		private Transition(ConfigSnapshot before, ConfigSnapshot after, Collection<String> keys) {
+			this.before = before;
+			this.after = after;
+			this.keys = keys;
+		}
+	}
 
 	/**
 	 * コンストラクタ<br>
 	 * @param inheritGlobal シングルトンインスタンス値継承フラグ
+	 * @param layers レイヤ(優先順、自身は含まない)
+	 * @param local レイヤにおける自身の位置
 	 */
-	private Config(boolean inheritGlobal) {
+	private Config(boolean inheritGlobal, ConfigLayer[] layers, int local) {
 		super();
 		this.inheritGlobal = inheritGlobal;
-		this.properties = new Properties();
+		this.snapshot = ConfigSnapshot.EMPTY;
+		this.source = ConfigSnapshot.EMPTY;
+		this.interpolation = null;
+		this.layers = layers;
+		this.local = local;
+		this.lower = null;
+		this.upper = null;
+		this.view = ConfigSnapshot.EMPTY;
+		this.stale = layers.length > 0;
+		this.dependents = new CopyOnWriteArrayList<>();
+		for (ConfigLayer layer : layers) {
+			if (layer.getConfig() != null) {
+				layer.getConfig().depend(this);
+			}
+		}
 		this.renderer = null;
-		this.parsers = new HashMap<>();
+		this.revision = 0;
+		this.cache = null;
+		this.history = Collections.emptyList();
+		this.historyRevision = 0;
+		this.watcher = null;
+		this.listeners = new ConfigListenerRegistry();
+		this.bindings = new CopyOnWriteArraySet<>();
+		this.published = ConfigSnapshot.EMPTY;
+		this.changes = new HashSet<>();
+		this.dispatching = false;
+		this.transition = null;
+		this.stacked = new ConfigSnapshot[layers.length];
 	}
 
 	/**
@@ -84,7 +610,7 @@ public final class Config implements Serializable {
 	 * @return 環境設定情報
 	 */
 	public static Config create(boolean inheritGlobal) {
-		return new Config(inheritGlobal);
+		return new Config(inheritGlobal, inheritGlobal ? new ConfigLayer[] { ConfigLayer.of(GLOBAL_LAYER, global) } : new ConfigLayer[0], 0);
 	}
 
 	/**
@@ -96,6 +622,33 @@ public final class Config implements Serializable {
 		return create(true);
 	}
 
+	/**
+	 * レイヤを指定して環境設定情報を生成します。<br>
+	 * プロパティ値は指定順に定義が存在するレイヤの値が提供され、自身に読み込まれたプロパティは{@link org.ideaccum.libs.commons.config.ConfigLayer#local()}を指定した位置のレイヤとして扱われます。<br>
+	 * {@link org.ideaccum.libs.commons.config.ConfigLayer#local()}より前に指定したレイヤ(システムプロパティや実行時の上書き値等)は自身に読み込まれたプロパティより優先されます。<br>
+	 * {@link org.ideaccum.libs.commons.config.ConfigLayer#local()}を指定しない場合は先頭に指定したものとして扱われ、自身に読み込まれたプロパティが最優先されます。<br>
+	 * 全てのレイヤを統合したスナップショットを保持するため、レイヤ数に関わらずプロパティ取得時の検索は1回のみとなります。<br>
+	 * グローバル環境設定情報を含める場合は{@link org.ideaccum.libs.commons.config.ConfigLayer#of(String, Config)}で明示的に指定して下さい。<br>
+	 * この場合、グローバル環境設定情報のレンダラは適用されません。<br>
+	 * @param layers レイヤ(優先順)
+	 * @return 環境設定情報
+	 */
+	public static Config layered(ConfigLayer... layers) {
+		List<ConfigLayer> list = new ArrayList<>();
+		int local = -1;
+		for (ConfigLayer layer : layers == null ? new ConfigLayer[0] : layers) {
+			if (layer == null) {
+				continue;
+			}
+			if (layer.isLocal()) {
+				local = local < 0 ? list.size() : local;
+				continue;
+			}
+			list.add(layer);
+		}
+		return new Config(false, list.toArray(new ConfigLayer[list.size()]), Math.max(local, 0));
+	}
+
 	/**
 	 * オブジェクト情報を文字列として提供します。<br>
 	 * @return オブジェクト情報文字列
@@ -103,7 +656,7 @@ public final class Config implements Serializable {
 	 */
 	@Override
 	public String toString() {
-		return properties.toString();
+		return snapshot.toString();
 	}
 
 	/**
@@ -115,7 +668,7 @@ public final class Config implements Serializable {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((properties == null) ? 0 : properties.hashCode());
+		result = prime * result + ((snapshot == null) ? 0 : snapshot.hashCode());
 		return result;
 	}
 
@@ -136,11 +689,11 @@ public final class Config implements Serializable {
 			return false;
 		}
 		Config other = (Config) object;
-		if (properties == null) {
-			if (other.properties != null) {
+		if (snapshot == null) {
+			if (other.snapshot != null) {
 				return false;
 			}
-		} else if (!properties.equals(other.properties)) {
+		} else if (!snapshot.equals(other.snapshot)) {
 			return false;
 		}
 		return true;
@@ -153,23 +706,7 @@ public final class Config implements Serializable {
 	 * @return ロード後の自身のインスタンス
 	 */
 	public Config load(String filePath, ConfigLoadMode mode) {
-		synchronized (lock) {
-			try {
-				/*
-				 * 対象プロパティ読み込み
-				 */
-				Properties loaded = loadFromProperties(filePath);
-
-				/*
-				 * プロパティ情報反映
-				 */
-				storeProperties(loaded, mode);
-
-				return this;
-			} catch (Throwable e) {
-				throw new ConfigException(e);
-			}
-		}
+		return load(chain(null, false, filePath, mode, charset));
 	}
 
 	/**
@@ -192,16 +729,7 @@ public final class Config implements Serializable {
 	 * @return ロード後の自身のインスタンス
 	 */
 	public Config load(String filePath, ConfigLoadMode mode, String... extendProps) {
-		if (extendProps == null || extendProps.length <= 0) {
-			return load(filePath, mode);
-		}
-		synchronized (lock) {
-			Config config = load(filePath, mode);
-			for (String extendProp : extendProps) {
-				config.load(extendProp, ConfigLoadMode.REPLACE_EXISTS);
-			}
-			return config;
-		}
+		return load(chain(null, false, filePath, mode, charset, extendProps));
 	}
 
 	/**
@@ -212,16 +740,7 @@ public final class Config implements Serializable {
 	 * @return ロード後の自身のインスタンス
 	 */
 	public Config load(String filePath, String... extendProps) {
-		if (extendProps == null || extendProps.length <= 0) {
-			return load(filePath);
-		}
-		synchronized (lock) {
-			Config config = load(filePath);
-			for (String extendProp : extendProps) {
-				config.load(extendProp, ConfigLoadMode.REPLACE_EXISTS);
-			}
-			return config;
-		}
+		return load(chain(null, false, filePath, ConfigLoadMode.REPLACE_ALL, charset, extendProps));
 	}
 
 	/**
@@ -231,23 +750,7 @@ public final class Config implements Serializable {
 	 * @return ロード後の自身のインスタンス
 	 */
 	public Config load(Class<?> type, String filePath, ConfigLoadMode mode) {
-		synchronized (lock) {
-			try {
-				/*
-				 * 対象プロパティ読み込み
-				 */
-				Properties loaded = loadFromXml(type, filePath);
-
-				/*
-				 * プロパティ情報反映
-				 */
-				storeProperties(loaded, mode);
-
-				return this;
-			} catch (Throwable e) {
-				throw new ConfigException(e);
-			}
-		}
+		return load(chain(type, true, filePath, mode, null));
 	}
 
 	/**
@@ -270,16 +773,7 @@ public final class Config implements Serializable {
 	 * @return ロード後の自身のインスタンス
 	 */
 	public Config load(Class<?> type, String filePath, ConfigLoadMode mode, String... extendProps) {
-		if (extendProps == null || extendProps.length <= 0) {
-			return load(type, filePath, mode);
-		}
-		synchronized (lock) {
-			Config config = load(type, filePath, mode);
-			for (String extendProp : extendProps) {
-				config.load(type, extendProp, ConfigLoadMode.REPLACE_EXISTS);
-			}
-			return config;
-		}
+		return load(chain(type, true, filePath, mode, null, extendProps));
 	}
 
 	/**
@@ -290,144 +784,1105 @@ public final class Config implements Serializable {
 	 * @return ロード後の自身のインスタンス
 	 */
 	public Config load(Class<?> type, String filePath, String... extendProps) {
-		if (extendProps == null || extendProps.length <= 0) {
-			return load(type, filePath);
-		}
-		synchronized (lock) {
-			Config config = load(type, filePath);
-			for (String extendProp : extendProps) {
-				config.load(type, extendProp, ConfigLoadMode.REPLACE_EXISTS);
-			}
-			return config;
-		}
+		return load(chain(type, true, filePath, ConfigLoadMode.REPLACE_ALL, null, extendProps));
 	}
 
 	/**
-	 * プロパティリソースからプロパティを読み込みます。<br>
-	 * @param filePath プロパティリソースパス
-	 * @return 読み込まれたプロパティリソース
-	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * XMLリソース内容をXML構造クラスを利用せずにStAXで逐次解析してクラスインスタンスに展開します。<br>
+	 * 要素の階層はルート要素から"."で連結したプロパティキー(例:"root.child.leaf")として展開され、子要素を持たない要素のテキストが値となります。<br>
+	 * 属性は"要素のプロパティキー[@属性名]"をキーとして展開され、同一のプロパティキーとなる繰り返し要素の値は","で連結した複数値のプロパティ定義として展開されます。<br>
+	 * ドキュメント全体をオブジェクトとして展開しないため、解析中のメモリ使用量はドキュメントのサイズに依存しません。<br>
+	 * @param filePath XMLリソースパス
+	 * @param mode プロパティ読み込み時の挙動
+	 * @return ロード後の自身のインスタンス
 	 */
-	private Properties loadFromProperties(String filePath) throws IOException {
-		Properties properties = new Properties();
-		if (!StringUtil.isEmpty(filePath) && ResourceUtil.exists(filePath)) {
-			properties = PropertiesUtil.load(filePath);
-		}
-		return properties;
+	public Config loadXml(String filePath, ConfigLoadMode mode) {
+		return load(chain(null, true, filePath, mode, null));
 	}
 
 	/**
-	 * XMLリソースからプロパティを読み込みます。<br>
-	 * @param type XML構造クラス
-	 * @param filePath プロパティリソースパス
-	 * @return 読み込まれたプロパティリソース
-	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * XMLリソース内容をXML構造クラスを利用せずにStAXで逐次解析してクラスインスタンスに展開します。<br>
+	 * このメソッドによる読み込みは現在管理されているプロパティ情報を破棄して新たに読み込みます。<br>
+	 * 読み込み方法を指定してプロパティを反映する場合は{@link #loadXml(String, ConfigLoadMode)}又は、{@link #loadXml(String, ConfigLoadMode, String...)}を利用して下さい。<br>
+	 * @param filePath XMLリソースパス
+	 * @return ロード後の自身のインスタンス
 	 */
-	private Properties loadFromXml(Class<?> type, String filePath) throws IOException {
-		InputStream stream = null;
-		try {
-			stream = ResourceUtil.getInputStream(filePath);
-			Object object = JAXB.unmarshal(stream, type);
-			Properties properties = new Properties();
-			analyzeXml(properties, null, object);
-			return properties;
-		} finally {
-			if (stream != null) {
-				stream.close();
-			}
-		}
+	public Config loadXml(String filePath) {
+		return loadXml(filePath, ConfigLoadMode.REPLACE_ALL);
 	}
 
 	/**
-	 * XMLリソースから読み込まれたオブジェクトを元にプロパティリソースに展開します。<br>
-	 * @param properties 展開先プロパティリソース
-	 * @param activeName 解析中プロパティキー
-	 * @param object 解析対象プロパティ要素
+	 * XMLリソースをStAXで逐次解析して通常読込後、差分上書き読み込みします。<br>
+	 * このメソッドは標準プロパティリソース及び、環境毎の差分プロパティが提供される場合に、標準内容に対して環境毎の差分を適用する場合に利用することを想定したメソッドです。<br>
+	 * @param filePath 標準XMLリソースパス
+	 * @param mode プロパティ読み込み時の挙動(この挙動は標準プロパティに対する読み込み挙動となります)
+	 * @param extendProps 差分読み込みXMLリソースパス
+	 * @return ロード後の自身のインスタンス
 	 */
-	private boolean analyzeXml(Properties properties, String activeName, Object object) {
-		boolean reflected = false;
-		for (Field field : ClassUtil.getFields(object.getClass())) {
-			XmlElement element = ClassUtil.getAnnotation(field, XmlElement.class);
-			if (element == null) {
-				continue;
-			}
-			String elementName = !"##default".equals(element.name()) ? element.name() : field.getName();
-			String actualName = StringUtil.isEmpty(activeName) ? elementName : activeName + "." + elementName;
-			Object value = ClassUtil.getFieldValue(object, field);
-			properties.put(actualName, value == null ? "" : value);
-			if (value == null) {
-				reflected = true;
-			} else if (analyzeXml(properties, actualName, value)) {
-				// 下位階層で反映された場合は自プロパティは除去
-				properties.remove(actualName);
-			} else {
-				reflected = true;
-			}
-		}
-		return reflected;
+	public Config loadXml(String filePath, ConfigLoadMode mode, String... extendProps) {
+		return load(chain(null, true, filePath, mode, null, extendProps));
 	}
 
 	/**
-	 * 読み込みモードごとに読み込まれたプロパティ情報をインスタンスに反映します。<br>
-	 * @param loaded 読み込まれたプロパティ情報
-	 * @param mode 読み込みモード
+	 * XMLリソースをStAXで逐次解析して通常読込後、差分上書き読み込みします。<br>
+	 * このメソッドは標準プロパティリソース及び、環境毎の差分プロパティが提供される場合に、標準内容に対して環境毎の差分を適用する場合に利用することを想定したメソッドです。<br>
+	 * @param filePath 標準XMLリソースパス
+	 * @param extendProps 差分読み込みXMLリソースパス
+	 * @return ロード後の自身のインスタンス
 	 */
-	private void storeProperties(Properties loaded, ConfigLoadMode mode) {
-		if (mode == ConfigLoadMode.REPLACE_ALL || mode == null) {
-			// すべてのプロパティを置き換える場合は現状の保持情報をクリア
-			properties.clear();
-			properties.putAll(loaded);
-		} else if (mode == ConfigLoadMode.REPLACE_EXISTS) {
-			// 既存プロパティに対しては上書きする場合は読み込んだプロパティをプット
-			properties.putAll(loaded);
-		} else if (mode == ConfigLoadMode.SKIP_EXISTS) {
-			// 既存プロパティに対しては現状維持とする場合はプロパティごとに判定しながらプット
-			for (Object key : loaded.keySet()) {
-				if (properties.containsKey(key)) {
-					continue;
-				}
-				Object value = loaded.get(key);
-				properties.put(key, value);
-			}
-		}
+	public Config loadXml(String filePath, String... extendProps) {
+		return load(chain(null, true, filePath, ConfigLoadMode.REPLACE_ALL, null, extendProps));
 	}
 
 	/**
-	 * 管理されているプロパティ情報を全てクリアします。<br>
+	 * 標準プロパティリソース及び、差分プロパティリソースの読み込み手順を生成します。<br>
+	 * @param type XML構造クラス(プロパティリソース又は、StAXで展開するXMLリソースの場合はnull)
+	 * @param xml XMLリソースの場合にtrue
+	 * @param filePath 標準プロパティリソースパス
+	 * @param mode 標準プロパティリソースの読み込みモード
+	 * @param charset プロパティリソースを直接解析する際の文字コード
+	 * @param extendProps 差分読み込みプロパティリソースパス
+	 * @return 読み込み手順
 	 */
-	public void destroy() {
-		synchronized (lock) {
-			properties.clear();
+	private static List<LoadStep> chain(Class<?> type, boolean xml, String filePath, ConfigLoadMode mode, Charset charset, String... extendProps) {
+		List<LoadStep> steps = new ArrayList<>();
+		steps.add(new LoadStep(type, xml, filePath, mode, charset));
+		if (extendProps != null) {
+			for (String extendProp : extendProps) {
+				steps.add(new LoadStep(type, xml, extendProp, ConfigLoadMode.REPLACE_EXISTS, charset));
+			}
 		}
+		return steps;
 	}
 
 	/**
-	 * 他のプロパティ情報内容を自身のインスタンスにマージします。<br>
-	 * マージされる対象はプロパティ内容のみで、プロパティ値レンダラは自身のレンダラが維持されることに注意してください。<br>
-	 * @param other マージ元インスタンス
+	 * 読み込み手順に従ってプロパティリソースを読み込みます。<br>
+	 * 全てのリソースの解析はロックを保持せずに行われ、{@link #setLoadExecutor(Executor)}で実行オブジェクトが設定されている場合は並列に解析されます。<br>
+	 * 解析結果は手順の順に反映されるため、読み込みモードによる反映結果は順に読み込んだ場合と同一となります。<br>
+	 * いずれかのリソースの解析に失敗した場合は、いずれのリソースも反映されません。<br>
+	 * @param steps 読み込み手順
+	 * @return ロード後の自身のインスタンス
 	 */
-	@SuppressWarnings("static-access")
-	public void merge(Config other) {
-		if (other == null || other.equals(this)) {
-			return;
+	private Config load(List<LoadStep> steps) {
+		ConfigMetrics metrics = this.metrics;
+		long start = metrics == null ? 0 : System.nanoTime();
+		try {
+			List<Map<?, ?>> loaded = read(steps);
+			synchronized (lock) {
+				storeProperties(loaded, steps);
+			}
+			publish();
+			propagate();
+			if (metrics != null) {
+				measure(metrics, steps, loaded, false, System.nanoTime() - start);
+			}
+			return this;
+		} catch (Throwable e) {
+			throw new ConfigException(e);
 		}
-		this.global.properties.putAll(other.global.properties); // For other classloader
-		this.properties.putAll(other.properties);
 	}
 
 	/**
-	 * プロパティ定義内容レンダラオブジェクトを設定します。<br>
-	 * レンダラオブジェクトを設定した場合、各種プロパティ値取得時にレンダラ処理で値補正が行われたうえで値が提供されます。<br>
-	 * @param renderer プロパティ定義内容レンダラオブジェクト
+	 * 読み込み又は、再読み込みの計測値を記録します。<br>
+	 * @param metrics 計測値
+	 * @param steps 読み込み手順
+	 * @param loaded 手順の順に格納された解析結果
+	 * @param reload 再読み込みの場合にtrue
+	 * @param nanos 処理時間(ナノ秒)
 	 */
-	public void setRenderer(ConfigValueRenderer renderer) {
-		synchronized (lock) {
-			this.renderer = renderer;
+	private static void measure(ConfigMetrics metrics, List<LoadStep> steps, List<Map<?, ?>> loaded, boolean reload, long nanos) {
+		List<String> filePaths = new ArrayList<>(steps.size());
+		List<Integer> keys = new ArrayList<>(steps.size());
+		for (int i = 0; i <= steps.size() - 1; i++) {
+			if (steps.get(i).filePath != null && loaded.get(i) != null) {
+				filePaths.add(steps.get(i).filePath);
+				keys.add(loaded.get(i).size());
+			}
 		}
+		metrics.loaded(filePaths, keys, reload, nanos);
 	}
 
 	/**
-	 * プロパティ上に管理されている値を必要に応じて補正した文字列で提供します。<br>
+	 * 読み込み手順ごとの解析結果を取得します。<br>
+	 * スナップショットファイルが設定されていてリソースと一致する場合はスナップショットファイルから読み込み、それ以外の場合は解析した結果をスナップショットファイルに保存します。<br>
+	 * @param steps 読み込み手順
+	 * @return 手順の順に格納された解析結果(マージの手順に対してはnull)
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private List<Map<?, ?>> read(List<LoadStep> steps) throws IOException {
+		ConfigSnapshotFile snapshotFile = this.snapshotFile;
+		if (snapshotFile == null) {
+			return parse(steps);
+		}
+		List<String> descriptions = new ArrayList<>(steps.size());
+		List<String> filePaths = new ArrayList<>(steps.size());
+		List<Class<?>> types = new ArrayList<>(steps.size());
+		for (LoadStep step : steps) {
+			if (step.merged != null) {
+				// マージを含む手順は解析結果のみでは再現できないため対象外
+				return parse(steps);
+			}
+			descriptions.add(step.describe());
+			filePaths.add(step.filePath);
+			types.add(step.type);
+		}
+		ConfigSnapshotFile.Fingerprint fingerprint = snapshotFile.fingerprint(descriptions, filePaths, types);
+		List<Map<?, ?>> loaded = snapshotFile.read(fingerprint);
+		if (loaded == null) {
+			// 解析中にリソースが更新された場合に次回不一致となるよう解析前の内容で生成
+			fingerprint.digest();
+			loaded = parse(steps);
+			snapshotFile.write(fingerprint, loaded);
+		} else if (fingerprint.isTouched()) {
+			// 更新日時のみが異なるリソースは次回以降に内容を読み込まずに判定できるよう置き換え
+			snapshotFile.write(fingerprint, loaded);
+		}
+		return loaded;
+	}
+
+	/**
+	 * 読み込み手順ごとにプロパティリソースを解析します。<br>
+	 * 実行オブジェクトが設定されていて複数のリソースを解析する場合は並列に解析し、解析処理には呼び出しスレッドのコンテキストクラスローダーが設定されます。<br>
+	 * @param steps 読み込み手順
+	 * @return 手順の順に格納された解析結果(マージの手順に対してはnull)
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private List<Map<?, ?>> parse(List<LoadStep> steps) throws IOException {
+		List<Map<?, ?>> result = new ArrayList<>(steps.size());
+		Executor executor = this.executor;
+		int count = 0;
+		for (LoadStep step : steps) {
+			count += step.merged == null ? 1 : 0;
+		}
+		if (executor == null || count <= 1) {
+			for (LoadStep step : steps) {
+				result.add(step.read());
+			}
+			return result;
+		}
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		List<CompletableFuture<Map<?, ?>>> futures = new ArrayList<>(steps.size());
+		for (LoadStep step : steps) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				Thread thread = Thread.currentThread();
+				ClassLoader current = thread.getContextClassLoader();
+				thread.setContextClassLoader(loader);
+				try {
+					return step.read();
+				} catch (IOException e) {
+					throw new CompletionException(e);
+				} finally {
+					thread.setContextClassLoader(current);
+				}
+			}, executor));
+		}
+		try {
+			for (CompletableFuture<Map<?, ?>> future : futures) {
+				result.add(future.join());
+			}
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+		}
+		return result;
+	}
+
+	/**
+	 * 参照及び、読み込みの計測を全件計測で有効化します。<br>
+	 * @return 計測値
+	 * @see #enableMetrics(int)
+	 */
+	public ConfigMetrics enableMetrics() {
+		return enableMetrics(1);
+	}
+
+	/**
+	 * 参照及び、読み込みの計測を有効化します。<br>
+	 * キャッシュから値が提供される参照はサンプリング間隔ごとに1回のみ計測され、サンプリング間隔を乗じた回数が加算されます。<br>
+	 * パース処理、レンダラ処理及び、読み込みは常に全件が計測されます。<br>
+	 * 既に有効化されている場合は計測値を初期化して置き換えます(MXBeanとして登録されている場合は登録が解除されます)。<br>
+	 * @param sampling 参照回数のサンプリング間隔(2の累乗に切り上げられ、1以下の場合は全件計測)
+	 * @return 計測値
+	 */
+	public ConfigMetrics enableMetrics(int sampling) {
+		ConfigMetrics metrics = new ConfigMetrics(this, sampling);
+		ConfigMetrics before;
+		synchronized (lock) {
+			before = this.metrics;
+			this.metrics = metrics;
+		}
+		if (before != null) {
+			before.unregister();
+		}
+		return metrics;
+	}
+
+	/**
+	 * 参照及び、読み込みの計測を無効化します。<br>
+	 * 計測値がMXBeanとして登録されている場合は登録が解除されます。<br>
+	 */
+	public void disableMetrics() {
+		ConfigMetrics before;
+		synchronized (lock) {
+			before = this.metrics;
+			this.metrics = null;
+		}
+		if (before != null) {
+			before.unregister();
+		}
+	}
+
+	/**
+	 * 計測値を取得します。<br>
+	 * @return 計測値(計測が有効化されていない場合はnull)
+	 */
+	public ConfigMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * 複数のプロパティリソースを読み込む際のリソース解析処理の実行オブジェクトを設定します。<br>
+	 * 設定した場合、差分プロパティリソースを含む読み込み及び、再読み込みの際に各リソースが並列に解析され、解析後に指定順に反映されます。<br>
+	 * nullを設定した場合は呼び出しスレッドで順に解析されます(ディフォルト)。<br>
+	 * @param executor リソース解析処理の実行オブジェクト
+	 */
+	public void setLoadExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * リソースの解析結果を保存するスナップショットファイルのディレクトリを設定します。<br>
+	 * 設定した場合、読み込み及び、再読み込みの際に各リソースのサイズ及び、更新日時(更新日時が異なる場合や取得できない場合は内容のCRC32)とXML構造クラスの版を保存された値と比較し、一致する場合は解析を行わずにメモリマップしたスナップショットファイルから解析結果を読み込みます。<br>
+	 * 一致しない場合やスナップショットファイルが存在しない場合はリソースから解析し、解析結果でスナップショットファイルを作成又は、置き換えます。<br>
+	 * ビルド時や初回起動時に同一の手順で読み込むことで、以降の起動時の解析処理を省略することができます。<br>
+	 * スナップショットファイルは読み込み手順(リソースパス、XML構造クラス及び、文字コード)ごとに作成され、読み込みモードや差分リソースの反映は通常と同様に行われます。<br>
+	 * スナップショットファイルから読み込まれたプロパティは{@link #setCompact(boolean)}の設定に関わらず、メモリマップした内容を復号せずに参照するコンパクト形式で保持されます。<br>
+	 * nullを設定した場合は常にリソースから解析します(ディフォルト)。<br>
+	 * スナップショットファイルの書き込みに失敗した場合も読み込みは継続され、読み込みを行ったスレッドの{@link java.lang.Thread.UncaughtExceptionHandler}に例外が通知されます。<br>
+	 * @param directoryPath スナップショットファイルを保存するディレクトリパス
+	 */
+	public void setSnapshotDirectory(String directoryPath) {
+		setSnapshotDirectory(directoryPath, null);
+	}
+
+	/**
+	 * リソースの解析結果を保存するスナップショットファイルのディレクトリを設定します。<br>
+	 * スナップショットファイルの書き込みに失敗した場合も読み込みは継続され、指定された例外処理に例外が通知されます。<br>
+	 * @param directoryPath スナップショットファイルを保存するディレクトリパス
+	 * @param handler 書き込み失敗時の例外処理(nullの場合は読み込みを行ったスレッドの{@link java.lang.Thread.UncaughtExceptionHandler}に通知)
+	 * @see #setSnapshotDirectory(String)
+	 */
+	public void setSnapshotDirectory(String directoryPath, Consumer<? super ConfigException> handler) {
+		this.snapshotFile = StringUtil.isEmpty(directoryPath) ? null : new ConfigSnapshotFile(new File(directoryPath), handler);
+	}
+
+	/**
+	 * プロパティリソースからプロパティを読み込みます。<br>
+	 * 文字コードが指定されている場合はリソースをバイトバッファから直接解析し、指定されていない場合は{@link org.ideaccum.libs.commons.util.PropertiesUtil}で読み込みます。<br>
+	 * @param filePath プロパティリソースパス
+	 * @param charset プロパティリソースを直接解析する際の文字コード
+	 * @return 読み込まれたプロパティリソース
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static Map<?, ?> loadFromProperties(String filePath, Charset charset) throws IOException {
+		if (StringUtil.isEmpty(filePath) || !ResourceUtil.exists(filePath)) {
+			return new Properties();
+		}
+		if (charset != null) {
+			return ConfigPropertiesReader.read(filePath, charset);
+		}
+		return PropertiesUtil.load(filePath);
+	}
+
+	/**
+	 * プロパティリソースをバイトバッファから直接解析する際の文字コードを設定します。<br>
+	 * 設定した場合、プロパティリソースは{@link java.util.Properties}を経由せずに解析され、行単位の中間文字列の生成や同期化されたマップへの格納が行われません。<br>
+	 * ファイルは解析前にヒープ上に読み込まれて直ちに閉じられ、同一内容の値は同一の文字列インスタンスに集約されます。<br>
+	 * 全てのプロパティを置き換える読み込みの場合、解析結果は複製されずにそのまま保持されます。<br>
+	 * 解析仕様は{@link java.util.Properties}と互換で、ISO-8859-1及び、UTF-8が指定可能です。<br>
+	 * nullを設定した場合は{@link org.ideaccum.libs.commons.util.PropertiesUtil}で読み込みます(ディフォルト)。<br>
+	 * 設定は以降の読み込みから適用され、再読み込みの際は各リソースを読み込んだ際の設定が適用されます。<br>
+	 * @param charset 文字コード
+	 * @throws IllegalArgumentException 対応していない文字コードが指定された場合にスローされます
+	 */
+	public void setPropertiesCharset(Charset charset) {
+		if (charset != null && !ConfigPropertiesReader.isSupported(charset)) {
+			throw new IllegalArgumentException(charset.name());
+		}
+		this.charset = charset;
+	}
+
+	/**
+	 * XMLリソースからプロパティを読み込みます。<br>
+	 * @param type XML構造クラス
+	 * @param filePath プロパティリソースパス
+	 * @return 読み込まれたプロパティリソース
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static Properties loadFromXml(Class<?> type, String filePath) throws IOException {
+		InputStream stream = null;
+		try {
+			stream = ResourceUtil.getInputStream(filePath);
+			Object object = JAXB.unmarshal(stream, type);
+			Properties properties = new Properties();
+			ConfigXmlPlan.of(object.getClass()).analyze(properties, null, object);
+			return properties;
+		} finally {
+			if (stream != null) {
+				stream.close();
+			}
+		}
+	}
+
+	/**
+	 * 読み込み手順ごとに読み込まれたプロパティ情報を手順の順に読み込みモードに従ってインスタンスに反映します。<br>
+	 * 全ての手順の反映結果は単一のスナップショットとして生成された後に一度に置き換えられるため、参照側が標準リソースのみが反映されて差分リソースが反映されていない状態等の反映途中の状態を参照することはありません。<br>
+	 * 反映後、読み込み手順を一度に記録し、反映前後の差分のみをリスナへの通知対象として記録します。<br>
+	 * 反映イベントが有効な場合は、反映処理をイベントとして記録します。<br>
+	 * 当メソッドはロックオブジェクトの同期化ブロック内で呼び出し、同期化ブロックを抜けた後に{@link #publish()}でリスナに通知して下さい。<br>
+	 * @param loaded 手順の順に格納された解析結果
+	 * @param steps 読み込み手順
+	 */
+	private void storeProperties(List<Map<?, ?>> loaded, List<LoadStep> steps) {
+		ConfigEvents events = ConfigEvents.INSTANCE;
+		Object event = events.beginApply();
+		ConfigSnapshot before = source;
+		ConfigSnapshot after = before;
+		boolean replaceAll = false;
+		for (int i = 0; i <= steps.size() - 1; i++) {
+			after = steps.get(i).apply(after, loaded.get(i));
+			replaceAll |= steps.get(i).mode == ConfigLoadMode.REPLACE_ALL;
+		}
+		// 全てのプロパティを置き換える場合は変更前のキーも対象となるため、変更キーを特定せずに比較対象を限定させる
+		Supplier<Collection<String>> keys = replaceAll ? null : () -> ConfigListenerRegistry.keysOf(loaded);
+		replace(after, keys);
+		record(steps);
+		if (event != null) {
+			events.endApply(event, steps.get(0).filePath, steps.get(0).mode, false, before, source, keys);
+		}
+	}
+
+	/**
+	 * プロパティ参照解決前のスナップショットを置き換えます。<br>
+	 * プロパティ参照を行う場合は定義値が変更されたキー及び、それに依存するキーのみを再解決したスナップショットに置き換えます。<br>
+	 * 参照が循環している場合は状態を変更せずに例外をスローします。<br>
+	 * 変更されたキーが特定できない場合、プロパティ参照の再解決は変更前後の全てのキーを対象とし、リスナへの通知は登録キーの範囲のみを比較対象とします。<br>
+	 * 当メソッドはロックオブジェクトの同期化ブロック内で呼び出し、同期化ブロックを抜けた後に{@link #publish()}でリスナに通知して下さい。<br>
+	 * @param source 置き換え後の参照解決前スナップショット
+	 * @param keys 定義値が変更された可能性のあるキーの生成処理(特定できない場合はnull)
+	 * @throws ConfigException 参照が循環している場合にスローされます
+	 */
+	private void replace(ConfigSnapshot source, Supplier<Collection<String>> keys) {
+		if (!source.isMapped()) {
+			// スナップショットファイルから復元した内容は複製しないよう形式を変換せずに保持
+			source = source.compact(compact);
+		}
+		ConfigSnapshot before = view;
+		ConfigInterpolation interpolation = this.interpolation;
+		if (interpolation == null) {
+			this.source = source;
+			this.snapshot = source;
+			this.view = stack(source);
+			changed(before, keys == null || !listening() ? null : keys.get());
+			revise();
+			return;
+		}
+		ConfigInterpolation updated = interpolation.update(source, lower, keys == null ? ConfigListenerRegistry.keysOf(this.source, source) : keys.get());
+		this.interpolation = updated;
+		this.source = source;
+		this.snapshot = updated.getSnapshot();
+		this.view = stack(snapshot);
+		changed(before, updated.getAffected());
+		revise();
+	}
+
+	/**
+	 * 自身及び、全てのレイヤを統合した参照用スナップショットを取得します。<br>
+	 * レイヤが更新されている場合は統合したスナップショットを再構築し、プロパティ参照を行う場合は下位レイヤから解決される参照を再解決します。<br>
+	 * レイヤが更新されていない場合の処理は更新フラグの参照のみで、レイヤ数に依存しません。<br>
+	 * 再構築による変更はリスナへの通知対象として記録されるのみで、参照したスレッドではリスナに通知されません。<br>
+	 * 通知はレイヤを変更したスレッドで{@link #propagate()}から行われます。<br>
+	 * @return 参照用スナップショット
+	 */
+	ConfigSnapshot view() {
+		if (stale) {
+			synchronized (lock) {
+				if (stale) {
+					// 下位レイヤ自身の再構築を先に済ませる
+					for (ConfigLayer layer : layers) {
+						layer.snapshot();
+					}
+					// 再構築中の下位レイヤ更新を取りこぼさないよう、下位レイヤの参照前にフラグを解除
+					stale = false;
+					ConfigSnapshot before = view;
+					ConfigSnapshot[] snapshots = new ConfigSnapshot[layers.length];
+					for (int i = 0; i <= layers.length - 1; i++) {
+						snapshots[i] = layers[i].snapshot();
+					}
+					Set<String> keys = listening() ? layerKeys(snapshots) : null;
+					ConfigSnapshot lower = null;
+					for (int i = layers.length - 1; i >= local; i--) {
+						lower = lower == null ? snapshots[i] : lower.merge(snapshots[i]);
+					}
+					ConfigSnapshot upper = null;
+					for (int i = local - 1; i >= 0; i--) {
+						upper = upper == null ? snapshots[i] : upper.merge(snapshots[i]);
+					}
+					this.stacked = snapshots;
+					this.lower = lower;
+					this.upper = upper;
+					ConfigInterpolation interpolation = this.interpolation;
+					if (interpolation != null && interpolation.getExternal() != lower) {
+						ConfigInterpolation updated = interpolation.update(source, lower, Collections.emptySet());
+						this.interpolation = updated;
+						this.snapshot = updated.getSnapshot();
+						if (keys != null) {
+							keys.addAll(updated.getAffected());
+						}
+					}
+					this.view = stack(snapshot);
+					changed(before, keys);
+					revise();
+				}
+			}
+		}
+		return view;
+	}
+
+	/**
+	 * 前回の再構築時から変更されたレイヤについて、定義値が変更された可能性のあるキーを取得します。<br>
+	 * 環境設定情報のレイヤの直近の変更内容が前回の再構築時に参照したスナップショットからの変更である場合のみ変更キーを特定し、
+	 * 複数回変更された場合や環境設定情報以外のレイヤが変更された場合は特定できないものとします。<br>
+	 * 当メソッドはロックオブジェクトの同期化ブロック内で呼び出して下さい。<br>
+	 * @param snapshots 再構築に利用するレイヤのスナップショット(レイヤ順)
+	 * @return 定義値が変更された可能性のあるキー(特定できない場合はnull)
+	 */
+	private Set<String> layerKeys(ConfigSnapshot[] snapshots) {
+		Set<String> keys = new HashSet<>();
+		for (int i = 0; i <= layers.length - 1; i++) {
+			ConfigSnapshot previous = stacked[i];
+			if (snapshots[i] == previous) {
+				continue;
+			}
+			Config config = layers[i].getConfig();
+			// 参照用スナップショットを取得した後に変更内容を参照し、両者の対応は変更前後のスナップショットの一致で確認する
+			Transition transition = config == null ? null : config.transition;
+			if (transition == null || transition.keys == null || transition.before != previous || transition.after != snapshots[i]) {
+				return null;
+			}
+			keys.addAll(transition.keys);
+		}
+		return keys;
+	}
+
+	/**
+	 * 自身のスナップショットに上位レイヤ及び、下位レイヤを統合した参照用スナップショットを生成します。<br>
+	 * 部分集合が参照されている場合は、部分集合の参照時に整列が行われないよう整列済みのプロパティキーも生成します。<br>
+	 * @param snapshot 自身のスナップショット
+	 * @return 参照用スナップショット
+	 */
+	private ConfigSnapshot stack(ConfigSnapshot snapshot) {
+		ConfigSnapshot lower = this.lower;
+		ConfigSnapshot upper = this.upper;
+		ConfigSnapshot view = lower == null ? snapshot : lower.merge(snapshot);
+		view = upper == null ? view : view.merge(upper);
+		if (indexed) {
+			view.sortedKeys();
+		}
+		return view;
+	}
+
+	/**
+	 * 部分集合の参照に利用する参照用スナップショットを取得します。<br>
+	 * 以降に生成される参照用スナップショットは整列済みのプロパティキーが生成された状態で提供されます。<br>
+	 * @param snapshot 参照用スナップショット
+	 * @return 参照用スナップショット
+	 */
+	private ConfigSnapshot indexed(ConfigSnapshot snapshot) {
+		if (!indexed) {
+			indexed = true;
+		}
+		return snapshot;
+	}
+
+	/**
+	 * 自身をレイヤとして参照する環境設定情報を登録します。<br>
+	 * @param dependent 自身をレイヤとして参照する環境設定情報
+	 */
+	private void depend(Config dependent) {
+		dependents.removeIf(reference -> reference.get() == null);
+		dependents.add(new WeakReference<>(dependent));
+	}
+
+	/**
+	 * 自身をレイヤとして参照している環境設定情報に統合したスナップショットの再構築が必要であることを通知します。<br>
+	 * 通知は更新フラグの設定のみで、再構築は各環境設定情報の次回参照時に行われます。<br>
+	 */
+	private void invalidate() {
+		for (WeakReference<Config> reference : dependents) {
+			Config dependent = reference.get();
+			if (dependent != null && !dependent.stale) {
+				dependent.stale = true;
+				dependent.invalidate();
+			}
+		}
+	}
+
+	/**
+	 * プロパティ定義値を提供しているレイヤ名を取得します。<br>
+	 * 自身に読み込まれた値が提供される場合は{@link #LOCAL_LAYER}、グローバル環境設定情報から継承している場合は{@link #GLOBAL_LAYER}、それ以外は定義が存在する最優先のレイヤ名を返却します。<br>
+	 * 自身より優先される上位レイヤに定義が存在する場合は、自身に読み込まれていても上位レイヤ名となります。<br>
+	 * 環境設定情報をレイヤとしている場合、そのレイヤのさらに下位のレイヤから提供される値もそのレイヤ名となります。<br>
+	 * @param name プロパティアクセスキー
+	 * @return レイヤ名(定義されていない場合はnull)
+	 */
+	public String getOrigin(ConfigName<?> name) {
+		if (name == null) {
+			return null;
+		}
+		view();
+		for (int i = 0; i <= layers.length; i++) {
+			if (i == local && snapshot.get(name) != null) {
+				return LOCAL_LAYER;
+			}
+			if (i < layers.length && layers[i].snapshot().get(name) != null) {
+				return layers[i].getName();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * プロパティ定義値に含まれる"${キー}"形式のプロパティ参照を解決するか設定します。<br>
+	 * 有効にした場合、参照を含む定義値は読み込み時に解析され、依存関係の順に解決された値がプロパティ取得時に提供されます。<br>
+	 * 参照は同一インスタンスのプロパティを優先し、定義されていない場合は継承しているグローバル環境設定情報又は、下位レイヤの値から解決されます。<br>
+	 * 自身より優先される上位レイヤの値は参照の解決には利用されず、解決後の値を上書きして提供されます。<br>
+	 * 参照先が定義されていない参照は"${キー}"のまま提供されます。<br>
+	 * 再読み込み等で定義値が変更された場合は、変更されたキー及び、それに依存するキーのみが再解決されます。<br>
+	 * 参照が循環している場合は有効化時又は、読み込み時に{@link org.ideaccum.libs.commons.config.exception.ConfigException}がスローされ、状態は更新されません。<br>
+	 * @param interpolation プロパティ参照を解決する場合にtrue
+	 */
+	public void setInterpolation(boolean interpolation) {
+		synchronized (lock) {
+			if (interpolation == (this.interpolation != null)) {
+				return;
+			}
+			ConfigSnapshot before = view();
+			if (interpolation) {
+				ConfigInterpolation compiled = ConfigInterpolation.EMPTY.update(source, lower, source.keySet());
+				this.interpolation = compiled;
+				this.snapshot = compiled.getSnapshot();
+				this.view = stack(snapshot);
+				changed(before, compiled.getAffected());
+				revise();
+			} else {
+				this.interpolation = null;
+				this.snapshot = source;
+				this.view = stack(source);
+				changed(before, null);
+				revise();
+			}
+		}
+		publish();
+		propagate();
+	}
+
+	/**
+	 * プロパティ定義値に含まれる"${キー}"形式のプロパティ参照を解決するか判定します。<br>
+	 * @return プロパティ参照を解決する場合にtrue
+	 */
+	public boolean isInterpolation() {
+		return interpolation != null;
+	}
+
+	/**
+	 * プロパティをバイト列に格納するコンパクト形式で保持するか設定します。<br>
+	 * 有効にした場合、{@link org.ideaccum.libs.commons.config.ConfigName}として定義されていないプロパティのキー及び、定義値はUTF-8で符号化して単一のバイト配列に格納され、
+	 * プロパティごとの文字列及び、マップエントリを保持しないため、大量のプロパティを保持する場合のメモリ使用量が削減されます。<br>
+	 * {@link org.ideaccum.libs.commons.config.ConfigName}として定義されているプロパティは通常と同様に保持され、{@link #get(ConfigName)}の処理コストは変わりません。<br>
+	 * それ以外のプロパティの文字列は{@link #map()}等での参照時に都度復号して生成されるため、通常の形式よりも処理コストが高くなります。<br>
+	 * 設定は保持しているプロパティにも即時に適用され、以降の読み込みでも維持されます。<br>
+	 * @param compact コンパクト形式で保持する場合にtrue
+	 */
+	public void setCompact(boolean compact) {
+		synchronized (lock) {
+			if (compact == this.compact) {
+				return;
+			}
+			ConfigSnapshot before = view();
+			this.compact = compact;
+			this.source = source.compact(compact);
+			if (interpolation == null) {
+				this.snapshot = source;
+			} else {
+				// 参照解決状態が保持する解決前後のスナップショットも置き換えるため再構築
+				ConfigInterpolation compiled = ConfigInterpolation.EMPTY.update(source, lower, source.keySet());
+				this.interpolation = compiled;
+				this.snapshot = compiled.getSnapshot();
+			}
+			this.view = stack(snapshot);
+			// 保持形式のみの変更のため定義値が変更されたキーは存在しない
+			changed(before, Collections.emptySet());
+			revise();
+		}
+	}
+
+	/**
+	 * プロパティをバイト列に格納するコンパクト形式で保持するか判定します。<br>
+	 * @return コンパクト形式で保持する場合にtrue
+	 */
+	public boolean isCompact() {
+		return compact;
+	}
+
+	/**
+	 * 管理されているプロパティ情報を全てクリアします。<br>
+	 */
+	public void destroy() {
+		synchronized (lock) {
+			replace(ConfigSnapshot.EMPTY, null);
+			record(null);
+		}
+		publish();
+		propagate();
+	}
+
+	/**
+	 * 他のプロパティ情報内容を自身のインスタンスにマージします。<br>
+	 * マージされる対象はプロパティ内容のみで、プロパティ値レンダラは自身のレンダラが維持されることに注意してください。<br>
+	 * マージは再読み込みのための読み込み手順として記録され、連続したマージは1つの手順にまとめて記録されます。<br>
+	 * @param other マージ元インスタンス
+	 */
+	public void merge(Config other) {
+		if (other == null || other.equals(this)) {
+			return;
+		}
+		// グローバル環境設定情報はクラスに対して1つのみで、マージ元と同一インスタンスとなるためマージは行わない
+		synchronized (lock) {
+			ConfigSnapshot merged = other.source;
+			replace(this.source.merge(merged), merged::keySet);
+			record(Collections.singletonList(new LoadStep(merged)));
+		}
+		publish();
+		propagate();
+	}
+
+	/**
+	 * 読み込み手順を記録します。<br>
+	 * 全てのプロパティを置き換える読み込みの場合はそれ以前の手順は破棄されます。<br>
+	 * 直前の手順がマージの場合、マージの手順は直前の手順と統合した1つの手順に置き換えられます。<br>
+	 * 当メソッドはロックオブジェクトの同期化ブロック内で、スナップショットを置き換えた後に呼び出して下さい。<br>
+	 * @param steps 一度に反映された読み込み手順(プロパティ情報がクリアされた場合はnull)
+	 */
+	private void record(List<LoadStep> steps) {
+		List<LoadStep> history = new ArrayList<>();
+		if (steps != null) {
+			history.addAll(this.history);
+			for (LoadStep step : steps) {
+				if (step.merged == null && step.mode == ConfigLoadMode.REPLACE_ALL) {
+					history.clear();
+				}
+				LoadStep last = history.isEmpty() ? null : history.get(history.size() - 1);
+				if (step.merged != null && last != null && last.merged != null) {
+					// 連続したマージは手順を増やさず、マージ済みの内容を統合した1つの手順に置き換え
+					history.set(history.size() - 1, new LoadStep(last.merged.merge(step.merged)));
+					continue;
+				}
+				history.add(step);
+			}
+		}
+		this.history = Collections.unmodifiableList(history);
+		this.historyRevision++;
+		if (watcher != null) {
+			try {
+				watcher.refresh(filePaths());
+			} catch (IOException e) {
+				throw new ConfigException(e);
+			}
+		}
+	}
+
+	/**
+	 * 参照用スナップショットの変更内容を記録します。<br>
+	 * 変更内容は自身をレイヤとして参照する環境設定情報の再構築時に変更キーを特定するために保持され、リスナが登録されている場合は通知対象のキーとして蓄積されます。<br>
+	 * リスナが登録されていない場合は通知済みの参照用スナップショットを置き換え、通知対象は蓄積しません。<br>
+	 * 当メソッドはロックオブジェクトの同期化ブロック内で、参照用スナップショットを置き換えた後に呼び出して下さい。<br>
+	 * @param before 変更前の参照用スナップショット
+	 * @param keys 定義値が変更された可能性のあるキー(特定できない場合はnull)
+	 */
+	private void changed(ConfigSnapshot before, Collection<String> keys) {
+		this.transition = new Transition(before, view, keys);
+		if (listeners.isEmpty()) {
+			this.published = view;
+			if (changes == null || !changes.isEmpty()) {
+				this.changes = new HashSet<>();
+			}
+		} else if (changes != null) {
+			if (keys == null) {
+				this.changes = null;
+			} else {
+				changes.addAll(keys);
+			}
+		}
+	}
+
+	/**
+	 * 通知済みの参照用スナップショットからの変更内容をリスナに通知します。<br>
+	 * 変更内容は全てのレイヤを統合した参照用スナップショットの変更前後で比較されるため、上位レイヤの値で上書きされているプロパティの変更は通知されず、下位レイヤの変更は通知されます。<br>
+	 * リスナはロックオブジェクトの同期化ブロック外で呼び出されるため、通知中も参照及び、変更操作は待機しません。<br>
+	 * 他のスレッドが通知中の場合は待機せずに復帰し、通知中のスレッドが続けて通知を行うことで、変更内容は変更操作の順に通知されます。<br>
+	 * 当メソッドはロックオブジェクトの同期化ブロック外で、状態を更新した後に呼び出して下さい。<br>
+	 */
+	private void publish() {
+		synchronized (lock) {
+			if (dispatching) {
+				return;
+			}
+			dispatching = true;
+		}
+		boolean completed = false;
+		try {
+			while (true) {
+				ConfigSnapshot before;
+				ConfigSnapshot after;
+				Set<String> keys;
+				synchronized (lock) {
+					if (published == view) {
+						// 通知中に行われた変更操作を取りこぼさないよう、通知中フラグは変更有無の確認と同時に解除
+						dispatching = false;
+						completed = true;
+						return;
+					}
+					before = published;
+					after = view;
+					keys = changes;
+					this.published = after;
+					this.changes = new HashSet<>();
+				}
+				listeners.dispatch(this, before, after, keys);
+			}
+		} finally {
+			if (!completed) {
+				synchronized (lock) {
+					dispatching = false;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 自身又は、自身をレイヤとして参照している環境設定情報にリスナが登録されているか判定します。<br>
+	 * @return リスナが登録されている場合にtrue
+	 */
+	private boolean listening() {
+		if (!listeners.isEmpty()) {
+			return true;
+		}
+		for (WeakReference<Config> reference : dependents) {
+			Config dependent = reference.get();
+			if (dependent != null && dependent.listening()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 自身をレイヤとして参照している環境設定情報のうちリスナが登録されているものについて、参照用スナップショットを再構築して変更内容を通知します。<br>
+	 * 参照したスレッドで既に再構築されていた場合も、記録された変更内容が通知されます。<br>
+	 * リスナが登録されていない環境設定情報は通常と同様に次回参照時に再構築されます。<br>
+	 * 当メソッドはロックオブジェクトの同期化ブロック外で、状態を更新した後に呼び出して下さい。<br>
+	 */
+	private void propagate() {
+		for (WeakReference<Config> reference : dependents) {
+			Config dependent = reference.get();
+			if (dependent == null) {
+				continue;
+			}
+			if (!dependent.listeners.isEmpty()) {
+				dependent.view();
+				dependent.publish();
+			}
+			dependent.propagate();
+		}
+	}
+
+	/**
+	 * プロパティ定義値の変更を通知するリスナを登録します。<br>
+	 * 指定されたプロパティの定義値が読み込み、マージ、クリア、再読み込みによって変化した場合に、1回の操作ごとに変化したプロパティのみがまとめて通知されます。<br>
+	 * 既に登録されているリスナの場合は通知対象のプロパティが追加されます。<br>
+	 * @param listener リスナ
+	 * @param names 通知対象のプロパティアクセスキー
+	 */
+	public void addListener(ConfigListener listener, ConfigName<?>... names) {
+		if (listener == null || names == null) {
+			return;
+		}
+		List<String> keys = new ArrayList<>(names.length);
+		for (ConfigName<?> name : names) {
+			if (name != null) {
+				keys.add(name.getKey());
+			}
+		}
+		// 登録前のレイヤの変更を通知しないよう、登録前に参照用スナップショットを再構築して既存のリスナへの通知を済ませる
+		view();
+		publish();
+		listeners.add(listener, keys, Collections.emptyList());
+	}
+
+	/**
+	 * プロパティ定義値の変更を通知するリスナを登録します。<br>
+	 * 指定された接頭文字列で始まるキーのプロパティの定義値が読み込み、マージ、クリア、再読み込みによって変化した場合に、1回の操作ごとに変化したプロパティのみがまとめて通知されます。<br>
+	 * 空文字列を指定した場合は全てのプロパティが通知対象となります。<br>
+	 * 既に登録されているリスナの場合は通知対象の接頭文字列が追加されます。<br>
+	 * @param listener リスナ
+	 * @param prefix 通知対象のプロパティキー接頭文字列
+	 */
+	public void addListener(ConfigListener listener, String prefix) {
+		if (listener == null || prefix == null) {
+			return;
+		}
+		// 登録前のレイヤの変更を通知しないよう、登録前に参照用スナップショットを再構築して既存のリスナへの通知を済ませる
+		view();
+		publish();
+		listeners.add(listener, Collections.emptyList(), Collections.singletonList(prefix));
+	}
+
+	/**
+	 * プロパティ定義値の変更を通知するリスナの登録を解除します。<br>
+	 * @param listener リスナ
+	 */
+	public void removeListener(ConfigListener listener) {
+		if (listener == null) {
+			return;
+		}
+		listeners.remove(listener);
+	}
+
+	/**
+	 * 記録されている読み込み手順で読み込まれたプロパティリソースパスを取得します。<br>
+	 * @return プロパティリソースパス
+	 */
+	private Set<String> filePaths() {
+		Set<String> filePaths = new LinkedHashSet<>();
+		for (LoadStep step : history) {
+			if (step.filePath != null) {
+				filePaths.add(step.filePath);
+			}
+		}
+		return filePaths;
+	}
+
+	/**
+	 * 記録されている読み込み手順を再実行してプロパティリソースを再読み込みします。<br>
+	 * 差分読み込みや読み込みモードを含め、最後に全てのプロパティを置き換えた読み込み以降の手順が順に再実行されます。<br>
+	 * リソースの解析はロックを保持せずに行われ、結果は一度に反映されるため、参照側が再読み込み途中の状態を参照することはありません。<br>
+	 * 再読み込み中に他の読み込みが行われた場合は、その読み込みを含めた手順で再度読み込みが行われます。<br>
+	 * システムプロパティ等の環境設定情報以外の下位レイヤも内容を取得し直します。<br>
+	 * @return ロード後の自身のインスタンス
+	 */
+	public Config reload() {
+		ConfigMetrics metrics = this.metrics;
+		long start = metrics == null ? 0 : System.nanoTime();
+		for (ConfigLayer layer : layers) {
+			if (layer.refresh()) {
+				stale = true;
+			}
+		}
+		try {
+			while (true) {
+				List<LoadStep> history;
+				int historyRevision;
+				synchronized (lock) {
+					history = this.history;
+					historyRevision = this.historyRevision;
+				}
+				List<Map<?, ?>> loaded = read(history);
+				ConfigSnapshot reloaded = ConfigSnapshot.EMPTY;
+				for (int i = 0; i <= history.size() - 1; i++) {
+					reloaded = history.get(i).apply(reloaded, loaded.get(i));
+				}
+				boolean applied = false;
+				synchronized (lock) {
+					if (historyRevision == this.historyRevision) {
+						ConfigEvents events = ConfigEvents.INSTANCE;
+						Object event = events.beginApply();
+						ConfigSnapshot before = source;
+						// 全てのプロパティを読み込み直すため、変更キーを特定せずに比較対象を限定させる
+						replace(reloaded, null);
+						if (event != null) {
+							events.endApply(event, null, null, true, before, source, null);
+						}
+						if (metrics != null) {
+							measure(metrics, history, loaded, true, System.nanoTime() - start);
+						}
+						applied = true;
+					}
+				}
+				if (applied) {
+					// 取得し直した下位レイヤの変更を含めて通知
+					if (!listeners.isEmpty()) {
+						view();
+					}
+					publish();
+					propagate();
+					return this;
+				}
+			}
+		} catch (Throwable e) {
+			throw new ConfigException(e);
+		}
+	}
+
+	/**
+	 * 読み込まれたプロパティリソースの変更監視を開始します。<br>
+	 * 監視対象リソースが変更された場合、{@link #reload()}と同様に読み込み手順が再実行されます。<br>
+	 * 監視開始後に読み込まれたプロパティリソースも監視対象に追加されます。<br>
+	 * 連続した変更は最後の変更から500ミリ秒経過した時点で一度の再読み込みにまとめられます。<br>
+	 * 再読み込みに失敗した場合は監視スレッドの{@link java.lang.Thread.UncaughtExceptionHandler}に例外が通知されます。<br>
+	 * @return 自身のインスタンス
+	 */
+	public Config watch() {
+		return watch(DEFAULT_WATCH_DELAY);
+	}
+
+	/**
+	 * 読み込まれたプロパティリソースの変更監視を開始します。<br>
+	 * 監視対象リソースが変更された場合、{@link #reload()}と同様に読み込み手順が再実行されます。<br>
+	 * 監視開始後に読み込まれたプロパティリソースも監視対象に追加されます。<br>
+	 * 既に監視中の場合は監視を再開始します。<br>
+	 * 再読み込みに失敗した場合は監視スレッドの{@link java.lang.Thread.UncaughtExceptionHandler}に例外が通知されます。<br>
+	 * @param delay 連続した変更を一度の再読み込みにまとめるための最後の変更からの待機時間(ミリ秒)
+	 * @return 自身のインスタンス
+	 */
+	public Config watch(long delay) {
+		return watch(delay, null);
+	}
+
+	/**
+	 * 読み込まれたプロパティリソースの変更監視を開始します。<br>
+	 * 監視対象リソースが変更された場合、{@link #reload()}と同様に読み込み手順が再実行されます。<br>
+	 * 監視開始後に読み込まれたプロパティリソースも監視対象に追加されます。<br>
+	 * 既に監視中の場合は監視を再開始します。<br>
+	 * 再読み込みに失敗した場合は状態を変更せずに例外処理に例外が通知され、次回の変更時に再度再読み込みが行われます。<br>
+	 * 読み込み済みのリソースが削除されている場合は、削除後に置き換える編集等で一時的に存在しないリソースを空として読み込まないよう、再作成されるまで再読み込みを行いません。<br>
+	 * @param delay 連続した変更を一度の再読み込みにまとめるための最後の変更からの待機時間(ミリ秒)
+	 * @param handler 再読み込み失敗時の例外処理(nullの場合は監視スレッドの{@link java.lang.Thread.UncaughtExceptionHandler}に通知)
+	 * @return 自身のインスタンス
+	 */
+	public Config watch(long delay, Consumer<? super ConfigException> handler) {
+		synchronized (lock) {
+			try {
+				if (watcher != null) {
+					watcher.close();
+				}
+				watcher = new ConfigWatcher(this, delay, handler);
+				watcher.refresh(filePaths());
+				watcher.start();
+				return this;
+			} catch (Throwable e) {
+				watcher = null;
+				throw new ConfigException(e);
+			}
+		}
+	}
+
+	/**
+	 * プロパティリソースの変更監視を終了します。<br>
+	 */
+	public void unwatch() {
+		synchronized (lock) {
+			if (watcher != null) {
+				watcher.close();
+				watcher = null;
+			}
+		}
+	}
+
+	/**
+	 * プロパティ定義内容レンダラオブジェクトを設定します。<br>
+	 * レンダラオブジェクトを設定した場合、各種プロパティ値取得時にレンダラ処理で値補正が行われたうえで値が提供されます。<br>
+	 * レンダラの変更はプロパティ定義値の変更ではないためリスナには通知されませんが、{@link #binding(String, Class)}で生成されたバインディングは全てのプロパティが再設定されます。<br>
+	 * グローバル環境設定情報に設定した場合は、グローバル環境設定情報を継承している環境設定情報のバインディングも再設定されます。<br>
+	 * {@link org.ideaccum.libs.commons.config.ConfigRendererPipeline}は不変オブジェクトのため、段を変更する場合は新たなパイプラインを当メソッドで設定して下さい。<br>
+	 * @param renderer プロパティ定義内容レンダラオブジェクト
+	 */
+	public void setRenderer(ConfigValueRenderer renderer) {
+		synchronized (lock) {
+			this.renderer = renderer;
+			revise();
+		}
+		rebind();
+	}
+
+	/**
+	 * レンダラの変更をバインディングに反映します。<br>
+	 * グローバル環境設定情報の場合は、グローバル環境設定情報を継承している環境設定情報のバインディングにも反映します。<br>
+	 * バインディングの再設定処理を呼び出すため、当メソッドはロックオブジェクトの同期化ブロック外で呼び出して下さい。<br>
+	 */
+	private void rebind() {
+		for (ConfigBinding<?> binding : bindings) {
+			binding.rendered();
+		}
+		if (this != global) {
+			return;
+		}
+		for (WeakReference<Config> reference : dependents) {
+			Config dependent = reference.get();
+			if (dependent != null && dependent.inheritGlobal) {
+				dependent.rebind();
+			}
+		}
+	}
+
+	/**
+	 * レンダラの変更を反映するバインディングを登録します。<br>
+	 * @param binding バインディング
+	 */
+	void addBinding(ConfigBinding<?> binding) {
+		bindings.add(binding);
+	}
+
+	/**
+	 * レンダラの変更を反映するバインディングの登録を解除します。<br>
+	 * @param binding バインディング
+	 */
+	void removeBinding(ConfigBinding<?> binding) {
+		bindings.remove(binding);
+	}
+
+	/**
+	 * 保持しているプロパティ情報又は、レンダラが更新されたことを記録します。<br>
+	 * 状態更新リビジョンを更新することで、更新前に生成されたパース済みプロパティ値キャッシュは次回アクセス時に破棄されます。<br>
+	 * 当メソッドはロックオブジェクトの同期化ブロック内で、スナップショット又は、レンダラを置き換えた後に呼び出して下さい。<br>
+	 */
+	private void revise() {
+		revision++;
+		invalidate();
+	}
+
+	/**
+	 * 現在の状態に対して有効なパース済みプロパティ値キャッシュを取得します。<br>
+	 * 自身又は、継承しているグローバル環境設定情報の状態が更新されている場合は新たなキャッシュを生成して提供します。<br>
+	 * @return パース済みプロパティ値キャッシュ
+	 */
+	private ValueCache cache() {
+		// 下位レイヤの更新による再構築で状態が更新されるため、リビジョンの参照前に統合したスナップショットを確定する
+		view();
+		int revision = this.revision;
+		ValueCache cache = this.cache;
+		if (cache == null || cache.revision != revision) {
+			// リビジョンを先に参照しているため、スナップショットは参照したリビジョン以降の状態となる
+			cache = new ValueCache(revision, view, inheritGlobal ? global.renderer : null, renderer, cache);
+			this.cache = cache;
+		}
+		return cache;
+	}
+
+	/**
+	 * プロパティ上に管理されている値を必要に応じて補正した文字列で提供します。<br>
 	 * @param name プロパティアクセスキー
 	 * @param object プロパティ定義情報
 	 * @return 必要に応じて補正した文字列
@@ -435,10 +1890,10 @@ public final class Config implements Serializable {
 	private String bind(ConfigName<?> name, Object object) {
 		String value = object == null ? "" : object.toString();
 		if (inheritGlobal && global.renderer != null) {
-			value = global.renderer.render(name, value);
+			value = ConfigEvents.INSTANCE.render(global.renderer, name, value);
 		}
 		if (renderer != null) {
-			return renderer.render(name, value);
+			return ConfigEvents.INSTANCE.render(renderer, name, value);
 		} else {
 			return value;
 		}
@@ -453,9 +1908,15 @@ public final class Config implements Serializable {
 		if (name == null) {
 			return true;
 		}
-		boolean result = !properties.containsKey(name.getKey()) || StringUtil.isEmpty(properties.getProperty(name.getKey()));
-		if (inheritGlobal && !result) {
-			result = !global.properties.containsKey(name.getKey()) || StringUtil.isEmpty(global.properties.getProperty(name.getKey()));
+		view();
+		ConfigSnapshot upper = this.upper;
+		if (upper != null && !StringUtil.isEmpty(upper.get(name))) {
+			return false;
+		}
+		boolean result = StringUtil.isEmpty(snapshot.get(name));
+		ConfigSnapshot lower = this.lower;
+		if (lower != null && result) {
+			result = StringUtil.isEmpty(lower.get(name));
 		}
 		return result;
 	}
@@ -469,32 +1930,99 @@ public final class Config implements Serializable {
 		Set<ConfigName<?>> set = new HashSet<>();
 
 		/*
-		 * グローバル環境設定キー追加
+		 * 下位レイヤを含む環境設定キー追加
 		 */
-		if (inheritGlobal) {
-			for (Object key : global.properties.keySet()) {
-				ConfigName<?> name = ConfigName.valueOf(key.toString());
-				if (name != null && !set.contains(name)) {
-					set.add(name);
-				}
+		for (String key : view().keySet()) {
+			ConfigName<?> name = ConfigName.valueOf(key);
+			if (name != null && !set.contains(name)) {
+				set.add(name);
 			}
 		}
 
-		/*
-		 * 個別インスタンス環境設定キー追加
-		 */
-		for (Object key : properties.keySet()) {
-			ConfigName<?> name = ConfigName.valueOf(key.toString());
-			if (name != null && !set.contains(name)) {
+		return set;
+	}
+
+	/**
+	 * 指定された接頭辞で始まる管理されているプロパティキーを{@link org.ideaccum.libs.commons.config.ConfigName}形式で取得します。<br>
+	 * 接頭辞に該当するプロパティアクセスキーは{@link org.ideaccum.libs.commons.config.ConfigName#values(String)}の索引から取得されるため、管理されている全てのプロパティキーの走査は行われません。<br>
+	 * 但し、{@link org.ideaccum.libs.commons.config.ConfigName}として提供されないキーは除外されて提供されます。<br>
+	 * @param prefix 接頭辞(例:"db.pool.")
+	 * @return プロパティキーの階層順に格納された管理されているプロパティキー
+	 */
+	public Set<ConfigName<?>> keySet(String prefix) {
+		Set<ConfigName<?>> set = new LinkedHashSet<>();
+		ConfigSnapshot view = view();
+		for (ConfigName<?> name : ConfigName.values(prefix)) {
+			if (view.get(name) != null) {
 				set.add(name);
 			}
 		}
-
 		return set;
 	}
 
+	/**
+	 * 指定された接頭辞で始まるプロパティを接頭辞を除いたキーで参照する部分集合を取得します。<br>
+	 * 部分集合は呼び出し時点の下位レイヤを含むプロパティ定義情報に対する参照専用のビューであり、{@link #map()}や{@link #tree()}と異なりプロパティ定義情報の複製は行いません。<br>
+	 * プロパティ数の取得及び、反復は部分集合のプロパティ数に比例した時間で行われます。<br>
+	 * 部分集合の範囲は整列済みのプロパティキーから二分探索で特定されます。<br>
+	 * 整列済みのプロパティキーはスナップショットごとに生成されるため、初回の呼び出しのみ全プロパティの整列が呼び出したスレッドで行われ、
+	 * 以降は読み込み等の更新を行ったスレッド(下位レイヤの更新の場合は更新後に最初に参照したスレッド)で生成されます。<br>
+	 * 尚、部分集合が提供するプロパティ定義値は参照解決後かつ、レンダラ処理前の定義値であり、レンダラが設定されている場合は{@link #get(ConfigName)}等で取得される値と一致しない場合があります。<br>
+	 * レンダラ処理後の値が必要な場合は{@link #get(ConfigName)}又は、{@link #bind(String, Class)}を利用して下さい。<br>
+	 * @param prefix 接頭辞(例:"db.pool"の場合、"db.pool.max"が"max"として参照されます)
+	 * @return 部分集合
+	 */
+	public ConfigSubset subset(String prefix) {
+		return new ConfigSubset(indexed(view()), ConfigSubset.normalize(prefix));
+	}
+
+	/**
+	 * 指定された接頭辞で始まるプロパティを接頭辞を除いたキーで設定クラスのインスタンスに設定して取得します。<br>
+	 * 引数なしコンストラクタを持つクラスはフィールド名を、レコードクラスはコンポーネント名をプロパティキーとして設定され、値はフィールドの型に対応する既存のパーサーで変換されます。<br>
+	 * パーサーが存在しない型のフィールドは"フィールド名."を接頭辞とする下位のプロパティから再帰的に生成されます。<br>
+	 * 設定手順はクラスごとに初回のみ生成されてキャッシュされ、以降の呼び出しではリフレクションによる解析は行われません。<br>
+	 * プロパティ定義値は{@link #get(ConfigName)}と同様にレンダラ処理後の定義値が利用されます。<br>
+	 * 但し、レンダラはプロパティアクセスキーを受け取るため、{@link org.ideaccum.libs.commons.config.ConfigName}として提供されないキーの定義値はレンダラ処理が行われずに設定されます。<br>
+	 * @param prefix 接頭辞(例:"db.pool"の場合、"db.pool.max"がmaxフィールドに設定されます)
+	 * @param type 設定クラス
+	 * @return 設定されたインスタンス
+	 */
+	public <T> T bind(String prefix, Class<T> type) {
+		return type.cast(ConfigBindingPlan.of(type).create(bindable(prefix)));
+	}
+
+	/**
+	 * 指定された接頭辞で始まるプロパティを設定クラスへの設定用に参照する部分集合を取得します。<br>
+	 * 部分集合は{@link #get(ConfigName)}と同一のレンダラでプロパティ定義値を補正して設定クラスへの設定に提供します。<br>
+	 * @param prefix 接頭辞
+	 * @return 部分集合
+	 */
+	ConfigSubset bindable(String prefix) {
+		ValueCache cache = cache();
+		if (!cache.hasRenderer()) {
+			return new ConfigSubset(indexed(cache.snapshot), ConfigSubset.normalize(prefix));
+		}
+		return new ConfigSubset(indexed(cache.snapshot), ConfigSubset.normalize(prefix), (key, value) -> {
+			ConfigName<?> name = ConfigName.valueOf(key);
+			return name == null ? value : cache.render(name, value);
+		});
+	}
+
+	/**
+	 * 指定された接頭辞で始まるプロパティを設定したインスタンスを、プロパティ定義値の変更に追従させて提供するバインディングを取得します。<br>
+	 * 変更時は変更されたプロパティに対応するフィールドのみが再設定され、{@link #setRenderer(ConfigValueRenderer)}によるレンダラの変更時は全てのプロパティが再設定されます。<br>
+	 * @param prefix 接頭辞
+	 * @param type 設定クラス
+	 * @return バインディング
+	 * @see #bind(String, Class)
+	 */
+	public <T> ConfigBinding<T> binding(String prefix, Class<T> type) {
+		return new ConfigBinding<>(this, prefix, type);
+	}
+
 	/**
 	 * 管理されているプロパティ情報をマップ形式で取得します。<br>
+	 * 提供されるのはこのインスタンス自身に読み込まれたプロパティ情報のみで、レイヤ(グローバル環境設定情報を含む)のプロパティ情報は含まれません。<br>
 	 * @return プロパティ情報マップオブジェクト
 	 */
 	public Map<String, Object> map() {
@@ -503,46 +2031,21 @@ public final class Config implements Serializable {
 		//	Object value = get(name);
 		//	map.put(name.getKey(), bind(name, value));
 		//}
-		for (Object key : properties.keySet()) {
-			String name = key.toString();
-			Object value = properties.get(key);
-			map.put(name, value);
-		}
+		snapshot.forEach(map::put);
 		return map;
 	}
 
 	/**
 	 * 管理されているプロパティ情報をピリオド(".")をデリミタとして見なした階層形式のマップ形式として取得します。<br>
 	 * foo.barというキーで定義されている場合、fooというキーで保持されたMap内にbarというキーで定義値が保持されます。<br>
+	 * foo及び、foo.barのようにキーが値を持つと同時に階層途中となる場合、fooの定義値はfooというキーで保持されたMap内に空文字列("")をキーとして保持されます。<br>
+	 * 階層形式のマップはプロパティ定義情報が更新されるまで同一のインスタンスが提供され、各階層のMapは初めて参照された時点で生成される変更不可のビューとなります。<br>
 	 * 当メソッドはVelocity等でEL表記アクセスを行うために設けられました。<br>
-	 * @return 階層化されたプロパティ定義マップオブジェクト
+	 * {@link #map()}と同様に、このインスタンス自身に読み込まれたプロパティ情報のみが対象となり、レイヤのプロパティ情報は含まれません。<br>
+	 * @return 階層化されたプロパティ定義マップオブジェクト(変更不可)
 	 */
-	@SuppressWarnings("unchecked")
 	public Map<String, Object> tree() {
-		Map<String, Object> map = new HashMap<>();
-		Map<String, Object> rendered = map();
-		for (String key : rendered.keySet()) {
-			String[] tokens = key.split("\\.");
-			Map<String, Object> active = map;
-			for (int i = 0; i <= tokens.length - 2; i++) {
-				String token = tokens[i];
-				if (!active.containsKey(token)) {
-					active.put(token, new HashMap<>());
-				}
-				Object entry = active.get(token);
-				if (entry instanceof Map) {
-					active = (Map<String, Object>) active.get(token);
-				} else {
-					// 階層途中のトークンで定義されているものはマップで上書き(外部からEL参照は不可となる)
-					Map<String, Object> newmap = new HashMap<>();
-					newmap.put("", entry);
-					active.put(token, newmap);
-					active = (Map<String, Object>) active.get(token);
-				}
-			}
-			active.put(tokens[tokens.length - 1], map.get(key));
-		}
-		return map;
+		return snapshot.tree();
 	}
 
 	/**
@@ -557,13 +2060,17 @@ public final class Config implements Serializable {
 		if (name == null) {
 			return null;
 		}
-		String value = properties.contains(name.getKey()) ? properties.getProperty(name.getKey()) : !inheritGlobal ? null : global.properties.getProperty(name.getKey());
+		String value = view().get(name);
 		String render = bind(name, value);
-		return parser.parse(render);
+		return ConfigEvents.INSTANCE.parse(parser, name, render);
 	}
 
 	/**
 	 * プロパティ情報を取得します。<br>
+	 * パース後の値はプロパティ情報又は、レンダラが更新されるまでキャッシュされ、以降の取得ではレンダラ及び、パーサーの処理は行われません。<br>
+	 * 但し、キャッシュ方針が{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#VOLATILE}のレンダラが設定されている場合はレンダラ処理が都度行われ、処理結果が変わった場合にパースし直されます。<br>
+	 * 配列はキャッシュされた値を複製して提供されるため、取得した配列の内容を変更してもキャッシュされた値には影響しません。<br>
+	 * 配列以外の可変オブジェクトはキャッシュされた同一インスタンスが提供されるため、取得した値の内容は変更しないで下さい。<br>
 	 * @param name プロパティアクセスキー
 	 * @return プロパティ情報
 	 */
@@ -572,11 +2079,243 @@ public final class Config implements Serializable {
 		if (name == null) {
 			return null;
 		}
-		String value = properties.containsKey(name.getKey()) ? properties.getProperty(name.getKey()) : !inheritGlobal ? null : global.properties.getProperty(name.getKey());
-		String render = bind(name, value);
-		if (!parsers.containsKey(name.getParserClass())) {
-			parsers.put(name.getParserClass(), ClassUtil.createInstance(name.getParserClass()));
+		return (T) copy(entry(name).value);
+	}
+
+	/**
+	 * プロパティ情報を整数値として取得します。<br>
+	 * キャッシュ済みの値はボクシング及び、アンボクシングによるオブジェクト生成を伴わずに提供されます。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報(値が提供されない場合は0)
+	 */
+	public int getInt(ConfigName<Integer> name) {
+		Integer value = get(name);
+		return value == null ? 0 : value;
+	}
+
+	/**
+	 * プロパティ情報を長整数値として取得します。<br>
+	 * キャッシュ済みの値はボクシング及び、アンボクシングによるオブジェクト生成を伴わずに提供されます。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報(値が提供されない場合は0)
+	 */
+	public long getLong(ConfigName<Long> name) {
+		Long value = get(name);
+		return value == null ? 0L : value;
+	}
+
+	/**
+	 * プロパティ情報を短整数値として取得します。<br>
+	 * キャッシュ済みの値はボクシング及び、アンボクシングによるオブジェクト生成を伴わずに提供されます。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報(値が提供されない場合は0)
+	 */
+	public short getShort(ConfigName<Short> name) {
+		Short value = get(name);
+		return value == null ? 0 : value;
+	}
+
+	/**
+	 * プロパティ情報を浮動小数値として取得します。<br>
+	 * キャッシュ済みの値はボクシング及び、アンボクシングによるオブジェクト生成を伴わずに提供されます。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報(値が提供されない場合は0)
+	 */
+	public float getFloat(ConfigName<Float> name) {
+		Float value = get(name);
+		return value == null ? 0F : value;
+	}
+
+	/**
+	 * プロパティ情報を長浮動小数値として取得します。<br>
+	 * キャッシュ済みの値はボクシング及び、アンボクシングによるオブジェクト生成を伴わずに提供されます。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報(値が提供されない場合は0)
+	 */
+	public double getDouble(ConfigName<Double> name) {
+		Double value = get(name);
+		return value == null ? 0D : value;
+	}
+
+	/**
+	 * プロパティ情報を真偽値として取得します。<br>
+	 * キャッシュ済みの値はボクシング及び、アンボクシングによるオブジェクト生成を伴わずに提供されます。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報(値が提供されない場合はfalse)
+	 */
+	public boolean getBoolean(ConfigName<Boolean> name) {
+		Boolean value = get(name);
+		return value == null ? false : value;
+	}
+
+	/**
+	 * プロパティ情報を整数値配列として取得します。<br>
+	 * 配列はキャッシュされた値を複製して提供されるため、取得した配列の内容を変更してもキャッシュされた値には影響しません。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報
+	 */
+	public int[] getInts(ConfigName<Integer[]> name) {
+		return ((int[]) primitives(name, int[].class)).clone();
+	}
+
+	/**
+	 * プロパティ情報を長整数値配列として取得します。<br>
+	 * 配列はキャッシュされた値を複製して提供されるため、取得した配列の内容を変更してもキャッシュされた値には影響しません。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報
+	 */
+	public long[] getLongs(ConfigName<Long[]> name) {
+		return ((long[]) primitives(name, long[].class)).clone();
+	}
+
+	/**
+	 * プロパティ情報を短整数値配列として取得します。<br>
+	 * 配列はキャッシュされた値を複製して提供されるため、取得した配列の内容を変更してもキャッシュされた値には影響しません。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報
+	 */
+	public short[] getShorts(ConfigName<Short[]> name) {
+		return ((short[]) primitives(name, short[].class)).clone();
+	}
+
+	/**
+	 * プロパティ情報を浮動小数値配列として取得します。<br>
+	 * 配列はキャッシュされた値を複製して提供されるため、取得した配列の内容を変更してもキャッシュされた値には影響しません。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報
+	 */
+	public float[] getFloats(ConfigName<Float[]> name) {
+		return ((float[]) primitives(name, float[].class)).clone();
+	}
+
+	/**
+	 * プロパティ情報を長浮動小数値配列として取得します。<br>
+	 * 配列はキャッシュされた値を複製して提供されるため、取得した配列の内容を変更してもキャッシュされた値には影響しません。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報
+	 */
+	public double[] getDoubles(ConfigName<Double[]> name) {
+		return ((double[]) primitives(name, double[].class)).clone();
+	}
+
+	/**
+	 * プロパティ情報を真偽値配列として取得します。<br>
+	 * 配列はキャッシュされた値を複製して提供されるため、取得した配列の内容を変更してもキャッシュされた値には影響しません。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ情報
+	 */
+	public boolean[] getBooleans(ConfigName<Boolean[]> name) {
+		return ((boolean[]) primitives(name, boolean[].class)).clone();
+	}
+
+	/**
+	 * プロパティ情報のキャッシュエントリを取得します。<br>
+	 * キャッシュされていない場合はプロパティ値をパースしてキャッシュしたうえで提供します。<br>
+	 * レンダラ処理結果をキャッシュできない場合はレンダラ処理を行い、処理結果が変わった場合のみパースし直します。<br>
+	 * @param name プロパティアクセスキー
+	 * @return キャッシュエントリ
+	 */
+	private CacheEntry entry(ConfigName<?> name) {
+		ConfigMetrics metrics = this.metrics;
+		ValueCache cache = cache();
+		CacheEntry entry = cache.get(name);
+		if (entry != null && cache.isStable()) {
+			if (metrics != null) {
+				metrics.hit(name);
+			}
+			return entry;
+		}
+		String source = cache.lookup(name);
+		if (entry == null) {
+			CacheEntry carried = cache.carried(name, source);
+			if (carried != null) {
+				if (metrics != null) {
+					metrics.hit(name);
+				}
+				return cache.put(carried);
+			}
+		}
+		long start = metrics == null ? 0 : System.nanoTime();
+		String rendered = cache.render(name, source);
+		if (metrics != null && cache.hasRenderer()) {
+			long now = System.nanoTime();
+			metrics.rendered(name, now - start);
+			start = now;
+		}
+		if (entry != null && entry.rendered.equals(rendered)) {
+			// レンダラ処理結果が前回と同一の場合はパース済みの値を再利用
+			if (metrics != null) {
+				metrics.hit(name);
+			}
+			return entry;
+		}
+		Object value = ConfigEvents.INSTANCE.parse(parser(name), name, rendered);
+		if (metrics != null) {
+			metrics.parsed(name, System.nanoTime() - start);
+			metrics.miss(name);
+		}
+		entry = new CacheEntry(name, source, rendered, value);
+		return cache.isStable() ? cache.put(entry) : cache.replace(entry);
+	}
+
+	/**
+	 * キャッシュされた値が配列の場合に複製します。<br>
+	 * 配列の要素は複製されません。<br>
+	 * @param value キャッシュされた値
+	 * @return 配列の場合は複製した配列、それ以外の場合は指定された値
+	 */
+	private static Object copy(Object value) {
+		if (value == null || !value.getClass().isArray()) {
+			return value;
+		}
+		int length = Array.getLength(value);
+		Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+		System.arraycopy(value, 0, copy, 0, length);
+		return copy;
+	}
+
+	/**
+	 * プロパティアクセスキーに対応するパーサーを取得します。<br>
+	 * パーサーはプロパティアクセスキーが保持する共有インスタンスであり、登録簿の検索は行われません。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ値パーサー
+	 */
+	private static ConfigValueParser<?> parser(ConfigName<?> name) {
+		return name.parser();
+	}
+
+	/**
+	 * プロパティ情報をプリミティブ型配列として取得します。<br>
+	 * パーサーが{@link org.ideaccum.libs.commons.config.ConfigValuePrimitiveArrayParser}を実装している場合はラッパークラスを経由せずにパースし、
+	 * 実装していない場合はパース済みのラッパークラス配列をアンボクシングしてキャッシュします。<br>
+	 * @param name プロパティアクセスキー
+	 * @param type プリミティブ型配列クラス
+	 * @return プロパティ情報(キャッシュされた同一インスタンス)
+	 */
+	private Object primitives(ConfigName<?> name, Class<?> type) {
+		if (name == null) {
+			return Array.newInstance(type.getComponentType(), 0);
+		}
+		CacheEntry entry = entry(name);
+		Object primitives = entry.primitives;
+		if (primitives == null) {
+			ConfigValueParser<?> parser = parser(name);
+			if (parser instanceof ConfigValuePrimitiveArrayParser) {
+				primitives = ((ConfigValuePrimitiveArrayParser<?, ?>) parser).parsePrimitives(entry.rendered);
+			}
+			if (primitives == null || primitives.getClass() != type) {
+				// プリミティブ型配列を提供しないパーサーの場合はパース済みの値から変換
+				int length = entry.value == null ? 0 : Array.getLength(entry.value);
+				primitives = Array.newInstance(type.getComponentType(), length);
+				for (int i = 0; i <= length - 1; i++) {
+					Object element = Array.get(entry.value, i);
+					if (element != null) {
+						Array.set(primitives, i, element);
+					}
+				}
+			}
+			entry.primitives = primitives;
 		}
-		return (T) parsers.get(name.getParserClass()).parse(render);
+		return primitives;
 	}
 }
@@ -0,0 +1,118 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 環境設定情報の部分集合を設定した設定クラスのインスタンスを、プロパティ定義値の変更に追従させて提供します。<br>
+ * <p>
+ * 生成時に{@link org.ideaccum.libs.commons.config.Config#bind(String, Class)}と同様にインスタンスを生成し、以降は部分集合のプロパティ定義値が変更された際に再設定します。<br>
+ * 再設定はクラスごとにキャッシュされた設定手順で行われ、変更されたプロパティに対応するフィールドのみが設定されます。<br>
+ * 引数なしコンストラクタを持つクラスの場合は同一インスタンスのフィールドが更新され、レコードクラスの場合は変更があった階層のインスタンスのみが新たに生成されます。<br>
+ * {@link org.ideaccum.libs.commons.config.Config#setRenderer(ConfigValueRenderer)}によりレンダラが変更された場合は、部分集合の全てのプロパティが新たなレンダラで再設定されます。<br>
+ * 但し、{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#VOLATILE}のレンダラのように呼び出しごとに処理結果が変化するレンダラであっても、設定済みのフィールドは再設定時まで更新されません。<br>
+ * </p>
+ * <p>
+ * 再設定は変更を行ったスレッド上で{@link org.ideaccum.libs.commons.config.ConfigListener}として(レンダラの変更時はレンダラを設定したスレッド上で)行われます。<br>
+ * 他スレッドから一貫した状態を参照する必要がある場合はレコードクラス等の不変クラスを利用して下さい。<br>
+ * 不要となった場合は{@link #close()}によりリスナ及び、レンダラ変更の反映対象としての登録を解除して下さい。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/17  agent            レンダラの変更時に全てのプロパティを再設定する仕様に変更
+ *-->
+ * @param <T> 設定クラス
+ */
+public final class ConfigBinding<T> {
+
+	/** 対象環境設定情報 */
+	private final Config config;
+
+	/** 接頭辞(空文字列又は、階層区切り文字で終わる文字列) */
+	private final String prefix;
+
+	/** 設定クラス */
+	private final Class<T> type;
+
+	/** 設定手順 */
+	private final ConfigBindingPlan plan;
+
+	/** 変更通知リスナ */
+	private final ConfigListener listener;
+
+	/** 設定済みインスタンス */
+	private volatile T value;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param config 対象環境設定情報
+	 * @param prefix 接頭辞
+	 * @param type 設定クラス
+	 */
+	ConfigBinding(Config config, String prefix, Class<T> type) {
+		super();
+		this.config = config;
+		this.prefix = ConfigSubset.normalize(prefix);
+		this.type = type;
+		this.plan = ConfigBindingPlan.of(type);
+		this.listener = this::changed;
+		config.addListener(listener, this.prefix);
+		config.addBinding(this);
+		T created = type.cast(plan.create(config.bindable(this.prefix)));
+		synchronized (this) {
+			// 生成中に変更が通知された場合は通知時点で生成されたインスタンスを優先
+			if (value == null) {
+				value = created;
+			}
+		}
+	}
+
+	/**
+	 * 設定済みインスタンスを取得します。<br>
+	 * @return 設定済みインスタンス
+	 */
+	public T get() {
+		return value;
+	}
+
+	/**
+	 * プロパティ定義値の変更への追従を終了します。<br>
+	 * 終了後も{@link #get()}は最後に設定されたインスタンスを提供します。<br>
+	 */
+	public void close() {
+		config.removeListener(listener);
+		config.removeBinding(this);
+	}
+
+	/**
+	 * 変更されたプロパティを再設定します。<br>
+	 * @param event 変更イベント
+	 */
+	private synchronized void changed(ConfigChangeEvent event) {
+		Set<String> changed = new HashSet<>();
+		for (String key : event.getKeys()) {
+			if (key.startsWith(prefix)) {
+				changed.add(key.substring(prefix.length()));
+			}
+		}
+		if (changed.isEmpty()) {
+			return;
+		}
+		value = type.cast(plan.update(value, config.bindable(prefix), changed));
+	}
+
+	/**
+	 * レンダラの変更に伴い部分集合の全てのプロパティを再設定します。<br>
+	 */
+	synchronized void rendered() {
+		ConfigSubset values = config.bindable(prefix);
+		if (value == null) {
+			// 生成中にレンダラが変更された場合は変更後のレンダラで生成
+			value = type.cast(plan.create(values));
+			return;
+		}
+		value = type.cast(plan.update(value, values, new HashSet<>(values.keySet())));
+	}
+}
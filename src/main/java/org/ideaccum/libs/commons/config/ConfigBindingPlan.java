@@ -0,0 +1,357 @@
+package org.ideaccum.libs.commons.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.ideaccum.libs.commons.config.exception.ConfigException;
+import org.ideaccum.libs.commons.util.ClassUtil;
+
+/**
+ * プロパティの部分集合を設定クラスのインスタンスに設定する際のクラスごとの設定手順を提供します。<br>
+ * <p>
+ * 設定手順はクラスごとに初回の設定時に一度だけ生成され、インスタンス生成及び、フィールド設定を行う{@link java.lang.invoke.MethodHandle}と、フィールドの型に対応するパーサーを保持します。<br>
+ * 設定手順は{@link java.lang.ClassValue}で管理されるため、設定クラスのクラスローダーの破棄を妨げることはありません。<br>
+ * </p>
+ * <p>
+ * 設定対象は以下の通りです。<br>
+ * <ul>
+ * <li>引数なしコンストラクタを持つクラスの場合、static、final、transientのいずれでもないフィールド(フィールド名をプロパティキーとして設定)</li>
+ * <li>レコードクラスの場合、レコードコンポーネント(コンポーネント名をプロパティキーとして標準コンストラクタで生成)</li>
+ * </ul>
+ * {@link org.ideaccum.libs.commons.config.ConfigParserRegistry}に型が登録されているフィールドは登録されたパーサーで値に変換され、それ以外の型のフィールドは"フィールド名."を接頭辞とする下位の部分集合から再帰的に生成されます。<br>
+ * パーサーに渡される定義値は{@link org.ideaccum.libs.commons.config.ConfigSubset}が提供するレンダラ処理後の定義値となります。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/16  agent            フィールド型に対するパーサーを共有パーサー登録簿から取得する仕様に変更
+ *-->
+ */
+final class ConfigBindingPlan {
+
+	/** 階層区切り文字 */
+	private static final String SEPARATOR = ".";
+
+	/** レコードクラス判定メソッド(レコードクラスをサポートしない実行環境の場合はnull) */
+	private static final Method IS_RECORD;
+
+	/** レコードコンポーネント取得メソッド(レコードクラスをサポートしない実行環境の場合はnull) */
+	private static final Method GET_RECORD_COMPONENTS;
+
+	/** レコードコンポーネント名取得メソッド(レコードクラスをサポートしない実行環境の場合はnull) */
+	private static final Method GET_COMPONENT_NAME;
+
+	/** レコードコンポーネント型取得メソッド(レコードクラスをサポートしない実行環境の場合はnull) */
+	private static final Method GET_COMPONENT_TYPE;
+
+	/** クラスごとの設定手順 */
+	private static final ClassValue<ConfigBindingPlan> PLANS = new ClassValue<ConfigBindingPlan>() {
+		@Override
+		protected ConfigBindingPlan computeValue(Class<?> type) {
+			return new ConfigBindingPlan(type);
+		}
+	};
+
+	static {
+		Method isRecord = null;
+		Method getRecordComponents = null;
+		Method getComponentName = null;
+		Method getComponentType = null;
+		try {
+			Class<?> component = Class.forName("java.lang.reflect.RecordComponent");
+			isRecord = Class.class.getMethod("isRecord");
+			getRecordComponents = Class.class.getMethod("getRecordComponents");
+			getComponentName = component.getMethod("getName");
+			getComponentType = component.getMethod("getType");
+		} catch (ClassNotFoundException | NoSuchMethodException e) {
+			// レコードクラスをサポートしない実行環境では通常のクラスとしてのみ扱う
+			isRecord = null;
+			getRecordComponents = null;
+			getComponentName = null;
+			getComponentType = null;
+		}
+		IS_RECORD = isRecord;
+		GET_RECORD_COMPONENTS = getRecordComponents;
+		GET_COMPONENT_NAME = getComponentName;
+		GET_COMPONENT_TYPE = getComponentType;
+	}
+
+	/** レコードクラスフラグ */
+	private final boolean record;
+
+	/** インスタンス生成処理(レコードクラスの場合は引数配列を受け取る標準コンストラクタ) */
+	private final MethodHandle constructor;
+
+	/** 設定対象プロパティ */
+	private final Property[] properties;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param type 設定クラス
+	 */
+	private ConfigBindingPlan(Class<?> type) {
+		super();
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		List<Property> properties = new ArrayList<>();
+		try {
+			this.record = isRecord(type);
+			if (record) {
+				Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+				Class<?>[] types = new Class<?>[components.length];
+				for (int i = 0; i <= components.length - 1; i++) {
+					types[i] = (Class<?>) GET_COMPONENT_TYPE.invoke(components[i]);
+					properties.add(new Property((String) GET_COMPONENT_NAME.invoke(components[i]), types[i], null, null));
+				}
+				Constructor<?> constructor = type.getDeclaredConstructor(types);
+				constructor.setAccessible(true);
+				this.constructor = lookup.unreflectConstructor(constructor).asSpreader(Object[].class, types.length).asType(MethodType.methodType(Object.class, Object[].class));
+			} else {
+				Constructor<?> constructor = type.getDeclaredConstructor();
+				constructor.setAccessible(true);
+				this.constructor = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+				MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+				MethodType getterType = MethodType.methodType(Object.class, Object.class);
+				Set<String> names = new HashSet<>();
+				for (Field field : ClassUtil.getFields(type)) {
+					int modifiers = field.getModifiers();
+					if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic() || !names.add(field.getName())) {
+						continue;
+					}
+					field.setAccessible(true);
+					properties.add(new Property(field.getName(), field.getType(), lookup.unreflectSetter(field).asType(setterType), lookup.unreflectGetter(field).asType(getterType)));
+				}
+			}
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new ConfigException(e);
+		}
+		this.properties = properties.toArray(new Property[properties.size()]);
+	}
+
+	/**
+	 * 設定クラスの設定手順を取得します。<br>
+	 * @param type 設定クラス
+	 * @return 設定手順
+	 */
+	static ConfigBindingPlan of(Class<?> type) {
+		return PLANS.get(type);
+	}
+
+	/**
+	 * レコードクラスであるか判定します。<br>
+	 * @param type クラス
+	 * @return レコードクラスの場合にtrueを返却
+	 * @throws ReflectiveOperationException 判定処理の呼び出しに失敗した場合にスローされます
+	 */
+	private static boolean isRecord(Class<?> type) throws ReflectiveOperationException {
+		return IS_RECORD != null && (Boolean) IS_RECORD.invoke(type);
+	}
+
+	/**
+	 * 部分集合のプロパティを設定したインスタンスを生成します。<br>
+	 * 定義されていないプロパティのフィールドは初期値のまま(レコードクラスの場合はnull又は、0)となります。<br>
+	 * @param values 部分集合
+	 * @return 生成されたインスタンス
+	 */
+	Object create(ConfigSubset values) {
+		if (record) {
+			Object[] arguments = new Object[properties.length];
+			for (int i = 0; i <= properties.length - 1; i++) {
+				Object value = properties[i].value(values);
+				arguments[i] = value != null ? value : properties[i].zero;
+			}
+			return construct(arguments);
+		}
+		Object object = construct(null);
+		for (Property property : properties) {
+			Object value = property.value(values);
+			if (value != null) {
+				property.set(object, value);
+			}
+		}
+		return object;
+	}
+
+	/**
+	 * インスタンスに対して変更されたプロパティのみを再設定します。<br>
+	 * 変更されていないプロパティのフィールドは参照も変更もされません。<br>
+	 * 削除されたプロパティのフィールドはnull又は、0に設定されます。<br>
+	 * @param current 設定済みインスタンス
+	 * @param values 変更後の部分集合
+	 * @param changed 変更されたプロパティの部分集合内でのキー
+	 * @return 再設定後のインスタンス(レコードクラスで変更がある場合は新たに生成されたインスタンス、それ以外の場合は設定済みインスタンス)
+	 */
+	Object update(Object current, ConfigSubset values, Set<String> changed) {
+		if (current == null || record) {
+			return create(values);
+		}
+		for (Property property : properties) {
+			if (property.converter != null) {
+				if (changed.contains(property.name)) {
+					Object value = property.value(values);
+					property.set(current, value != null ? value : property.zero);
+				}
+				continue;
+			}
+			Set<String> nested = nested(changed, property.name + SEPARATOR);
+			if (nested.isEmpty()) {
+				continue;
+			}
+			ConfigSubset subset = values.subset(property.name);
+			Object child = property.get(current);
+			Object updated = subset.isEmpty() ? null : of(property.type).update(child, subset, nested);
+			if (updated != child) {
+				property.set(current, updated);
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * 変更されたキーから指定された接頭辞で始まるキーを接頭辞を除いて抽出します。<br>
+	 * @param changed 変更されたキー
+	 * @param prefix 接頭辞
+	 * @return 接頭辞を除いたキー
+	 */
+	private static Set<String> nested(Set<String> changed, String prefix) {
+		Set<String> result = null;
+		for (String key : changed) {
+			if (key.startsWith(prefix)) {
+				if (result == null) {
+					result = new HashSet<>();
+				}
+				result.add(key.substring(prefix.length()));
+			}
+		}
+		return result == null ? Collections.emptySet() : result;
+	}
+
+	/**
+	 * インスタンスを生成します。<br>
+	 * @param arguments 標準コンストラクタ引数(レコードクラスでない場合はnull)
+	 * @return 生成されたインスタンス
+	 */
+	private Object construct(Object[] arguments) {
+		try {
+			return record ? (Object) constructor.invokeExact(arguments) : (Object) constructor.invokeExact();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new ConfigException(e);
+		}
+	}
+
+	/**
+	 * 設定対象プロパティクラスです。<br>
+	 */
+	private static final class Property {
+
+		/** プロパティキー(部分集合内でのキー) */
+		private final String name;
+
+		/** フィールド型 */
+		private final Class<?> type;
+
+		/** フィールド値設定処理(レコードクラスの場合はnull) */
+		private final MethodHandle setter;
+
+		/** フィールド値取得処理(レコードクラスの場合はnull) */
+		private final MethodHandle getter;
+
+		/** 値変換処理(下位の部分集合から生成するフィールドの場合はnull) */
+		private final Function<String, Object> converter;
+
+		/** 値が提供されない場合の値(プリミティブ型の場合は0又は、false、それ以外はnull) */
+		private final Object zero;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param name プロパティキー
+		 * @param type フィールド型
+		 * @param setter フィールド値設定処理
+		 * @param getter フィールド値取得処理
+		 */
+		private Property(String name, Class<?> type, MethodHandle setter, MethodHandle getter) {
+			this.name = name;
+			this.type = type;
+			this.setter = setter;
+			this.getter = getter;
+			this.converter = converter(type);
+			this.zero = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+		}
+
+		/**
+		 * フィールド型に対して{@link org.ideaccum.libs.commons.config.ConfigParserRegistry}に登録されているパーサーで値変換処理を生成します。<br>
+		 * プリミティブ型配列の場合はパーサーが提供するプリミティブ型配列へのパース処理を利用します。<br>
+		 * @param type フィールド型
+		 * @return 値変換処理(パーサーが存在しない場合はnull)
+		 */
+		private static Function<String, Object> converter(Class<?> type) {
+			ConfigValueParser<?> parser = ConfigParserRegistry.getTypeParser(type);
+			if (parser == null) {
+				return null;
+			}
+			if (type.isArray() && type.getComponentType().isPrimitive() && parser instanceof ConfigValuePrimitiveArrayParser) {
+				ConfigValuePrimitiveArrayParser<?, ?> primitives = (ConfigValuePrimitiveArrayParser<?, ?>) parser;
+				return primitives::parsePrimitives;
+			}
+			return parser::parse;
+		}
+
+		/**
+		 * 部分集合からプロパティ値を取得します。<br>
+		 * @param values 部分集合
+		 * @return プロパティ値(定義されていない場合はnull)
+		 */
+		private Object value(ConfigSubset values) {
+			if (converter != null) {
+				String value = values.rendered(name);
+				return value == null ? null : converter.apply(value);
+			}
+			ConfigSubset subset = values.subset(name);
+			return subset.isEmpty() ? null : of(type).create(subset);
+		}
+
+		/**
+		 * フィールド値を設定します。<br>
+		 * @param object 設定対象インスタンス
+		 * @param value 設定値
+		 */
+		private void set(Object object, Object value) {
+			try {
+				setter.invokeExact(object, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new ConfigException(e);
+			}
+		}
+
+		/**
+		 * フィールド値を取得します。<br>
+		 * @param object 取得対象インスタンス
+		 * @return フィールド値
+		 */
+		private Object get(Object object) {
+			try {
+				return (Object) getter.invokeExact(object);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new ConfigException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 環境設定情報のプロパティ定義値の変更内容を提供します。<br>
+ * <p>
+ * イベントは1回の変更操作でリスナの登録キーに該当するプロパティのうち、実際に定義値が変化したもののみを保持します。<br>
+ * 変更前後の値はレンダラによる補正前のプロパティ定義値で、追加されたプロパティの変更前の値及び、削除されたプロパティの変更後の値はnullとなります。<br>
+ * 型変換後の値が必要な場合は{@link #getConfig()}から取得して下さい。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public final class ConfigChangeEvent {
+
+	/** 変更された環境設定情報 */
+	private final Config config;
+
+	/** 変更内容(プロパティキーに対する変更前後の定義値) */
+	private final Map<String, String[]> changes;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param config 変更された環境設定情報
+	 * @param changes 変更内容(プロパティキーに対する変更前後の定義値)
+	 */
+	ConfigChangeEvent(Config config, Map<String, String[]> changes) {
+		super();
+		this.config = config;
+		this.changes = changes;
+	}
+
+	/**
+	 * オブジェクト情報を文字列として提供します。<br>
+	 * @return オブジェクト情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (Map.Entry<String, String[]> entry : changes.entrySet()) {
+			builder.append(builder.length() == 0 ? "" : ", ");
+			builder.append(entry.getKey()).append("=").append(entry.getValue()[0]).append("->").append(entry.getValue()[1]);
+		}
+		return "{" + builder + "}";
+	}
+
+	/**
+	 * 変更された環境設定情報を取得します。<br>
+	 * @return 変更された環境設定情報
+	 */
+	public Config getConfig() {
+		return config;
+	}
+
+	/**
+	 * 変更されたプロパティキーを取得します。<br>
+	 * @return 変更されたプロパティキー(変更不可)
+	 */
+	public Set<String> getKeys() {
+		return Collections.unmodifiableSet(changes.keySet());
+	}
+
+	/**
+	 * プロパティが変更されたか判定します。<br>
+	 * @param name プロパティアクセスキー
+	 * @return 変更された場合にtrueを返却
+	 */
+	public boolean isChanged(ConfigName<?> name) {
+		return name != null && changes.containsKey(name.getKey());
+	}
+
+	/**
+	 * 変更前のプロパティ定義値を取得します。<br>
+	 * @param key プロパティキー
+	 * @return 変更前のプロパティ定義値(変更されていない場合又は、追加されたプロパティの場合はnull)
+	 */
+	public String getOldValue(String key) {
+		String[] change = changes.get(key);
+		return change == null ? null : change[0];
+	}
+
+	/**
+	 * 変更前のプロパティ定義値を取得します。<br>
+	 * @param name プロパティアクセスキー
+	 * @return 変更前のプロパティ定義値(変更されていない場合又は、追加されたプロパティの場合はnull)
+	 */
+	public String getOldValue(ConfigName<?> name) {
+		return name == null ? null : getOldValue(name.getKey());
+	}
+
+	/**
+	 * 変更後のプロパティ定義値を取得します。<br>
+	 * @param key プロパティキー
+	 * @return 変更後のプロパティ定義値(変更されていない場合又は、削除されたプロパティの場合はnull)
+	 */
+	public String getNewValue(String key) {
+		String[] change = changes.get(key);
+		return change == null ? null : change[1];
+	}
+
+	/**
+	 * 変更後のプロパティ定義値を取得します。<br>
+	 * @param name プロパティアクセスキー
+	 * @return 変更後のプロパティ定義値(変更されていない場合又は、削除されたプロパティの場合はnull)
+	 */
+	public String getNewValue(ConfigName<?> name) {
+		return name == null ? null : getNewValue(name.getKey());
+	}
+}
@@ -0,0 +1,459 @@
+package org.ideaccum.libs.commons.config;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * プロパティキー及び、プロパティ定義値を単一のバイト配列に格納する不変のマップを提供します。<br>
+ * <p>
+ * 各エントリはキー及び、値をUTF-8で符号化したバイト列として連続して格納され、キーの検索はエントリ位置を保持する整数配列のオープンアドレス法ハッシュテーブルで行われます。<br>
+ * エントリごとのオブジェクトを保持しないため、{@link java.util.HashMap}に文字列として保持する場合と比較してプロパティ数に比例するメモリ使用量を大幅に削減します。<br>
+ * 文字列は参照時に都度復号して生成され、マップ内には保持されません。<br>
+ * </p>
+ * <p>
+ * 補助文字はサロゲートペアの各文字を個別に符号化するため、不正なサロゲートを含む文字列も元の文字列に復元されます。<br>
+ * 検索はキー文字列を符号化せずに格納されたバイト列と文字単位で比較するため、検索時にオブジェクトは生成されません。<br>
+ * </p>
+ * <p>
+ * 格納内容はバイト列及び、ハッシュテーブルのまま出力できるため、{@link org.ideaccum.libs.commons.config.ConfigSnapshotFile}からの復元時に再符号化及び、再ハッシュは行われません。<br>
+ * 復元したインスタンスは読み込み元バッファの該当範囲をそのまま参照し、メモリマップされたバッファからも内容を複製せずに生成されます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/17  agent            復元時に読み込み元バッファを複製せずに参照する仕様に変更
+ *-->
+ */
+final class ConfigCompactMap extends AbstractMap<String, String> {
+
+	/** エントリ格納バイト列 */
+	private final ByteBuffer data;
+
+	/** エントリ格納バイト数 */
+	private final int length;
+
+	/** エントリ位置+1を格納するハッシュテーブル(0は空きを表す) */
+	private final IntBuffer slots;
+
+	/** ハッシュテーブル長 */
+	private final int capacity;
+
+	/** エントリ数 */
+	private final int size;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param data エントリ格納バイト列
+	 * @param slots エントリ位置+1を格納するハッシュテーブル
+	 * @param size エントリ数
+	 */
+	private ConfigCompactMap(ByteBuffer data, IntBuffer slots, int size) {
+		super();
+		this.data = data;
+		this.length = data.limit();
+		this.slots = slots;
+		this.capacity = slots.limit();
+		this.size = size;
+	}
+
+	/**
+	 * マップの内容を格納したインスタンスを生成します。<br>
+	 * @param map 格納するマップ(null値を含まないこと)
+	 * @return 生成したインスタンス
+	 */
+	static ConfigCompactMap of(Map<String, String> map) {
+		if (map instanceof ConfigCompactMap) {
+			return (ConfigCompactMap) map;
+		}
+		int length = 0;
+		for (Map.Entry<String, String> entry : map.entrySet()) {
+			length += encodedLength(entry.getKey()) + encodedLength(entry.getValue());
+		}
+		byte[] data = new byte[length];
+		int capacity = 2;
+		while (capacity * 3 < map.size() * 4 + 4) {
+			capacity <<= 1;
+		}
+		int[] slots = new int[capacity];
+		int mask = capacity - 1;
+		int offset = 0;
+		for (Map.Entry<String, String> entry : map.entrySet()) {
+			int index = spread(entry.getKey().hashCode()) & mask;
+			while (slots[index] != 0) {
+				index = (index + 1) & mask;
+			}
+			slots[index] = offset + 1;
+			offset = encode(entry.getValue(), data, encode(entry.getKey(), data, offset));
+		}
+		return new ConfigCompactMap(ByteBuffer.wrap(data), IntBuffer.wrap(slots), map.size());
+	}
+
+	/**
+	 * {@link #write(DataOutput)}で出力された内容からインスタンスを復元します。<br>
+	 * 復元したインスタンスは読み込み元バッファの内容を複製せずに参照するため、復元後に読み込み元バッファの内容を変更しないで下さい。<br>
+	 * バッファの位置は読み込んだ内容の直後に移動します。<br>
+	 * @param buffer 読み込み元バッファ
+	 * @return 復元したインスタンス
+	 * @throws IllegalStateException 内容が不正な場合にスローされます
+	 */
+	static ConfigCompactMap read(ByteBuffer buffer) {
+		int size = buffer.getInt();
+		ByteBuffer data = slice(buffer, buffer.getInt());
+		int capacity = buffer.getInt();
+		if (capacity <= 0 || (capacity & (capacity - 1)) != 0 || size >= capacity || capacity > buffer.remaining() / Integer.BYTES) {
+			throw new IllegalStateException("Illegal slot length: " + capacity);
+		}
+		IntBuffer slots = slice(buffer, capacity * Integer.BYTES).asIntBuffer();
+		return new ConfigCompactMap(data, slots, size);
+	}
+
+	/**
+	 * バッファの現在位置から指定バイト数の範囲を参照するバッファを切り出し、バッファの位置を範囲の直後に移動します。<br>
+	 * @param buffer 読み込み元バッファ
+	 * @param length バイト数
+	 * @return 切り出したバッファ
+	 * @throws IllegalStateException 範囲が読み込み元バッファに収まらない場合にスローされます
+	 */
+	private static ByteBuffer slice(ByteBuffer buffer, int length) {
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalStateException("Illegal length: " + length);
+		}
+		ByteBuffer slice = buffer.slice();
+		slice.limit(length);
+		buffer.position(buffer.position() + length);
+		return slice;
+	}
+
+	/**
+	 * 格納内容を出力します。<br>
+	 * @param output 出力先
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	void write(DataOutput output) throws IOException {
+		output.writeInt(size);
+		output.writeInt(length);
+		if (data.hasArray()) {
+			output.write(data.array(), data.arrayOffset(), length);
+		} else {
+			byte[] buffer = new byte[Math.min(length, 8192)];
+			ByteBuffer source = data.duplicate();
+			while (source.hasRemaining()) {
+				int count = Math.min(buffer.length, source.remaining());
+				source.get(buffer, 0, count);
+				output.write(buffer, 0, count);
+			}
+		}
+		output.writeInt(capacity);
+		for (int i = 0; i <= capacity - 1; i++) {
+			output.writeInt(slots.get(i));
+		}
+	}
+
+	/**
+	 * 格納内容がヒープ外のバッファ(メモリマップしたファイル等)に格納されているか判定します。<br>
+	 * @return ヒープ外のバッファに格納されている場合にtrueを返却
+	 */
+	boolean isDirect() {
+		return data.isDirect();
+	}
+
+	/**
+	 * マップのエントリ数を取得します。<br>
+	 * @return エントリ数
+	 * @see java.util.AbstractMap#size()
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * キーが格納されているか判定します。<br>
+	 * @param key キー
+	 * @return 格納されている場合にtrueを返却
+	 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof String && find((String) key) >= 0;
+	}
+
+	/**
+	 * キーに対応する値を取得します。<br>
+	 * @param key キー
+	 * @return 値(格納されていない場合はnull)
+	 * @see java.util.AbstractMap#get(java.lang.Object)
+	 */
+	@Override
+	public String get(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		int offset = find((String) key);
+		if (offset < 0) {
+			return null;
+		}
+		return decode(skip(offset));
+	}
+
+	/**
+	 * 格納されているエントリごとに処理を行います。<br>
+	 * エントリは格納順に処理されます。<br>
+	 * @param action キー及び、値を受け取る処理
+	 * @see java.util.Map#forEach(java.util.function.BiConsumer)
+	 */
+	@Override
+	public void forEach(BiConsumer<? super String, ? super String> action) {
+		int offset = 0;
+		while (offset < length) {
+			int value = skip(offset);
+			action.accept(decode(offset), decode(value));
+			offset = skip(value);
+		}
+	}
+
+	/**
+	 * エントリセットを取得します。<br>
+	 * エントリは反復処理の際に都度生成されます。<br>
+	 * @return エントリセット
+	 * @see java.util.AbstractMap#entrySet()
+	 */
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+		return new AbstractSet<Map.Entry<String, String>>() {
+			@Override
+			public Iterator<Map.Entry<String, String>> iterator() {
+				return new Iterator<Map.Entry<String, String>>() {
+					private int offset = 0;
+
+					@Override
+					public boolean hasNext() {
+						return offset < length;
+					}
+
+					@Override
+					public Map.Entry<String, String> next() {
+						if (offset >= length) {
+							throw new NoSuchElementException();
+						}
+						int value = skip(offset);
+						Map.Entry<String, String> entry = new SimpleImmutableEntry<>(decode(offset), decode(value));
+						offset = skip(value);
+						return entry;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * キーが格納されているエントリ位置を検索します。<br>
+	 * @param key キー
+	 * @return エントリ位置(格納されていない場合は-1)
+	 */
+	private int find(String key) {
+		int mask = capacity - 1;
+		int index = spread(key.hashCode()) & mask;
+		int slot;
+		while ((slot = slots.get(index)) != 0) {
+			int offset = slot - 1;
+			if (matches(offset, key)) {
+				return offset;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * 格納位置の文字列がキーと一致するか判定します。<br>
+	 * @param offset 文字列格納位置
+	 * @param key キー
+	 * @return 一致する場合にtrueを返却
+	 */
+	private boolean matches(int offset, String key) {
+		int length = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = data.get(offset++);
+			length |= (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		int end = offset + length;
+		int count = key.length();
+		for (int i = 0; i <= count - 1; i++) {
+			if (offset >= end) {
+				return false;
+			}
+			char c = key.charAt(i);
+			int b0 = data.get(offset) & 0xFF;
+			if (c < 0x80) {
+				if (b0 != c) {
+					return false;
+				}
+				offset++;
+			} else if (c < 0x800) {
+				if (b0 != (0xC0 | (c >> 6)) || offset + 1 >= end || (data.get(offset + 1) & 0xFF) != (0x80 | (c & 0x3F))) {
+					return false;
+				}
+				offset += 2;
+			} else {
+				if (b0 != (0xE0 | (c >> 12)) || offset + 2 >= end || (data.get(offset + 1) & 0xFF) != (0x80 | ((c >> 6) & 0x3F)) || (data.get(offset + 2) & 0xFF) != (0x80 | (c & 0x3F))) {
+					return false;
+				}
+				offset += 3;
+			}
+		}
+		return offset == end;
+	}
+
+	/**
+	 * 格納位置の文字列を読み飛ばした位置を取得します。<br>
+	 * @param offset 文字列格納位置
+	 * @return 次の文字列格納位置
+	 */
+	private int skip(int offset) {
+		int length = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = data.get(offset++);
+			length |= (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		return offset + length;
+	}
+
+	/**
+	 * 格納位置の文字列を復号します。<br>
+	 * @param offset 文字列格納位置
+	 * @return 文字列
+	 */
+	private String decode(int offset) {
+		int length = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = data.get(offset++);
+			length |= (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		int end = offset + length;
+		if (data.hasArray()) {
+			byte[] array = data.array();
+			int start = data.arrayOffset() + offset;
+			boolean ascii = true;
+			for (int i = start; i <= start + length - 1; i++) {
+				if (array[i] < 0) {
+					ascii = false;
+					break;
+				}
+			}
+			if (ascii) {
+				return new String(array, start, length, StandardCharsets.ISO_8859_1);
+			}
+		}
+		char[] chars = new char[length];
+		int count = 0;
+		while (offset < end) {
+			int b0 = data.get(offset) & 0xFF;
+			if (b0 < 0x80) {
+				chars[count++] = (char) b0;
+				offset++;
+			} else if (b0 < 0xE0) {
+				chars[count++] = (char) (((b0 & 0x1F) << 6) | (data.get(offset + 1) & 0x3F));
+				offset += 2;
+			} else {
+				chars[count++] = (char) (((b0 & 0x0F) << 12) | ((data.get(offset + 1) & 0x3F) << 6) | (data.get(offset + 2) & 0x3F));
+				offset += 3;
+			}
+		}
+		return new String(chars, 0, count);
+	}
+
+	/**
+	 * 文字列を長さ情報を含めて符号化した際のバイト数を取得します。<br>
+	 * @param value 文字列
+	 * @return バイト数
+	 */
+	private static int encodedLength(String value) {
+		int length = utf8Length(value);
+		int header = 1;
+		while ((length >>>= 7) != 0) {
+			header++;
+		}
+		return header + utf8Length(value);
+	}
+
+	/**
+	 * 文字列を符号化した際のバイト数を取得します。<br>
+	 * @param value 文字列
+	 * @return バイト数
+	 */
+	private static int utf8Length(String value) {
+		int length = 0;
+		int count = value.length();
+		for (int i = 0; i <= count - 1; i++) {
+			char c = value.charAt(i);
+			length += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+		}
+		return length;
+	}
+
+	/**
+	 * 文字列を長さ情報を含めて符号化します。<br>
+	 * @param value 文字列
+	 * @param data 出力先バイト配列
+	 * @param offset 出力位置
+	 * @return 出力後の位置
+	 */
+	private static int encode(String value, byte[] data, int offset) {
+		int length = utf8Length(value);
+		while (length >= 0x80) {
+			data[offset++] = (byte) (length | 0x80);
+			length >>>= 7;
+		}
+		data[offset++] = (byte) length;
+		int count = value.length();
+		for (int i = 0; i <= count - 1; i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				data[offset++] = (byte) c;
+			} else if (c < 0x800) {
+				data[offset++] = (byte) (0xC0 | (c >> 6));
+				data[offset++] = (byte) (0x80 | (c & 0x3F));
+			} else {
+				data[offset++] = (byte) (0xE0 | (c >> 12));
+				data[offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				data[offset++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		return offset;
+	}
+
+	/**
+	 * ハッシュ値の上位ビットを下位ビットに拡散します。<br>
+	 * @param hash ハッシュ値
+	 * @return 拡散後のハッシュ値
+	 */
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+}
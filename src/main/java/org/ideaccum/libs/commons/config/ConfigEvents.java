@@ -0,0 +1,159 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 環境設定情報の処理をJava Flight Recorderのイベントとして記録するための窓口を提供します。<br>
+ * <p>
+ * このクラス自身は何も記録しない実装で、実行環境でJava Flight Recorderが利用可能な場合のみ{@link org.ideaccum.libs.commons.config.ConfigFlightRecorder}が利用されます。<br>
+ * 利用可否はクラスロード時に一度だけ判定され、jdk.jfrパッケージが存在しない実行環境ではイベントクラスはロードされません。<br>
+ * {@link org.ideaccum.libs.commons.config.ConfigFlightRecorder}はJava 8向けのソースから分離され(src/main/java11)、Java 11以降でビルドした場合のみマルチリリースJARのJava 11向けクラスとして提供されます。<br>
+ * そのため、Java 11未満の実行環境や、当クラスをマルチリリースJAR以外から参照する場合はイベントを記録しません。<br>
+ * システムプロパティ"org.ideaccum.libs.commons.config.jfr"に"false"を指定した場合、利用可能な実行環境であってもイベントを記録しません。<br>
+ * </p>
+ * <p>
+ * 各イベントは記録設定で有効化されない限り記録されず(ディフォルト無効)、無効な場合は処理時間の計測やイベント内容の生成は行われません。<br>
+ * 開始処理が返却したイベントがnullの場合は、終了処理を呼び出す必要はありません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+class ConfigEvents {
+
+	/** イベント記録を無効化するシステムプロパティキー */
+	static final String DISABLE_PROPERTY = "org.ideaccum.libs.commons.config.jfr";
+
+	/** Java Flight Recorder実装クラス名 */
+	private static final String RECORDER_CLASS = "org.ideaccum.libs.commons.config.ConfigFlightRecorder";
+
+	/** 実行環境で利用するインスタンス */
+	static final ConfigEvents INSTANCE = create();
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	ConfigEvents() {
+		super();
+	}
+
+	/**
+	 * 実行環境で利用するインスタンスを生成します。<br>
+	 * Java Flight Recorderが利用できない場合は何も記録しないインスタンスを提供します。<br>
+	 * @return イベント記録インスタンス
+	 */
+	private static ConfigEvents create() {
+		try {
+			if ("false".equalsIgnoreCase(System.getProperty(DISABLE_PROPERTY))) {
+				return new ConfigEvents();
+			}
+			// jdk.jfrが存在しない実行環境でリンクエラーとならないよう、実装クラスはリフレクションでロード
+			Class<?> type = Class.forName(RECORDER_CLASS, true, ConfigEvents.class.getClassLoader());
+			return (ConfigEvents) type.getDeclaredConstructor().newInstance();
+		} catch (Throwable e) {
+			return new ConfigEvents();
+		}
+	}
+
+	/**
+	 * プロパティリソース読み込みイベントを開始します。<br>
+	 * @return イベント(記録しない場合はnull)
+	 */
+	Object beginLoad() {
+		return null;
+	}
+
+	/**
+	 * プロパティリソース読み込みイベントを終了して記録します。<br>
+	 * @param event {@link #beginLoad()}で開始したイベント
+	 * @param filePath プロパティリソースパス
+	 * @param mode 読み込みモード
+	 * @param loaded 読み込まれたプロパティ情報
+	 */
+	void endLoad(Object event, String filePath, ConfigLoadMode mode, Map<?, ?> loaded) {
+	}
+
+	/**
+	 * プロパティ情報反映イベントを開始します。<br>
+	 * @return イベント(記録しない場合はnull)
+	 */
+	Object beginApply() {
+		return null;
+	}
+
+	/**
+	 * プロパティ情報反映イベントを終了して記録します。<br>
+	 * @param event {@link #beginApply()}で開始したイベント
+	 * @param filePath 標準プロパティリソースパス(再読み込みの場合はnull)
+	 * @param mode 標準プロパティリソースの読み込みモード(再読み込みの場合はnull)
+	 * @param reload 再読み込みの場合にtrue
+	 * @param before 反映前の参照解決前スナップショット
+	 * @param after 反映後の参照解決前スナップショット
+	 * @param keys 定義値が変更された可能性のあるキーの生成処理(特定できない場合はnull)
+	 */
+	void endApply(Object event, String filePath, ConfigLoadMode mode, boolean reload, ConfigSnapshot before, ConfigSnapshot after, Supplier<Collection<String>> keys) {
+	}
+
+	/**
+	 * レンダラ処理を行います。<br>
+	 * イベントが有効な場合、処理時間が記録設定の閾値を超えたレンダラ処理が記録されます。<br>
+	 * @param renderer レンダラ
+	 * @param name プロパティアクセスキー
+	 * @param value プロパティ定義値
+	 * @return 補正後の定義値
+	 */
+	String render(ConfigValueRenderer renderer, ConfigName<?> name, String value) {
+		return renderer.render(name, value);
+	}
+
+	/**
+	 * パース処理を行います。<br>
+	 * パース処理で例外がスローされた場合はパース失敗イベントを記録したうえで例外をそのままスローします。<br>
+	 * @param parser プロパティ値パーサー
+	 * @param name プロパティアクセスキー
+	 * @param value レンダラ処理後のプロパティ定義値
+	 * @return パース後の値
+	 */
+	final <T> T parse(ConfigValueParser<T> parser, ConfigName<?> name, String value) {
+		try {
+			return parser.parse(value);
+		} catch (RuntimeException e) {
+			parseFailed(parser, name, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * パース失敗イベントを記録します。<br>
+	 * @param parser プロパティ値パーサー
+	 * @param name プロパティアクセスキー
+	 * @param cause パース処理でスローされた例外
+	 */
+	void parseFailed(ConfigValueParser<?> parser, ConfigName<?> name, RuntimeException cause) {
+	}
+
+	/**
+	 * 反映前後で定義値が変更されたプロパティ数を取得します。<br>
+	 * @param before 反映前の参照解決前スナップショット
+	 * @param after 反映後の参照解決前スナップショット
+	 * @param keys 定義値が変更された可能性のあるキーの生成処理(特定できない場合はnull)
+	 * @return 定義値が変更されたプロパティ数
+	 */
+	static int changed(ConfigSnapshot before, ConfigSnapshot after, Supplier<Collection<String>> keys) {
+		if (before == after) {
+			return 0;
+		}
+		int count = 0;
+		for (String key : keys == null ? ConfigListenerRegistry.keysOf(before, after) : keys.get()) {
+			if (!Objects.equals(before.get(key), after.get(key))) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,320 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.ideaccum.libs.commons.config.exception.ConfigException;
+
+/**
+ * プロパティ定義値に含まれる"${キー}"形式の参照を解決した状態を不変オブジェクトとして提供します。<br>
+ * <p>
+ * 参照を含む定義値は読み込み時に{@link org.ideaccum.libs.commons.config.ConfigTemplate}に解析され、参照元から参照先への依存関係が保持されます。<br>
+ * 参照は同一環境設定情報内のプロパティを優先し、定義されていない場合は継承しているグローバル環境設定情報の解決済みの値から解決されます。<br>
+ * 全ての参照は読み込み時に依存関係の順に解決されて解決後のスナップショットとして保持されるため、プロパティ取得時に参照の解決処理は行われません。<br>
+ * </p>
+ * <p>
+ * 状態の更新時は定義値が変更されたキーと、それらに依存するキーのみが再解析、再解決されます。<br>
+ * 参照が循環している場合は更新時に{@link org.ideaccum.libs.commons.config.exception.ConfigException}がスローされ、状態は更新されません。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+final class ConfigInterpolation {
+
+	/** 空の解決状態 */
+	static final ConfigInterpolation EMPTY = new ConfigInterpolation(ConfigSnapshot.EMPTY, null, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), ConfigSnapshot.EMPTY, Collections.emptySet());
+
+	/** 解決前のスナップショット */
+	private final ConfigSnapshot source;
+
+	/** 参照解決時に利用した継承元スナップショット(継承しない場合はnull) */
+	private final ConfigSnapshot external;
+
+	/** 参照を含むプロパティのテンプレート */
+	private final Map<String, ConfigTemplate> templates;
+
+	/** 参照先キーに対する参照元キー */
+	private final Map<String, Set<String>> dependents;
+
+	/** 参照を含むプロパティの解決済み定義値 */
+	private final Map<String, String> resolved;
+
+	/** 解決後のスナップショット */
+	private final ConfigSnapshot snapshot;
+
+	/** 直前の更新で定義値が変更又は、再解決されたキー */
+	private final Set<String> affected;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param source 解決前のスナップショット
+	 * @param external 参照解決時に利用した継承元スナップショット
+	 * @param templates 参照を含むプロパティのテンプレート
+	 * @param dependents 参照先キーに対する参照元キー
+	 * @param resolved 参照を含むプロパティの解決済み定義値
+	 * @param snapshot 解決後のスナップショット
+	 * @param affected 直前の更新で定義値が変更又は、再解決されたキー
+	 */
+	private ConfigInterpolation(ConfigSnapshot source, ConfigSnapshot external, Map<String, ConfigTemplate> templates, Map<String, Set<String>> dependents, Map<String, String> resolved, ConfigSnapshot snapshot, Set<String> affected) {
+		super();
+		this.source = source;
+		this.external = external;
+		this.templates = templates;
+		this.dependents = dependents;
+		this.resolved = resolved;
+		this.snapshot = snapshot;
+		this.affected = affected;
+	}
+
+	/**
+	 * 参照解決時に利用した継承元スナップショットを取得します。<br>
+	 * @return 継承元スナップショット(継承しない場合はnull)
+	 */
+	ConfigSnapshot getExternal() {
+		return external;
+	}
+
+	/**
+	 * 解決後のスナップショットを取得します。<br>
+	 * @return 解決後のスナップショット
+	 */
+	ConfigSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * 直前の更新で定義値が変更又は、再解決されたキーを取得します。<br>
+	 * @return 定義値が変更又は、再解決されたキー
+	 */
+	Set<String> getAffected() {
+		return affected;
+	}
+
+	/**
+	 * 解決前のスナップショット及び、継承元スナップショットの更新を反映した新たな解決状態を生成します。<br>
+	 * 自身の内容は変更されません。<br>
+	 * @param source 更新後の解決前スナップショット
+	 * @param external 更新後の継承元スナップショット(継承しない場合はnull)
+	 * @param keys 定義値が変更された可能性のあるキー
+	 * @return 更新後の解決状態
+	 * @throws ConfigException 参照が循環している場合にスローされます
+	 */
+	ConfigInterpolation update(ConfigSnapshot source, ConfigSnapshot external, Collection<String> keys) {
+		Map<String, ConfigTemplate> templates = new HashMap<>(this.templates);
+		Map<String, Set<String>> dependents = new HashMap<>(this.dependents);
+		Map<String, String> resolved = new HashMap<>(this.resolved);
+		Set<String> changed = new LinkedHashSet<>();
+
+		/*
+		 * 定義値が変更されたキーのテンプレート再解析
+		 */
+		for (String key : keys) {
+			String value = source.get(key);
+			if (Objects.equals(this.source.get(key), value)) {
+				continue;
+			}
+			changed.add(key);
+			ConfigTemplate previous = templates.remove(key);
+			if (previous != null) {
+				resolved.remove(key);
+				for (String reference : previous.references()) {
+					unlink(dependents, reference, key);
+				}
+			}
+			ConfigTemplate template = ConfigTemplate.compile(value);
+			if (template != null) {
+				templates.put(key, template);
+				for (String reference : template.references()) {
+					link(dependents, reference, key);
+				}
+			}
+		}
+
+		/*
+		 * 継承元から解決される参照先の変更検出
+		 */
+		if (external != this.external) {
+			for (String reference : dependents.keySet()) {
+				if (source.get(reference) == null && !Objects.equals(valueOf(this.external, reference), valueOf(external, reference))) {
+					changed.add(reference);
+				}
+			}
+		}
+
+		if (changed.isEmpty() && source == this.source && external == this.external) {
+			return this;
+		}
+
+		/*
+		 * 変更されたキーに依存するキーの収集
+		 */
+		Set<String> pending = new LinkedHashSet<>();
+		Deque<String> queue = new ArrayDeque<>(changed);
+		Set<String> visited = new LinkedHashSet<>(changed);
+		while (!queue.isEmpty()) {
+			String key = queue.poll();
+			if (templates.containsKey(key)) {
+				pending.add(key);
+			}
+			for (String dependent : dependents.getOrDefault(key, Collections.emptySet())) {
+				if (visited.add(dependent)) {
+					queue.add(dependent);
+				}
+			}
+		}
+
+		/*
+		 * 依存関係順の再解決
+		 */
+		Resolver resolver = new Resolver(source, external, templates, resolved, pending);
+		for (String key : new LinkedHashSet<>(pending)) {
+			resolver.resolve(key);
+		}
+
+		ConfigSnapshot snapshot = resolved.isEmpty() ? source : source.apply(resolved, ConfigLoadMode.REPLACE_EXISTS);
+		return new ConfigInterpolation(source, external, templates, dependents, resolved, snapshot, Collections.unmodifiableSet(visited));
+	}
+
+	/**
+	 * 参照先キーに参照元キーを追加します。<br>
+	 * 参照元キーのセットは他の解決状態と共有されているため、複製したうえで追加します。<br>
+	 * @param dependents 参照先キーに対する参照元キー
+	 * @param reference 参照先キー
+	 * @param key 参照元キー
+	 */
+	private static void link(Map<String, Set<String>> dependents, String reference, String key) {
+		Set<String> set = new HashSet<>(dependents.getOrDefault(reference, Collections.emptySet()));
+		set.add(key);
+		dependents.put(reference, set);
+	}
+
+	/**
+	 * 参照先キーから参照元キーを削除します。<br>
+	 * 参照元キーのセットは他の解決状態と共有されているため、複製したうえで削除します。<br>
+	 * @param dependents 参照先キーに対する参照元キー
+	 * @param reference 参照先キー
+	 * @param key 参照元キー
+	 */
+	private static void unlink(Map<String, Set<String>> dependents, String reference, String key) {
+		Set<String> current = dependents.get(reference);
+		if (current == null || !current.contains(key)) {
+			return;
+		}
+		if (current.size() == 1) {
+			dependents.remove(reference);
+			return;
+		}
+		Set<String> set = new HashSet<>(current);
+		set.remove(key);
+		dependents.put(reference, set);
+	}
+
+	/**
+	 * スナップショットから定義値を取得します。<br>
+	 * @param snapshot スナップショット(nullの場合は未定義として扱う)
+	 * @param key プロパティキー
+	 * @return 定義値
+	 */
+	private static String valueOf(ConfigSnapshot snapshot, String key) {
+		return snapshot == null ? null : snapshot.get(key);
+	}
+
+	/**
+	 * 再解決対象のキーを依存関係順に解決するクラスです。<br>
+	 */
+	private static final class Resolver {
+
+		/** 解決前のスナップショット */
+		private final ConfigSnapshot source;
+
+		/** 継承元スナップショット */
+		private final ConfigSnapshot external;
+
+		/** 参照を含むプロパティのテンプレート */
+		private final Map<String, ConfigTemplate> templates;
+
+		/** 参照を含むプロパティの解決済み定義値 */
+		private final Map<String, String> resolved;
+
+		/** 未解決の再解決対象キー */
+		private final Set<String> pending;
+
+		/** 解決中のキー(循環検出用) */
+		private final LinkedHashSet<String> path;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param source 解決前のスナップショット
+		 * @param external 継承元スナップショット
+		 * @param templates 参照を含むプロパティのテンプレート
+		 * @param resolved 参照を含むプロパティの解決済み定義値
+		 * @param pending 未解決の再解決対象キー
+		 */
+		private Resolver(ConfigSnapshot source, ConfigSnapshot external, Map<String, ConfigTemplate> templates, Map<String, String> resolved, Set<String> pending) {
+			super();
+			this.source = source;
+			this.external = external;
+			this.templates = templates;
+			this.resolved = resolved;
+			this.pending = pending;
+			this.path = new LinkedHashSet<>();
+		}
+
+		/**
+		 * 再解決対象のキーを解決します。<br>
+		 * 参照先に未解決の再解決対象キーが含まれる場合は先に参照先を解決します。<br>
+		 * @param key プロパティキー
+		 * @throws ConfigException 参照が循環している場合にスローされます
+		 */
+		private void resolve(String key) {
+			if (!pending.contains(key)) {
+				return;
+			}
+			if (!path.add(key)) {
+				StringBuilder cycle = new StringBuilder();
+				boolean found = false;
+				for (String each : path) {
+					found = found || each.equals(key);
+					if (found) {
+						cycle.append(each).append(" -> ");
+					}
+				}
+				throw new ConfigException("プロパティ定義の参照が循環しています(" + cycle + key + ")");
+			}
+			ConfigTemplate template = templates.get(key);
+			for (String reference : template.references()) {
+				resolve(reference);
+			}
+			resolved.put(key, template.resolve(this::lookup));
+			path.remove(key);
+			pending.remove(key);
+		}
+
+		/**
+		 * 参照先の解決済みの値を取得します。<br>
+		 * @param reference 参照先キー
+		 * @return 解決済みの値(定義されていない場合はnull)
+		 */
+		private String lookup(String reference) {
+			if (templates.containsKey(reference)) {
+				return resolved.get(reference);
+			}
+			String value = source.get(reference);
+			if (value == null) {
+				value = valueOf(external, reference);
+			}
+			return value;
+		}
+	}
+}
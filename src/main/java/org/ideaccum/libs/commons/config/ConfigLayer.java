@@ -0,0 +1,190 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * 階層化された環境設定情報を構成する1つのプロパティ定義情報のレイヤを提供します。<br>
+ * <p>
+ * レイヤは{@link org.ideaccum.libs.commons.config.Config#layered(ConfigLayer...)}に優先順に指定し、指定順に定義が存在するレイヤの値が提供されます。<br>
+ * 環境設定情報自身に読み込まれたプロパティは{@link #local()}を指定した位置のレイヤとして扱われ、それより前に指定したレイヤは読み込まれたプロパティより優先されます。<br>
+ * {@link #local()}を指定しない場合は環境設定情報自身に読み込まれたプロパティが最優先されます。<br>
+ * 環境設定情報は全てのレイヤを統合したスナップショットを保持するため、レイヤ数に関わらずプロパティ取得時の検索は1回のみとなります。<br>
+ * 統合したスナップショットは環境設定情報をレイヤとした場合はその環境設定情報の更新時に、それ以外のレイヤの場合は{@link org.ideaccum.libs.commons.config.Config#reload()}の際に再構築されます。<br>
+ * </p>
+ * <p>
+ * 利用例:<br>
+ * <pre>
+ * Config config = Config.layered( //
+ *     ConfigLayer.of("override", overrides), //
+ *     ConfigLayer.systemProperties(), //
+ *     ConfigLayer.environment(), //
+ *     ConfigLayer.local(), //
+ *     ConfigLayer.of("module", moduleConfig), //
+ *     ConfigLayer.of("global", Config.global()), //
+ *     ConfigLayer.of("default", defaults));
+ * </pre>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public final class ConfigLayer {
+
+	/** 環境変数レイヤ名 */
+	public static final String ENVIRONMENT = "environment";
+
+	/** システムプロパティレイヤ名 */
+	public static final String SYSTEM_PROPERTIES = "system";
+
+	/** 環境設定情報自身の位置を表すレイヤ */
+	private static final ConfigLayer LOCAL = new ConfigLayer(Config.LOCAL_LAYER, null, null);
+
+	/** レイヤ名 */
+	private final String name;
+
+	/** レイヤとする環境設定情報(環境設定情報以外のレイヤの場合はnull) */
+	private final Config config;
+
+	/** プロパティ定義情報の取得処理(環境設定情報のレイヤの場合はnull) */
+	private final Supplier<Map<?, ?>> supplier;
+
+	/** 取得済みのプロパティ定義情報(環境設定情報のレイヤの場合はnull) */
+	private volatile ConfigSnapshot captured;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param name レイヤ名
+	 * @param config レイヤとする環境設定情報
+	 * @param supplier プロパティ定義情報の取得処理
+	 */
+	private ConfigLayer(String name, Config config, Supplier<Map<?, ?>> supplier) {
+		super();
+		this.name = name;
+		this.config = config;
+		this.supplier = supplier;
+		refresh();
+	}
+
+	/**
+	 * 環境設定情報をレイヤとして生成します。<br>
+	 * レイヤとする環境設定情報が更新された場合、そのレイヤを参照する環境設定情報は次回のプロパティ取得時に統合したスナップショットを再構築します。<br>
+	 * @param name レイヤ名
+	 * @param config レイヤとする環境設定情報
+	 * @return レイヤ
+	 */
+	public static ConfigLayer of(String name, Config config) {
+		if (config == null) {
+			return of(name, new HashMap<>());
+		}
+		return new ConfigLayer(name, config, null);
+	}
+
+	/**
+	 * プロパティ定義情報をレイヤとして生成します。<br>
+	 * プロパティ定義情報は生成時点の内容が複製され、以降の変更は反映されません。<br>
+	 * @param name レイヤ名
+	 * @param values プロパティ定義情報
+	 * @return レイヤ
+	 */
+	public static ConfigLayer of(String name, Map<?, ?> values) {
+		Map<?, ?> copy = values == null ? new HashMap<>() : new HashMap<>(values);
+		return new ConfigLayer(name, null, () -> copy);
+	}
+
+	/**
+	 * 環境設定情報自身に読み込まれたプロパティの位置を表すレイヤを取得します。<br>
+	 * {@link org.ideaccum.libs.commons.config.Config#layered(ConfigLayer...)}でこのレイヤより前に指定したレイヤは、環境設定情報自身に読み込まれたプロパティより優先されます。<br>
+	 * @return レイヤ
+	 */
+	public static ConfigLayer local() {
+		return LOCAL;
+	}
+
+	/**
+	 * 環境変数をレイヤとして生成します。<br>
+	 * @return レイヤ
+	 */
+	public static ConfigLayer environment() {
+		return new ConfigLayer(ENVIRONMENT, null, System::getenv);
+	}
+
+	/**
+	 * システムプロパティをレイヤとして生成します。<br>
+	 * システムプロパティは生成時点及び、レイヤを参照する環境設定情報の再読み込み時点の内容が反映されます。<br>
+	 * @return レイヤ
+	 */
+	public static ConfigLayer systemProperties() {
+		return new ConfigLayer(SYSTEM_PROPERTIES, null, () -> {
+			Properties properties = System.getProperties();
+			Map<String, String> map = new HashMap<>();
+			for (String key : properties.stringPropertyNames()) {
+				map.put(key, properties.getProperty(key));
+			}
+			return map;
+		});
+	}
+
+	/**
+	 * オブジェクト情報を文字列として提供します。<br>
+	 * @return オブジェクト情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+
+	/**
+	 * レイヤ名を取得します。<br>
+	 * @return レイヤ名
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 環境設定情報自身の位置を表すレイヤか判定します。<br>
+	 * @return 環境設定情報自身の位置を表すレイヤの場合にtrueを返却
+	 */
+	boolean isLocal() {
+		return this == LOCAL;
+	}
+
+	/**
+	 * レイヤとする環境設定情報を取得します。<br>
+	 * @return 環境設定情報(環境設定情報以外のレイヤの場合はnull)
+	 */
+	Config getConfig() {
+		return config;
+	}
+
+	/**
+	 * レイヤの現在のプロパティ定義情報を取得します。<br>
+	 * @return スナップショット
+	 */
+	ConfigSnapshot snapshot() {
+		return config != null ? config.view() : captured;
+	}
+
+	/**
+	 * 環境設定情報以外のレイヤのプロパティ定義情報を取得し直します。<br>
+	 * @return 内容が変更された場合にtrueを返却
+	 */
+	boolean refresh() {
+		if (supplier == null) {
+			return false;
+		}
+		ConfigSnapshot current = captured;
+		ConfigSnapshot refreshed = ConfigSnapshot.EMPTY.apply(supplier.get(), ConfigLoadMode.REPLACE_ALL);
+		if (refreshed.equals(current)) {
+			return false;
+		}
+		captured = refreshed;
+		return true;
+	}
+}
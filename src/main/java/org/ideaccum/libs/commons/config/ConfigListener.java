@@ -0,0 +1,36 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.EventListener;
+
+/**
+ * 環境設定情報のプロパティ定義値が変更された際の通知を受け取るリスナインタフェースを提供します。<br>
+ * <p>
+ * リスナは{@link org.ideaccum.libs.commons.config.Config#addListener(ConfigListener, ConfigName...)}等によって関心のあるプロパティキー又は、キー接頭文字列を指定して登録します。<br>
+ * 読み込み、マージ、クリア、再読み込みの1回の操作で変更されたプロパティのうち、登録時に指定したキーに該当するもののみがまとめて1つのイベントとして通知されます。<br>
+ * 該当するプロパティに変更がない場合は通知されません。<br>
+ * 変更はプロパティ取得時に提供される値(全てのレイヤを統合した値)で判定され、継承しているグローバル環境設定情報や環境設定情報のレイヤの変更も、その変更操作の完了時に通知されます。<br>
+ * 但し、システムプロパティ等の環境設定情報以外のレイヤの変更は{@link org.ideaccum.libs.commons.config.Config#reload()}で取得し直された時点で通知されます。<br>
+ * </p>
+ * <p>
+ * 通知は変更操作を行ったスレッド上で、変更内容が参照可能となった後に環境設定情報のロックを保持せずに行われるため、リスナ内での参照や変更操作が他のスレッドと競合して待機することはありません。<br>
+ * 同一の環境設定情報に対する通知は1つのスレッドで変更操作の順に行われ、他のスレッドが通知中の場合は通知中のスレッドが続けて通知するため、変更操作の完了時に通知が完了していない場合があります。<br>
+ * 通知中に行われた複数の変更操作は1つのイベントにまとめて通知される場合があります。<br>
+ * レイヤの変更が参照時に反映された場合も参照したスレッドでは通知されず、レイヤを変更したスレッドで通知されます。<br>
+ * リスナからスローされた例外は変更操作及び、他のリスナへの通知に影響せず、通知を行ったスレッドの{@link java.lang.Thread.UncaughtExceptionHandler}に通知されます。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/17  agent            通知をロックを保持せずに行い、リスナの例外を変更操作に影響させない仕様に変更
+ *-->
+ */
+@FunctionalInterface
+public interface ConfigListener extends EventListener {
+
+	/**
+	 * プロパティ定義値が変更された際の処理を提供します。<br>
+	 * @param event 変更イベント
+	 */
+	public void changed(ConfigChangeEvent event);
+}
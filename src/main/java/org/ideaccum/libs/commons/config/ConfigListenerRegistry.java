@@ -0,0 +1,300 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 環境設定情報に登録されたリスナを管理し、変更内容を通知する処理を提供します。<br>
+ * <p>
+ * リスナは登録キーごとの索引と、キー接頭文字列ごとの索引で管理されます。<br>
+ * 変更通知時には変更操作によって書き込まれたプロパティキーのみを変更前後のスナップショットで比較し、
+ * 実際に値が変化したキーについて、完全一致の索引と登録されている接頭文字列長ごとの索引を参照して該当するリスナを特定します。<br>
+ * そのため、通知に要する処理は変更されたキー数及び、接頭文字列長の種類数に比例し、登録リスナ数や保持プロパティ数には依存しません。<br>
+ * 全てのプロパティの置き換えやレイヤの変更等で変更されたキーが特定できない場合は、登録キー及び、整列済みのキーから二分探索した接頭文字列の範囲のキーのみを比較します。<br>
+ * </p>
+ * <p>
+ * 索引は登録、解除の際に再構築されて参照が置き換えられるため、通知処理は同期化することなく索引を参照します。<br>
+ * リスナからスローされた例外は変更操作に影響させず、通知を行ったスレッドの{@link java.lang.Thread.UncaughtExceptionHandler}に通知します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/17  agent            変更キーが特定できない場合の比較対象を登録キーの範囲に限定し、リスナの例外を変更操作に影響させない仕様に変更
+ *-->
+ */
+final class ConfigListenerRegistry {
+
+	/** 登録情報(登録順) */
+	private final Map<ConfigListener, Registration> registrations;
+
+	/** リスナ索引 */
+	private volatile Index index;
+
+	/**
+	 * リスナごとの登録情報クラスです。<br>
+	 */
+	private static final class Registration {
+
+		/** 登録プロパティキー */
+		private final Set<String> keys = new LinkedHashSet<>();
+
+		/** 登録キー接頭文字列 */
+		private final Set<String> prefixes = new LinkedHashSet<>();
+	}
+
+	/**
+	 * 変更キーから通知対象リスナを特定するための不変索引クラスです。<br>
+	 */
+	private static final class Index {
+
+		/** 空の索引 */
+		private static final Index EMPTY = new Index(Collections.emptyMap(), Collections.emptyMap(), new int[0]);
+
+		/** プロパティキーに対するリスナ */
+		private final Map<String, ConfigListener[]> keys;
+
+		/** キー接頭文字列に対するリスナ */
+		private final Map<String, ConfigListener[]> prefixes;
+
+		/** 登録されているキー接頭文字列長(昇順) */
+		private final int[] lengths;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param keys プロパティキーに対するリスナ
+		 * @param prefixes キー接頭文字列に対するリスナ
+		 * @param lengths 登録されているキー接頭文字列長(昇順)
+		 */
+		private Index(Map<String, ConfigListener[]> keys, Map<String, ConfigListener[]> prefixes, int[] lengths) {
+			super();
+			this.keys = keys;
+			this.prefixes = prefixes;
+			this.lengths = lengths;
+		}
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	ConfigListenerRegistry() {
+		super();
+		this.registrations = new LinkedHashMap<>();
+		this.index = Index.EMPTY;
+	}
+
+	/**
+	 * リスナが登録されていないか判定します。<br>
+	 * @return リスナが登録されていない場合にtrueを返却
+	 */
+	boolean isEmpty() {
+		return index == Index.EMPTY;
+	}
+
+	/**
+	 * リスナを登録します。<br>
+	 * 既に登録されているリスナの場合は登録キー及び、キー接頭文字列が追加されます。<br>
+	 * @param listener リスナ
+	 * @param keys 登録プロパティキー
+	 * @param prefixes 登録キー接頭文字列
+	 */
+	synchronized void add(ConfigListener listener, Collection<String> keys, Collection<String> prefixes) {
+		Registration registration = registrations.computeIfAbsent(listener, l -> new Registration());
+		registration.keys.addAll(keys);
+		registration.prefixes.addAll(prefixes);
+		rebuild();
+	}
+
+	/**
+	 * リスナの登録を解除します。<br>
+	 * @param listener リスナ
+	 */
+	synchronized void remove(ConfigListener listener) {
+		if (registrations.remove(listener) != null) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * 登録情報から索引を再構築します。<br>
+	 */
+	private void rebuild() {
+		if (registrations.isEmpty()) {
+			index = Index.EMPTY;
+			return;
+		}
+		Map<String, List<ConfigListener>> keys = new HashMap<>();
+		Map<String, List<ConfigListener>> prefixes = new HashMap<>();
+		Set<Integer> lengths = new TreeSet<>();
+		for (Map.Entry<ConfigListener, Registration> entry : registrations.entrySet()) {
+			for (String key : entry.getValue().keys) {
+				keys.computeIfAbsent(key, k -> new ArrayList<>()).add(entry.getKey());
+			}
+			for (String prefix : entry.getValue().prefixes) {
+				prefixes.computeIfAbsent(prefix, k -> new ArrayList<>()).add(entry.getKey());
+				lengths.add(prefix.length());
+			}
+		}
+		int[] array = new int[lengths.size()];
+		int i = 0;
+		for (Integer length : lengths) {
+			array[i++] = length;
+		}
+		index = new Index(toArrays(keys), toArrays(prefixes), array);
+	}
+
+	/**
+	 * リスナリストを配列に変換したマップを生成します。<br>
+	 * @param map リスナリストマップ
+	 * @return リスナ配列マップ
+	 */
+	private static Map<String, ConfigListener[]> toArrays(Map<String, List<ConfigListener>> map) {
+		Map<String, ConfigListener[]> result = new HashMap<>(map.size() * 4 / 3 + 1);
+		for (Map.Entry<String, List<ConfigListener>> entry : map.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().toArray(new ConfigListener[entry.getValue().size()]));
+		}
+		return result;
+	}
+
+	/**
+	 * 変更内容を該当するリスナに通知します。<br>
+	 * 比較対象とするプロパティキーには変更操作によって書き込み又は、削除された可能性のあるキーを指定します。<br>
+	 * 比較対象とするプロパティキーが特定できない場合は、登録キー及び、登録キー接頭文字列で始まるキーを比較します。<br>
+	 * リスナから例外がスローされた場合は通知を行ったスレッドの{@link java.lang.Thread.UncaughtExceptionHandler}に通知し、他のリスナへの通知を継続します。<br>
+	 * @param config 変更された環境設定情報
+	 * @param before 変更前スナップショット
+	 * @param after 変更後スナップショット
+	 * @param keys 比較対象とするプロパティキー(特定できない場合はnull)
+	 */
+	void dispatch(Config config, ConfigSnapshot before, ConfigSnapshot after, Collection<String> keys) {
+		Index index = this.index;
+		if (index == Index.EMPTY || before == after) {
+			return;
+		}
+		if (keys == null) {
+			keys = candidates(index, before, after);
+		}
+		Map<ConfigListener, Map<String, String[]>> batches = new LinkedHashMap<>();
+		for (String key : keys) {
+			String oldValue = before.get(key);
+			String newValue = after.get(key);
+			if (Objects.equals(oldValue, newValue)) {
+				continue;
+			}
+			String[] change = new String[] { oldValue, newValue };
+			collect(batches, index.keys.get(key), key, change);
+			for (int length : index.lengths) {
+				if (length > key.length()) {
+					break;
+				}
+				collect(batches, index.prefixes.get(key.substring(0, length)), key, change);
+			}
+		}
+		for (Map.Entry<ConfigListener, Map<String, String[]>> entry : batches.entrySet()) {
+			try {
+				entry.getKey().changed(new ConfigChangeEvent(config, entry.getValue()));
+			} catch (RuntimeException e) {
+				// リスナの例外は変更操作及び、他のリスナへの通知に影響させない
+				Thread thread = Thread.currentThread();
+				thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+			}
+		}
+	}
+
+	/**
+	 * 変更されたキーが特定できない場合に比較対象とするプロパティキーを生成します。<br>
+	 * 登録キー接頭文字列で始まるキーは変更前後のスナップショットの整列済みのキーから二分探索で範囲を特定して収集するため、保持プロパティ数に比例した走査は行いません。<br>
+	 * @param index リスナ索引
+	 * @param before 変更前スナップショット
+	 * @param after 変更後スナップショット
+	 * @return 比較対象とするプロパティキー
+	 */
+	private static Collection<String> candidates(Index index, ConfigSnapshot before, ConfigSnapshot after) {
+		Set<String> keys = new LinkedHashSet<>(index.keys.keySet());
+		if (!index.prefixes.isEmpty()) {
+			String[] beforeKeys = before.sortedKeys();
+			String[] afterKeys = after.sortedKeys();
+			for (String prefix : index.prefixes.keySet()) {
+				collect(keys, beforeKeys, prefix);
+				collect(keys, afterKeys, prefix);
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * 整列済みのプロパティキーから接頭文字列で始まるキーを収集します。<br>
+	 * @param keys 収集先
+	 * @param sorted 昇順に整列したプロパティキー
+	 * @param prefix キー接頭文字列
+	 */
+	private static void collect(Set<String> keys, String[] sorted, String prefix) {
+		int index = Arrays.binarySearch(sorted, prefix);
+		for (int i = index >= 0 ? index : -index - 1; i <= sorted.length - 1 && sorted[i].startsWith(prefix); i++) {
+			keys.add(sorted[i]);
+		}
+	}
+
+	/**
+	 * 変更内容をリスナごとの通知内容に追加します。<br>
+	 * @param batches リスナごとの通知内容
+	 * @param listeners 通知対象リスナ
+	 * @param key 変更プロパティキー
+	 * @param change 変更前後の定義値
+	 */
+	private static void collect(Map<ConfigListener, Map<String, String[]>> batches, ConfigListener[] listeners, String key, String[] change) {
+		if (listeners == null) {
+			return;
+		}
+		for (ConfigListener listener : listeners) {
+			batches.computeIfAbsent(listener, l -> new LinkedHashMap<>()).put(key, change);
+		}
+	}
+
+	/**
+	 * 一度に反映された読み込み手順ごとのプロパティ情報から比較対象とするプロパティキーを生成します。<br>
+	 * 全てのプロパティを置き換える読み込みを含む場合は変更前に定義されていたプロパティキーも比較対象となるため、当メソッドは利用せずに変更キーを特定できないものとして扱って下さい。<br>
+	 * @param loaded 手順の順に格納された読み込まれたプロパティ情報(マージの手順に対してはnull)
+	 * @return 比較対象とするプロパティキー
+	 */
+	static Collection<String> keysOf(List<Map<?, ?>> loaded) {
+		int size = 0;
+		for (Map<?, ?> properties : loaded) {
+			size += properties == null ? 0 : properties.size();
+		}
+		Set<String> keys = new LinkedHashSet<>(size * 4 / 3 + 1);
+		for (Map<?, ?> properties : loaded) {
+			if (properties == null) {
+				continue;
+			}
+			for (Object key : properties.keySet()) {
+				keys.add(String.valueOf(key));
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * 2つのスナップショットに定義されているプロパティキーを比較対象として生成します。<br>
+	 * 保持プロパティ数に比例した処理となるため、変更キーが特定できない場合のプロパティ参照の再解決等、全てのキーの比較が必要な場合にのみ利用して下さい。<br>
+	 * @param before 変更前スナップショット
+	 * @param after 変更後スナップショット
+	 * @return 比較対象とするプロパティキー
+	 */
+	static Collection<String> keysOf(ConfigSnapshot before, ConfigSnapshot after) {
+		Set<String> keys = new LinkedHashSet<>((before.size() + after.size()) * 4 / 3 + 1);
+		keys.addAll(before.keySet());
+		keys.addAll(after.keySet());
+		return keys;
+	}
+}
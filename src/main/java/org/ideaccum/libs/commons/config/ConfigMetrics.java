@@ -0,0 +1,562 @@
+package org.ideaccum.libs.commons.config;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.ideaccum.libs.commons.config.exception.ConfigException;
+
+/**
+ * 環境設定情報の参照及び、読み込みに関する計測値を提供します。<br>
+ * <p>
+ * 計測は{@link org.ideaccum.libs.commons.config.Config#enableMetrics(int)}で有効化された環境設定情報ごとに行われます。<br>
+ * 計測値は{@link java.util.concurrent.atomic.LongAdder}で集計されるため、複数スレッドから参照される場合も計測による競合は発生しません。<br>
+ * キャッシュから提供される参照の計測はサンプリング間隔ごとに1回のみ行い、サンプリング間隔を乗じた値を加算することで、計測を常時有効とした場合の参照処理への影響を抑えることができます。<br>
+ * </p>
+ * <p>
+ * 計測値は{@link #register(String)}によりプラットフォームMBeanサーバーにMXBeanとして登録することができ、
+ * {@link org.ideaccum.libs.commons.config.ConfigMetricsReporter}の実装クラスにより外部の計測基盤に通知することができます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public final class ConfigMetrics implements ConfigMetricsMXBean {
+
+	/** MXBeanドメイン名 */
+	private static final String DOMAIN = "org.ideaccum.libs.commons.config";
+
+	/** 最大サンプリング間隔 */
+	private static final int MAX_SAMPLING = 1 << 30;
+
+	/** 計測対象環境設定情報 */
+	private final Config config;
+
+	/** サンプリング判定マスク(サンプリング間隔-1) */
+	private final int mask;
+
+	/** キャッシュヒット数 */
+	private final LongAdder hits;
+
+	/** キャッシュミス数 */
+	private final LongAdder misses;
+
+	/** レンダラ処理回数 */
+	private final LongAdder renderCount;
+
+	/** レンダラ処理時間(ナノ秒) */
+	private final LongAdder renderNanos;
+
+	/** パース処理回数 */
+	private final LongAdder parseCount;
+
+	/** パース処理時間(ナノ秒) */
+	private final LongAdder parseNanos;
+
+	/** 読み込み回数 */
+	private final LongAdder loads;
+
+	/** 読み込み時間(ナノ秒) */
+	private final LongAdder loadNanos;
+
+	/** 再読み込み回数 */
+	private final LongAdder reloads;
+
+	/** 再読み込み時間(ナノ秒) */
+	private final LongAdder reloadNanos;
+
+	/** 最後の読み込み時間(ナノ秒) */
+	private volatile long lastLoadNanos;
+
+	/** 最後の読み込みのリソースサイズ合計 */
+	private volatile long lastLoadBytes;
+
+	/** 最後の読み込みのプロパティ数合計 */
+	private volatile long lastLoadKeys;
+
+	/** ConfigNameインデックスを添字とするプロパティキーごとの参照回数 */
+	private volatile AtomicReferenceArray<LongAdder> keyReads;
+
+	/** 通知先 */
+	private final List<ConfigMetricsReporter> reporters;
+
+	/** 登録されたMXBean名(登録されていない場合はnull) */
+	private ObjectName objectName;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param config 計測対象環境設定情報
+	 * @param sampling 参照回数のサンプリング間隔(2の累乗に切り上げられます)
+	 */
+	ConfigMetrics(Config config, int sampling) {
+		super();
+		this.config = config;
+		this.mask = sampling <= 1 ? 0 : sampling > MAX_SAMPLING / 2 ? MAX_SAMPLING - 1 : (Integer.highestOneBit(sampling - 1) << 1) - 1;
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.renderCount = new LongAdder();
+		this.renderNanos = new LongAdder();
+		this.parseCount = new LongAdder();
+		this.parseNanos = new LongAdder();
+		this.loads = new LongAdder();
+		this.loadNanos = new LongAdder();
+		this.reloads = new LongAdder();
+		this.reloadNanos = new LongAdder();
+		this.keyReads = new AtomicReferenceArray<>(Math.max(16, ConfigName.bound()));
+		this.reporters = new CopyOnWriteArrayList<>();
+		Iterator<ConfigMetricsReporter> iterator = ServiceLoader.load(ConfigMetricsReporter.class).iterator();
+		while (true) {
+			try {
+				if (!iterator.hasNext()) {
+					break;
+				}
+				reporters.add(iterator.next());
+			} catch (ServiceConfigurationError e) {
+				// 読み込めない通知先は計測に影響させないため無視
+			}
+		}
+	}
+
+	/**
+	 * 通知先を追加します。<br>
+	 * @param reporter 通知先
+	 */
+	public void addReporter(ConfigMetricsReporter reporter) {
+		if (reporter == null) {
+			return;
+		}
+		reporters.add(reporter);
+	}
+
+	/**
+	 * 通知先を削除します。<br>
+	 * @param reporter 通知先
+	 */
+	public void removeReporter(ConfigMetricsReporter reporter) {
+		reporters.remove(reporter);
+	}
+
+	/**
+	 * 計測値をプラットフォームMBeanサーバーにMXBeanとして登録します。<br>
+	 * MXBean名は"org.ideaccum.libs.commons.config:type=Config,name=指定名"となります。<br>
+	 * 既に登録されている場合は登録を解除してから登録し直します。<br>
+	 * @param name 環境設定情報を識別する名称
+	 * @return 登録されたMXBean名
+	 */
+	public synchronized ObjectName register(String name) {
+		unregister();
+		try {
+			ObjectName objectName = new ObjectName(DOMAIN + ":type=Config,name=" + ObjectName.quote(name == null ? "" : name));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+			this.objectName = objectName;
+			return objectName;
+		} catch (JMException e) {
+			throw new ConfigException(e);
+		}
+	}
+
+	/**
+	 * プラットフォームMBeanサーバーへの登録を解除します。<br>
+	 * 登録されていない場合は何も行いません。<br>
+	 */
+	public synchronized void unregister() {
+		if (objectName == null) {
+			return;
+		}
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+		} catch (JMException e) {
+			throw new ConfigException(e);
+		} finally {
+			objectName = null;
+		}
+	}
+
+	/**
+	 * キャッシュから値が提供された参照を計測します。<br>
+	 * サンプリング間隔が設定されている場合はサンプリングされた参照のみ計測し、サンプリング間隔を乗じた回数を加算します。<br>
+	 * @param name プロパティアクセスキー
+	 */
+	void hit(ConfigName<?> name) {
+		if (mask != 0 && (ThreadLocalRandom.current().nextInt() & mask) != 0) {
+			return;
+		}
+		int weight = mask + 1;
+		hits.add(weight);
+		count(name, weight);
+		for (ConfigMetricsReporter reporter : reporters) {
+			try {
+				reporter.read(config, name, true, weight);
+			} catch (RuntimeException e) {
+				// 通知先の例外は参照処理に影響させない
+			}
+		}
+	}
+
+	/**
+	 * パース処理が行われた参照を計測します。<br>
+	 * @param name プロパティアクセスキー
+	 */
+	void miss(ConfigName<?> name) {
+		misses.increment();
+		count(name, 1);
+		for (ConfigMetricsReporter reporter : reporters) {
+			try {
+				reporter.read(config, name, false, 1);
+			} catch (RuntimeException e) {
+				// 通知先の例外は参照処理に影響させない
+			}
+		}
+	}
+
+	/**
+	 * レンダラ処理時間を計測します。<br>
+	 * @param name プロパティアクセスキー
+	 * @param nanos 処理時間(ナノ秒)
+	 */
+	void rendered(ConfigName<?> name, long nanos) {
+		renderCount.increment();
+		renderNanos.add(nanos);
+		for (ConfigMetricsReporter reporter : reporters) {
+			try {
+				reporter.rendered(config, name, nanos);
+			} catch (RuntimeException e) {
+				// 通知先の例外は参照処理に影響させない
+			}
+		}
+	}
+
+	/**
+	 * パース処理時間を計測します。<br>
+	 * @param name プロパティアクセスキー
+	 * @param nanos 処理時間(ナノ秒)
+	 */
+	void parsed(ConfigName<?> name, long nanos) {
+		parseCount.increment();
+		parseNanos.add(nanos);
+		for (ConfigMetricsReporter reporter : reporters) {
+			try {
+				reporter.parsed(config, name, nanos);
+			} catch (RuntimeException e) {
+				// 通知先の例外は参照処理に影響させない
+			}
+		}
+	}
+
+	/**
+	 * 読み込み又は、再読み込みを計測します。<br>
+	 * @param filePaths 読み込まれたプロパティリソースパス
+	 * @param keys リソースごとのプロパティ数
+	 * @param reload 再読み込みの場合にtrue
+	 * @param nanos 処理時間(ナノ秒)
+	 */
+	void loaded(List<String> filePaths, List<Integer> keys, boolean reload, long nanos) {
+		long totalBytes = 0;
+		long totalKeys = 0;
+		for (int i = 0; i <= filePaths.size() - 1; i++) {
+			String filePath = filePaths.get(i);
+			long bytes = size(filePath);
+			totalBytes += Math.max(0, bytes);
+			totalKeys += keys.get(i);
+			for (ConfigMetricsReporter reporter : reporters) {
+				try {
+					reporter.loaded(config, filePath, bytes, keys.get(i));
+				} catch (RuntimeException e) {
+					// 通知先の例外は読み込み処理に影響させない
+				}
+			}
+		}
+		(reload ? reloads : loads).increment();
+		(reload ? reloadNanos : loadNanos).add(nanos);
+		lastLoadNanos = nanos;
+		lastLoadBytes = totalBytes;
+		lastLoadKeys = totalKeys;
+		for (ConfigMetricsReporter reporter : reporters) {
+			try {
+				reporter.completed(config, reload, nanos);
+			} catch (RuntimeException e) {
+				// 通知先の例外は読み込み処理に影響させない
+			}
+		}
+	}
+
+	/**
+	 * プロパティキーごとの参照回数を加算します。<br>
+	 * @param name プロパティアクセスキー
+	 * @param weight 加算する参照回数
+	 */
+	private void count(ConfigName<?> name, int weight) {
+		int ordinal = name.ordinal();
+		AtomicReferenceArray<LongAdder> keyReads = this.keyReads;
+		LongAdder counter = ordinal < keyReads.length() ? keyReads.get(ordinal) : null;
+		if (counter == null) {
+			counter = counter(ordinal);
+		}
+		counter.add(weight);
+	}
+
+	/**
+	 * プロパティキーの参照回数カウンタを生成します。<br>
+	 * @param ordinal ConfigNameインデックス
+	 * @return 参照回数カウンタ
+	 */
+	private synchronized LongAdder counter(int ordinal) {
+		AtomicReferenceArray<LongAdder> keyReads = this.keyReads;
+		if (ordinal >= keyReads.length()) {
+			AtomicReferenceArray<LongAdder> expanded = new AtomicReferenceArray<>(Math.max(ordinal + 1, keyReads.length() * 2));
+			for (int i = 0; i <= keyReads.length() - 1; i++) {
+				expanded.set(i, keyReads.get(i));
+			}
+			keyReads = expanded;
+			this.keyReads = keyReads;
+		}
+		LongAdder counter = keyReads.get(ordinal);
+		if (counter == null) {
+			counter = new LongAdder();
+			keyReads.set(ordinal, counter);
+		}
+		return counter;
+	}
+
+	/**
+	 * リソースのサイズを取得します。<br>
+	 * @param filePath プロパティリソースパス
+	 * @return リソースのサイズ(ファイルシステム上のファイルとして解決できない場合は-1)
+	 */
+	private static long size(String filePath) {
+		Path path = ConfigWatcher.resolve(filePath);
+		if (path == null || !Files.isRegularFile(path)) {
+			return -1;
+		}
+		try {
+			return Files.size(path);
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * 参照回数のサンプリング間隔を取得します。<br>
+	 * @return サンプリング間隔(1の場合は全件計測)
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getSampling()
+	 */
+	@Override
+	public int getSampling() {
+		return mask + 1;
+	}
+
+	/**
+	 * プロパティの参照回数を取得します。<br>
+	 * @return 参照回数
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getReads()
+	 */
+	@Override
+	public long getReads() {
+		return hits.sum() + misses.sum();
+	}
+
+	/**
+	 * パース済みの値がキャッシュから提供された参照回数を取得します。<br>
+	 * @return キャッシュヒット数
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getCacheHits()
+	 */
+	@Override
+	public long getCacheHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * パース処理が行われた参照回数を取得します。<br>
+	 * @return キャッシュミス数
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getCacheMisses()
+	 */
+	@Override
+	public long getCacheMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * 参照回数に対するキャッシュヒット数の比率を取得します。<br>
+	 * @return キャッシュヒット率(参照されていない場合は0)
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getCacheHitRatio()
+	 */
+	@Override
+	public double getCacheHitRatio() {
+		long hits = this.hits.sum();
+		long reads = hits + misses.sum();
+		return reads == 0 ? 0 : (double) hits / reads;
+	}
+
+	/**
+	 * プロパティキーごとの参照回数を取得します。<br>
+	 * @return プロパティキーの昇順に格納された参照回数
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getKeyReads()
+	 */
+	@Override
+	public Map<String, Long> getKeyReads() {
+		Map<String, Long> result = new TreeMap<>();
+		AtomicReferenceArray<LongAdder> keyReads = this.keyReads;
+		for (int i = 0; i <= keyReads.length() - 1; i++) {
+			LongAdder counter = keyReads.get(i);
+			ConfigName<?> name = ConfigName.valueOf(i);
+			if (counter != null && name != null) {
+				result.merge(name.getKey(), counter.sum(), Long::sum);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * レンダラ処理回数を取得します。<br>
+	 * @return レンダラ処理回数
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getRenderCount()
+	 */
+	@Override
+	public long getRenderCount() {
+		return renderCount.sum();
+	}
+
+	/**
+	 * レンダラ処理時間の合計を取得します。<br>
+	 * @return レンダラ処理時間(ナノ秒)
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getRenderTimeNanos()
+	 */
+	@Override
+	public long getRenderTimeNanos() {
+		return renderNanos.sum();
+	}
+
+	/**
+	 * パース処理回数を取得します。<br>
+	 * @return パース処理回数
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getParseCount()
+	 */
+	@Override
+	public long getParseCount() {
+		return parseCount.sum();
+	}
+
+	/**
+	 * パース処理時間の合計を取得します。<br>
+	 * @return パース処理時間(ナノ秒)
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getParseTimeNanos()
+	 */
+	@Override
+	public long getParseTimeNanos() {
+		return parseNanos.sum();
+	}
+
+	/**
+	 * 読み込み回数を取得します(再読み込みを除く)。<br>
+	 * @return 読み込み回数
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getLoads()
+	 */
+	@Override
+	public long getLoads() {
+		return loads.sum();
+	}
+
+	/**
+	 * 読み込み時間の合計を取得します(再読み込みを除く)。<br>
+	 * @return 読み込み時間(ナノ秒)
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getLoadTimeNanos()
+	 */
+	@Override
+	public long getLoadTimeNanos() {
+		return loadNanos.sum();
+	}
+
+	/**
+	 * 再読み込み回数を取得します。<br>
+	 * @return 再読み込み回数
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getReloads()
+	 */
+	@Override
+	public long getReloads() {
+		return reloads.sum();
+	}
+
+	/**
+	 * 再読み込み時間の合計を取得します。<br>
+	 * @return 再読み込み時間(ナノ秒)
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getReloadTimeNanos()
+	 */
+	@Override
+	public long getReloadTimeNanos() {
+		return reloadNanos.sum();
+	}
+
+	/**
+	 * 最後の読み込み又は、再読み込みの処理時間を取得します。<br>
+	 * @return 処理時間(ナノ秒)
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getLastLoadTimeNanos()
+	 */
+	@Override
+	public long getLastLoadTimeNanos() {
+		return lastLoadNanos;
+	}
+
+	/**
+	 * 最後の読み込み又は、再読み込みで読み込まれたリソースのサイズの合計を取得します。<br>
+	 * @return リソースのサイズ(バイト)
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getLastLoadBytes()
+	 */
+	@Override
+	public long getLastLoadBytes() {
+		return lastLoadBytes;
+	}
+
+	/**
+	 * 最後の読み込み又は、再読み込みで読み込まれたプロパティ数の合計を取得します。<br>
+	 * @return プロパティ数
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#getLastLoadKeys()
+	 */
+	@Override
+	public long getLastLoadKeys() {
+		return lastLoadKeys;
+	}
+
+	/**
+	 * 全ての計測値を初期化します。<br>
+	 * @see org.ideaccum.libs.commons.config.ConfigMetricsMXBean#reset()
+	 */
+	@Override
+	public void reset() {
+		hits.reset();
+		misses.reset();
+		renderCount.reset();
+		renderNanos.reset();
+		parseCount.reset();
+		parseNanos.reset();
+		loads.reset();
+		loadNanos.reset();
+		reloads.reset();
+		reloadNanos.reset();
+		lastLoadNanos = 0;
+		lastLoadBytes = 0;
+		lastLoadKeys = 0;
+		synchronized (this) {
+			keyReads = new AtomicReferenceArray<>(keyReads.length());
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.Map;
+
+/**
+ * 環境設定情報の計測値をJMXで公開するためのインタフェースです。<br>
+ * <p>
+ * 参照回数及び、キャッシュヒット数はサンプリング間隔が設定されている場合、サンプリングされた参照にサンプリング間隔を乗じた推定値となります。<br>
+ * キャッシュミス数、処理時間及び、読み込みに関する計測値は常に全件が計測されます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public interface ConfigMetricsMXBean {
+
+	/**
+	 * 参照回数のサンプリング間隔を取得します。<br>
+	 * @return サンプリング間隔(1の場合は全件計測)
+	 */
+	public int getSampling();
+
+	/**
+	 * プロパティの参照回数を取得します。<br>
+	 * @return 参照回数
+	 */
+	public long getReads();
+
+	/**
+	 * パース済みの値がキャッシュから提供された参照回数を取得します。<br>
+	 * @return キャッシュヒット数
+	 */
+	public long getCacheHits();
+
+	/**
+	 * パース処理が行われた参照回数を取得します。<br>
+	 * @return キャッシュミス数
+	 */
+	public long getCacheMisses();
+
+	/**
+	 * 参照回数に対するキャッシュヒット数の比率を取得します。<br>
+	 * @return キャッシュヒット率(参照されていない場合は0)
+	 */
+	public double getCacheHitRatio();
+
+	/**
+	 * プロパティキーごとの参照回数を取得します。<br>
+	 * @return プロパティキーごとの参照回数
+	 */
+	public Map<String, Long> getKeyReads();
+
+	/**
+	 * レンダラ処理回数を取得します。<br>
+	 * @return レンダラ処理回数
+	 */
+	public long getRenderCount();
+
+	/**
+	 * レンダラ処理時間の合計を取得します。<br>
+	 * @return レンダラ処理時間(ナノ秒)
+	 */
+	public long getRenderTimeNanos();
+
+	/**
+	 * パース処理回数を取得します。<br>
+	 * @return パース処理回数
+	 */
+	public long getParseCount();
+
+	/**
+	 * パース処理時間の合計を取得します。<br>
+	 * @return パース処理時間(ナノ秒)
+	 */
+	public long getParseTimeNanos();
+
+	/**
+	 * 読み込み回数を取得します(再読み込みを除く)。<br>
+	 * @return 読み込み回数
+	 */
+	public long getLoads();
+
+	/**
+	 * 読み込み時間の合計を取得します(再読み込みを除く)。<br>
+	 * @return 読み込み時間(ナノ秒)
+	 */
+	public long getLoadTimeNanos();
+
+	/**
+	 * 再読み込み回数を取得します。<br>
+	 * @return 再読み込み回数
+	 */
+	public long getReloads();
+
+	/**
+	 * 再読み込み時間の合計を取得します。<br>
+	 * @return 再読み込み時間(ナノ秒)
+	 */
+	public long getReloadTimeNanos();
+
+	/**
+	 * 最後の読み込み又は、再読み込みの処理時間を取得します。<br>
+	 * @return 処理時間(ナノ秒)
+	 */
+	public long getLastLoadTimeNanos();
+
+	/**
+	 * 最後の読み込み又は、再読み込みで読み込まれたリソースのサイズの合計を取得します。<br>
+	 * ファイルシステム上のファイルとして解決できないリソースのサイズは含まれません。<br>
+	 * @return リソースのサイズ(バイト)
+	 */
+	public long getLastLoadBytes();
+
+	/**
+	 * 最後の読み込み又は、再読み込みで読み込まれたプロパティ数の合計を取得します。<br>
+	 * @return プロパティ数
+	 */
+	public long getLastLoadKeys();
+
+	/**
+	 * 全ての計測値を初期化します。<br>
+	 */
+	public void reset();
+}
@@ -0,0 +1,68 @@
+package org.ideaccum.libs.commons.config;
+
+/**
+ * 環境設定情報の計測値を外部の計測基盤に通知するインタフェースです。<br>
+ * <p>
+ * 計測が有効化された際に{@link java.util.ServiceLoader}で"META-INF/services/org.ideaccum.libs.commons.config.ConfigMetricsReporter"に登録された実装クラスが読み込まれ、
+ * {@link org.ideaccum.libs.commons.config.ConfigMetrics#addReporter(ConfigMetricsReporter)}で登録された実装クラスと共に通知先となります。<br>
+ * 全てのメソッドはディフォルト実装を持つため、必要な通知のみを実装して下さい。<br>
+ * </p>
+ * <p>
+ * 通知は計測を行ったスレッド上で同期的に行われるため、実装は短時間で完了し、例外をスローしないようにして下さい(スローされた例外は無視されます)。<br>
+ * プロパティ参照の通知はサンプリング間隔が設定されている場合、サンプリングされた参照に対してのみ行われます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public interface ConfigMetricsReporter {
+
+	/**
+	 * プロパティが参照された際の処理を提供します。<br>
+	 * @param config 環境設定情報
+	 * @param name プロパティアクセスキー
+	 * @param hit パース済みの値がキャッシュから提供された場合にtrue
+	 * @param weight 通知が代表する参照回数(サンプリング間隔)
+	 */
+	public default void read(Config config, ConfigName<?> name, boolean hit, int weight) {
+	}
+
+	/**
+	 * レンダラ処理が行われた際の処理を提供します。<br>
+	 * @param config 環境設定情報
+	 * @param name プロパティアクセスキー
+	 * @param nanos 処理時間(ナノ秒)
+	 */
+	public default void rendered(Config config, ConfigName<?> name, long nanos) {
+	}
+
+	/**
+	 * パース処理が行われた際の処理を提供します。<br>
+	 * @param config 環境設定情報
+	 * @param name プロパティアクセスキー
+	 * @param nanos 処理時間(ナノ秒)
+	 */
+	public default void parsed(Config config, ConfigName<?> name, long nanos) {
+	}
+
+	/**
+	 * プロパティリソースが読み込まれた際の処理を提供します。<br>
+	 * @param config 環境設定情報
+	 * @param filePath プロパティリソースパス
+	 * @param bytes リソースのサイズ(ファイルシステム上のファイルとして解決できない場合は-1)
+	 * @param keys 読み込まれたプロパティ数
+	 */
+	public default void loaded(Config config, String filePath, long bytes, int keys) {
+	}
+
+	/**
+	 * 読み込み又は、再読み込みが完了した際の処理を提供します。<br>
+	 * @param config 環境設定情報
+	 * @param reload 再読み込みの場合にtrue
+	 * @param nanos 処理時間(ナノ秒)
+	 */
+	public default void completed(Config config, boolean reload, long nanos) {
+	}
+}
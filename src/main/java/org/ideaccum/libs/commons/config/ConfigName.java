@@ -1,8 +1,20 @@
 package org.ideaccum.libs.commons.config;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Serializable;
-import java.util.HashMap;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * プロパティアクセスキーを列挙形式のクラスとして提供します。<br>
@@ -12,18 +24,43 @@ import java.util.Map;
  * 継承関係のクラス構造を前提としたプロパティキークラスとしているため、列挙型クラスとして提供せず、列挙形式のクラスとして提供します。<br>
  * 尚、サブクラスとしてプロパティアクセスキークラスを実装する際は{@link #ConfigName(String)}コンストラクタをprotectedレベルで設置して下さい(あくまでも列挙フィールドインスタンス化の目的であり、publicとはしない)。<br>
  * </p>
+ * <p>
+ * プロパティアクセスキーはサブクラスの初期化時に登録されます。<br>
+ * コンパイル時に{@link org.ideaccum.libs.commons.config.processor.ConfigNameProcessor}が実行されている場合、プロパティキーの初回検索時に{@link #INDEX_RESOURCE}に記載された全てのサブクラスが初期化されるため、
+ * 参照前のサブクラスのプロパティアクセスキーもクラスパスを走査することなく検索することができます。<br>
+ * インデックスリソースはこのクラス自身のクラスローダー及び、検索を行ったスレッドのコンテキストクラスローダーごとに一度だけ読み込まれ、記載された全てのサブクラスの初期化が完了するまでは、検索を行ったスレッド自身が各サブクラスを初期化します。<br>
+ * サブクラスの初期化はロックを保持せずに行われ、他スレッドの検索により初期化中のサブクラスは、その静的初期化処理から更に他スレッドで検索が行われている可能性があるため完了を待機しません。
+ * そのため、そのサブクラスのプロパティアクセスキーは初期化の完了後に検索可能となります。<br>
+ * 静的初期化処理で例外が発生したサブクラスは初期化を行ったスレッドの{@link java.lang.Thread.UncaughtExceptionHandler}に通知され、他のサブクラスの初期化は継続されます。<br>
+ * </p>
+ * <p>
+ * 登録されたプロパティアクセスキーはロックを取得せずに参照することができ、複数スレッドで並行してサブクラスが初期化される場合も安全に検索することができます。<br>
+ * また、{@link #values(String)}により指定された接頭辞で始まるプロパティキーのプロパティアクセスキーを階層ごとの索引から取得することができます。<br>
+ * </p>
  * 
  *<!--
  * 更新日      更新者           更新内容
  * 2010/07/03  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
  * 2019/10/29  Kitagawa         ConfigNameに対してプロパティ定義値型を限定する仕様に変更
+ * 2026/10/16  agent            配列によるプロパティ値管理のためにインスタンスごとに連番のインデックスを付与する仕様に変更
+ * 2026/10/16  agent            ビルド時に生成されたサブクラスのインデックスからプロパティアクセスキーを登録する仕様を追加
+ * 2026/10/16  agent            インスタンスキャッシュを並行アクセス可能な構造に変更し、接頭辞による検索を追加
+ * 2026/10/16  agent            共有パーサーをインスタンスごとに保持する仕様を追加
+ * 2026/10/17  agent            インデックスリソースに記載されたサブクラスの初期化をロックを取得せずに行う仕様に変更
+ * 2026/10/17  agent            シリアルバージョンUIDを追加
  *-->
  */
 public abstract class ConfigName<T> implements Serializable {
 
+	/** シリアルバージョンUID */
+	private static final long serialVersionUID = 1L;
+
+	/** ビルド時に生成されるサブクラスのインデックスリソースパス */
+	public static final String INDEX_RESOURCE = "META-INF/org.ideaccum.libs.commons.config.ConfigName";
+
 	/** ロックオブジェクト */
-	private static Object lock = new Object();
+	private static final Object lock = new Object();
 
 	/** プロパティキー */
 	private String key;
@@ -31,8 +68,38 @@ public abstract class ConfigName<T> implements Serializable {
 	/** プロパティパーサークラス */
 	private Class<? extends ConfigValueParser<?>> parserClass;
 
+	/** プロパティパーサー(初回参照時に共有インスタンスを取得) */
+	private transient volatile ConfigValueParser<?> parser;
+
+	/** インデックス(同一プロパティキーのインスタンスは同一インデックスを共有) */
+	private final int ordinal;
+
 	/** インスタンスキャッシュ */
-	private static Map<String, ConfigName<?>> instances = new HashMap<>();
+	private static final Map<String, ConfigName<?>> instances = new ConcurrentHashMap<>();
+
+	/** 階層索引 */
+	private static final ConfigNameIndex index = new ConfigNameIndex();
+
+	/** インデックス順インスタンスキャッシュ(参照時は{@link #count}を先に参照すること) */
+	private static ConfigName<?>[] ordinals = new ConfigName<?>[64];
+
+	/** 払い出し済みインデックス数 */
+	private static volatile int count = 0;
+
+	/** インデックスリソース読み込みのロックオブジェクト */
+	private static final Object discoveryLock = new Object();
+
+	/** クラスローダーごとのインデックスリソースに記載されたサブクラス名(参照はインデックスリソース読み込みのロックを取得して行うこと) */
+	private static final Map<ClassLoader, List<String>> indexes = new WeakHashMap<>();
+
+	/** 記載された全てのサブクラスの初期化が完了したクラスローダー(変更時はインデックスリソース読み込みのロックを取得して複製を置き換えること) */
+	private static volatile List<WeakReference<ClassLoader>> discovered = Collections.emptyList();
+
+	/** サブクラスの初期化中のスレッドであることを表すフラグ */
+	private static final ThreadLocal<Boolean> discovering = new ThreadLocal<>();
+
+	/** インデックスリソースに従って初期化中のサブクラス名と初期化を行っているスレッド */
+	private static final Map<String, Thread> initializing = new ConcurrentHashMap<>();
 
 	/**
 	 * コンストラクタ<br>
@@ -43,10 +110,34 @@ public abstract class ConfigName<T> implements Serializable {
 		synchronized (lock) {
 			this.key = key;
 			this.parserClass = parserClass;
+			ConfigName<?> registered = instances.get(key);
+			if (registered != null) {
+				this.ordinal = registered.ordinal;
+			} else {
+				this.ordinal = count;
+				if (ordinal >= ordinals.length) {
+					ordinals = Arrays.copyOf(ordinals, ordinals.length * 2);
+				}
+			}
+			ordinals[ordinal] = this;
+			index.put(this);
 			instances.put(key, this);
+			if (registered == null) {
+				count = ordinal + 1;
+			}
 		}
 	}
 
+	/**
+	 * デシリアライズされたインスタンスをクラスローダー上で管理されているインスタンスに置き換えます。<br>
+	 * インデックスは実行環境ごとに払い出されるため、デシリアライズされたインスタンスをそのまま利用することはできません。<br>
+	 * @return 管理されているプロパティアクセスキーインスタンス(管理されていない場合は自身)
+	 */
+	protected Object readResolve() {
+		ConfigName<?> registered = valueOf(key);
+		return registered == null ? this : registered;
+	}
+
 	/**
 	 * クラス情報を文字列で定義します。<br>
 	 * @return クラス情報文字列
@@ -73,6 +164,50 @@ public abstract class ConfigName<T> implements Serializable {
 		return parserClass;
 	}
 
+	/**
+	 * プロパティパーサーを取得します。<br>
+	 * 初回参照時に{@link org.ideaccum.libs.commons.config.ConfigParserRegistry}からパーサークラスの共有インスタンスを取得して保持し、以降は登録簿を参照しません。<br>
+	 * @return プロパティパーサー
+	 */
+	final ConfigValueParser<?> parser() {
+		ConfigValueParser<?> parser = this.parser;
+		if (parser == null) {
+			parser = ConfigParserRegistry.getParser(parserClass);
+			this.parser = parser;
+		}
+		return parser;
+	}
+
+	/**
+	 * インスタンスに付与されたインデックスを取得します。<br>
+	 * インデックスは0から連番で払い出され、同一プロパティキーのインスタンスは同一のインデックスとなります。<br>
+	 * @return インデックス
+	 */
+	final int ordinal() {
+		return ordinal;
+	}
+
+	/**
+	 * 払い出し済みのインデックス数を取得します。<br>
+	 * 戻り値未満のインデックスを持つインスタンスは{@link #valueOf(String)}及び、{@link #valueOf(int)}から参照可能であることが保証されます。<br>
+	 * @return 払い出し済みインデックス数
+	 */
+	static int bound() {
+		return count;
+	}
+
+	/**
+	 * 指定されたインデックスのプロパティアクセスキーインスタンスを提供します。<br>
+	 * @param ordinal インデックス
+	 * @return プロパティアクセスキーインスタンス(払い出されていないインデックスの場合はnull)
+	 */
+	static ConfigName<?> valueOf(int ordinal) {
+		if (ordinal < 0 || ordinal >= count) {
+			return null;
+		}
+		return ordinals[ordinal];
+	}
+
 	/**
 	 * 指定されたプロパティキーのプロパティアクセスキーインスタンスを提供します。<br>
 	 * 管理されていないプロパティキーの場合はnullが返却されます。<br>
@@ -80,9 +215,163 @@ public abstract class ConfigName<T> implements Serializable {
 	 * @return プロパティアクセスキーインスタンス
 	 */
 	public static final ConfigName<?> valueOf(String key) {
-		if (!instances.containsKey(key)) {
+		discover();
+		if (key == null) {
 			return null;
 		}
 		return instances.get(key);
 	}
+
+	/**
+	 * 管理されている全てのプロパティアクセスキーインスタンスを提供します。<br>
+	 * @return プロパティキーの階層順に格納されたプロパティアクセスキーインスタンス
+	 */
+	public static final List<ConfigName<?>> values() {
+		return values("");
+	}
+
+	/**
+	 * 指定された接頭辞で始まるプロパティキーのプロパティアクセスキーインスタンスを提供します。<br>
+	 * 接頭辞は"."で区切られた階層の途中で終わっていても構いません。<br>
+	 * 検索はプロパティキーの階層ごとの索引から行われるため、管理されているプロパティアクセスキーの総数には依存しません。<br>
+	 * @param prefix 接頭辞(nullの場合は空の結果が返却されます)
+	 * @return プロパティキーの階層順に格納されたプロパティアクセスキーインスタンス
+	 */
+	public static final List<ConfigName<?>> values(String prefix) {
+		discover();
+		if (prefix == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(index.find(prefix));
+	}
+
+	/**
+	 * インデックスリソースに記載されたサブクラスを初期化してプロパティアクセスキーを登録します。<br>
+	 * このクラス自身のクラスローダー及び、呼び出しスレッドのコンテキストクラスローダーのうち、記載された全てのサブクラスの初期化が完了していないクラスローダーについて初期化を行います。<br>
+	 * 呼び出しスレッド自身によるサブクラスの初期化中の呼び出しは初期化を行わずに返却されます。<br>
+	 * 初期化が完了したクラスローダーに対する呼び出しはロックを取得せずに返却されます。<br>
+	 */
+	static void discover() {
+		if (discovering.get() != null) {
+			// 初期化中のサブクラスからの呼び出しは初期化の完了を待機できないため返却
+			return;
+		}
+		ClassLoader own = ConfigName.class.getClassLoader();
+		ClassLoader context = Thread.currentThread().getContextClassLoader();
+		if (own != null && !isDiscovered(own)) {
+			discover(own);
+		}
+		if (context != null && context != own && !isDiscovered(context)) {
+			discover(context);
+		}
+	}
+
+	/**
+	 * クラスローダーに記載された全てのサブクラスの初期化が完了しているか判定します。<br>
+	 * @param loader クラスローダー
+	 * @return 初期化が完了している場合にtrueを返却
+	 */
+	private static boolean isDiscovered(ClassLoader loader) {
+		for (WeakReference<ClassLoader> reference : discovered) {
+			if (reference.get() == loader) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * クラスローダーから読み込み可能なインデックスリソースに記載されたサブクラスを初期化します。<br>
+	 * インデックスリソースはクラスローダーごとに一度だけロックを取得して読み込まれ、サブクラスの初期化はロックを保持せずに行われます。<br>
+	 * 他スレッドが初期化中のサブクラスを除いて全てのサブクラスの初期化が完了した場合に、クラスローダーを初期化完了として記録します。<br>
+	 * @param loader クラスローダー
+	 */
+	private static void discover(ClassLoader loader) {
+		List<String> names;
+		synchronized (discoveryLock) {
+			names = indexes.computeIfAbsent(loader, ConfigName::index);
+		}
+		Thread thread = Thread.currentThread();
+		boolean complete = true;
+		discovering.set(Boolean.TRUE);
+		try {
+			for (String name : names) {
+				Thread owner = initializing.putIfAbsent(name, thread);
+				if (owner != null && owner != thread) {
+					// 初期化中のサブクラスの静的初期化処理が呼び出しスレッドを待機している可能性があるため待機しない
+					complete = false;
+					continue;
+				}
+				try {
+					Class.forName(name, true, loader);
+				} catch (ClassNotFoundException | NoClassDefFoundError e) {
+					// 差分コンパイルで削除されたクラス及び、他スレッドで初期化に失敗したクラスは無視
+				} catch (LinkageError e) {
+					// 初期化に失敗したサブクラスは以降も参照できないため通知して他のサブクラスの初期化を継続
+					failed(e);
+				} finally {
+					initializing.remove(name, thread);
+				}
+			}
+		} finally {
+			discovering.remove();
+		}
+		if (!complete) {
+			return;
+		}
+		synchronized (discoveryLock) {
+			List<WeakReference<ClassLoader>> updated = new ArrayList<>(discovered.size() + 1);
+			for (WeakReference<ClassLoader> reference : discovered) {
+				ClassLoader current = reference.get();
+				if (current == loader) {
+					return;
+				}
+				if (current != null) {
+					updated.add(reference);
+				}
+			}
+			updated.add(new WeakReference<>(loader));
+			discovered = updated;
+		}
+	}
+
+	/**
+	 * クラスローダーから読み込み可能な全てのインデックスリソースに記載されたサブクラス名を取得します。<br>
+	 * @param loader クラスローダー
+	 * @return サブクラス名
+	 */
+	private static List<String> index(ClassLoader loader) {
+		List<String> names = new ArrayList<>();
+		try {
+			Enumeration<URL> resources = loader.getResources(INDEX_RESOURCE);
+			while (resources.hasMoreElements()) {
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						line = line.trim();
+						if (line.isEmpty() || line.startsWith("#")) {
+							continue;
+						}
+						names.add(line);
+					}
+				}
+			}
+		} catch (IOException e) {
+			// インデックスが読み込めない場合は初期化済みのサブクラスのみで動作
+		}
+		return names;
+	}
+
+	/**
+	 * サブクラスの初期化の失敗を呼び出しスレッドのUncaughtExceptionHandlerに通知します。<br>
+	 * @param e 初期化時の例外
+	 */
+	private static void failed(LinkageError e) {
+		try {
+			Thread thread = Thread.currentThread();
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+		} catch (RuntimeException ignore) {
+			// 例外処理自身の例外で検索を失敗させない
+		}
+	}
 }
@@ -0,0 +1,150 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * プロパティアクセスキーをプロパティキーの階層ごとに管理する索引を提供します。<br>
+ * <p>
+ * プロパティキーを"."で区切った階層ごとの節点を持つトライ木として管理し、指定された接頭辞で始まるプロパティキーを全件走査することなく検索します。<br>
+ * 各節点の子節点はプロパティキーの階層名の昇順で保持されるため、検索結果はプロパティキーの階層順となります。<br>
+ * </p>
+ * <p>
+ * 登録処理は{@link org.ideaccum.libs.commons.config.ConfigName}のロック内から呼び出されることを前提とし、検索処理はロックを取得せずに行うことができます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+final class ConfigNameIndex {
+
+	/** 階層区切り文字 */
+	private static final char SEPARATOR = '.';
+
+	/** 最上位節点 */
+	private final Node root;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	ConfigNameIndex() {
+		super();
+		this.root = new Node();
+	}
+
+	/**
+	 * プロパティアクセスキーを登録します。<br>
+	 * 同一のプロパティキーが登録済みの場合は置き換えます。<br>
+	 * @param name プロパティアクセスキー
+	 */
+	void put(ConfigName<?> name) {
+		String key = name.getKey();
+		Node node = root;
+		int start = 0;
+		while (true) {
+			int end = key.indexOf(SEPARATOR, start);
+			node = node.child(end < 0 ? key.substring(start) : key.substring(start, end));
+			if (end < 0) {
+				break;
+			}
+			start = end + 1;
+		}
+		node.name = name;
+	}
+
+	/**
+	 * 指定された接頭辞で始まるプロパティキーのプロパティアクセスキーを検索します。<br>
+	 * 接頭辞は階層の途中で終わっていても構いません("db.pool."の場合は"db.pool"配下の全てのキー、"db.po"の場合は"db.pool"自身及び、"db.port"等も含みます)。<br>
+	 * @param prefix 接頭辞(空文字列の場合は全てのプロパティアクセスキー)
+	 * @return プロパティキーの階層順に格納されたプロパティアクセスキー
+	 */
+	List<ConfigName<?>> find(String prefix) {
+		Node node = root;
+		int start = 0;
+		int end;
+		while ((end = prefix.indexOf(SEPARATOR, start)) >= 0) {
+			node = node.get(prefix.substring(start, end));
+			if (node == null) {
+				return Collections.emptyList();
+			}
+			start = end + 1;
+		}
+		String partial = prefix.substring(start);
+		List<ConfigName<?>> result = new ArrayList<>();
+		ConcurrentSkipListMap<String, Node> children = node.children;
+		if (children != null) {
+			for (Map.Entry<String, Node> entry : children.tailMap(partial, true).entrySet()) {
+				if (!entry.getKey().startsWith(partial)) {
+					break;
+				}
+				collect(entry.getValue(), result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 節点及び、配下の節点に登録されたプロパティアクセスキーを収集します。<br>
+	 * @param node 節点
+	 * @param result 収集先
+	 */
+	private static void collect(Node node, List<ConfigName<?>> result) {
+		ConfigName<?> name = node.name;
+		if (name != null) {
+			result.add(name);
+		}
+		ConcurrentSkipListMap<String, Node> children = node.children;
+		if (children != null) {
+			for (Node child : children.values()) {
+				collect(child, result);
+			}
+		}
+	}
+
+	/**
+	 * プロパティキーの階層ごとの節点クラスです。<br>
+	 */
+	private static final class Node {
+
+		/** 子節点(子節点が存在しない場合はnull) */
+		private volatile ConcurrentSkipListMap<String, Node> children;
+
+		/** 節点までの階層をプロパティキーとするプロパティアクセスキー(登録されていない場合はnull) */
+		private volatile ConfigName<?> name;
+
+		/**
+		 * 子節点を取得します。<br>
+		 * @param segment 階層名
+		 * @return 子節点(存在しない場合はnull)
+		 */
+		private Node get(String segment) {
+			ConcurrentSkipListMap<String, Node> children = this.children;
+			return children == null ? null : children.get(segment);
+		}
+
+		/**
+		 * 子節点を取得します。<br>
+		 * 存在しない場合は生成して追加します。<br>
+		 * @param segment 階層名
+		 * @return 子節点
+		 */
+		private Node child(String segment) {
+			ConcurrentSkipListMap<String, Node> children = this.children;
+			if (children == null) {
+				children = new ConcurrentSkipListMap<>();
+				this.children = children;
+			}
+			Node child = children.get(segment);
+			if (child == null) {
+				child = new Node();
+				children.put(segment, child);
+			}
+			return child;
+		}
+	}
+}
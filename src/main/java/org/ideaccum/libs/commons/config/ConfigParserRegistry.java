@@ -0,0 +1,124 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.ideaccum.libs.commons.config.parser.BooleanParser;
+import org.ideaccum.libs.commons.config.parser.BooleansParser;
+import org.ideaccum.libs.commons.config.parser.DoubleParser;
+import org.ideaccum.libs.commons.config.parser.DoublesParser;
+import org.ideaccum.libs.commons.config.parser.FloatParser;
+import org.ideaccum.libs.commons.config.parser.FloatsParser;
+import org.ideaccum.libs.commons.config.parser.IntParser;
+import org.ideaccum.libs.commons.config.parser.IntsParser;
+import org.ideaccum.libs.commons.config.parser.LongParser;
+import org.ideaccum.libs.commons.config.parser.LongsParser;
+import org.ideaccum.libs.commons.config.parser.ShortParser;
+import org.ideaccum.libs.commons.config.parser.ShortsParser;
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.ideaccum.libs.commons.config.parser.StringsParser;
+import org.ideaccum.libs.commons.util.ClassUtil;
+
+/**
+ * プロパティ値パーサーをプロセス全体で共有する登録簿を提供します。<br>
+ * <p>
+ * パーサーはパーサークラスごとに初回参照時に一度だけ生成され、全ての環境設定情報及び、スレッドから同一のインスタンスが共有されます。<br>
+ * そのため、パーサーは状態を持たないスレッドセーフな実装として下さい。<br>
+ * パーサーインスタンスは{@link java.lang.ClassValue}で管理されるため、パーサークラスのクラスローダーの破棄を妨げることはありません。<br>
+ * </p>
+ * <p>
+ * また、値の型ごとに利用するパーサーを登録することができ、{@link org.ideaccum.libs.commons.config.Config#bind(String, Class)}でフィールドの型からパーサーを決定する際に利用されます。<br>
+ * 文字列、プリミティブ型、それらのラッパークラス及び、配列型のパーサーは予め登録されています。<br>
+ * 独自の型のパーサーは、その型を利用するバインドを行う前に{@link #register(Class, ConfigValueParser)}で登録して下さい。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public final class ConfigParserRegistry {
+
+	/** パーサークラスごとのパーサーインスタンス */
+	private static final ClassValue<ConfigValueParser<?>> PARSERS = new ClassValue<ConfigValueParser<?>>() {
+		@Override
+		protected ConfigValueParser<?> computeValue(Class<?> type) {
+			return (ConfigValueParser<?>) ClassUtil.createInstance(type);
+		}
+	};
+
+	/** 値の型ごとのパーサーインスタンス */
+	private static final Map<Class<?>, ConfigValueParser<?>> TYPES = new ConcurrentHashMap<>();
+
+	static {
+		TYPES.put(String.class, getParser(StringParser.class));
+		TYPES.put(String[].class, getParser(StringsParser.class));
+		TYPES.put(boolean.class, getParser(BooleanParser.class));
+		TYPES.put(Boolean.class, getParser(BooleanParser.class));
+		TYPES.put(boolean[].class, getParser(BooleansParser.class));
+		TYPES.put(Boolean[].class, getParser(BooleansParser.class));
+		TYPES.put(short.class, getParser(ShortParser.class));
+		TYPES.put(Short.class, getParser(ShortParser.class));
+		TYPES.put(short[].class, getParser(ShortsParser.class));
+		TYPES.put(Short[].class, getParser(ShortsParser.class));
+		TYPES.put(int.class, getParser(IntParser.class));
+		TYPES.put(Integer.class, getParser(IntParser.class));
+		TYPES.put(int[].class, getParser(IntsParser.class));
+		TYPES.put(Integer[].class, getParser(IntsParser.class));
+		TYPES.put(long.class, getParser(LongParser.class));
+		TYPES.put(Long.class, getParser(LongParser.class));
+		TYPES.put(long[].class, getParser(LongsParser.class));
+		TYPES.put(Long[].class, getParser(LongsParser.class));
+		TYPES.put(float.class, getParser(FloatParser.class));
+		TYPES.put(Float.class, getParser(FloatParser.class));
+		TYPES.put(float[].class, getParser(FloatsParser.class));
+		TYPES.put(Float[].class, getParser(FloatsParser.class));
+		TYPES.put(double.class, getParser(DoubleParser.class));
+		TYPES.put(Double.class, getParser(DoubleParser.class));
+		TYPES.put(double[].class, getParser(DoublesParser.class));
+		TYPES.put(Double[].class, getParser(DoublesParser.class));
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private ConfigParserRegistry() {
+		super();
+	}
+
+	/**
+	 * パーサークラスの共有インスタンスを取得します。<br>
+	 * 初回参照時に引数なしコンストラクタで生成され、以降は同一のインスタンスが提供されます。<br>
+	 * @param parserClass パーサークラス
+	 * @return パーサーインスタンス
+	 */
+	@SuppressWarnings("unchecked")
+	public static <P extends ConfigValueParser<?>> P getParser(Class<P> parserClass) {
+		return (P) PARSERS.get(parserClass);
+	}
+
+	/**
+	 * 値の型に対して登録されているパーサーを取得します。<br>
+	 * @param type 値の型
+	 * @return パーサーインスタンス(登録されていない場合はnull)
+	 */
+	public static ConfigValueParser<?> getTypeParser(Class<?> type) {
+		if (type == null) {
+			return null;
+		}
+		return TYPES.get(type);
+	}
+
+	/**
+	 * 値の型に対して利用するパーサーを登録します。<br>
+	 * 既に登録されている型の場合は置き換えられますが、既にバインドに利用された設定クラスのフィールドには反映されません。<br>
+	 * @param type 値の型
+	 * @param parser パーサーインスタンス
+	 */
+	public static <T> void register(Class<T> type, ConfigValueParser<? extends T> parser) {
+		if (type == null || parser == null) {
+			return;
+		}
+		TYPES.put(type, parser);
+	}
+}
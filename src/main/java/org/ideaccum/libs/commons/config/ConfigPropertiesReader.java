@@ -0,0 +1,485 @@
+package org.ideaccum.libs.commons.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import org.ideaccum.libs.commons.util.ResourceUtil;
+
+/**
+ * プロパティリソースをバイトバッファから直接解析する処理を提供します。<br>
+ * <p>
+ * リソースはファイルシステム上のファイルの場合は{@link java.nio.channels.FileChannel}からヒープ上のバイトバッファに読み込まれ、読み込み後は直ちにファイルが閉じられます。<br>
+ * メモリマップしたバッファは解放時期を制御できず、Windows環境では解放されるまでファイルの削除や置き換えができないため、メモリマップは行いません。<br>
+ * 解析は行単位の中間文字列を生成せずにバイト列を1回走査し、キー及び、値のみを再利用する文字バッファ上に復号して文字列を生成します。<br>
+ * 同一内容の値は1回の解析の中で同一の文字列インスタンスに集約されます。<br>
+ * 直前のキーと階層区切り文字(".")までのバイト列が一致するキーは、一致する接頭辞を復号し直さずに直前のキーの文字列から複写します。<br>
+ * 解析結果は同期化されない{@link org.ideaccum.libs.commons.config.ConfigSnapshot.Loaded}として提供され、全て置き換える形で反映する場合は複製されずにスナップショットに保持されます。<br>
+ * </p>
+ * <p>
+ * 解析仕様はJava 9以降の{@link java.util.Properties#load(java.io.Reader)}と互換で、行継続、"\\uXXXX"形式のエスケープ、"="、":"及び、空白による区切り、"#"及び、"!"によるコメント行に対応します。<br>
+ * 文字コードはISO-8859-1(java.util.Propertiesのバイトストリーム読み込みと同一)及び、UTF-8に対応します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/17  agent            メモリマップを行わず、直前のキーと共通する接頭辞を復号し直さない仕様に変更
+ *-->
+ */
+final class ConfigPropertiesReader {
+
+	/** 不正なバイト列に対する置換文字 */
+	private static final char REPLACEMENT = '\uFFFD';
+
+	/** UTF-8復号フラグ */
+	private final boolean utf8;
+
+	/** 解析対象バッファ */
+	private ByteBuffer in;
+
+	/** 解析位置 */
+	private int position;
+
+	/** 解析終了位置 */
+	private int limit;
+
+	/** 復号文字バッファ */
+	private char[] buffer;
+
+	/** 復号文字数 */
+	private int length;
+
+	/** 値文字列集約テーブル(オープンアドレス法) */
+	private String[] pool;
+
+	/** 値文字列集約テーブル登録数 */
+	private int pooled;
+
+	/** 直前のキー(エスケープを含む場合はnull) */
+	private String previous;
+
+	/** 直前のキーの開始位置 */
+	private int previousStart;
+
+	/** 直前のキーの終了位置 */
+	private int previousEnd;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param charset 文字コード
+	 */
+	private ConfigPropertiesReader(Charset charset) {
+		super();
+		this.utf8 = StandardCharsets.UTF_8.equals(charset);
+		this.buffer = new char[128];
+		this.pool = new String[1024];
+	}
+
+	/**
+	 * 文字コードが対応しているか判定します。<br>
+	 * @param charset 文字コード
+	 * @return 対応している場合にtrueを返却
+	 */
+	static boolean isSupported(Charset charset) {
+		return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset);
+	}
+
+	/**
+	 * プロパティリソースを読み込みます。<br>
+	 * @param filePath プロパティリソースパス
+	 * @param charset 文字コード
+	 * @return 読み込まれたプロパティ情報
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	static ConfigSnapshot.Loaded read(String filePath, Charset charset) throws IOException {
+		return new ConfigPropertiesReader(charset).parse(buffer(filePath));
+	}
+
+	/**
+	 * プロパティリソースをヒープ上のバイトバッファとして読み込みます。<br>
+	 * @param filePath プロパティリソースパス
+	 * @return バイトバッファ
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static ByteBuffer buffer(String filePath) throws IOException {
+		File file = new File(filePath);
+		if (file.isFile()) {
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				long size = channel.size();
+				if (size > Integer.MAX_VALUE) {
+					throw new IOException("Too large properties resource (" + filePath + ")");
+				}
+				ByteBuffer buffer = ByteBuffer.allocate((int) size);
+				while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+					// 全て読み込むまで継続
+				}
+				buffer.flip();
+				return buffer;
+			}
+		}
+		try (InputStream stream = ResourceUtil.getInputStream(filePath)) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] bytes = new byte[8192];
+			int read;
+			while ((read = stream.read(bytes)) >= 0) {
+				output.write(bytes, 0, read);
+			}
+			return ByteBuffer.wrap(output.toByteArray());
+		}
+	}
+
+	/**
+	 * バイトバッファを解析します。<br>
+	 * @param in 解析対象バッファ
+	 * @return 読み込まれたプロパティ情報
+	 */
+	private ConfigSnapshot.Loaded parse(ByteBuffer in) {
+		ConfigSnapshot.Loaded result = new ConfigSnapshot.Loaded();
+		this.in = in;
+		this.position = in.position();
+		this.limit = in.limit();
+		while (position < limit) {
+			byte c = in.get(position);
+			if (c == ' ' || c == '\t' || c == '\f' || c == '\r' || c == '\n') {
+				position++;
+			} else if (c == '#' || c == '!') {
+				skipLine();
+			} else if (c == '\\' && position + 1 < limit && (in.get(position + 1) == '\r' || in.get(position + 1) == '\n')) {
+				// 論理行先頭の行継続は空白として扱い、継続行の先頭でコメントを判定
+				position++;
+				if (position + 1 == limit) {
+					// 行継続の行末で終端に達した場合はjava.util.Propertiesと同様に空のキーとして扱う
+					result.put("", "");
+				}
+				skipContinuation();
+			} else {
+				String key = readKey();
+				skipSeparator();
+				result.put(key, readValue());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 行末まで読み飛ばします。<br>
+	 */
+	private void skipLine() {
+		while (position < limit) {
+			byte c = in.get(position);
+			if (c == '\r' || c == '\n') {
+				return;
+			}
+			position++;
+		}
+	}
+
+	/**
+	 * キーを読み込みます。<br>
+	 * エスケープされていない区切り文字、空白又は、行末の直前まで読み込みます。<br>
+	 * @return キー
+	 */
+	private String readKey() {
+		int start = position;
+		boolean escaped = false;
+		length = 0;
+		reuse(start);
+		while (position < limit) {
+			byte c = in.get(position);
+			if (c == '\\') {
+				escaped = true;
+				position++;
+				unescape();
+			} else if (c == '=' || c == ':' || c == ' ' || c == '\t' || c == '\f' || c == '\r' || c == '\n') {
+				break;
+			} else {
+				decode();
+			}
+		}
+		String key = new String(buffer, 0, length);
+		this.previous = escaped ? null : key;
+		this.previousStart = start;
+		this.previousEnd = position;
+		return key;
+	}
+
+	/**
+	 * 直前のキーと階層区切り文字(".")までのバイト列が一致する場合、一致する接頭辞を直前のキーの文字列から文字バッファに複写します。<br>
+	 * 直前のキーはエスケープを含まないため、一致するバイト列は区切り文字等を含まず、同一の文字列に復号されます。<br>
+	 * 複写した場合は解析位置を一致した接頭辞の直後に進めます。<br>
+	 * @param start キーの開始位置
+	 */
+	private void reuse(int start) {
+		String previous = this.previous;
+		if (previous == null) {
+			return;
+		}
+		int dots = 0;
+		int end = -1;
+		for (int i = 0; previousStart + i < previousEnd && start + i < limit; i++) {
+			byte c = in.get(start + i);
+			if (c != in.get(previousStart + i)) {
+				break;
+			}
+			if (c == '.') {
+				dots++;
+				end = i;
+			}
+		}
+		if (dots == 0) {
+			return;
+		}
+		// 階層区切り文字はUTF-8の複数バイト文字に含まれないため、区切り文字の数で復号後の位置を特定
+		int index = -1;
+		for (int i = 0; i <= dots - 1; i++) {
+			index = previous.indexOf('.', index + 1);
+		}
+		previous.getChars(0, index + 1, buffer, 0);
+		length = index + 1;
+		position = start + end + 1;
+	}
+
+	/**
+	 * キーと値の区切りを読み飛ばします。<br>
+	 * 前後の空白及び、1つの"="又は、":"を読み飛ばします。<br>
+	 */
+	private void skipSeparator() {
+		boolean separated = false;
+		while (position < limit) {
+			byte c = in.get(position);
+			if (c == ' ' || c == '\t' || c == '\f') {
+				position++;
+			} else if (!separated && (c == '=' || c == ':')) {
+				separated = true;
+				position++;
+			} else if (c == '\\' && position + 1 < limit && (in.get(position + 1) == '\r' || in.get(position + 1) == '\n')) {
+				position++;
+				skipContinuation();
+			} else {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * 値を読み込みます。<br>
+	 * エスケープされていない行末の直前まで読み込みます。<br>
+	 * @return 値
+	 */
+	private String readValue() {
+		length = 0;
+		while (position < limit) {
+			byte c = in.get(position);
+			if (c == '\\') {
+				position++;
+				unescape();
+			} else if (c == '\r' || c == '\n') {
+				break;
+			} else {
+				decode();
+			}
+		}
+		return intern();
+	}
+
+	/**
+	 * "\\"に続くエスケープシーケンスを復号します。<br>
+	 * 行末の場合は行継続として次行の先頭空白までを読み飛ばします。<br>
+	 */
+	private void unescape() {
+		if (position >= limit) {
+			// 末尾の"\\"は除去
+			return;
+		}
+		byte c = in.get(position);
+		if (c == '\r' || c == '\n') {
+			skipContinuation();
+		} else if (c == 'u') {
+			position++;
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				// 16進数字の途中の行継続は論理行として連結された状態で解釈
+				while (position + 1 < limit && in.get(position) == '\\' && (in.get(position + 1) == '\r' || in.get(position + 1) == '\n')) {
+					position++;
+					skipContinuation();
+				}
+				int digit = position < limit ? Character.digit(in.get(position), 16) : -1;
+				if (digit < 0) {
+					throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+				}
+				value = (value << 4) + digit;
+				position++;
+			}
+			append((char) value);
+		} else if (c == 't') {
+			append('\t');
+			position++;
+		} else if (c == 'r') {
+			append('\r');
+			position++;
+		} else if (c == 'n') {
+			append('\n');
+			position++;
+		} else if (c == 'f') {
+			append('\f');
+			position++;
+		} else {
+			decode();
+		}
+	}
+
+	/**
+	 * 行継続の行末及び、次行の先頭空白を読み飛ばします。<br>
+	 */
+	private void skipContinuation() {
+		if (in.get(position) == '\r') {
+			position++;
+			if (position < limit && in.get(position) == '\n') {
+				position++;
+			}
+		} else {
+			position++;
+		}
+		while (position < limit) {
+			byte c = in.get(position);
+			if (c != ' ' && c != '\t' && c != '\f') {
+				break;
+			}
+			position++;
+		}
+	}
+
+	/**
+	 * 現在位置の1文字を復号して文字バッファに追加します。<br>
+	 */
+	private void decode() {
+		int b0 = in.get(position) & 0xFF;
+		if (b0 < 0x80 || !utf8) {
+			append((char) b0);
+			position++;
+			return;
+		}
+		int need;
+		int code;
+		if (b0 >= 0xC2 && b0 <= 0xDF) {
+			need = 1;
+			code = b0 & 0x1F;
+		} else if (b0 >= 0xE0 && b0 <= 0xEF) {
+			need = 2;
+			code = b0 & 0x0F;
+		} else if (b0 >= 0xF0 && b0 <= 0xF4) {
+			need = 3;
+			code = b0 & 0x07;
+		} else {
+			append(REPLACEMENT);
+			position++;
+			return;
+		}
+		if (position + need >= limit) {
+			append(REPLACEMENT);
+			position++;
+			return;
+		}
+		for (int i = 1; i <= need; i++) {
+			int b = in.get(position + i) & 0xFF;
+			if ((b & 0xC0) != 0x80) {
+				append(REPLACEMENT);
+				position += i;
+				return;
+			}
+			code = (code << 6) | (b & 0x3F);
+		}
+		position += need + 1;
+		if ((need == 2 && (code < 0x800 || (code >= 0xD800 && code <= 0xDFFF))) || (need == 3 && (code < 0x10000 || code > 0x10FFFF))) {
+			append(REPLACEMENT);
+		} else if (code >= 0x10000) {
+			append(Character.highSurrogate(code));
+			append(Character.lowSurrogate(code));
+		} else {
+			append((char) code);
+		}
+	}
+
+	/**
+	 * 文字バッファに文字を追加します。<br>
+	 * @param c 文字
+	 */
+	private void append(char c) {
+		if (length == buffer.length) {
+			char[] expanded = new char[buffer.length * 2];
+			System.arraycopy(buffer, 0, expanded, 0, length);
+			buffer = expanded;
+		}
+		buffer[length++] = c;
+	}
+
+	/**
+	 * 文字バッファの内容を文字列として取得します。<br>
+	 * 同一内容の文字列が既に生成されている場合はそのインスタンスを返却します。<br>
+	 * @return 文字列
+	 */
+	private String intern() {
+		int hash = 0;
+		for (int i = 0; i <= length - 1; i++) {
+			hash = 31 * hash + buffer[i];
+		}
+		int mask = pool.length - 1;
+		int index = (hash ^ (hash >>> 16)) & mask;
+		while (pool[index] != null) {
+			String candidate = pool[index];
+			if (candidate.hashCode() == hash && matches(candidate)) {
+				return candidate;
+			}
+			index = (index + 1) & mask;
+		}
+		String value = new String(buffer, 0, length);
+		pool[index] = value;
+		if (++pooled * 2 > pool.length) {
+			rehash();
+		}
+		return value;
+	}
+
+	/**
+	 * 文字列が文字バッファの内容と一致するか判定します。<br>
+	 * @param candidate 文字列
+	 * @return 一致する場合にtrueを返却
+	 */
+	private boolean matches(String candidate) {
+		if (candidate.length() != length) {
+			return false;
+		}
+		for (int i = 0; i <= length - 1; i++) {
+			if (candidate.charAt(i) != buffer[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 値文字列集約テーブルを拡張します。<br>
+	 */
+	private void rehash() {
+		String[] expanded = new String[pool.length * 2];
+		int mask = expanded.length - 1;
+		for (String value : pool) {
+			if (value != null) {
+				int hash = value.hashCode();
+				int index = (hash ^ (hash >>> 16)) & mask;
+				while (expanded[index] != null) {
+					index = (index + 1) & mask;
+				}
+				expanded[index] = value;
+			}
+		}
+		pool = expanded;
+	}
+}
@@ -0,0 +1,39 @@
+package org.ideaccum.libs.commons.config;
+
+/**
+ * プロパティ定義内容レンダラの処理結果に対するキャッシュ方針を提供します。<br>
+ * <p>
+ * この列挙型で提供される方針は{@link org.ideaccum.libs.commons.config.ConfigValueRenderer#getRenderPolicy()}でレンダラが宣言し、
+ * {@link org.ideaccum.libs.commons.config.Config}及び、{@link org.ideaccum.libs.commons.config.ConfigRendererPipeline}がレンダラ処理結果をキャッシュするか判断する際に利用します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public enum ConfigRenderPolicy {
+
+	/** 同一のプロパティアクセスキー及び、定義値に対して常に同一の結果を返却します(定義値が変わらない限り環境設定情報の再読み込みを跨いでキャッシュされます) */
+	PURE, //
+
+	/** 環境設定情報の状態が更新されない限り同一の結果を返却します(環境設定情報の状態ごとにキャッシュされます) */
+	DETERMINISTIC, //
+
+	/** 呼び出しごとに異なる結果を返却する可能性があります(キャッシュされずにプロパティ取得の都度処理されます) */
+	VOLATILE, //
+	;
+
+	/**
+	 * 2つの方針を組み合わせた場合の方針を取得します。<br>
+	 * 組み合わせた方針はいずれか制約の弱い方針となります。<br>
+	 * @param other 組み合わせる方針
+	 * @return 組み合わせた方針
+	 */
+	ConfigRenderPolicy combine(ConfigRenderPolicy other) {
+		if (other == null) {
+			return VOLATILE;
+		}
+		return ordinal() >= other.ordinal() ? this : other;
+	}
+}
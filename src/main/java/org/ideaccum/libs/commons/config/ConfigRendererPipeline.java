@@ -0,0 +1,179 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 複数のプロパティ定義内容レンダラを順に適用するレンダラを提供します。<br>
+ * <p>
+ * 各段のレンダラは追加された順に、前段の処理結果を定義値として処理します。<br>
+ * 段ごとにキャッシュ方針を持ち、{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#PURE}の段はプロパティアクセスキーごとに直前の入力と処理結果を保持して、入力が変わらない限りレンダラ処理を省略します。<br>
+ * その他の段は呼び出しごとに処理され、パイプライン全体のキャッシュ方針は各段の方針のうち最も制約の弱い方針となります。<br>
+ * </p>
+ * <p>
+ * パイプラインは不変オブジェクトで、段の追加は新たなパイプラインを生成して提供します。<br>
+ * 設定済みのパイプラインに段を追加しても環境設定情報には反映されないため、新たなパイプラインを{@link org.ideaccum.libs.commons.config.Config#setRenderer(ConfigValueRenderer)}で設定して下さい(バインディングはその時点で再設定されます)。<br>
+ * 利用例:<br>
+ * <pre>
+ * config.setRenderer(ConfigRendererPipeline.create() //
+ *     .then(new TemplateRenderer(), ConfigRenderPolicy.PURE) //
+ *     .then(new EnvironmentRenderer()));
+ * </pre>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/16  agent            各段のレンダラ処理をJava Flight Recorderのイベントとして記録する仕様に変更
+ * 2026/10/17  agent            段の変更を環境設定情報に反映する方法を明記
+ *-->
+ */
+public final class ConfigRendererPipeline implements ConfigValueRenderer {
+
+	/** 空のパイプライン */
+	private static final ConfigRendererPipeline EMPTY = new ConfigRendererPipeline(new Stage[0]);
+
+	/** レンダラ処理段 */
+	private final Stage[] stages;
+
+	/** パイプライン全体のキャッシュ方針 */
+	private final ConfigRenderPolicy policy;
+
+	/**
+	 * パイプラインの1段を表すクラスです。<br>
+	 */
+	private static final class Stage {
+
+		/** レンダラ */
+		private final ConfigValueRenderer renderer;
+
+		/** キャッシュ方針 */
+		private final ConfigRenderPolicy policy;
+
+		/** プロパティアクセスキーごとの直前の入力と処理結果(キャッシュしない場合はnull) */
+		private final ConcurrentMap<ConfigName<?>, String[]> memo;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param renderer レンダラ
+		 * @param policy キャッシュ方針
+		 */
+		private Stage(ConfigValueRenderer renderer, ConfigRenderPolicy policy) {
+			super();
+			this.renderer = renderer;
+			this.policy = policy;
+			this.memo = policy == ConfigRenderPolicy.PURE ? new ConcurrentHashMap<>() : null;
+		}
+
+		/**
+		 * レンダラ処理を行います。<br>
+		 * レンダラ処理イベントが有効な場合は、閾値を超えたレンダラ処理が段ごとに記録されます。<br>
+		 * @param name プロパティアクセスキー
+		 * @param value プロパティ定義値
+		 * @return 補正後の定義値
+		 */
+		private String render(ConfigName<?> name, String value) {
+			if (memo == null || name == null || value == null) {
+				return ConfigEvents.INSTANCE.render(renderer, name, value);
+			}
+			String[] last = memo.get(name);
+			if (last != null && last[0].equals(value)) {
+				return last[1];
+			}
+			String result = ConfigEvents.INSTANCE.render(renderer, name, value);
+			if (result != null) {
+				memo.put(name, new String[] { value, result });
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param stages レンダラ処理段
+	 */
+	private ConfigRendererPipeline(Stage[] stages) {
+		super();
+		this.stages = stages;
+		ConfigRenderPolicy policy = ConfigRenderPolicy.PURE;
+		for (Stage stage : stages) {
+			policy = policy.combine(stage.policy);
+		}
+		this.policy = policy;
+	}
+
+	/**
+	 * 空のパイプラインを生成します。<br>
+	 * @return 空のパイプライン
+	 */
+	public static ConfigRendererPipeline create() {
+		return EMPTY;
+	}
+
+	/**
+	 * レンダラを順に適用するパイプラインを生成します。<br>
+	 * 各段のキャッシュ方針はレンダラが宣言する方針となります。<br>
+	 * @param renderers レンダラ
+	 * @return パイプライン
+	 */
+	public static ConfigRendererPipeline of(ConfigValueRenderer... renderers) {
+		ConfigRendererPipeline pipeline = EMPTY;
+		for (ConfigValueRenderer renderer : renderers == null ? new ConfigValueRenderer[0] : renderers) {
+			pipeline = pipeline.then(renderer);
+		}
+		return pipeline;
+	}
+
+	/**
+	 * レンダラを後段に追加したパイプラインを生成します。<br>
+	 * 追加する段のキャッシュ方針はレンダラが宣言する方針となります。<br>
+	 * @param renderer レンダラ
+	 * @return 追加後のパイプライン
+	 */
+	public ConfigRendererPipeline then(ConfigValueRenderer renderer) {
+		return then(renderer, renderer == null ? null : renderer.getRenderPolicy());
+	}
+
+	/**
+	 * キャッシュ方針を指定してレンダラを後段に追加したパイプラインを生成します。<br>
+	 * ラムダ式等で方針を宣言できないレンダラに対して方針を指定する場合に利用します。<br>
+	 * @param renderer レンダラ
+	 * @param policy キャッシュ方針(nullの場合は{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#VOLATILE})
+	 * @return 追加後のパイプライン
+	 */
+	public ConfigRendererPipeline then(ConfigValueRenderer renderer, ConfigRenderPolicy policy) {
+		if (renderer == null) {
+			return this;
+		}
+		Stage[] stages = Arrays.copyOf(this.stages, this.stages.length + 1);
+		stages[stages.length - 1] = new Stage(renderer, policy == null ? ConfigRenderPolicy.VOLATILE : policy);
+		return new ConfigRendererPipeline(stages);
+	}
+
+	/**
+	 * 各段のレンダラを順に適用します。<br>
+	 * @param name プロパティアクセスキー
+	 * @param value プロパティ定義値
+	 * @return 補正後の定義値
+	 * @see org.ideaccum.libs.commons.config.ConfigValueRenderer#render(org.ideaccum.libs.commons.config.ConfigName, java.lang.String)
+	 */
+	@Override
+	public String render(ConfigName<?> name, String value) {
+		String result = value;
+		for (Stage stage : stages) {
+			result = stage.render(name, result);
+		}
+		return result;
+	}
+
+	/**
+	 * パイプライン全体のキャッシュ方針を取得します。<br>
+	 * @return 各段の方針のうち最も制約の弱い方針
+	 * @see org.ideaccum.libs.commons.config.ConfigValueRenderer#getRenderPolicy()
+	 */
+	@Override
+	public ConfigRenderPolicy getRenderPolicy() {
+		return policy;
+	}
+}
@@ -0,0 +1,515 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * ある時点で保持されているプロパティ定義情報を不変オブジェクトとして提供します。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.config.Config}はプロパティ定義情報の読み込みやマージの際に新たなスナップショットを生成し、参照を一度に置き換えます。<br>
+ * 参照側はスナップショットに対して同期化することなくアクセスでき、反映途中の状態を参照することはありません。<br>
+ * </p>
+ * <p>
+ * {@link org.ideaccum.libs.commons.config.ConfigName}として定義されているプロパティはインスタンスに付与されたインデックスを添字とする配列で保持され、
+ * {@link org.ideaccum.libs.commons.config.ConfigName}が存在しないプロパティのみをマップで保持します。<br>
+ * スナップショット生成後にクラスロードされた{@link org.ideaccum.libs.commons.config.ConfigName}のプロパティはマップ側から解決されます。<br>
+ * </p>
+ * <p>
+ * コンパクト形式のスナップショットはマップ側のプロパティを{@link org.ideaccum.libs.commons.config.ConfigCompactMap}としてバイト列に格納し、文字列は参照時にのみ生成します。<br>
+ * コンパクト形式のスナップショットから生成されるスナップショットはコンパクト形式を引き継ぎます。<br>
+ * </p>
+ * <p>
+ * {@link org.ideaccum.libs.commons.config.ConfigSnapshotFile}から復元された解析結果を全て置き換える形で反映する場合、解析結果のマップをそのままマップ側として保持し、エントリごとの復号は行いません。<br>
+ * {@link org.ideaccum.libs.commons.config.ConfigPropertiesReader}の解析結果も同様に、全て置き換える形で反映する場合は複製せずにマップ側として保持します。<br>
+ * これらの場合、{@link org.ideaccum.libs.commons.config.ConfigName}として定義されているプロパティは配列側にも重複して保持され、マップ側の該当エントリは参照されません。<br>
+ * </p>
+ * <p>
+ * 既存のスナップショットを元に生成するスナップショットは、マップ側の内容が変更されず形式も変わらない場合は元のスナップショットのマップをそのまま共有し、
+ * マップ側のプロパティが追加又は、変更された場合のみ複製します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/16  agent            ConfigNameのインデックスを添字とする配列で保持する仕様に変更
+ * 2026/10/16  agent            マップ側のプロパティをバイト列に格納するコンパクト形式を追加
+ * 2026/10/16  agent            部分集合の範囲検索のための整列済みプロパティキーを追加
+ * 2026/10/16  agent            階層形式のビューをスナップショットごとに保持する仕様を追加
+ * 2026/10/17  agent            スナップショットファイルから復元したマップを復号せずに保持する仕様を追加
+ * 2026/10/17  agent            プロパティリソースの解析結果を複製せずに保持する仕様を追加
+ * 2026/10/17  agent            マップ側が変更されない場合は元のスナップショットのマップを共有する仕様に変更
+ *-->
+ */
+final class ConfigSnapshot {
+
+	/** 空のスナップショット */
+	static final ConfigSnapshot EMPTY = new ConfigSnapshot(new String[0], new HashMap<>(), 0, false, 0);
+
+	/** ConfigNameインデックスを添字とするプロパティ定義値 */
+	private final String[] named;
+
+	/** ConfigNameとして定義されていないプロパティ定義値 */
+	private final Map<String, String> others;
+
+	/** プロパティ数 */
+	private final int size;
+
+	/** コンパクト形式フラグ */
+	private final boolean compact;
+
+	/** 配列側と重複してマップ側に保持されているプロパティ数 */
+	private final int shadowed;
+
+	/** プロパティキーセット(初回参照時に生成) */
+	private volatile Set<String> keys;
+
+	/** 昇順に整列したプロパティキー(初回参照時に生成) */
+	private volatile String[] sorted;
+
+	/** 階層形式のビュー(初回参照時に生成) */
+	private volatile ConfigTree tree;
+
+	/**
+	 * コンストラクタ<br>
+	 * 引数の配列及び、マップオブジェクトはスナップショットが所有するため、呼び出し側で以降変更しないで下さい。<br>
+	 * @param named ConfigNameインデックスを添字とするプロパティ定義値
+	 * @param others ConfigNameとして定義されていないプロパティ定義値
+	 * @param size プロパティ数
+	 * @param compact コンパクト形式の場合にtrue
+	 * @param shadowed 配列側と重複してマップ側に保持されているプロパティ数
+	 */
+	private ConfigSnapshot(String[] named, Map<String, String> others, int size, boolean compact, int shadowed) {
+		super();
+		this.named = named;
+		this.others = others;
+		this.size = size;
+		this.compact = compact;
+		this.shadowed = shadowed;
+	}
+
+	/**
+	 * 読み込み処理が生成し、以降変更されないプロパティ情報を保持するマップクラスです。<br>
+	 * <p>
+	 * 全て置き換える形で反映する場合、スナップショットは当マップを複製せずにマップ側として保持するため、生成後は変更しないで下さい。<br>
+	 * </p>
+	 */
+	static final class Loaded extends HashMap<String, String> {
+
+		/** シリアルバージョンUID */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * コンストラクタ<br>
+		 */
+		Loaded() {
+			super();
+		}
+	}
+
+	/**
+	 * 読み込まれた解析結果のみを保持するスナップショットを生成します。<br>
+	 * 解析結果のマップはそのままマップ側として保持され、{@link org.ideaccum.libs.commons.config.ConfigName}として定義されているプロパティのみを配列側に取り出します。<br>
+	 * そのため、処理コストはプロパティ数ではなく払い出し済みのConfigNameインデックス数に比例します。<br>
+	 * @param restored スナップショットファイルから復元された解析結果又は、読み込み処理が生成した解析結果
+	 * @param compact 解析結果がコンパクト形式の場合にtrue
+	 * @return スナップショット
+	 */
+	private static ConfigSnapshot restore(Map<String, String> restored, boolean compact) {
+		String[] named = new String[ConfigName.bound()];
+		int shadowed = 0;
+		for (int i = 0; i <= named.length - 1; i++) {
+			String value = restored.get(ConfigName.valueOf(i).getKey());
+			if (value != null) {
+				named[i] = value;
+				shadowed++;
+			}
+		}
+		return new ConfigSnapshot(named, restored, restored.size(), compact, shadowed);
+	}
+
+	/**
+	 * オブジェクト情報を文字列として提供します。<br>
+	 * @return オブジェクト情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return toMap().toString();
+	}
+
+	/**
+	 * オブジェクトハッシュコードを取得します。<br>
+	 * @return オブジェクトハッシュコード
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int[] result = new int[1];
+		forEach((key, value) -> result[0] += key.hashCode() ^ value.hashCode());
+		return result[0];
+	}
+
+	/**
+	 * オブジェクト等価比較を行います。<br>
+	 * @return 等価の場合にtrueを返却
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (object == null) {
+			return false;
+		}
+		if (getClass() != object.getClass()) {
+			return false;
+		}
+		ConfigSnapshot other = (ConfigSnapshot) object;
+		if (size != other.size) {
+			return false;
+		}
+		for (String key : keySet()) {
+			if (!get(key).equals(other.get(key))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * プロパティ定義値を取得します。<br>
+	 * @param name プロパティアクセスキー
+	 * @return プロパティ定義値(定義されていない場合はnull)
+	 */
+	String get(ConfigName<?> name) {
+		int ordinal = name.ordinal();
+		if (ordinal < named.length) {
+			return named[ordinal];
+		}
+		return others.get(name.getKey());
+	}
+
+	/**
+	 * プロパティ定義値を取得します。<br>
+	 * @param key プロパティキー
+	 * @return プロパティ定義値(定義されていない場合はnull)
+	 */
+	String get(String key) {
+		ConfigName<?> name = ConfigName.valueOf(key);
+		if (name != null) {
+			return get(name);
+		}
+		return others.get(key);
+	}
+
+	/**
+	 * プロパティが定義されているか判定します。<br>
+	 * @param key プロパティキー
+	 * @return 定義されている場合にtrueを返却
+	 */
+	boolean containsKey(String key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * 定義されているプロパティキーを取得します。<br>
+	 * コンパクト形式の場合、キー文字列を保持し続けないようキーセットは呼び出しごとに生成されます。<br>
+	 * @return プロパティキーセット(変更不可)
+	 */
+	Set<String> keySet() {
+		Set<String> keys = this.keys;
+		if (keys == null) {
+			Set<String> set = new HashSet<>(size * 4 / 3 + 1);
+			forEach((key, value) -> set.add(key));
+			keys = Collections.unmodifiableSet(set);
+			if (!compact) {
+				this.keys = keys;
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * 昇順に整列したプロパティキーを取得します。<br>
+	 * 接頭辞が共通するプロパティキーは連続して格納されるため、二分探索により部分集合の範囲を特定することができます。<br>
+	 * 部分集合の参照ごとに整列し直すことがないよう、コンパクト形式の場合も初回参照時に生成した配列を保持します。<br>
+	 * 部分集合が参照されている環境設定情報では、参照用スナップショットの生成時に更新を行ったスレッドで生成されます。<br>
+	 * @return 昇順に整列したプロパティキー(呼び出し側で変更しないで下さい)
+	 */
+	String[] sortedKeys() {
+		String[] sorted = this.sorted;
+		if (sorted == null) {
+			String[] array = new String[size];
+			int[] count = new int[1];
+			forEach((key, value) -> array[count[0]++] = key);
+			Arrays.sort(array);
+			sorted = array;
+			this.sorted = sorted;
+		}
+		return sorted;
+	}
+
+	/**
+	 * プロパティをピリオド(".")をデリミタとして見なした階層形式のビューを取得します。<br>
+	 * ビューはスナップショットごとに一度だけ生成され、各階層は初めて参照された時点で生成されます。<br>
+	 * @return 階層形式のビュー
+	 */
+	Map<String, Object> tree() {
+		ConfigTree tree = this.tree;
+		if (tree == null) {
+			tree = ConfigTree.root(this, Arrays.asList(sortedKeys()));
+			this.tree = tree;
+		}
+		return tree;
+	}
+
+	/**
+	 * 定義されているプロパティ数を取得します。<br>
+	 * @return プロパティ数
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * コンパクト形式か判定します。<br>
+	 * @return コンパクト形式の場合にtrueを返却
+	 */
+	boolean isCompact() {
+		return compact;
+	}
+
+	/**
+	 * マップ側がメモリマップしたスナップショットファイルの内容を参照しているか判定します。<br>
+	 * @return メモリマップしたスナップショットファイルの内容を参照している場合にtrueを返却
+	 */
+	boolean isMapped() {
+		return others instanceof ConfigCompactMap && ((ConfigCompactMap) others).isDirect();
+	}
+
+	/**
+	 * 指定された形式に変換したスナップショットを取得します。<br>
+	 * 既に指定された形式の場合は自身を返却します。<br>
+	 * @param compact コンパクト形式とする場合にtrue
+	 * @return 変換後のスナップショット
+	 */
+	ConfigSnapshot compact(boolean compact) {
+		if (this.compact == compact) {
+			return this;
+		}
+		if (shadowed > 0) {
+			// 配列側と重複するエントリを除外するため再構築
+			return new Builder(this, compact).build();
+		}
+		return new ConfigSnapshot(named, compact ? ConfigCompactMap.of(others) : new HashMap<>(others), size, compact, 0);
+	}
+
+	/**
+	 * 定義されているプロパティごとに処理を行います。<br>
+	 * @param action プロパティキー及び、プロパティ定義値を受け取る処理
+	 */
+	void forEach(BiConsumer<String, String> action) {
+		for (int i = 0; i < named.length; i++) {
+			if (named[i] != null) {
+				action.accept(ConfigName.valueOf(i).getKey(), named[i]);
+			}
+		}
+		if (shadowed == 0) {
+			others.forEach(action);
+			return;
+		}
+		others.forEach((key, value) -> {
+			if (!isShadowed(key)) {
+				action.accept(key, value);
+			}
+		});
+	}
+
+	/**
+	 * マップ側のプロパティが配列側と重複して保持されているか判定します。<br>
+	 * @param key プロパティキー
+	 * @return 重複して保持されている場合にtrueを返却
+	 */
+	private boolean isShadowed(String key) {
+		ConfigName<?> name = ConfigName.valueOf(key);
+		return name != null && name.ordinal() < named.length && named[name.ordinal()] != null;
+	}
+
+	/**
+	 * プロパティ定義情報をマップとして取得します。<br>
+	 * @return プロパティ定義情報(呼び出しごとに生成)
+	 */
+	Map<String, String> toMap() {
+		Map<String, String> map = new HashMap<>(size * 4 / 3 + 1);
+		forEach(map::put);
+		return map;
+	}
+
+	/**
+	 * 読み込まれたプロパティ情報を読み込みモードに従って反映した新たなスナップショットを生成します。<br>
+	 * 自身の内容は変更されません。<br>
+	 * 生成されるスナップショットは自身の形式を引き継ぎます。<br>
+	 * @param loaded 読み込まれたプロパティ情報
+	 * @param mode 読み込みモード
+	 * @return 反映後のスナップショット
+	 */
+	ConfigSnapshot apply(Map<?, ?> loaded, ConfigLoadMode mode) {
+		boolean replace = mode == ConfigLoadMode.REPLACE_ALL || mode == null || size == 0;
+		if (loaded instanceof ConfigCompactMap && replace) {
+			// 復元された解析結果のみを保持する場合は復号せずに保持
+			return restore((ConfigCompactMap) loaded, true);
+		}
+		if (loaded instanceof Loaded && replace) {
+			// 読み込まれた解析結果のみを保持する場合は複製せずに保持
+			return restore((Loaded) loaded, false).compact(compact);
+		}
+		Builder builder;
+		if (mode == ConfigLoadMode.REPLACE_ALL || mode == null) {
+			// すべてのプロパティを置き換える場合は現状の保持情報を引き継がない
+			builder = new Builder(EMPTY, compact);
+		} else {
+			builder = new Builder(this, compact);
+		}
+		boolean overwrite = mode != ConfigLoadMode.SKIP_EXISTS;
+		for (Map.Entry<?, ?> entry : loaded.entrySet()) {
+			builder.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()), overwrite);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 他のスナップショットの内容を上書きする形で反映した新たなスナップショットを生成します。<br>
+	 * 自身の内容は変更されません。<br>
+	 * 生成されるスナップショットはいずれかがコンパクト形式の場合にコンパクト形式となります。<br>
+	 * @param other 反映するスナップショット
+	 * @return 反映後のスナップショット
+	 */
+	ConfigSnapshot merge(ConfigSnapshot other) {
+		if (other == null || other.size == 0) {
+			return compact(compact || (other != null && other.compact));
+		}
+		Builder builder = new Builder(this, compact || other.compact);
+		other.forEach((key, value) -> builder.put(key, value, true));
+		return builder.build();
+	}
+
+	/**
+	 * 既存のスナップショットを元に新たなスナップショットを構築するクラスです。<br>
+	 * <p>
+	 * マップ側は構築元のマップを共有し、マップ側のプロパティを追加又は、変更する際に初めて複製します(コピーオンライト)。<br>
+	 * </p>
+	 */
+	private static final class Builder {
+
+		/** ConfigNameインデックスを添字とするプロパティ定義値 */
+		private final String[] named;
+
+		/** 構築元のConfigNameとして定義されていないプロパティ定義値(共有しているため変更しないで下さい) */
+		private final Map<String, String> shared;
+
+		/** 複製したConfigNameとして定義されていないプロパティ定義値(複製していない場合はnull) */
+		private Map<String, String> others;
+
+		/** プロパティ数 */
+		private int size;
+
+		/** コンパクト形式フラグ */
+		private final boolean compact;
+
+		/** 配列側と重複して共有しているマップ側に保持されているプロパティ数 */
+		private int shadowed;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param base 構築元スナップショット
+		 * @param compact コンパクト形式で構築する場合にtrue
+		 */
+		private Builder(ConfigSnapshot base, boolean compact) {
+			// 構築元生成後にConfigNameが追加されている場合に備えて現時点の払い出し数で配列を確保
+			this.named = Arrays.copyOf(base.named, Math.max(ConfigName.bound(), base.named.length));
+			this.shared = base.others;
+			this.others = null;
+			this.size = base.size;
+			this.compact = compact;
+			this.shadowed = base.shadowed;
+			// 構築元生成後に追加されたConfigNameのプロパティのみを配列側に取り出し、マップ側の該当エントリは重複として扱う
+			for (int i = base.named.length; i <= named.length - 1; i++) {
+				String value = shared.get(ConfigName.valueOf(i).getKey());
+				if (value != null) {
+					named[i] = value;
+					shadowed++;
+				}
+			}
+		}
+
+		/**
+		 * プロパティ定義値を設定します。<br>
+		 * @param key プロパティキー
+		 * @param value プロパティ定義値
+		 * @param overwrite 既に定義されている場合に上書きする場合にtrueを指定
+		 */
+		private void put(String key, String value, boolean overwrite) {
+			ConfigName<?> name = ConfigName.valueOf(key);
+			if (name != null && name.ordinal() < named.length) {
+				String current = named[name.ordinal()];
+				if (current == null) {
+					size++;
+				}
+				if (current == null || overwrite) {
+					named[name.ordinal()] = value;
+				}
+			} else {
+				String current = others == null ? shared.get(key) : others.get(key);
+				if (current == null) {
+					size++;
+				}
+				if (current == null || overwrite && !current.equals(value)) {
+					copy().put(key, value);
+				}
+			}
+		}
+
+		/**
+		 * 変更可能なマップ側を取得します。<br>
+		 * 複製していない場合は配列側と重複するエントリを除いて構築元のマップを複製します。<br>
+		 * @return 変更可能なマップ側
+		 */
+		private Map<String, String> copy() {
+			if (others == null) {
+				Map<String, String> copied = new HashMap<>(shared.size() * 4 / 3 + 1);
+				if (shadowed == 0) {
+					copied.putAll(shared);
+				} else {
+					shared.forEach((key, value) -> {
+						ConfigName<?> name = ConfigName.valueOf(key);
+						if (name == null || name.ordinal() >= named.length || named[name.ordinal()] == null) {
+							copied.put(key, value);
+						}
+					});
+				}
+				others = copied;
+				shadowed = 0;
+			}
+			return others;
+		}
+
+		/**
+		 * スナップショットを生成します。<br>
+		 * 構築元のマップが変更されず、構築する形式と同一の形式の場合はマップを共有します。<br>
+		 * @return スナップショット
+		 */
+		private ConfigSnapshot build() {
+			if (others == null && compact == (shared instanceof ConfigCompactMap)) {
+				return new ConfigSnapshot(named, shared, size, compact, shadowed);
+			}
+			Map<String, String> others = copy();
+			return new ConfigSnapshot(named, compact ? ConfigCompactMap.of(others) : others, size, compact, 0);
+		}
+	}
+}
@@ -0,0 +1,496 @@
+package org.ideaccum.libs.commons.config;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.ideaccum.libs.commons.config.exception.ConfigException;
+import org.ideaccum.libs.commons.util.ResourceUtil;
+import org.ideaccum.libs.commons.util.StringUtil;
+
+/**
+ * 読み込み手順ごとの解析結果を保存したスナップショットファイルの読み書きを提供します。<br>
+ * <p>
+ * スナップショットファイルは読み込み手順の内容から決定されるファイル名で指定ディレクトリに作成され、
+ * 各リソースのパス、サイズ、更新日時、内容のCRC32及び、XML構造クラスのクラスファイルから算出した版から生成したフィンガープリントと、{@link org.ideaccum.libs.commons.config.ConfigCompactMap}形式の解析結果を保持します。<br>
+ * 読み込み時はファイルをメモリマップし、フィンガープリントが現在のリソースと一致する場合のみ解析結果を提供します。<br>
+ * 解析結果はメモリマップしたバッファを複製せずに参照する{@link org.ideaccum.libs.commons.config.ConfigCompactMap}として提供されるため、読み込み時にファイル全体を走査することはありません。<br>
+ * </p>
+ * <p>
+ * ファイルシステム上のリソースはサイズ及び、更新日時が保存時と一致する場合は内容を読み込まずに一致と判定し、更新日時のみが異なる場合は内容のCRC32で判定します。<br>
+ * 保存時点で更新から間もないリソースは同一時刻内に再更新された場合に更新日時で判別できないため、更新日時による判定は行われません。<br>
+ * クラスパス上のアーカイブ内のリソース等、更新日時を取得できないリソースは常に内容のCRC32で判定します。<br>
+ * </p>
+ * <p>
+ * スナップショットファイルはキャッシュとして扱われ、ファイルが存在しない、リソースと一致しない、破損している場合は例外はスローされず、リソースから解析する通常の読み込みが行われます。<br>
+ * 破損の判定はファイル終端の識別子及び、各格納範囲の長さの検証のみで行われ、内容のチェックサムは検証されません。<br>
+ * 書き込みに失敗した場合も読み込みは継続され、失敗は例外処理に通知されます。<br>
+ * ファイルの書き込みは一時ファイルを経由して置き換えるため、並行して読み込まれる場合も書き込み途中の内容が参照されることはありません。<br>
+ * 但し、Windows環境ではメモリマップされているファイルを置き換えることができないため、読み込んだ解析結果が参照されている間の書き込みは失敗として通知されます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/16  agent            サイズ及び、更新日時による判定とXML構造クラスの版の比較、書き込み失敗の通知を追加
+ * 2026/10/17  agent            読み込み時のチェックサム検証を廃止し、解析結果をメモリマップしたバッファから複製せずに提供する仕様に変更
+ *-->
+ */
+final class ConfigSnapshotFile {
+
+	/** ファイル識別子("CFGS") */
+	private static final int MAGIC = 0x43464753;
+
+	/** ファイル形式バージョン */
+	private static final int VERSION = 3;
+
+	/** スナップショットファイル拡張子 */
+	private static final String EXTENSION = ".snapshot";
+
+	/** 更新日時による判定を行わない更新からの経過時間(ミリ秒) */
+	private static final long RACY_MILLIS = 2000;
+
+	/** XML構造クラスの版 */
+	private static final ClassValue<Long> VERSIONS = new ClassValue<Long>() {
+		@Override
+		protected Long computeValue(Class<?> type) {
+			return version(type);
+		}
+	};
+
+	/** 保存先ディレクトリ */
+	private final File directory;
+
+	/** 書き込み失敗時の例外処理(nullの場合は呼び出しスレッドのUncaughtExceptionHandlerに通知) */
+	private final Consumer<? super ConfigException> handler;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param directory 保存先ディレクトリ
+	 * @param handler 書き込み失敗時の例外処理(nullの場合は呼び出しスレッドのUncaughtExceptionHandlerに通知)
+	 */
+	ConfigSnapshotFile(File directory, Consumer<? super ConfigException> handler) {
+		super();
+		this.directory = directory;
+		this.handler = handler;
+	}
+
+	/**
+	 * リソースの現在の状態を表すフィンガープリントを生成します。<br>
+	 * ファイルシステム上のリソースはサイズ及び、更新日時のみを取得し、それ以外のリソースは内容を全て読み込んでCRC32を算出するため、解析処理よりも前に呼び出して下さい。<br>
+	 * @param descriptions 読み込み手順ごとの解析内容を識別する文字列
+	 * @param filePaths 読み込み手順ごとのリソースパス
+	 * @param types 読み込み手順ごとのXML構造クラス(XML構造クラスを利用しない手順はnull)
+	 * @return フィンガープリント
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	Fingerprint fingerprint(List<String> descriptions, List<String> filePaths, List<Class<?>> types) throws IOException {
+		long now = System.currentTimeMillis();
+		Resource[] resources = new Resource[descriptions.size()];
+		for (int i = 0; i <= resources.length - 1; i++) {
+			Class<?> type = types.get(i);
+			resources[i] = new Resource(descriptions.get(i), filePaths.get(i), type == null ? 0 : VERSIONS.get(type), now);
+		}
+		return new Fingerprint(name(descriptions), resources);
+	}
+
+	/**
+	 * スナップショットファイルから解析結果を読み込みます。<br>
+	 * 更新日時のみが異なるリソースの内容が一致した場合、フィンガープリントは{@link Fingerprint#isTouched()}で置き換えが必要な状態となります。<br>
+	 * @param fingerprint 現在のリソースのフィンガープリント
+	 * @return 読み込み手順の順に格納された解析結果(ファイルが存在しない、リソースと一致しない、破損している場合はnull)
+	 */
+	List<Map<?, ?>> read(Fingerprint fingerprint) {
+		File file = new File(directory, fingerprint.name);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			int limit = buffer.limit() - Integer.BYTES;
+			if (limit < Integer.BYTES * 3 || buffer.getInt(limit) != MAGIC) {
+				// 終端の識別子が存在しない場合は書き込みが完了していないため破損として扱う
+				return null;
+			}
+			buffer.limit(limit);
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				return null;
+			}
+			if (buffer.getInt() != fingerprint.resources.length) {
+				return null;
+			}
+			for (Resource resource : fingerprint.resources) {
+				if (!resource.matches(buffer)) {
+					return null;
+				}
+			}
+			int count = buffer.getInt();
+			List<Map<?, ?>> result = new ArrayList<>(count);
+			for (int i = 0; i <= count - 1; i++) {
+				result.add(ConfigCompactMap.read(buffer));
+			}
+			if (buffer.hasRemaining()) {
+				return null;
+			}
+			return result;
+		} catch (IOException | RuntimeException e) {
+			// 読み込めないスナップショットファイルはリソースから解析した結果で置き換える
+			return null;
+		}
+	}
+
+	/**
+	 * 解析結果をスナップショットファイルに書き込みます。<br>
+	 * 書き込みに失敗した場合は例外処理に通知し、スナップショットファイルは変更されません。<br>
+	 * @param fingerprint 解析前に生成したリソースのフィンガープリント
+	 * @param loaded 読み込み手順の順に格納された解析結果
+	 */
+	void write(Fingerprint fingerprint, List<Map<?, ?>> loaded) {
+		File temp = null;
+		try {
+			fingerprint.digest();
+			Files.createDirectories(directory.toPath());
+			temp = File.createTempFile("config-", ".tmp", directory);
+			try (FileOutputStream output = new FileOutputStream(temp)) {
+				DataOutputStream body = new DataOutputStream(new BufferedOutputStream(output));
+				body.writeInt(MAGIC);
+				body.writeInt(VERSION);
+				body.writeInt(fingerprint.resources.length);
+				for (Resource resource : fingerprint.resources) {
+					resource.write(body);
+				}
+				body.writeInt(loaded.size());
+				for (Map<?, ?> map : loaded) {
+					ConfigCompactMap.of(strings(map)).write(body);
+				}
+				body.writeInt(MAGIC);
+				body.flush();
+			}
+			File file = new File(directory, fingerprint.name);
+			try {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			temp = null;
+		} catch (IOException | RuntimeException e) {
+			// スナップショットファイルはキャッシュのため書き込みに失敗した場合も読み込みは継続
+			failed(new ConfigException(e));
+		} finally {
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+	}
+
+	/**
+	 * 書き込みの失敗を例外処理に通知します。<br>
+	 * 例外処理が指定されていない場合は呼び出しスレッドのUncaughtExceptionHandlerに通知します。<br>
+	 * @param e 書き込み時の例外
+	 */
+	private void failed(ConfigException e) {
+		try {
+			if (handler != null) {
+				handler.accept(e);
+			} else {
+				Thread thread = Thread.currentThread();
+				thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+			}
+		} catch (RuntimeException ignore) {
+			// 例外処理自身の例外で読み込みを失敗させない
+		}
+	}
+
+	/**
+	 * 解析結果を文字列のマップに変換します。<br>
+	 * @param map 解析結果
+	 * @return 文字列のマップ
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<String, String> strings(Map<?, ?> map) {
+		if (map instanceof ConfigCompactMap) {
+			return (Map<String, String>) map;
+		}
+		Map<String, String> result = new HashMap<>(map.size() * 4 / 3 + 1);
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			result.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+		}
+		return result;
+	}
+
+	/**
+	 * 読み込み手順の内容からスナップショットファイル名を決定します。<br>
+	 * リソースの内容は含まないため、リソースが更新された場合は同一のファイルが置き換えられます。<br>
+	 * @param descriptions 読み込み手順ごとの解析内容を識別する文字列
+	 * @return スナップショットファイル名
+	 */
+	private static String name(List<String> descriptions) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			for (String description : descriptions) {
+				digest.update(description.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+			}
+			StringBuilder builder = new StringBuilder("config-");
+			for (byte b : digest.digest()) {
+				builder.append(Character.forDigit((b >> 4) & 0x0F, 16)).append(Character.forDigit(b & 0x0F, 16));
+			}
+			return builder.append(EXTENSION).toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * XML構造クラスの版を算出します。<br>
+	 * 解析結果はXML構造クラス及び、フィールドから参照されるクラス(スーパークラスを含む)の定義に依存するため、それらのクラスファイルの内容からCRC32を算出します。<br>
+	 * クラスファイルを参照できないクラスはクラス名のみが反映されます。<br>
+	 * @param type XML構造クラス
+	 * @return XML構造クラスの版
+	 */
+	private static long version(Class<?> type) {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[8192];
+		List<Class<?>> queue = new ArrayList<>();
+		Set<Class<?>> visited = new HashSet<>();
+		queue.add(type);
+		for (int i = 0; i <= queue.size() - 1; i++) {
+			Class<?> current = queue.get(i);
+			while (current.isArray()) {
+				current = current.getComponentType();
+			}
+			if (current.isPrimitive() || current.getClassLoader() == null || !visited.add(current)) {
+				// 実行環境のクラスは解析結果の版に含めない
+				continue;
+			}
+			crc.update(current.getName().getBytes(StandardCharsets.UTF_8));
+			try (InputStream stream = current.getClassLoader().getResourceAsStream(current.getName().replace('.', '/') + ".class")) {
+				if (stream != null) {
+					int read;
+					while ((read = stream.read(buffer)) >= 0) {
+						crc.update(buffer, 0, read);
+					}
+				}
+			} catch (IOException e) {
+				// 参照できないクラスファイルはクラス名のみを反映
+			}
+			if (current.getSuperclass() != null) {
+				queue.add(current.getSuperclass());
+			}
+			for (Field field : current.getDeclaredFields()) {
+				queue.add(field.getType());
+				Type generic = field.getGenericType();
+				if (generic instanceof ParameterizedType) {
+					for (Type argument : ((ParameterizedType) generic).getActualTypeArguments()) {
+						if (argument instanceof Class) {
+							queue.add((Class<?>) argument);
+						}
+					}
+				}
+			}
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * リソースの状態を表すフィンガープリントを保持するクラスです。<br>
+	 */
+	static final class Fingerprint {
+
+		/** スナップショットファイル名 */
+		private final String name;
+
+		/** 読み込み手順ごとのリソースの状態 */
+		private final Resource[] resources;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param name スナップショットファイル名
+		 * @param resources 読み込み手順ごとのリソースの状態
+		 */
+		private Fingerprint(String name, Resource[] resources) {
+			this.name = name;
+			this.resources = resources;
+		}
+
+		/**
+		 * 内容のCRC32を算出していないリソースの内容を読み込んでCRC32を算出します。<br>
+		 * 解析中にリソースが更新された場合に次回不一致となるよう、スナップショットファイルを書き込む場合は解析処理よりも前に呼び出して下さい。<br>
+		 * @throws IOException 入出力例外が発生した場合にスローされます
+		 */
+		void digest() throws IOException {
+			for (Resource resource : resources) {
+				resource.digest();
+			}
+		}
+
+		/**
+		 * 更新日時のみが異なり内容が一致したリソースが存在するか判定します。<br>
+		 * 存在する場合は現在の更新日時でスナップショットファイルを置き換えることで、以降の判定で内容の読み込みが省略されます。<br>
+		 * @return 存在する場合にtrueを返却
+		 */
+		boolean isTouched() {
+			for (Resource resource : resources) {
+				if (resource.touched) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * 読み込み手順ごとのリソースの状態を保持するクラスです。<br>
+	 */
+	private static final class Resource {
+
+		/** 解析内容を識別する文字列 */
+		private final byte[] description;
+
+		/** リソースパス */
+		private final String filePath;
+
+		/** XML構造クラスの版(XML構造クラスを利用しない場合は0) */
+		private final long version;
+
+		/** 更新日時(存在しない、更新日時を取得できない又は、更新から間もない場合は-1) */
+		private final long modified;
+
+		/** サイズ(存在しない場合は-1) */
+		private long size;
+
+		/** 内容のCRC32 */
+		private long crc;
+
+		/** 内容のCRC32算出済みフラグ */
+		private boolean digested;
+
+		/** 更新日時のみが異なり内容が一致したフラグ */
+		private boolean touched;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param description 解析内容を識別する文字列
+		 * @param filePath リソースパス
+		 * @param version XML構造クラスの版
+		 * @param now フィンガープリントの生成日時
+		 * @throws IOException 入出力例外が発生した場合にスローされます
+		 */
+		private Resource(String description, String filePath, long version, long now) throws IOException {
+			this.description = description.getBytes(StandardCharsets.UTF_8);
+			this.filePath = filePath;
+			this.version = version;
+			if (StringUtil.isEmpty(filePath) || !ResourceUtil.exists(filePath)) {
+				this.modified = -1;
+				this.size = -1;
+				this.crc = 0;
+				this.digested = true;
+				return;
+			}
+			Path file = ConfigWatcher.resolve(filePath);
+			if (file != null && Files.isRegularFile(file)) {
+				BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+				long time = attributes.lastModifiedTime().toMillis();
+				// 更新から間もないファイルは同一時刻内に再更新されても更新日時が変わらない可能性があるため内容で判定
+				this.modified = now - time < RACY_MILLIS ? -1 : time;
+				this.size = attributes.size();
+			} else {
+				this.modified = -1;
+				digest();
+			}
+		}
+
+		/**
+		 * 内容を読み込んでサイズ及び、CRC32を算出します。<br>
+		 * 算出済みの場合は何も行いません。<br>
+		 * @throws IOException 入出力例外が発生した場合にスローされます
+		 */
+		private void digest() throws IOException {
+			if (digested) {
+				return;
+			}
+			CRC32 crc = new CRC32();
+			byte[] buffer = new byte[8192];
+			long size = 0;
+			try (InputStream stream = ResourceUtil.getInputStream(filePath)) {
+				int read;
+				while ((read = stream.read(buffer)) >= 0) {
+					crc.update(buffer, 0, read);
+					size += read;
+				}
+			}
+			this.size = size;
+			this.crc = crc.getValue();
+			this.digested = true;
+		}
+
+		/**
+		 * スナップショットファイルに保存された状態と一致するか判定します。<br>
+		 * バッファの位置は保存された状態の直後に移動します。<br>
+		 * @param buffer 読み込み元バッファ
+		 * @return 一致する場合にtrueを返却
+		 * @throws IOException 入出力例外が発生した場合にスローされます
+		 */
+		private boolean matches(ByteBuffer buffer) throws IOException {
+			byte[] stored = new byte[buffer.getInt()];
+			buffer.get(stored);
+			long version = buffer.getLong();
+			long modified = buffer.getLong();
+			long size = buffer.getLong();
+			long crc = buffer.getLong();
+			if (!Arrays.equals(stored, description) || version != this.version || size != this.size) {
+				return false;
+			}
+			if (modified >= 0 && modified == this.modified) {
+				return true;
+			}
+			digest();
+			if (size != this.size || crc != this.crc) {
+				return false;
+			}
+			touched = this.modified >= 0;
+			return true;
+		}
+
+		/**
+		 * 状態をスナップショットファイルに出力します。<br>
+		 * 内容のCRC32を算出済みの状態で呼び出して下さい。<br>
+		 * @param output 出力先
+		 * @throws IOException 入出力例外が発生した場合にスローされます
+		 */
+		private void write(DataOutputStream output) throws IOException {
+			output.writeInt(description.length);
+			output.write(description);
+			output.writeLong(version);
+			output.writeLong(modified);
+			output.writeLong(size);
+			output.writeLong(crc);
+		}
+	}
+}
@@ -0,0 +1,235 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * 環境設定情報のうち指定された接頭辞で始まるプロパティを接頭辞を除いたキーで参照する部分集合を提供します。<br>
+ * <p>
+ * 部分集合は{@link org.ideaccum.libs.commons.config.Config#subset(String)}の呼び出し時点のスナップショットに対する参照専用のビューであり、プロパティ定義情報の複製は行いません。<br>
+ * 接頭辞に該当するプロパティキーの範囲はスナップショットごとに保持される整列済みのプロパティキーから二分探索で特定されるため、
+ * プロパティ数の取得は定数時間、反復は部分集合のプロパティ数に比例した時間で行われ、環境設定情報全体のプロパティ数には依存しません。<br>
+ * </p>
+ * <p>
+ * 接頭辞は"."で区切られた階層単位で扱われ、"db.pool"を指定した場合は"db.pool.max"が"max"として参照され、"db.pool"自身及び、"db.poolsize"は含まれません。<br>
+ * 部分集合は変更できず、変更操作を行った場合は{@link java.lang.UnsupportedOperationException}がスローされます。<br>
+ * </p>
+ * <p>
+ * 部分集合が提供するプロパティ定義値は参照解決後かつ、レンダラ処理前の定義値です。<br>
+ * {@link org.ideaccum.libs.commons.config.Config#setRenderer(ConfigValueRenderer)}でレンダラが設定されている場合、{@link org.ideaccum.libs.commons.config.Config#get(ConfigName)}等で取得される値とは一致しない場合があります。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public final class ConfigSubset extends AbstractMap<String, String> {
+
+	/** 階層区切り文字 */
+	private static final char SEPARATOR = '.';
+
+	/** 参照対象スナップショット */
+	private final ConfigSnapshot snapshot;
+
+	/** 接頭辞(空文字列又は、階層区切り文字で終わる文字列) */
+	private final String prefix;
+
+	/** 昇順に整列したプロパティキー */
+	private final String[] keys;
+
+	/** 設定クラスへの設定時のレンダラ処理(プロパティキー及び、定義値から補正後の定義値を提供、レンダラ処理を行わない場合はnull) */
+	private final BiFunction<String, String, String> renderer;
+
+	/** 部分集合の開始位置 */
+	private final int from;
+
+	/** 部分集合の終了位置(この位置は含まない) */
+	private final int to;
+
+	/** エントリセット(初回参照時に生成) */
+	private Set<Map.Entry<String, String>> entrySet;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param snapshot 参照対象スナップショット
+	 * @param prefix 接頭辞(空文字列又は、階層区切り文字で終わる文字列)
+	 */
+	ConfigSubset(ConfigSnapshot snapshot, String prefix) {
+		this(snapshot, prefix, null);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param snapshot 参照対象スナップショット
+	 * @param prefix 接頭辞(空文字列又は、階層区切り文字で終わる文字列)
+	 * @param renderer 設定クラスへの設定時のレンダラ処理(レンダラ処理を行わない場合はnull)
+	 */
+	ConfigSubset(ConfigSnapshot snapshot, String prefix, BiFunction<String, String, String> renderer) {
+		super();
+		this.snapshot = snapshot;
+		this.prefix = prefix;
+		this.keys = snapshot.sortedKeys();
+		this.renderer = renderer;
+		if (prefix.isEmpty()) {
+			this.from = 0;
+			this.to = keys.length;
+		} else {
+			// 階層区切り文字の次の文字で置き換えた文字列は接頭辞で始まる全てのキーより大きく、以降のキーより小さい
+			int last = prefix.length() - 1;
+			this.from = lower(keys, prefix);
+			this.to = lower(keys, prefix.substring(0, last) + (char) (prefix.charAt(last) + 1));
+		}
+	}
+
+	/**
+	 * 接頭辞を階層区切り文字で終わる形式に正規化します。<br>
+	 * @param prefix 接頭辞
+	 * @return 正規化された接頭辞(nullの場合は空文字列)
+	 */
+	static String normalize(String prefix) {
+		if (prefix == null || prefix.isEmpty()) {
+			return "";
+		}
+		return prefix.charAt(prefix.length() - 1) == SEPARATOR ? prefix : prefix + SEPARATOR;
+	}
+
+	/**
+	 * 整列済みの配列から指定された文字列以上となる最初の位置を取得します。<br>
+	 * @param keys 昇順に整列したプロパティキー
+	 * @param key 検索文字列
+	 * @return 指定された文字列以上となる最初の位置
+	 */
+	private static int lower(String[] keys, String key) {
+		int index = Arrays.binarySearch(keys, key);
+		return index >= 0 ? index : -index - 1;
+	}
+
+	/**
+	 * 部分集合の接頭辞を取得します。<br>
+	 * @return 階層区切り文字で終わる接頭辞(全体の場合は空文字列)
+	 */
+	public String getPrefix() {
+		return prefix;
+	}
+
+	/**
+	 * 部分集合から更に指定された接頭辞で始まるプロパティの部分集合を取得します。<br>
+	 * @param prefix この部分集合に対する相対的な接頭辞
+	 * @return 部分集合
+	 */
+	public ConfigSubset subset(String prefix) {
+		String relative = normalize(prefix);
+		if (relative.isEmpty()) {
+			return this;
+		}
+		return new ConfigSubset(snapshot, this.prefix + relative, renderer);
+	}
+
+	/**
+	 * 部分集合のプロパティ数を取得します。<br>
+	 * @return プロパティ数
+	 * @see java.util.AbstractMap#size()
+	 */
+	@Override
+	public int size() {
+		return to - from;
+	}
+
+	/**
+	 * 部分集合が空であるか判定します。<br>
+	 * @return 空の場合にtrueを返却
+	 * @see java.util.AbstractMap#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return to == from;
+	}
+
+	/**
+	 * 接頭辞を除いたプロパティキーでプロパティ定義値を取得します。<br>
+	 * 提供される定義値はレンダラ処理前の定義値です。<br>
+	 * @param key 接頭辞を除いたプロパティキー
+	 * @return プロパティ定義値(定義されていない場合はnull)
+	 * @see java.util.AbstractMap#get(java.lang.Object)
+	 */
+	@Override
+	public String get(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		return snapshot.get(prefix + key);
+	}
+
+	/**
+	 * 接頭辞を除いたプロパティキーで設定クラスへの設定に利用するプロパティ定義値を取得します。<br>
+	 * {@link org.ideaccum.libs.commons.config.Config#bind(String, Class)}から生成された部分集合の場合はレンダラ処理後の定義値、それ以外の場合は{@link #get(Object)}と同一の定義値が提供されます。<br>
+	 * @param key 接頭辞を除いたプロパティキー
+	 * @return プロパティ定義値(定義されていない場合はnull)
+	 */
+	String rendered(String key) {
+		String value = snapshot.get(prefix + key);
+		if (value == null || renderer == null) {
+			return value;
+		}
+		return renderer.apply(prefix + key, value);
+	}
+
+	/**
+	 * 接頭辞を除いたプロパティキーでプロパティが定義されているか判定します。<br>
+	 * @param key 接頭辞を除いたプロパティキー
+	 * @return 定義されている場合にtrueを返却
+	 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * 接頭辞を除いたプロパティキーの昇順でエントリセットを取得します。<br>
+	 * @return エントリセット
+	 * @see java.util.AbstractMap#entrySet()
+	 */
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+		Set<Map.Entry<String, String>> entrySet = this.entrySet;
+		if (entrySet == null) {
+			entrySet = new AbstractSet<Map.Entry<String, String>>() {
+				@Override
+				public Iterator<Map.Entry<String, String>> iterator() {
+					return new Iterator<Map.Entry<String, String>>() {
+						private int index = from;
+
+						@Override
+						public boolean hasNext() {
+							return index < to;
+						}
+
+						@Override
+						public Map.Entry<String, String> next() {
+							if (index >= to) {
+								throw new NoSuchElementException();
+							}
+							String key = keys[index++];
+							return new AbstractMap.SimpleImmutableEntry<>(key.substring(prefix.length()), snapshot.get(key));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return to - from;
+				}
+			};
+			this.entrySet = entrySet;
+		}
+		return entrySet;
+	}
+}
@@ -0,0 +1,108 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * "${キー}"形式のプロパティ参照を含むプロパティ定義値を解析済みのテンプレートとして提供します。<br>
+ * <p>
+ * 定義値は生成時に一度だけ走査され、参照を除いたリテラル部分と参照キーに分割して保持されます。<br>
+ * 解決時は分割済みの要素を連結するのみで、定義値の再走査は行われません。<br>
+ * 閉じ括弧が存在しない"${"はリテラルとして扱われます。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+final class ConfigTemplate {
+
+	/** 参照開始文字列 */
+	private static final String OPEN = "${";
+
+	/** 参照終了文字列 */
+	private static final String CLOSE = "}";
+
+	/** リテラル部分(参照数+1の要素を保持し、i番目の参照はi番目とi+1番目のリテラルの間に位置する) */
+	private final String[] literals;
+
+	/** 参照キー */
+	private final String[] references;
+
+	/** 解決後の文字列長の目安 */
+	private final int length;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param literals リテラル部分
+	 * @param references 参照キー
+	 * @param length 解決後の文字列長の目安
+	 */
+	private ConfigTemplate(String[] literals, String[] references, int length) {
+		super();
+		this.literals = literals;
+		this.references = references;
+		this.length = length;
+	}
+
+	/**
+	 * プロパティ定義値を解析してテンプレートを生成します。<br>
+	 * @param value プロパティ定義値
+	 * @return テンプレート(参照が含まれない場合はnull)
+	 */
+	static ConfigTemplate compile(String value) {
+		if (value == null || value.indexOf(OPEN) < 0) {
+			return null;
+		}
+		List<String> literals = new ArrayList<>();
+		List<String> references = new ArrayList<>();
+		int position = 0;
+		int start = value.indexOf(OPEN);
+		while (start >= 0) {
+			int stop = value.indexOf(CLOSE, start + OPEN.length());
+			if (stop < 0) {
+				break;
+			}
+			literals.add(value.substring(position, start));
+			references.add(value.substring(start + OPEN.length(), stop));
+			position = stop + CLOSE.length();
+			start = value.indexOf(OPEN, position);
+		}
+		if (references.isEmpty()) {
+			return null;
+		}
+		literals.add(value.substring(position));
+		return new ConfigTemplate(literals.toArray(new String[literals.size()]), references.toArray(new String[references.size()]), value.length());
+	}
+
+	/**
+	 * 参照キーを取得します。<br>
+	 * @return 参照キー(同一キーが複数回参照される場合は重複して含まれます)
+	 */
+	String[] references() {
+		return references;
+	}
+
+	/**
+	 * 参照を解決した文字列を生成します。<br>
+	 * 参照先が定義されていない参照は"${キー}"のまま出力されます。<br>
+	 * @param lookup 参照キーから解決済みの値を取得する処理(定義されていない場合はnullを返却)
+	 * @return 解決後の文字列
+	 */
+	String resolve(Function<String, String> lookup) {
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i <= references.length - 1; i++) {
+			builder.append(literals[i]);
+			String value = lookup.apply(references[i]);
+			if (value == null) {
+				builder.append(OPEN).append(references[i]).append(CLOSE);
+			} else {
+				builder.append(value);
+			}
+		}
+		builder.append(literals[literals.length - 1]);
+		return builder.toString();
+	}
+}
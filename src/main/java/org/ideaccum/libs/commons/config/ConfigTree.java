@@ -0,0 +1,171 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * スナップショットのプロパティをピリオド(".")をデリミタとして見なした階層形式のマップとして参照するビューを提供します。<br>
+ * <p>
+ * 各階層のマップは初めて参照された時点で直下の要素のみが生成され、下位階層のマップは更に参照されるまで生成されません。<br>
+ * 生成された階層はスナップショットごとに保持されるため、同一のスナップショットに対する2回目以降の参照では生成処理は行われません。<br>
+ * </p>
+ * <p>
+ * プロパティキーが値を持つと同時に下位階層のプロパティキーの階層途中となる場合(例:"foo"及び、"foo.bar")、値は下位階層のマップ内に空文字列("")をキーとして保持されます。<br>
+ * 末尾の空の階層は無視され、"foo.bar."は"foo.bar"と同一の階層に配置されます。<br>
+ * 各階層のマップは変更できず、変更操作を行った場合は{@link java.lang.UnsupportedOperationException}がスローされます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+final class ConfigTree extends AbstractMap<String, Object> {
+
+	/** 階層区切り文字 */
+	private static final char SEPARATOR = '.';
+
+	/** 参照対象スナップショット */
+	private final ConfigSnapshot snapshot;
+
+	/** 配下のプロパティキー */
+	private final List<String> keys;
+
+	/** 配下のプロパティキーにおける当階層直下の階層名の開始位置 */
+	private final int offset;
+
+	/** 当階層自身のプロパティ定義値(定義されていない場合はnull) */
+	private String value;
+
+	/** 当階層直下の要素(初回参照時に生成) */
+	private volatile Map<String, Object> children;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param snapshot 参照対象スナップショット
+	 * @param keys 配下のプロパティキー
+	 * @param offset 配下のプロパティキーにおける当階層直下の階層名の開始位置
+	 */
+	private ConfigTree(ConfigSnapshot snapshot, List<String> keys, int offset) {
+		super();
+		this.snapshot = snapshot;
+		this.keys = keys;
+		this.offset = offset;
+	}
+
+	/**
+	 * スナップショットの最上位階層を生成します。<br>
+	 * @param snapshot 参照対象スナップショット
+	 * @param keys スナップショットのプロパティキー
+	 * @return 最上位階層
+	 */
+	static ConfigTree root(ConfigSnapshot snapshot, List<String> keys) {
+		return new ConfigTree(snapshot, keys, 0);
+	}
+
+	/**
+	 * 当階層直下の要素を取得します。<br>
+	 * 初回参照時に配下のプロパティキーを直下の階層名ごとに分類し、下位階層は未生成のビューとして保持します。<br>
+	 * @return 当階層直下の要素
+	 */
+	private Map<String, Object> children() {
+		Map<String, Object> children = this.children;
+		if (children == null) {
+			Map<String, String> leaves = new HashMap<>();
+			Map<String, ConfigTree> nodes = new HashMap<>();
+			if (value != null) {
+				leaves.put("", value);
+			}
+			for (String key : keys) {
+				int separator = key.indexOf(SEPARATOR, offset);
+				if (separator < 0 || isTrailing(key, separator)) {
+					leaves.put(key.substring(offset, separator < 0 ? key.length() : separator), snapshot.get(key));
+				} else {
+					String token = key.substring(offset, separator);
+					ConfigTree node = nodes.get(token);
+					if (node == null) {
+						node = new ConfigTree(snapshot, new ArrayList<>(), separator + 1);
+						nodes.put(token, node);
+					}
+					node.keys.add(key);
+				}
+			}
+			children = new HashMap<>((leaves.size() + nodes.size()) * 4 / 3 + 1);
+			for (Map.Entry<String, String> leaf : leaves.entrySet()) {
+				ConfigTree node = nodes.get(leaf.getKey());
+				if (node != null) {
+					// 階層途中のトークンで定義されているものは下位階層の空文字列キーで保持(外部からEL参照は不可となる)
+					node.value = leaf.getValue();
+				} else {
+					children.put(leaf.getKey(), leaf.getValue());
+				}
+			}
+			children.putAll(nodes);
+			children = Collections.unmodifiableMap(children);
+			this.children = children;
+		}
+		return children;
+	}
+
+	/**
+	 * 区切り文字以降が区切り文字のみで構成されているか判定します。<br>
+	 * @param key プロパティキー
+	 * @param separator 区切り文字の位置
+	 * @return 区切り文字以降が区切り文字のみで構成されている場合にtrueを返却
+	 */
+	private static boolean isTrailing(String key, int separator) {
+		for (int i = separator + 1; i <= key.length() - 1; i++) {
+			if (key.charAt(i) != SEPARATOR) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 当階層直下の要素数を取得します。<br>
+	 * @return 要素数
+	 * @see java.util.AbstractMap#size()
+	 */
+	@Override
+	public int size() {
+		return children().size();
+	}
+
+	/**
+	 * 当階層直下の要素を取得します。<br>
+	 * @param key 階層名
+	 * @return プロパティ定義値又は、下位階層のマップ(存在しない場合はnull)
+	 * @see java.util.AbstractMap#get(java.lang.Object)
+	 */
+	@Override
+	public Object get(Object key) {
+		return children().get(key);
+	}
+
+	/**
+	 * 当階層直下に要素が存在するか判定します。<br>
+	 * @param key 階層名
+	 * @return 存在する場合にtrueを返却
+	 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return children().containsKey(key);
+	}
+
+	/**
+	 * 当階層直下の要素のエントリセットを取得します。<br>
+	 * @return エントリセット
+	 * @see java.util.AbstractMap#entrySet()
+	 */
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		return children().entrySet();
+	}
+}
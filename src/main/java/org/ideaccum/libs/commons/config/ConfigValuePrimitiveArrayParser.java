@@ -0,0 +1,25 @@
+package org.ideaccum.libs.commons.config;
+
+/**
+ * プロパティリソース内容をプリミティブ型配列として提供する際の値パース処理インタフェースを提供します。<br>
+ * <p>
+ * ラッパークラス配列を提供する{@link org.ideaccum.libs.commons.config.ConfigValueParser}に加えて、要素をボクシングせずにプリミティブ型配列としてパースする処理を提供します。<br>
+ * このインタフェースを実装したパーサーを利用する{@link org.ideaccum.libs.commons.config.ConfigName}は{@link org.ideaccum.libs.commons.config.Config#getInts(ConfigName)}等のプリミティブ型配列アクセッサで参照した際にラッパークラスを経由せずに値が提供されます。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ * @param <T> ラッパークラス配列型
+ * @param <A> プリミティブ型配列型
+ */
+public interface ConfigValuePrimitiveArrayParser<T, A> extends ConfigValueParser<T> {
+
+	/**
+	 * プロパティリソース定義文字列内容をプリミティブ型配列にパースして提供します。<br>
+	 * @param value プロパティ定義値
+	 * @return パース語定義値
+	 */
+	public A parsePrimitives(String value);
+}
@@ -5,10 +5,16 @@ package org.ideaccum.libs.commons.config;
  * <p>
  * 定義文字列上において動的なバインド変数としての定義を行い、プロパティ取得時に実値をバインドするなどの処理を提供することができます。<br>
  * </p>
+ * <p>
+ * レンダラは{@link #getRenderPolicy()}で処理結果のキャッシュ方針を宣言することができます。<br>
+ * 方針を宣言しないレンダラは{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#VOLATILE}として扱われ、プロパティ取得の都度処理されます。<br>
+ * 複数のレンダラを順に適用する場合は{@link org.ideaccum.libs.commons.config.ConfigRendererPipeline}を利用します。<br>
+ * </p>
  * 
  *<!--
  * 更新日      更新者           更新内容
  * 2018/07/06  Kitagawa         新規作成
+ * 2026/10/16  agent            処理結果のキャッシュ方針宣言を追加
  *-->
  */
 public interface ConfigValueRenderer {
@@ -20,4 +26,14 @@ public interface ConfigValueRenderer {
 	 * @return 補正後の定義値
 	 */
 	public String render(ConfigName<?> name, String value);
+
+	/**
+	 * レンダラ処理結果のキャッシュ方針を取得します。<br>
+	 * 処理結果がプロパティアクセスキー及び、定義値のみから決定される場合は{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#PURE}、
+	 * 環境設定情報の状態が更新されない限り変わらない場合は{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#DETERMINISTIC}を返却するように実装して下さい。<br>
+	 * @return キャッシュ方針(ディフォルトは{@link org.ideaccum.libs.commons.config.ConfigRenderPolicy#VOLATILE})
+	 */
+	public default ConfigRenderPolicy getRenderPolicy() {
+		return ConfigRenderPolicy.VOLATILE;
+	}
 }
@@ -0,0 +1,296 @@
+package org.ideaccum.libs.commons.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.ideaccum.libs.commons.config.exception.ConfigException;
+
+/**
+ * 環境設定情報に読み込まれたプロパティリソースの変更を監視し、変更時に再読み込みを行う処理を提供します。<br>
+ * <p>
+ * 監視は{@link java.nio.file.WatchService}を利用して専用のデーモンスレッド上で行われ、再読み込みに伴うリソースの解析もこのスレッド上で行われます。<br>
+ * 短時間に連続して発生した変更イベントは、最後のイベントから待機時間が経過した時点で一度の再読み込みにまとめられます。<br>
+ * 但し、変更イベントが途切れない場合でも最初のイベントから待機時間の10倍が経過した時点で再読み込みが行われます。<br>
+ * </p>
+ * <p>
+ * 再読み込みに失敗した場合は例外処理に例外を通知し、現状の状態を維持して次回の変更を待機します。<br>
+ * 監視開始時又は、前回の再読み込み時に存在していたファイルが存在しない場合は、削除後に名前を変更して置き換えるエディタの保存処理等の途中と見なし、再作成の変更イベントを待機して再読み込みを行いません。<br>
+ * </p>
+ * <p>
+ * 監視対象はファイルシステム上のファイルとして解決できるリソースのみで、jarファイル内のリソース等は監視されません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+final class ConfigWatcher implements Runnable {
+
+	/** 連続した変更イベントに対する最大待機時間の待機時間に対する倍率 */
+	private static final int MAX_DELAY_FACTOR = 10;
+
+	/** 監視対象環境設定情報 */
+	private final Config config;
+
+	/** 変更イベント発生から再読み込みまでの待機時間(ミリ秒) */
+	private final long delay;
+
+	/** 監視サービス */
+	private final WatchService service;
+
+	/** 監視スレッド */
+	private final Thread thread;
+
+	/** 監視ディレクトリ */
+	private final Map<Path, WatchKey> directories;
+
+	/** 監視対象ファイル */
+	private volatile Set<Path> files;
+
+	/** 監視開始時又は、前回の再読み込み時に存在していた監視対象ファイル */
+	private volatile Set<Path> present;
+
+	/** 再読み込み失敗時の例外処理(nullの場合は監視スレッドのUncaughtExceptionHandlerに通知) */
+	private final Consumer<? super ConfigException> handler;
+
+	/** 終了フラグ */
+	private volatile boolean closed;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param config 監視対象環境設定情報
+	 * @param delay 変更イベント発生から再読み込みまでの待機時間(ミリ秒)
+	 * @param handler 再読み込み失敗時の例外処理(nullの場合は監視スレッドのUncaughtExceptionHandlerに通知)
+	 * @throws IOException 監視サービスの生成に失敗した場合にスローされます
+	 */
+	ConfigWatcher(Config config, long delay, Consumer<? super ConfigException> handler) throws IOException {
+		super();
+		this.config = config;
+		this.delay = Math.max(0, delay);
+		this.handler = handler;
+		this.service = FileSystems.getDefault().newWatchService();
+		this.thread = new Thread(this, "Config-Watcher");
+		this.thread.setDaemon(true);
+		this.directories = new HashMap<>();
+		this.files = Collections.emptySet();
+		this.present = Collections.emptySet();
+		this.closed = false;
+	}
+
+	/**
+	 * 監視を開始します。<br>
+	 */
+	void start() {
+		thread.start();
+	}
+
+	/**
+	 * 監視を終了します。<br>
+	 */
+	void close() {
+		closed = true;
+		try {
+			service.close();
+		} catch (IOException e) {
+			// 監視終了時の例外は無視
+		}
+		thread.interrupt();
+	}
+
+	/**
+	 * 監視対象のリソースを更新します。<br>
+	 * 新たに監視が必要となったディレクトリを監視サービスに登録し、不要となったディレクトリの監視を解除します。<br>
+	 * @param filePaths 監視対象プロパティリソースパス
+	 * @throws IOException ディレクトリの登録に失敗した場合にスローされます
+	 */
+	synchronized void refresh(Collection<String> filePaths) throws IOException {
+		Set<Path> files = new HashSet<>();
+		for (String filePath : filePaths) {
+			Path path = resolve(filePath);
+			if (path != null) {
+				files.add(path);
+			}
+		}
+		Set<Path> required = new HashSet<>();
+		for (Path file : files) {
+			Path directory = file.getParent();
+			if (directory != null && directory.toFile().isDirectory()) {
+				required.add(directory);
+			}
+		}
+		for (Path directory : required) {
+			if (!directories.containsKey(directory)) {
+				directories.put(directory, directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE));
+			}
+		}
+		directories.keySet().removeIf(directory -> {
+			if (required.contains(directory)) {
+				return false;
+			}
+			directories.get(directory).cancel();
+			return true;
+		});
+		this.files = files;
+		this.present = existing(files);
+	}
+
+	/**
+	 * 存在するファイルのみを取得します。<br>
+	 * @param files ファイル
+	 * @return 存在するファイル
+	 */
+	private static Set<Path> existing(Set<Path> files) {
+		Set<Path> existing = new HashSet<>();
+		for (Path file : files) {
+			if (file.toFile().isFile()) {
+				existing.add(file);
+			}
+		}
+		return existing;
+	}
+
+	/**
+	 * 監視開始時又は、前回の再読み込み時に存在していたファイルが存在しないか判定します。<br>
+	 * @return 存在しないファイルがある場合にtrue
+	 */
+	private boolean isMissing() {
+		for (Path file : present) {
+			if (!file.toFile().isFile()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 再読み込みの失敗を例外処理に通知します。<br>
+	 * 例外処理が指定されていない場合は監視スレッドのUncaughtExceptionHandlerに通知します。<br>
+	 * @param e 再読み込み時の例外
+	 */
+	private void failed(ConfigException e) {
+		try {
+			if (handler != null) {
+				handler.accept(e);
+			} else {
+				thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+			}
+		} catch (RuntimeException ignore) {
+			// 例外処理自身の例外で監視を終了させない
+		}
+	}
+
+	/**
+	 * プロパティリソースパスをファイルシステム上のパスに解決します。<br>
+	 * ファイルとして存在しない場合はクラスパス上のリソースとして解決を試み、いずれにも存在しない場合は親ディレクトリが存在すればファイルの作成を監視するためのパスとして解決します。<br>
+	 * @param filePath プロパティリソースパス
+	 * @return ファイルシステム上のパス(解決できない場合はnull)
+	 */
+	static Path resolve(String filePath) {
+		if (filePath == null || filePath.isEmpty()) {
+			return null;
+		}
+		File file = new File(filePath).getAbsoluteFile();
+		if (file.exists()) {
+			return file.toPath().normalize();
+		}
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		URL url = (loader != null ? loader : ConfigWatcher.class.getClassLoader()).getResource(filePath.startsWith("/") ? filePath.substring(1) : filePath);
+		if (url != null && "file".equals(url.getProtocol())) {
+			try {
+				return Paths.get(url.toURI()).toAbsolutePath().normalize();
+			} catch (Exception e) {
+				return null;
+			}
+		}
+		if (file.getParentFile() != null && file.getParentFile().isDirectory()) {
+			return file.toPath().normalize();
+		}
+		return null;
+	}
+
+	/**
+	 * 変更イベントを監視し、監視対象ファイルが変更された場合に再読み込みを行います。<br>
+	 * @see java.lang.Runnable#run()
+	 */
+	@Override
+	public void run() {
+		long deadline = 0;
+		long limit = 0;
+		while (!closed) {
+			WatchKey key;
+			try {
+				if (deadline == 0) {
+					key = service.take();
+				} else {
+					key = service.poll(Math.max(1, Math.min(deadline, limit) - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+				}
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				break;
+			}
+			if (key != null) {
+				if (isTargetChanged(key)) {
+					long now = System.currentTimeMillis();
+					if (deadline == 0) {
+						limit = now + delay * MAX_DELAY_FACTOR;
+					}
+					deadline = now + delay;
+				}
+				key.reset();
+			}
+			long now = System.currentTimeMillis();
+			if (deadline != 0 && (now >= deadline || now >= limit)) {
+				deadline = 0;
+				limit = 0;
+				if (isMissing()) {
+					// 削除後に置き換える編集等で一時的に存在しないファイルを空として読み込まないよう再作成を待機
+					continue;
+				}
+				try {
+					config.reload();
+					present = existing(files);
+				} catch (ConfigException e) {
+					// 再読み込みに失敗した場合は現状の状態を維持して次回の変更を待機
+					failed(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 監視キーに通知された変更イベントに監視対象ファイルの変更が含まれるか判定します。<br>
+	 * @param key 監視キー
+	 * @return 監視対象ファイルの変更が含まれる場合にtrue
+	 */
+	private boolean isTargetChanged(WatchKey key) {
+		Path directory = (Path) key.watchable();
+		Set<Path> files = this.files;
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				// イベントが欠落した場合は監視対象の変更有無が判定できないため変更ありとして扱う
+				changed = true;
+			} else if (files.contains(directory.resolve((Path) event.context()))) {
+				changed = true;
+			}
+		}
+		return changed;
+	}
+}
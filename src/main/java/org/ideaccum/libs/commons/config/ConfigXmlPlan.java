@@ -0,0 +1,159 @@
+package org.ideaccum.libs.commons.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import org.ideaccum.libs.commons.config.exception.ConfigException;
+import org.ideaccum.libs.commons.util.ClassUtil;
+import org.ideaccum.libs.commons.util.StringUtil;
+
+/**
+ * JAXBにより読み込まれたXML構造クラスのオブジェクトをプロパティに展開する際のクラスごとの展開手順を提供します。<br>
+ * <p>
+ * 展開手順はクラスごとに初回の展開時に一度だけ生成され、{@link javax.xml.bind.annotation.XmlElement}が付与されたフィールドの要素名及び、
+ * フィールド値を取得する{@link java.lang.invoke.MethodHandle}を保持します。<br>
+ * 展開手順は{@link java.lang.ClassValue}で管理されるため、XML構造クラスのクラスローダーの破棄を妨げることはありません。<br>
+ * </p>
+ * <p>
+ * 上位階層のプロパティキーを接頭辞とする各要素のプロパティキーは接頭辞ごとに一度だけ生成されてキャッシュされるため、
+ * 同一構造のXMLリソースの再読み込みではアノテーションの走査及び、プロパティキーの文字列連結は行われません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+final class ConfigXmlPlan {
+
+	/** 要素名が省略された場合のアノテーション値 */
+	private static final String DEFAULT_NAME = "##default";
+
+	/** 接頭辞が存在しない場合のキャッシュキー */
+	private static final String ROOT = "";
+
+	/** クラスごとの展開手順 */
+	private static final ClassValue<ConfigXmlPlan> PLANS = new ClassValue<ConfigXmlPlan>() {
+		@Override
+		protected ConfigXmlPlan computeValue(Class<?> type) {
+			return new ConfigXmlPlan(type);
+		}
+	};
+
+	/** 要素名 */
+	private final String[] names;
+
+	/** フィールド値取得処理 */
+	private final MethodHandle[] getters;
+
+	/** 接頭辞ごとのプロパティキー */
+	private final Map<String, String[]> keys;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param type XML構造クラス
+	 */
+	private ConfigXmlPlan(Class<?> type) {
+		super();
+		List<String> names = new ArrayList<>();
+		List<MethodHandle> getters = new ArrayList<>();
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodType getterType = MethodType.methodType(Object.class, Object.class);
+		for (Field field : ClassUtil.getFields(type)) {
+			XmlElement element = ClassUtil.getAnnotation(field, XmlElement.class);
+			if (element == null) {
+				continue;
+			}
+			try {
+				field.setAccessible(true);
+				getters.add(lookup.unreflectGetter(field).asType(getterType));
+			} catch (IllegalAccessException | RuntimeException e) {
+				throw new ConfigException(e);
+			}
+			names.add(!DEFAULT_NAME.equals(element.name()) ? element.name() : field.getName());
+		}
+		this.names = names.toArray(new String[names.size()]);
+		this.getters = getters.toArray(new MethodHandle[getters.size()]);
+		this.keys = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * XML構造クラスの展開手順を取得します。<br>
+	 * @param type XML構造クラス
+	 * @return 展開手順
+	 */
+	static ConfigXmlPlan of(Class<?> type) {
+		return PLANS.get(type);
+	}
+
+	/**
+	 * XMLリソースから読み込まれたオブジェクトをプロパティに展開します。<br>
+	 * 子要素を持つ要素は子要素のみが展開され、要素自身はプロパティとして保持されません。<br>
+	 * @param properties 展開先プロパティ
+	 * @param activeName 展開中要素のプロパティキー(最上位の場合はnull)
+	 * @param object 展開対象オブジェクト
+	 * @return プロパティに展開された要素が存在する場合にtrueを返却
+	 */
+	boolean analyze(Map<Object, Object> properties, String activeName, Object object) {
+		if (names.length == 0) {
+			return false;
+		}
+		String[] keys = keys(activeName);
+		boolean reflected = false;
+		for (int i = 0; i <= getters.length - 1; i++) {
+			Object value = get(getters[i], object);
+			properties.put(keys[i], value == null ? "" : value);
+			if (value == null) {
+				reflected = true;
+			} else if (of(value.getClass()).analyze(properties, keys[i], value)) {
+				// 下位階層で反映された場合は自プロパティは除去
+				properties.remove(keys[i]);
+			} else {
+				reflected = true;
+			}
+		}
+		return reflected;
+	}
+
+	/**
+	 * 接頭辞に対応する各要素のプロパティキーを取得します。<br>
+	 * @param activeName 展開中要素のプロパティキー(最上位の場合はnull)
+	 * @return 要素ごとのプロパティキー
+	 */
+	private String[] keys(String activeName) {
+		String prefix = StringUtil.isEmpty(activeName) ? ROOT : activeName;
+		String[] keys = this.keys.get(prefix);
+		if (keys == null) {
+			keys = new String[names.length];
+			for (int i = 0; i <= names.length - 1; i++) {
+				keys[i] = prefix.isEmpty() ? names[i] : prefix + "." + names[i];
+			}
+			this.keys.put(prefix, keys);
+		}
+		return keys;
+	}
+
+	/**
+	 * フィールド値を取得します。<br>
+	 * @param getter フィールド値取得処理
+	 * @param object 取得対象オブジェクト
+	 * @return フィールド値
+	 */
+	private static Object get(MethodHandle getter, Object object) {
+		try {
+			return (Object) getter.invokeExact(object);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new ConfigException(e);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package org.ideaccum.libs.commons.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.ideaccum.libs.commons.util.ResourceUtil;
+
+/**
+ * XMLリソースをStAXで逐次解析してプロパティに展開する処理を提供します。<br>
+ * <p>
+ * XML構造クラスを必要とせず、任意のXMLリソースを要素の階層を"."で連結したプロパティキー(例:"root.child.leaf")に展開します。<br>
+ * 解析はドキュメント全体をオブジェクトとして保持せずに行われ、解析中に保持するのは処理中の要素の階層及び、テキストのみです。<br>
+ * </p>
+ * <p>
+ * 展開規則は以下の通りです。<br>
+ * <ul>
+ * <li>プロパティキーはルート要素を含む各要素のローカル名を"."で連結したものとなり、名前空間接頭辞は含みません</li>
+ * <li>子要素を持たない要素は前後の空白を除去したテキストを値として展開され、子要素を持つ要素のテキストは無視されます</li>
+ * <li>属性は"要素のプロパティキー[@属性名]"をキーとして展開されます</li>
+ * <li>属性を持ちテキストが空の要素は属性のみが展開されます</li>
+ * <li>同一のプロパティキーとなる要素が繰り返される場合、値は出現順に","で連結され、複数値のプロパティ定義として扱われます</li>
+ * </ul>
+ * </p>
+ * <p>
+ * 外部エンティティ及び、DTDは解決されません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+final class ConfigXmlReader {
+
+	/** 階層区切り文字 */
+	private static final String SEPARATOR = ".";
+
+	/** 繰り返し要素の値区切り文字 */
+	private static final String DELIMITER = ",";
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private ConfigXmlReader() {
+		super();
+	}
+
+	/**
+	 * XMLリソースを読み込みます。<br>
+	 * @param filePath XMLリソースパス
+	 * @return 読み込まれたプロパティ情報
+	 * @throws IOException 入出力例外又は、XMLの解析に失敗した場合にスローされます
+	 */
+	static Map<String, String> read(String filePath) throws IOException {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		try (InputStream stream = ResourceUtil.getInputStream(filePath)) {
+			XMLStreamReader reader = factory.createXMLStreamReader(stream);
+			try {
+				return parse(reader);
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * XMLストリームを解析します。<br>
+	 * @param reader XMLストリーム
+	 * @return 読み込まれたプロパティ情報
+	 * @throws XMLStreamException XMLの解析に失敗した場合にスローされます
+	 */
+	private static Map<String, String> parse(XMLStreamReader reader) throws XMLStreamException {
+		Map<String, String> result = new HashMap<>();
+		Map<String, StringBuilder> repeated = new HashMap<>();
+		String[] paths = new String[16];
+		boolean[] parents = new boolean[16];
+		boolean[] attributed = new boolean[16];
+		int depth = 0;
+		StringBuilder text = new StringBuilder();
+		while (reader.hasNext()) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				if (depth == paths.length) {
+					paths = Arrays.copyOf(paths, depth * 2);
+					parents = Arrays.copyOf(parents, depth * 2);
+					attributed = Arrays.copyOf(attributed, depth * 2);
+				}
+				if (depth > 0) {
+					parents[depth - 1] = true;
+				}
+				String path = depth == 0 ? reader.getLocalName() : paths[depth - 1] + SEPARATOR + reader.getLocalName();
+				int count = reader.getAttributeCount();
+				for (int i = 0; i <= count - 1; i++) {
+					put(result, repeated, path + "[@" + reader.getAttributeLocalName(i) + "]", reader.getAttributeValue(i));
+				}
+				paths[depth] = path;
+				parents[depth] = false;
+				attributed[depth] = count > 0;
+				depth++;
+				text.setLength(0);
+			} else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA || event == XMLStreamConstants.SPACE) {
+				if (depth > 0 && !parents[depth - 1]) {
+					text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+				if (!parents[depth]) {
+					String value = text.toString().trim();
+					if (!value.isEmpty() || !attributed[depth]) {
+						put(result, repeated, paths[depth], value);
+					}
+				}
+				paths[depth] = null;
+				text.setLength(0);
+			}
+		}
+		repeated.forEach((key, values) -> result.put(key, values.toString()));
+		return result;
+	}
+
+	/**
+	 * プロパティを設定します。<br>
+	 * 既に同一のキーが設定されている場合は連結中の値に追加し、解析終了時に設定先に反映します。<br>
+	 * @param result 設定先プロパティ情報
+	 * @param repeated 繰り返し要素の連結中の値
+	 * @param key プロパティキー
+	 * @param value 値
+	 */
+	private static void put(Map<String, String> result, Map<String, StringBuilder> repeated, String key, String value) {
+		String current = result.putIfAbsent(key, value);
+		if (current != null) {
+			repeated.computeIfAbsent(key, k -> new StringBuilder(current)).append(DELIMITER).append(value);
+		}
+	}
+}
@@ -7,10 +7,15 @@ package org.ideaccum.libs.commons.config.exception;
  * 更新日      更新者           更新内容
  * 2010/07/03  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/16  agent            メッセージを指定するコンストラクタを追加
+ * 2026/10/17  agent            シリアルバージョンUIDを追加
  *-->
  */
 public final class ConfigException extends RuntimeException {
 
+	/** シリアルバージョンUID */
+	private static final long serialVersionUID = 1L;
+
 	/**
 	 * コンストラクタ<br>
 	 * @param cause ルート例外
@@ -18,4 +23,12 @@ public final class ConfigException extends RuntimeException {
 	public ConfigException(Throwable cause) {
 		super(cause);
 	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param message 例外メッセージ
+	 */
+	public ConfigException(String message) {
+		super(message);
+	}
 }
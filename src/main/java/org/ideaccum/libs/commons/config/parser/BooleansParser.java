@@ -1,10 +1,6 @@
 package org.ideaccum.libs.commons.config.parser;
 
-import java.util.LinkedList;
-import java.util.List;
-
-import org.ideaccum.libs.commons.config.ConfigValueParser;
-import org.ideaccum.libs.commons.util.StringUtil;
+import org.ideaccum.libs.commons.config.ConfigValuePrimitiveArrayParser;
 
 /**
  * 定義値を真偽値配列としてパースする処理を提供します。<br>
@@ -15,9 +11,30 @@ import org.ideaccum.libs.commons.util.StringUtil;
  *<!--
  * 更新日      更新者           更新内容
  * 2019/10/29  Kitagawa         新規作成
+ * 2026/10/16  agent            プリミティブ型配列としてのパース処理を追加
+ * 2026/10/16  agent            トークン分割処理をConfigValueTokenizerに変更
  *-->
  */
-public class BooleansParser implements ConfigValueParser<Boolean[]> {
+public class BooleansParser implements ConfigValuePrimitiveArrayParser<Boolean[], boolean[]> {
+
+	/** トークナイザ */
+	private final ConfigValueTokenizer tokenizer;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	public BooleansParser() {
+		this(false);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param trim 各要素の前後空白を除去する場合にtrue
+	 */
+	public BooleansParser(boolean trim) {
+		super();
+		this.tokenizer = ConfigValueTokenizer.getInstance(trim);
+	}
 
 	/**
 	 * プロパティリソース定義文字列内容を実際に利用する際の型にパースして提供します。<br>
@@ -27,14 +44,25 @@ public class BooleansParser implements ConfigValueParser<Boolean[]> {
 	 */
 	@Override
 	public Boolean[] parse(String value) {
-		if (value == null) {
-			return new Boolean[0];
+		boolean[] values = parsePrimitives(value);
+		Boolean[] result = new Boolean[values.length];
+		for (int i = 0; i <= values.length - 1; i++) {
+			result[i] = values[i];
 		}
-		String[] tokens = new StringsParser().parse(value);
-		List<Boolean> list = new LinkedList<>();
-		for (String token : tokens) {
-			list.add(new Boolean(StringUtil.toPBoolean(token)));
+		return result;
+	}
+
+	/**
+	 * プロパティリソース定義文字列内容をプリミティブ型配列にパースして提供します。<br>
+	 * @param value プロパティ定義値
+	 * @return パース語定義値
+	 * @see org.ideaccum.libs.commons.config.ConfigValuePrimitiveArrayParser#parsePrimitives(java.lang.String)
+	 */
+	@Override
+	public boolean[] parsePrimitives(String value) {
+		if (value == null) {
+			return new boolean[0];
 		}
-		return list.toArray(new Boolean[0]);
+		return tokenizer.toBooleans(value);
 	}
 }
@@ -0,0 +1,283 @@
+package org.ideaccum.libs.commons.config.parser;
+
+import java.util.Arrays;
+
+import org.ideaccum.libs.commons.util.StringUtil;
+
+/**
+ * カンマ区切りで定義された複数値のプロパティ定義値をトークンに分割する処理を提供します。<br>
+ * <p>
+ * 定義値は正規表現を利用せずに走査され、デリミタ数から確保した出力配列に対して、トークンは中間の文字列配列やリストを経由せずに各要素型へ直接パースされます。<br>
+ * 分割仕様は{@link java.lang.String#split(String)}に","を指定した場合と同様で、末尾の空トークンは除外されます。<br>
+ * また、先頭が"#"のトークンはプロパティ定義と同様にコメントとして除外されます。<br>
+ * </p>
+ * <p>
+ * トリムを指定した場合、各トークンの前後の空白文字を除去したうえでコメント判定及び、パースが行われます。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public final class ConfigValueTokenizer {
+
+	/** トークンデリミタ */
+	private static final char DELIMITER = ',';
+
+	/** コメントトークン接頭文字 */
+	private static final char COMMENT = '#';
+
+	/** 前後空白を維持するトークナイザ */
+	private static final ConfigValueTokenizer RAW = new ConfigValueTokenizer(false);
+
+	/** 前後空白を除去するトークナイザ */
+	private static final ConfigValueTokenizer TRIM = new ConfigValueTokenizer(true);
+
+	/** トリムフラグ */
+	private final boolean trim;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param trim トークンの前後空白を除去する場合にtrue
+	 */
+	private ConfigValueTokenizer(boolean trim) {
+		super();
+		this.trim = trim;
+	}
+
+	/**
+	 * トークナイザインスタンスを取得します。<br>
+	 * @param trim トークンの前後空白を除去する場合にtrue
+	 * @return トークナイザインスタンス
+	 */
+	public static ConfigValueTokenizer getInstance(boolean trim) {
+		return trim ? TRIM : RAW;
+	}
+
+	/**
+	 * 定義値を文字列配列に分割します。<br>
+	 * @param value プロパティ定義値
+	 * @return 分割後のトークン
+	 */
+	public String[] toStrings(String value) {
+		Cursor cursor = new Cursor(value);
+		String[] result = new String[cursor.capacity()];
+		int size = 0;
+		while (cursor.next()) {
+			result[size++] = value.substring(cursor.start, cursor.stop);
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * 定義値を整数値配列に分割します。<br>
+	 * @param value プロパティ定義値
+	 * @return 分割後のトークン
+	 */
+	public int[] toInts(String value) {
+		Cursor cursor = new Cursor(value);
+		int[] result = new int[cursor.capacity()];
+		int size = 0;
+		while (cursor.next()) {
+			result[size++] = (int) parseIntegral(value, cursor.start, cursor.stop, 9, false);
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * 定義値を長整数値配列に分割します。<br>
+	 * @param value プロパティ定義値
+	 * @return 分割後のトークン
+	 */
+	public long[] toLongs(String value) {
+		Cursor cursor = new Cursor(value);
+		long[] result = new long[cursor.capacity()];
+		int size = 0;
+		while (cursor.next()) {
+			result[size++] = parseIntegral(value, cursor.start, cursor.stop, 18, true);
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * 定義値を短整数値配列に分割します。<br>
+	 * @param value プロパティ定義値
+	 * @return 分割後のトークン
+	 */
+	public short[] toShorts(String value) {
+		Cursor cursor = new Cursor(value);
+		short[] result = new short[cursor.capacity()];
+		int size = 0;
+		while (cursor.next()) {
+			result[size++] = StringUtil.toPShort(value.substring(cursor.start, cursor.stop));
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * 定義値を浮動小数値配列に分割します。<br>
+	 * @param value プロパティ定義値
+	 * @return 分割後のトークン
+	 */
+	public float[] toFloats(String value) {
+		Cursor cursor = new Cursor(value);
+		float[] result = new float[cursor.capacity()];
+		int size = 0;
+		while (cursor.next()) {
+			result[size++] = StringUtil.toPFloat(value.substring(cursor.start, cursor.stop));
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * 定義値を長浮動小数値配列に分割します。<br>
+	 * @param value プロパティ定義値
+	 * @return 分割後のトークン
+	 */
+	public double[] toDoubles(String value) {
+		Cursor cursor = new Cursor(value);
+		double[] result = new double[cursor.capacity()];
+		int size = 0;
+		while (cursor.next()) {
+			result[size++] = StringUtil.toPDouble(value.substring(cursor.start, cursor.stop));
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * 定義値を真偽値配列に分割します。<br>
+	 * @param value プロパティ定義値
+	 * @return 分割後のトークン
+	 */
+	public boolean[] toBooleans(String value) {
+		Cursor cursor = new Cursor(value);
+		boolean[] result = new boolean[cursor.capacity()];
+		int size = 0;
+		while (cursor.next()) {
+			int length = cursor.stop - cursor.start;
+			if (length == 4 && value.startsWith("true", cursor.start)) {
+				result[size++] = true;
+			} else if (length == 5 && value.startsWith("false", cursor.start)) {
+				result[size++] = false;
+			} else {
+				result[size++] = StringUtil.toPBoolean(value.substring(cursor.start, cursor.stop));
+			}
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * トークン範囲を整数値としてパースします。<br>
+	 * 符号及び、桁あふれしない桁数の数字のみで構成されるトークンは文字列を生成せずにパースし、それ以外のトークンは{@link org.ideaccum.libs.commons.util.StringUtil}によるパースに委譲します。<br>
+	 * @param value プロパティ定義値
+	 * @param start トークン開始位置
+	 * @param stop トークン終了位置(この位置の文字は含まない)
+	 * @param digits 直接パースする最大桁数
+	 * @param wide 長整数値としてパースする場合にtrue
+	 * @return パース後の値
+	 */
+	private static long parseIntegral(String value, int start, int stop, int digits, boolean wide) {
+		int position = start;
+		boolean negative = position < stop && value.charAt(position) == '-';
+		if (negative) {
+			position++;
+		}
+		if (position < stop && stop - position <= digits) {
+			long result = 0;
+			for (; position < stop; position++) {
+				int digit = value.charAt(position) - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				result = result * 10 + digit;
+			}
+			if (position == stop) {
+				return negative ? -result : result;
+			}
+		}
+		String token = value.substring(start, stop);
+		return wide ? StringUtil.toPLong(token) : StringUtil.toPInt(token);
+	}
+
+	/**
+	 * 定義値上のトークン位置を走査するクラスです。<br>
+	 */
+	private final class Cursor {
+
+		/** プロパティ定義値 */
+		private final String value;
+
+		/** 走査終了位置(末尾の空トークンを除外した位置) */
+		private final int end;
+
+		/** 次回走査開始位置 */
+		private int position;
+
+		/** 現在のトークン開始位置 */
+		private int start;
+
+		/** 現在のトークン終了位置(この位置の文字は含まない) */
+		private int stop;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param value プロパティ定義値
+		 */
+		private Cursor(String value) {
+			int end = value == null ? 0 : value.length();
+			while (end > 0 && (value.charAt(end - 1) == DELIMITER || (trim && value.charAt(end - 1) <= ' '))) {
+				end--;
+			}
+			this.value = value;
+			this.end = end;
+			this.position = 0;
+		}
+
+		/**
+		 * 走査範囲内のトークン数の上限を取得します。<br>
+		 * コメントトークンを含むため、実際のトークン数はこの値以下となります。<br>
+		 * @return トークン数の上限
+		 */
+		private int capacity() {
+			if (end == 0) {
+				return 0;
+			}
+			int count = 1;
+			for (int i = value.indexOf(DELIMITER); i >= 0 && i < end; i = value.indexOf(DELIMITER, i + 1)) {
+				count++;
+			}
+			return count;
+		}
+
+		/**
+		 * 次のトークンに移動します。<br>
+		 * コメントトークンは読み飛ばされます。<br>
+		 * @return トークンが存在する場合にtrue
+		 */
+		private boolean next() {
+			while (position < end) {
+				int delimiter = value.indexOf(DELIMITER, position);
+				if (delimiter < 0 || delimiter > end) {
+					delimiter = end;
+				}
+				start = position;
+				stop = delimiter;
+				position = delimiter + 1;
+				if (trim) {
+					while (start < stop && value.charAt(start) <= ' ') {
+						start++;
+					}
+					while (stop > start && value.charAt(stop - 1) <= ' ') {
+						stop--;
+					}
+				}
+				if (start < stop && value.charAt(start) == COMMENT) {
+					continue;
+				}
+				return true;
+			}
+			return false;
+		}
+	}
+}
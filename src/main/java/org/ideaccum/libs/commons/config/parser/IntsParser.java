@@ -1,10 +1,6 @@
 package org.ideaccum.libs.commons.config.parser;
 
-import java.util.LinkedList;
-import java.util.List;
-
-import org.ideaccum.libs.commons.config.ConfigValueParser;
-import org.ideaccum.libs.commons.util.StringUtil;
+import org.ideaccum.libs.commons.config.ConfigValuePrimitiveArrayParser;
 
 /**
  * 定義値を整数値配列としてパースする処理を提供します。<br>
@@ -15,9 +11,30 @@ import org.ideaccum.libs.commons.util.StringUtil;
  *<!--
  * 更新日      更新者           更新内容
  * 2019/10/29  Kitagawa         新規作成
+ * 2026/10/16  agent            プリミティブ型配列としてのパース処理を追加
+ * 2026/10/16  agent            トークン分割処理をConfigValueTokenizerに変更
  *-->
  */
-public class IntsParser implements ConfigValueParser<Integer[]> {
+public class IntsParser implements ConfigValuePrimitiveArrayParser<Integer[], int[]> {
+
+	/** トークナイザ */
+	private final ConfigValueTokenizer tokenizer;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	public IntsParser() {
+		this(false);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param trim 各要素の前後空白を除去する場合にtrue
+	 */
+	public IntsParser(boolean trim) {
+		super();
+		this.tokenizer = ConfigValueTokenizer.getInstance(trim);
+	}
 
 	/**
 	 * プロパティリソース定義文字列内容を実際に利用する際の型にパースして提供します。<br>
@@ -27,14 +44,25 @@ public class IntsParser implements ConfigValueParser<Integer[]> {
 	 */
 	@Override
 	public Integer[] parse(String value) {
-		if (value == null) {
-			return new Integer[0];
+		int[] values = parsePrimitives(value);
+		Integer[] result = new Integer[values.length];
+		for (int i = 0; i <= values.length - 1; i++) {
+			result[i] = values[i];
 		}
-		String[] tokens = new StringsParser().parse(value);
-		List<Integer> list = new LinkedList<>();
-		for (String token : tokens) {
-			list.add(new Integer(StringUtil.toPInt(token)));
+		return result;
+	}
+
+	/**
+	 * プロパティリソース定義文字列内容をプリミティブ型配列にパースして提供します。<br>
+	 * @param value プロパティ定義値
+	 * @return パース語定義値
+	 * @see org.ideaccum.libs.commons.config.ConfigValuePrimitiveArrayParser#parsePrimitives(java.lang.String)
+	 */
+	@Override
+	public int[] parsePrimitives(String value) {
+		if (value == null) {
+			return new int[0];
 		}
-		return list.toArray(new Integer[0]);
+		return tokenizer.toInts(value);
 	}
 }
@@ -1,10 +1,6 @@
 package org.ideaccum.libs.commons.config.parser;
 
-import java.util.LinkedList;
-import java.util.List;
-
 import org.ideaccum.libs.commons.config.ConfigValueParser;
-import org.ideaccum.libs.commons.util.StringUtil;
 
 /**
  * 定義値を文字列配列としてパースする処理を提供します。<br>
@@ -15,10 +11,30 @@ import org.ideaccum.libs.commons.util.StringUtil;
  *<!--
  * 更新日      更新者           更新内容
  * 2019/10/29  Kitagawa         新規作成
+ * 2026/10/16  agent            トークン分割処理をConfigValueTokenizerに変更
  *-->
  */
 public class StringsParser implements ConfigValueParser<String[]> {
 
+	/** トークナイザ */
+	private final ConfigValueTokenizer tokenizer;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	public StringsParser() {
+		this(false);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param trim 各要素の前後空白を除去する場合にtrue
+	 */
+	public StringsParser(boolean trim) {
+		super();
+		this.tokenizer = ConfigValueTokenizer.getInstance(trim);
+	}
+
 	/**
 	 * プロパティリソース定義文字列内容を実際に利用する際の型にパースして提供します。<br>
 	 * @param value プロパティ定義値
@@ -30,14 +46,6 @@ public class StringsParser implements ConfigValueParser<String[]> {
 		if (value == null) {
 			return new String[0];
 		}
-		String[] tokens = StringUtil.isEmpty(value) ? new String[0] : value.split(",");
-		List<String> list = new LinkedList<>();
-		for (String token : tokens) {
-			if (token.startsWith("#")) {
-				continue;
-			}
-			list.add(token);
-		}
-		return (String[]) list.toArray(new String[0]);
+		return tokenizer.toStrings(value);
 	}
 }
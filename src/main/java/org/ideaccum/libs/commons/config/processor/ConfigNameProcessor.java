@@ -0,0 +1,155 @@
+package org.ideaccum.libs.commons.config.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.ideaccum.libs.commons.config.ConfigName;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigName}のサブクラスのインデックスを生成するアノテーションプロセッサを提供します。<br>
+ * <p>
+ * コンパイル対象のクラスのうち{@link org.ideaccum.libs.commons.config.ConfigName}を継承するクラス(ネストしたクラスを含む)のバイナリ名を、
+ * {@link org.ideaccum.libs.commons.config.ConfigName#INDEX_RESOURCE}のリソースとしてクラス出力先に出力します。<br>
+ * {@link org.ideaccum.libs.commons.config.ConfigName}はプロパティキーの初回検索時にクラスパス上の全てのインデックスに記載されたクラスを初期化するため、
+ * 実行時にクラスパスを走査することなく全てのプロパティアクセスキーが登録されます。<br>
+ * </p>
+ * <p>
+ * プロセッサはライブラリのjarに含まれるサービス定義により、アノテーションプロセッサパスを明示しない通常のコンパイルでは自動的に実行されます。<br>
+ * 差分コンパイルに対応するため、既存のインデックスに記載されたクラスは維持されます(削除されたクラスは実行時に無視されます)。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+@SupportedAnnotationTypes("*")
+public final class ConfigNameProcessor extends AbstractProcessor {
+
+	/** インデックス対象クラス名 */
+	private final Set<String> names;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	public ConfigNameProcessor() {
+		super();
+		this.names = new TreeSet<>();
+	}
+
+	/**
+	 * サポートするソースバージョンを取得します。<br>
+	 * @return 実行環境でサポートされる最新のソースバージョン
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * コンパイル対象のクラスからインデックス対象クラスを収集し、最終ラウンドでインデックスを出力します。<br>
+	 * @param annotations 処理対象アノテーション
+	 * @param roundEnv ラウンド環境
+	 * @return 他のプロセッサの処理を妨げないため常にfalse
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			if (!names.isEmpty()) {
+				write();
+			}
+		} else {
+			for (Element element : roundEnv.getRootElements()) {
+				collect(element);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 要素及び、ネストしたクラスからインデックス対象クラスを収集します。<br>
+	 * @param element 要素
+	 */
+	private void collect(Element element) {
+		if (!(element instanceof TypeElement)) {
+			return;
+		}
+		TypeElement type = (TypeElement) element;
+		if (isConfigName(type)) {
+			names.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+		}
+		for (Element enclosed : type.getEnclosedElements()) {
+			collect(enclosed);
+		}
+	}
+
+	/**
+	 * クラスが{@link org.ideaccum.libs.commons.config.ConfigName}を継承しているか判定します。<br>
+	 * @param type クラス
+	 * @return 継承している場合にtrueを返却
+	 */
+	private boolean isConfigName(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		while (superclass.getKind() == TypeKind.DECLARED) {
+			TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+			if (element.getQualifiedName().contentEquals(ConfigName.class.getName())) {
+				return true;
+			}
+			superclass = element.getSuperclass();
+		}
+		return false;
+	}
+
+	/**
+	 * 既存のインデックスに収集したクラスを追加して出力します。<br>
+	 */
+	private void write() {
+		Set<String> index = new TreeSet<>(names);
+		try {
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", ConfigName.INDEX_RESOURCE);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					line = line.trim();
+					if (!line.isEmpty() && !line.startsWith("#")) {
+						index.add(line);
+					}
+				}
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			// 既存のインデックスが存在しない場合は収集したクラスのみを出力
+		}
+		try {
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ConfigName.INDEX_RESOURCE);
+			try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+				for (String name : index) {
+					writer.write(name);
+					writer.write("\n");
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + ConfigName.INDEX_RESOURCE + ": " + e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,13 @@
+/**
+ * このパッケージではプロパティアクセスキークラスのビルド時処理を行うアノテーションプロセッサが提供されます。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.config.processor.ConfigNameProcessor}をコンパイル時に実行することで、{@link org.ideaccum.libs.commons.config.ConfigName}のサブクラスのインデックスが生成され、
+ * 実行時にクラスパスを走査することなく全てのプロパティアクセスキーが登録されます。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+package org.ideaccum.libs.commons.config.processor;
@@ -0,0 +1,268 @@
+package org.ideaccum.libs.commons.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 環境設定情報の処理をJava Flight Recorderのイベントとして記録します。<br>
+ * <p>
+ * 当クラスは{@link org.ideaccum.libs.commons.config.ConfigEvents}からJava Flight Recorderが利用可能な場合のみリフレクションでロードされます。<br>
+ * jdk.jfrパッケージを参照するため、Java 8を対象とするソースとは分離してJava 11以降でコンパイルされ、マルチリリースJARのMETA-INF/versions/11配下に格納されます。<br>
+ * 記録されるイベントは以下の通りで、全てディフォルトでは無効となっているため、記録設定(.jfcファイル等)でイベント名を指定して有効化して下さい。<br>
+ * <ul>
+ * <li>org.ideaccum.libs.commons.config.Load : プロパティリソースごとの読み込み(解析)処理</li>
+ * <li>org.ideaccum.libs.commons.config.Apply : 読み込み及び、再読み込みごとのプロパティ情報の反映処理</li>
+ * <li>org.ideaccum.libs.commons.config.Render : 閾値(ディフォルト10ミリ秒)を超えたレンダラ処理</li>
+ * <li>org.ideaccum.libs.commons.config.ParseFailure : パース処理の失敗</li>
+ * </ul>
+ * プロパティ定義値はイベントに記録されません(パーサーがスローした例外のメッセージに含まれる場合を除く)。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+final class ConfigFlightRecorder extends ConfigEvents {
+
+	/**
+	 * プロパティリソース読み込みイベントクラスです。<br>
+	 */
+	@Name("org.ideaccum.libs.commons.config.Load")
+	@Label("Config Load")
+	@Description("プロパティリソースの読み込み(解析)処理")
+	@Category({ "Ideaccum", "Config" })
+	@Enabled(false)
+	@StackTrace(false)
+	static final class LoadEvent extends Event {
+
+		/** プロパティリソースパス */
+		@Label("File Path")
+		String filePath;
+
+		/** 読み込みモード */
+		@Label("Mode")
+		String mode;
+
+		/** 読み込まれたプロパティ数 */
+		@Label("Keys")
+		int keys;
+	}
+
+	/**
+	 * プロパティ情報反映イベントクラスです。<br>
+	 */
+	@Name("org.ideaccum.libs.commons.config.Apply")
+	@Label("Config Apply")
+	@Description("読み込まれたプロパティ情報の反映処理(リスナ通知を除く)")
+	@Category({ "Ideaccum", "Config" })
+	@Enabled(false)
+	@StackTrace(false)
+	static final class ApplyEvent extends Event {
+
+		/** 標準プロパティリソースパス(再読み込みの場合はnull) */
+		@Label("File Path")
+		String filePath;
+
+		/** 標準プロパティリソースの読み込みモード(再読み込みの場合はnull) */
+		@Label("Mode")
+		String mode;
+
+		/** 再読み込みフラグ */
+		@Label("Reload")
+		boolean reload;
+
+		/** 定義値が変更されたプロパティ数 */
+		@Label("Changed Keys")
+		int changedKeys;
+	}
+
+	/**
+	 * レンダラ処理イベントクラスです。<br>
+	 */
+	@Name("org.ideaccum.libs.commons.config.Render")
+	@Label("Config Render")
+	@Description("閾値を超えたレンダラ処理")
+	@Category({ "Ideaccum", "Config" })
+	@Enabled(false)
+	@Threshold("10 ms")
+	static final class RenderEvent extends Event {
+
+		/** プロパティキー */
+		@Label("Key")
+		String key;
+
+		/** レンダラクラス */
+		@Label("Renderer")
+		Class<?> renderer;
+	}
+
+	/**
+	 * パース失敗イベントクラスです。<br>
+	 */
+	@Name("org.ideaccum.libs.commons.config.ParseFailure")
+	@Label("Config Parse Failure")
+	@Description("プロパティ値のパース処理の失敗")
+	@Category({ "Ideaccum", "Config" })
+	@Enabled(false)
+	static final class ParseFailureEvent extends Event {
+
+		/** プロパティキー */
+		@Label("Key")
+		String key;
+
+		/** パーサークラス */
+		@Label("Parser")
+		Class<?> parser;
+
+		/** 例外クラス */
+		@Label("Exception")
+		Class<?> exception;
+
+		/** 例外メッセージ */
+		@Label("Message")
+		String message;
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @throws IllegalStateException 実行環境でJava Flight Recorderが利用できない場合にスローされます
+	 */
+	ConfigFlightRecorder() {
+		super();
+		if (!FlightRecorder.isAvailable()) {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * プロパティリソース読み込みイベントを開始します。<br>
+	 * @return イベント(記録しない場合はnull)
+	 * @see org.ideaccum.libs.commons.config.ConfigEvents#beginLoad()
+	 */
+	@Override
+	Object beginLoad() {
+		LoadEvent event = new LoadEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * プロパティリソース読み込みイベントを終了して記録します。<br>
+	 * @param event {@link #beginLoad()}で開始したイベント
+	 * @param filePath プロパティリソースパス
+	 * @param mode 読み込みモード
+	 * @param loaded 読み込まれたプロパティ情報
+	 * @see org.ideaccum.libs.commons.config.ConfigEvents#endLoad(java.lang.Object, java.lang.String, org.ideaccum.libs.commons.config.ConfigLoadMode, java.util.Map)
+	 */
+	@Override
+	void endLoad(Object event, String filePath, ConfigLoadMode mode, Map<?, ?> loaded) {
+		LoadEvent load = (LoadEvent) event;
+		load.end();
+		if (load.shouldCommit()) {
+			load.filePath = filePath;
+			load.mode = mode == null ? null : mode.name();
+			load.keys = loaded == null ? 0 : loaded.size();
+			load.commit();
+		}
+	}
+
+	/**
+	 * プロパティ情報反映イベントを開始します。<br>
+	 * @return イベント(記録しない場合はnull)
+	 * @see org.ideaccum.libs.commons.config.ConfigEvents#beginApply()
+	 */
+	@Override
+	Object beginApply() {
+		ApplyEvent event = new ApplyEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * プロパティ情報反映イベントを終了して記録します。<br>
+	 * 変更されたプロパティ数はイベントを記録する場合のみ算出されます。<br>
+	 * @param event {@link #beginApply()}で開始したイベント
+	 * @param filePath 標準プロパティリソースパス(再読み込みの場合はnull)
+	 * @param mode 標準プロパティリソースの読み込みモード(再読み込みの場合はnull)
+	 * @param reload 再読み込みの場合にtrue
+	 * @param before 反映前の参照解決前スナップショット
+	 * @param after 反映後の参照解決前スナップショット
+	 * @param keys 定義値が変更された可能性のあるキーの生成処理
+	 * @see org.ideaccum.libs.commons.config.ConfigEvents#endApply(java.lang.Object, java.lang.String, org.ideaccum.libs.commons.config.ConfigLoadMode, boolean, org.ideaccum.libs.commons.config.ConfigSnapshot, org.ideaccum.libs.commons.config.ConfigSnapshot, java.util.function.Supplier)
+	 */
+	@Override
+	void endApply(Object event, String filePath, ConfigLoadMode mode, boolean reload, ConfigSnapshot before, ConfigSnapshot after, Supplier<Collection<String>> keys) {
+		ApplyEvent apply = (ApplyEvent) event;
+		apply.end();
+		if (apply.shouldCommit()) {
+			apply.filePath = filePath;
+			apply.mode = mode == null ? null : mode.name();
+			apply.reload = reload;
+			apply.changedKeys = changed(before, after, keys);
+			apply.commit();
+		}
+	}
+
+	/**
+	 * レンダラ処理を行います。<br>
+	 * パイプラインは各段のレンダラごとに記録されるため、パイプライン自身の処理は記録しません。<br>
+	 * @param renderer レンダラ
+	 * @param name プロパティアクセスキー
+	 * @param value プロパティ定義値
+	 * @return 補正後の定義値
+	 * @see org.ideaccum.libs.commons.config.ConfigEvents#render(org.ideaccum.libs.commons.config.ConfigValueRenderer, org.ideaccum.libs.commons.config.ConfigName, java.lang.String)
+	 */
+	@Override
+	String render(ConfigValueRenderer renderer, ConfigName<?> name, String value) {
+		RenderEvent event = new RenderEvent();
+		if (!event.isEnabled() || renderer instanceof ConfigRendererPipeline) {
+			return renderer.render(name, value);
+		}
+		event.begin();
+		String result = renderer.render(name, value);
+		event.end();
+		if (event.shouldCommit()) {
+			event.key = name == null ? null : name.getKey();
+			event.renderer = renderer.getClass();
+			event.commit();
+		}
+		return result;
+	}
+
+	/**
+	 * パース失敗イベントを記録します。<br>
+	 * @param parser プロパティ値パーサー
+	 * @param name プロパティアクセスキー
+	 * @param cause パース処理でスローされた例外
+	 * @see org.ideaccum.libs.commons.config.ConfigEvents#parseFailed(org.ideaccum.libs.commons.config.ConfigValueParser, org.ideaccum.libs.commons.config.ConfigName, java.lang.RuntimeException)
+	 */
+	@Override
+	void parseFailed(ConfigValueParser<?> parser, ConfigName<?> name, RuntimeException cause) {
+		ParseFailureEvent event = new ParseFailureEvent();
+		if (event.shouldCommit()) {
+			event.key = name == null ? null : name.getKey();
+			event.parser = parser.getClass();
+			event.exception = cause.getClass();
+			event.message = cause.getMessage();
+			event.commit();
+		}
+	}
+}
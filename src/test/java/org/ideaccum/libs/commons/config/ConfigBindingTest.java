@@ -0,0 +1,351 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigBinding}による設定クラスへの追従を検証するテストクラスです。<br>
+ * <p>
+ * 型に対応するパーサーによる値の変換、下位の部分集合からの入れ子のインスタンスの生成、変更されたプロパティのみの再設定を検証します。<br>
+ * 削除されたプロパティのフィールドがnull又は、0となること、部分集合の追加及び、削除に応じて入れ子のインスタンスが生成及び、破棄されることを検証します。<br>
+ * レンダラの変更時に、プロパティ定義値が変更されていなくても全てのプロパティが新たなレンダラで再設定されることを検証します。<br>
+ * レコードクラスの検証はレコードクラスをコンパイルできる実行環境でのみ行います。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ * 2026/10/17  agent            入れ子のインスタンスの設定及び、変更への追従の検証を追加
+ *-->
+ */
+public class ConfigBindingTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 部分集合のプロパティが型に対応するパーサーで変換され、入れ子のインスタンスが下位の部分集合から生成されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testBind() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("bind.properties", //
+				"bound.test.name=name", //
+				"bound.test.size=10", //
+				"bound.test.ids=1,2,3", //
+				"bound.test.enabled=true", //
+				"bound.test.pool.max=20", //
+				"bound.testing.size=30"));
+		Settings settings = config.bind("bound.test", Settings.class);
+		assertEquals("name", settings.name);
+		assertEquals(10, settings.size);
+		assertArrayEquals(new long[] { 1L, 2L, 3L }, settings.ids);
+		assertEquals(Boolean.TRUE, settings.enabled);
+		assertEquals(20, settings.pool.max);
+		// 定義されていない部分集合の入れ子のインスタンスは生成されない
+		assertNull(settings.spare);
+		assertEquals("ignored", settings.ignored);
+		assertNotSame(settings, config.bind("bound.test.", Settings.class));
+		Settings empty = config.bind("bound.missing", Settings.class);
+		assertNull(empty.name);
+		assertEquals(0, empty.size);
+		assertNull(empty.pool);
+	}
+
+	/**
+	 * プロパティの変更時に、同一のインスタンスに対して変更されたプロパティのみが再設定されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testUpdate() throws IOException {
+		File file = folder.newFile("update.properties");
+		write(file, "bound.test.name=name", "bound.test.size=10", "bound.test.pool.max=20");
+		Config config = Config.create(false);
+		config.load(file.getPath());
+		ConfigBinding<Settings> binding = config.binding("bound.test", Settings.class);
+		Settings settings = binding.get();
+		Limit pool = settings.pool;
+		// 変更されていないプロパティのフィールドは参照されないため、直接変更した値が維持される
+		settings.name = "local";
+		write(file, "bound.test.name=name", "bound.test.size=11", "bound.test.pool.max=20");
+		config.reload();
+		assertSame(settings, binding.get());
+		assertEquals(11, settings.size);
+		assertEquals("local", settings.name);
+		assertSame(pool, settings.pool);
+		pool.max = -1;
+		write(file, "bound.test.name=name", "bound.test.size=11", "bound.test.pool.max=21");
+		config.reload();
+		assertSame(pool, settings.pool);
+		assertEquals(21, pool.max);
+		assertEquals("local", settings.name);
+		binding.close();
+	}
+
+	/**
+	 * プロパティの削除時にフィールドがnull又は、0となり、部分集合の追加及び、削除に応じて入れ子のインスタンスが生成及び、破棄されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testDelete() throws IOException {
+		File file = folder.newFile("delete.properties");
+		write(file, "bound.test.name=name", "bound.test.size=10", "bound.test.enabled=true", "bound.test.pool.max=20");
+		Config config = Config.create(false);
+		config.load(file.getPath());
+		ConfigBinding<Settings> binding = config.binding("bound.test", Settings.class);
+		Settings settings = binding.get();
+		write(file, "bound.test.spare.max=30");
+		config.reload();
+		assertSame(settings, binding.get());
+		assertNull(settings.name);
+		assertEquals(0, settings.size);
+		assertNull(settings.enabled);
+		assertNull(settings.pool);
+		assertEquals(30, settings.spare.max);
+		binding.close();
+	}
+
+	/**
+	 * 破棄されたバインディングのインスタンスがプロパティの変更に追従しないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testClose() throws IOException {
+		File file = folder.newFile("close.properties");
+		write(file, "bound.test.size=10");
+		Config config = Config.create(false);
+		config.load(file.getPath());
+		ConfigBinding<Settings> binding = config.binding("bound.test", Settings.class);
+		Settings settings = binding.get();
+		binding.close();
+		write(file, "bound.test.size=11", "bound.test.pool.max=20");
+		config.reload();
+		assertSame(settings, binding.get());
+		assertEquals(10, settings.size);
+		assertNull(settings.pool);
+	}
+
+	/**
+	 * レコードクラスが標準コンストラクタで生成され、プロパティの変更時に新たなインスタンスに置き換えられることを検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testRecord() throws Exception {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assumeTrue("レコードクラスをコンパイルできない実行環境", compiler != null && hasRecord());
+		File source = new File(folder.getRoot(), "Server.java");
+		Files.write(source.toPath(), Arrays.asList( //
+				"public record Server(String host, int port, Server.Limit limit) {", //
+				"	public record Limit(int max) {", //
+				"	}", //
+				"}"), StandardCharsets.UTF_8);
+		assertEquals(0, compiler.run(null, null, null, "-d", folder.getRoot().getPath(), source.getPath()));
+		File file = folder.newFile("record.properties");
+		write(file, "record.test.host=localhost", "record.test.limit.max=5");
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { folder.getRoot().toURI().toURL() }, getClass().getClassLoader())) {
+			Class<?> type = loader.loadClass("Server");
+			Config config = Config.create(false);
+			config.load(file.getPath());
+			Object server = config.bind("record.test", type);
+			assertEquals("localhost", type.getMethod("host").invoke(server));
+			assertEquals(0, type.getMethod("port").invoke(server));
+			Object limit = type.getMethod("limit").invoke(server);
+			assertEquals(5, limit.getClass().getMethod("max").invoke(limit));
+			ConfigBinding<?> binding = config.binding("record.test", type);
+			Object bound = binding.get();
+			assertEquals(server, bound);
+			write(file, "record.test.host=localhost", "record.test.port=8080");
+			config.reload();
+			Object updated = binding.get();
+			assertNotSame(bound, updated);
+			assertEquals(8080, type.getMethod("port").invoke(updated));
+			assertNull(type.getMethod("limit").invoke(updated));
+			assertEquals(0, type.getMethod("port").invoke(bound));
+			binding.close();
+		}
+	}
+
+	/**
+	 * 実行環境がレコードクラスに対応しているか判定します。<br>
+	 * @return レコードクラスに対応している場合にtrueを返却
+	 */
+	private static boolean hasRecord() {
+		for (Method method : Class.class.getMethods()) {
+			if ("isRecord".equals(method.getName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * レンダラの変更時に、入れ子のインスタンスを含む全てのプロパティが再設定されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testRenderer() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("renderer.properties", "binding.test.name=name", "binding.test.pool.max=max"));
+		// レンダラはプロパティアクセスキーとして提供されるキーの定義値のみを処理
+		assertSame(TestConfigName.POOL_MAX, ConfigName.valueOf("binding.test.pool.max"));
+		ConfigBinding<Bound> binding = config.binding("binding.test", Bound.class);
+		Bound bound = binding.get();
+		assertEquals("name", bound.name);
+		assertEquals("max", bound.pool.max);
+		config.setRenderer((name, value) -> value.toUpperCase());
+		assertSame(bound, binding.get());
+		assertEquals("NAME", bound.name);
+		assertEquals("MAX", bound.pool.max);
+		binding.close();
+		config.setRenderer(null);
+		assertEquals("NAME", bound.name);
+	}
+
+	/**
+	 * グローバル環境設定情報のレンダラの変更時に、グローバル環境設定情報を継承している環境設定情報のバインディングが再設定されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testGlobalRenderer() throws IOException {
+		Config config = Config.create(true);
+		config.load(write("global.properties", "binding.test.name=name"));
+		assertSame(TestConfigName.NAME, ConfigName.valueOf("binding.test.name"));
+		ConfigBinding<Bound> binding = config.binding("binding.test", Bound.class);
+		try {
+			Config.global().setRenderer((name, value) -> value + "!");
+			assertEquals("name!", binding.get().name);
+		} finally {
+			Config.global().setRenderer(null);
+		}
+		assertEquals("name", binding.get().name);
+		binding.close();
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file.getPath();
+	}
+
+	/**
+	 * プロパティリソースを書き換えます。<br>
+	 * @param file プロパティリソース
+	 * @param lines プロパティ定義行
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static void write(File file, String... lines) throws IOException {
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * 型に対応するパーサーで変換されるフィールド及び、入れ子の設定を持つ検証に利用する設定クラスです。<br>
+	 */
+	public static final class Settings {
+
+		/** 設定対象外の定数 */
+		public static final String CONSTANT = "constant";
+
+		/** 名称 */
+		public String name;
+
+		/** 件数 */
+		public int size;
+
+		/** 識別子 */
+		public long[] ids;
+
+		/** 有効である場合にtrue */
+		public Boolean enabled;
+
+		/** 入れ子の設定 */
+		public Limit pool;
+
+		/** 定義されない場合がある入れ子の設定 */
+		public Limit spare;
+
+		/** 設定対象外のフィールド */
+		public transient String ignored = "ignored";
+	}
+
+	/**
+	 * 検証に利用する設定クラスです。<br>
+	 */
+	public static final class Bound {
+
+		/** 名称 */
+		public String name;
+
+		/** 入れ子の設定 */
+		public Pool pool;
+	}
+
+	/**
+	 * 検証に利用する入れ子の設定クラスです。<br>
+	 */
+	public static final class Pool {
+
+		/** 最大値 */
+		public String max;
+	}
+
+	/**
+	 * 検証に利用する数値を持つ入れ子の設定クラスです。<br>
+	 */
+	public static final class Limit {
+
+		/** 最大値 */
+		public int max;
+	}
+
+	/**
+	 * 検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static final class TestConfigName<T> extends ConfigName<T> {
+
+		/** 名称 */
+		static final TestConfigName<String> NAME = new TestConfigName<>("binding.test.name", StringParser.class);
+
+		/** 入れ子の設定の最大値 */
+		static final TestConfigName<String> POOL_MAX = new TestConfigName<>("binding.test.pool.max", StringParser.class);
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		private TestConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigCompactMap}の格納内容及び、出力内容からの復元を検証するテストクラスです。<br>
+ * <p>
+ * マルチバイト文字、補助文字、不正なサロゲート及び、空文字列を含むマップと、固定シードで生成したマップが元のマップと一致することを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public class ConfigCompactMapTest {
+
+	/**
+	 * 空のマップを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testEmpty() throws IOException {
+		assertRoundTrip(new HashMap<>());
+	}
+
+	/**
+	 * 各種文字を含むマップを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testCharacters() throws IOException {
+		Map<String, String> map = new HashMap<>();
+		map.put("ascii.key", "value");
+		map.put("", "empty key");
+		map.put("empty.value", "");
+		map.put("日本語.キー", "値あい");
+		map.put("latin", "éÿ\u0080");
+		map.put("nul", "a\u0000b");
+		map.put("supplementary", "𠮷😀");
+		map.put("lone.high", "x\uD800");
+		map.put("lone.low", "\uDC00y");
+		map.put("reversed", "\uDE00\uD83D");
+		assertRoundTrip(map);
+	}
+
+	/**
+	 * 固定シードで生成したマップを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testRandom() throws IOException {
+		Random random = new Random(20261016L);
+		for (int i = 0; i <= 50 - 1; i++) {
+			Map<String, String> map = new HashMap<>();
+			int count = random.nextInt(i * 40 + 1);
+			for (int j = 0; j <= count - 1; j++) {
+				map.put(random(random), random(random));
+			}
+			assertRoundTrip(map);
+		}
+	}
+
+	/**
+	 * 連続して出力された複数のマップが順に復元されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testSequential() throws IOException {
+		Map<String, String> first = new HashMap<>();
+		first.put("a", "1");
+		Map<String, String> second = new HashMap<>();
+		second.put("b", "2");
+		second.put("c", "3");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		ConfigCompactMap.of(first).write(output);
+		ConfigCompactMap.of(second).write(output);
+		output.writeInt(0x12345678);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+		assertEquals(first, ConfigCompactMap.read(buffer));
+		assertEquals(second, ConfigCompactMap.read(buffer));
+		assertEquals(0x12345678, buffer.getInt());
+	}
+
+	/**
+	 * 不正なハッシュテーブル長の内容が拒否されることを検証します。<br>
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testIllegalSlots() {
+		ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 3);
+		buffer.putInt(0).putInt(0).putInt(3).flip();
+		ConfigCompactMap.read(buffer);
+	}
+
+	/**
+	 * 生成したマップ及び、出力内容から復元したマップが元のマップと一致することを検証します。<br>
+	 * @param expected 元のマップ
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static void assertRoundTrip(Map<String, String> expected) throws IOException {
+		ConfigCompactMap map = ConfigCompactMap.of(expected);
+		assertContents(expected, map);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		map.write(output);
+		output.flush();
+		ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+		ConfigCompactMap restored = ConfigCompactMap.read(buffer);
+		assertFalse(buffer.hasRemaining());
+		assertContents(expected, restored);
+		// メモリマップしたファイルと同様にヒープ外のバッファから復元した場合も同一の内容となる
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.size());
+		direct.put(bytes.toByteArray()).flip();
+		ConfigCompactMap mapped = ConfigCompactMap.read(direct);
+		assertFalse(direct.hasRemaining());
+		assertTrue(mapped.isDirect());
+		assertContents(expected, mapped);
+		ByteArrayOutputStream rewritten = new ByteArrayOutputStream();
+		mapped.write(new DataOutputStream(rewritten));
+		assertArrayEquals(bytes.toByteArray(), rewritten.toByteArray());
+	}
+
+	/**
+	 * マップの内容が元のマップと一致することを検証します。<br>
+	 * @param expected 元のマップ
+	 * @param actual 検証対象マップ
+	 */
+	private static void assertContents(Map<String, String> expected, ConfigCompactMap actual) {
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected, actual);
+		assertEquals(expected, new HashMap<>(actual));
+		for (Map.Entry<String, String> entry : expected.entrySet()) {
+			assertTrue(actual.containsKey(entry.getKey()));
+			assertEquals(entry.getValue(), actual.get(entry.getKey()));
+		}
+		Map<String, String> visited = new HashMap<>();
+		actual.forEach(visited::put);
+		assertEquals(expected, visited);
+		assertNull(actual.get("#absent#"));
+		assertNull(actual.get(null));
+		assertFalse(actual.containsKey(Integer.valueOf(1)));
+	}
+
+	/**
+	 * ランダムな文字列を生成します。<br>
+	 * ASCII文字、マルチバイト文字及び、サロゲートを含む文字から生成します。<br>
+	 * @param random 乱数生成器
+	 * @return 文字列
+	 */
+	private static String random(Random random) {
+		char[] chars = new char[random.nextInt(12)];
+		for (int i = 0; i <= chars.length - 1; i++) {
+			switch (random.nextInt(4)) {
+			case 0:
+				chars[i] = (char) ('a' + random.nextInt(26));
+				break;
+			case 1:
+				chars[i] = (char) (0x80 + random.nextInt(0x780));
+				break;
+			case 2:
+				chars[i] = (char) (0x3000 + random.nextInt(0x1000));
+				break;
+			default:
+				chars[i] = (char) (0xD800 + random.nextInt(0x800));
+				break;
+			}
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,186 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigEvents}によるイベント記録処理の呼び出しを検証するテストクラスです。<br>
+ * <p>
+ * イベントが記録されない実行環境でイベントが生成されずに読み込み及び、参照が行われること、パース処理の失敗が例外を変えずに通知されること、反映による変更キー数が算出されることを検証します。<br>
+ * Flight Recorderのイベント自体はJava 11以降向けにマルチリリースJARにのみ含まれるため、本テストクラスでは検証しません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigEventsTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * イベントが記録されない場合にイベントが生成されず、読み込み及び、参照が行われることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testDisabled() throws IOException {
+		ConfigEvents events = new ConfigEvents();
+		assertNull(events.beginLoad());
+		assertNull(events.beginApply());
+		events.endLoad(null, "events.properties", ConfigLoadMode.REPLACE_ALL, Collections.emptyMap());
+		events.endApply(null, "events.properties", ConfigLoadMode.REPLACE_ALL, false, ConfigSnapshot.EMPTY, ConfigSnapshot.EMPTY, null);
+		assertEquals("VALUE", events.render((name, value) -> value.toUpperCase(), TestConfigName.NAME, "value"));
+		Config config = Config.create(false);
+		config.load(write("disabled.properties", "events.test.name=name"));
+		config.reload();
+		assertEquals("name", config.get(TestConfigName.NAME));
+	}
+
+	/**
+	 * パース処理の失敗が例外を変えずに通知され、成功したパース処理は通知されないことを検証します。<br>
+	 */
+	@Test
+	public void testParse() {
+		List<String> failures = new ArrayList<>();
+		ConfigEvents events = new ConfigEvents() {
+
+			@Override
+			void parseFailed(ConfigValueParser<?> parser, ConfigName<?> name, RuntimeException cause) {
+				failures.add(name.getKey() + ":" + parser.getClass().getSimpleName() + ":" + cause.getMessage());
+			}
+		};
+		assertEquals("value", events.parse(new StringParser(), TestConfigName.NAME, "value"));
+		assertTrue(failures.isEmpty());
+		FailingParser parser = new FailingParser();
+		try {
+			events.parse(parser, TestConfigName.FAILING, "value");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertSame(parser.thrown, e);
+		}
+		assertEquals(Arrays.asList("events.test.failing:FailingParser:value"), failures);
+	}
+
+	/**
+	 * 参照時のパース処理の失敗が呼び出し元に通知されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testParseFailure() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("failure.properties", "events.test.failing=value"));
+		try {
+			config.get(TestConfigName.FAILING);
+			fail();
+		} catch (RuntimeException e) {
+			Throwable cause = e;
+			while (cause != null && !(cause instanceof IllegalArgumentException)) {
+				cause = cause.getCause();
+			}
+			assertNotNull(cause);
+			assertEquals("value", cause.getMessage());
+		}
+	}
+
+	/**
+	 * 反映前後のスナップショットから追加、変更及び、削除されたキー数が算出されることを検証します。<br>
+	 */
+	@Test
+	public void testChanged() {
+		Map<String, String> map = new HashMap<>();
+		map.put(TestConfigName.NAME.getKey(), "name");
+		map.put("events.plain.a", "1");
+		map.put("events.plain.b", "2");
+		ConfigSnapshot before = ConfigSnapshot.EMPTY.apply(map, ConfigLoadMode.REPLACE_ALL);
+		assertEquals(0, ConfigEvents.changed(before, before, null));
+		assertEquals(3, ConfigEvents.changed(ConfigSnapshot.EMPTY, before, null));
+		Map<String, String> changed = new HashMap<>();
+		changed.put(TestConfigName.NAME.getKey(), "name");
+		changed.put("events.plain.a", "10");
+		changed.put("events.plain.c", "3");
+		ConfigSnapshot after = ConfigSnapshot.EMPTY.apply(changed, ConfigLoadMode.REPLACE_ALL);
+		// events.plain.aの変更、events.plain.bの削除及び、events.plain.cの追加
+		assertEquals(3, ConfigEvents.changed(before, after, null));
+		// 比較対象のキーが提供される場合は提供されたキーのみを比較
+		assertEquals(1, ConfigEvents.changed(before, after, () -> Arrays.asList(TestConfigName.NAME.getKey(), "events.plain.a")));
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file.getPath();
+	}
+
+	/**
+	 * 常にパースに失敗するパーサーです。<br>
+	 */
+	public static final class FailingParser implements ConfigValueParser<String> {
+
+		/** 最後にスローした例外 */
+		private IllegalArgumentException thrown;
+
+		/**
+		 * プロパティ定義値を例外メッセージとしてパースに失敗します。<br>
+		 * @param value プロパティ定義値
+		 * @return 返却されません
+		 * @see org.ideaccum.libs.commons.config.ConfigValueParser#parse(java.lang.String)
+		 */
+		@Override
+		public String parse(String value) {
+			thrown = new IllegalArgumentException(value);
+			throw thrown;
+		}
+	}
+
+	/**
+	 * 検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static final class TestConfigName<T> extends ConfigName<T> {
+
+		/** 名称 */
+		static final TestConfigName<String> NAME = new TestConfigName<>("events.test.name", StringParser.class);
+
+		/** パースに失敗するプロパティ */
+		static final TestConfigName<String> FAILING = new TestConfigName<>("events.test.failing", FailingParser.class);
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		private TestConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+}
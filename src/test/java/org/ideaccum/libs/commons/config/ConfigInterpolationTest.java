@@ -0,0 +1,168 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.ideaccum.libs.commons.config.exception.ConfigException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigInterpolation}の参照解決及び、循環参照の検出を検証するテストクラスです。<br>
+ * <p>
+ * 自己参照、複数キーを経由する循環参照及び、更新により生じる循環参照が検出されて状態が更新されないこと、
+ * 循環しない共有参照が正しく解決されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public class ConfigInterpolationTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 循環しない参照が依存関係順に解決されることを検証します。<br>
+	 */
+	@Test
+	public void testResolve() {
+		ConfigInterpolation interpolation = update(ConfigInterpolation.EMPTY, "a", "${b}-${c}", "b", "${d}", "c", "${d}${d}", "d", "x", "e", "${undefined}");
+		assertEquals("x-xx", interpolation.getSnapshot().get("a"));
+		assertEquals("x", interpolation.getSnapshot().get("b"));
+		assertEquals("xx", interpolation.getSnapshot().get("c"));
+		interpolation = update(interpolation, "a", "${b}-${c}", "b", "${d}", "c", "${d}${d}", "d", "y", "e", "${undefined}");
+		assertEquals("y-yy", interpolation.getSnapshot().get("a"));
+	}
+
+	/**
+	 * 自己参照が検出されることを検証します。<br>
+	 */
+	@Test
+	public void testSelfReference() {
+		assertCycle(ConfigInterpolation.EMPTY, "a -> a", "a", "${a}");
+		assertCycle(ConfigInterpolation.EMPTY, "a -> a", "a", "prefix ${a} suffix");
+	}
+
+	/**
+	 * 複数のキーを経由する循環参照が検出されることを検証します。<br>
+	 */
+	@Test
+	public void testCycle() {
+		assertCycle(ConfigInterpolation.EMPTY, "a -> b -> a", "a", "${b}", "b", "${a}");
+		assertCycle(ConfigInterpolation.EMPTY, "a -> b -> c -> a", "a", "${b}", "b", "${c}", "c", "${a}");
+		// 循環に含まれないキーからの参照は循環経路に含まれない
+		assertCycle(ConfigInterpolation.EMPTY, "b -> c -> b", "a", "${b}", "b", "${c}", "c", "${b}");
+	}
+
+	/**
+	 * 更新により生じた循環参照が検出され、更新前の状態が維持されることを検証します。<br>
+	 */
+	@Test
+	public void testCycleByUpdate() {
+		ConfigInterpolation interpolation = update(ConfigInterpolation.EMPTY, "a", "${b}", "b", "${c}", "c", "z");
+		assertEquals("z", interpolation.getSnapshot().get("a"));
+		assertCycle(interpolation, "c -> a -> b -> c", "a", "${b}", "b", "${c}", "c", "${a}");
+		assertEquals("z", interpolation.getSnapshot().get("a"));
+		interpolation = update(interpolation, "a", "${b}", "b", "${c}", "c", "${d}", "d", "w");
+		assertEquals("w", interpolation.getSnapshot().get("a"));
+	}
+
+	/**
+	 * 継承元スナップショットの値は循環参照とならないことを検証します。<br>
+	 */
+	@Test
+	public void testExternal() {
+		ConfigSnapshot external = snapshot("a", "${a}", "b", "g");
+		ConfigSnapshot source = snapshot("a", "${b}", "c", "${a}");
+		ConfigInterpolation interpolation = ConfigInterpolation.EMPTY.update(source, external, Arrays.asList("a", "c"));
+		assertEquals("g", interpolation.getSnapshot().get("a"));
+		assertEquals("g", interpolation.getSnapshot().get("c"));
+		assertNull(interpolation.getSnapshot().get("b"));
+	}
+
+	/**
+	 * 循環参照を含むリソースの読み込みが失敗し、読み込み前の状態が維持されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testLoad() throws IOException {
+		File valid = folder.newFile("valid.properties");
+		Files.write(valid.toPath(), "a=${b}\nb=1\n".getBytes(StandardCharsets.ISO_8859_1));
+		File cyclic = folder.newFile("cyclic.properties");
+		Files.write(cyclic.toPath(), "b=${a}\n".getBytes(StandardCharsets.ISO_8859_1));
+		Config config = Config.create(false);
+		config.setInterpolation(true);
+		config.load(valid.getPath());
+		assertEquals("1", config.map().get("a"));
+		try {
+			config.load(cyclic.getPath(), ConfigLoadMode.REPLACE_EXISTS);
+			fail();
+		} catch (ConfigException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("->"));
+		}
+		assertEquals("1", config.map().get("a"));
+		assertEquals("1", config.map().get("b"));
+	}
+
+	/**
+	 * 循環参照が検出され、解決状態が更新されないことを検証します。<br>
+	 * @param interpolation 更新前の解決状態
+	 * @param cycle 期待する循環経路
+	 * @param entries キー及び、定義値
+	 */
+	private static void assertCycle(ConfigInterpolation interpolation, String cycle, String... entries) {
+		ConfigSnapshot before = interpolation.getSnapshot();
+		try {
+			update(interpolation, entries);
+			fail(cycle);
+		} catch (ConfigException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("(" + cycle + ")"));
+		}
+		assertSame(before, interpolation.getSnapshot());
+	}
+
+	/**
+	 * 解決状態をキー及び、定義値で置き換えた新たな解決状態を生成します。<br>
+	 * 変更された可能性のあるキーは指定された順に渡されます。<br>
+	 * @param interpolation 更新前の解決状態
+	 * @param entries キー及び、定義値
+	 * @return 更新後の解決状態
+	 */
+	private static ConfigInterpolation update(ConfigInterpolation interpolation, String... entries) {
+		ConfigSnapshot source = snapshot(entries);
+		String[] keys = new String[entries.length / 2];
+		for (int i = 0; i <= keys.length - 1; i++) {
+			keys[i] = entries[i * 2];
+		}
+		return interpolation.update(source, null, Arrays.asList(keys));
+	}
+
+	/**
+	 * キー及び、定義値からスナップショットを生成します。<br>
+	 * @param entries キー及び、定義値
+	 * @return スナップショット
+	 */
+	private static ConfigSnapshot snapshot(String... entries) {
+		Map<String, String> map = new LinkedHashMap<>();
+		for (int i = 0; i <= entries.length - 2; i += 2) {
+			map.put(entries[i], entries[i + 1]);
+		}
+		return ConfigSnapshot.EMPTY.apply(map, ConfigLoadMode.REPLACE_ALL);
+	}
+}
@@ -0,0 +1,173 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigLayer}による階層化された環境設定情報の解決順を検証するテストクラスです。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.config.ConfigLayer#local()}より前のレイヤが自身に読み込まれたプロパティより優先されること、
+ * 指定しない場合は自身に読み込まれたプロパティが最優先されること、レイヤとした環境設定情報の更新が反映されること、
+ * 提供元のレイヤ名が取得できることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigLayerTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 指定順に定義が存在するレイヤの値が提供され、自身に読み込まれたプロパティは{@link org.ideaccum.libs.commons.config.ConfigLayer#local()}の位置で解決されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testOrder() throws IOException {
+		Map<String, String> overrides = new HashMap<>();
+		overrides.put(TestConfigName.A.getKey(), "override");
+		Config module = Config.create(false);
+		module.load(write("module.properties", TestConfigName.A.getKey() + "=module", TestConfigName.B.getKey() + "=module", TestConfigName.C.getKey() + "=module"));
+		Map<String, String> defaults = new HashMap<>();
+		defaults.put(TestConfigName.C.getKey(), "default");
+		defaults.put(TestConfigName.D.getKey(), "default");
+		Config config = Config.layered( //
+				ConfigLayer.of("override", overrides), //
+				ConfigLayer.local(), //
+				ConfigLayer.of("module", module), //
+				ConfigLayer.of("default", defaults));
+		config.load(write("local.properties", TestConfigName.A.getKey() + "=local", TestConfigName.B.getKey() + "=local"));
+
+		assertEquals("override", config.get(TestConfigName.A));
+		assertEquals("local", config.get(TestConfigName.B));
+		assertEquals("module", config.get(TestConfigName.C));
+		assertEquals("default", config.get(TestConfigName.D));
+		assertTrue(config.isEmpty(TestConfigName.E));
+
+		assertEquals("override", config.getOrigin(TestConfigName.A));
+		assertEquals(Config.LOCAL_LAYER, config.getOrigin(TestConfigName.B));
+		assertEquals("module", config.getOrigin(TestConfigName.C));
+		assertEquals("default", config.getOrigin(TestConfigName.D));
+		assertNull(config.getOrigin(TestConfigName.E));
+	}
+
+	/**
+	 * {@link org.ideaccum.libs.commons.config.ConfigLayer#local()}を指定しない場合、自身に読み込まれたプロパティが最優先されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testWithoutLocal() throws IOException {
+		Map<String, String> base = new HashMap<>();
+		base.put(TestConfigName.A.getKey(), "base");
+		base.put(TestConfigName.B.getKey(), "base");
+		Config config = Config.layered(ConfigLayer.of("base", base));
+		config.load(write("local.properties", TestConfigName.A.getKey() + "=local"));
+		assertEquals("local", config.get(TestConfigName.A));
+		assertEquals("base", config.get(TestConfigName.B));
+		assertEquals("base", config.getOrigin(TestConfigName.B));
+	}
+
+	/**
+	 * レイヤとした環境設定情報の更新が次回の取得時に反映され、下位のレイヤの値が再び提供されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testUpdate() throws IOException {
+		Config upper = Config.create(false);
+		Config lower = Config.create(false);
+		lower.load(write("lower.properties", TestConfigName.A.getKey() + "=lower"));
+		Config config = Config.layered(ConfigLayer.of("upper", upper), ConfigLayer.local(), ConfigLayer.of("lower", lower));
+		assertEquals("lower", config.get(TestConfigName.A));
+
+		upper.load(write("upper.properties", TestConfigName.A.getKey() + "=upper"));
+		assertEquals("upper", config.get(TestConfigName.A));
+		assertEquals("upper", config.getOrigin(TestConfigName.A));
+
+		upper.load(write("empty.properties"));
+		assertEquals("lower", config.get(TestConfigName.A));
+		lower.load(write("changed.properties", TestConfigName.A.getKey() + "=changed"));
+		assertEquals("changed", config.get(TestConfigName.A));
+	}
+
+	/**
+	 * システムプロパティのレイヤが再読み込み時に取得し直されることを検証します。<br>
+	 */
+	@Test
+	public void testSystemProperties() {
+		String key = TestConfigName.E.getKey();
+		System.setProperty(key, "system");
+		try {
+			Config config = Config.layered(ConfigLayer.systemProperties(), ConfigLayer.local());
+			assertEquals("system", config.get(TestConfigName.E));
+			assertEquals(ConfigLayer.SYSTEM_PROPERTIES, config.getOrigin(TestConfigName.E));
+			System.setProperty(key, "changed");
+			assertEquals("system", config.get(TestConfigName.E));
+			config.reload();
+			assertEquals("changed", config.get(TestConfigName.E));
+		} finally {
+			System.clearProperty(key);
+		}
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file.getPath();
+	}
+
+	/**
+	 * 検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static final class TestConfigName<T> extends ConfigName<T> {
+
+		/** プロパティA */
+		static final TestConfigName<String> A = new TestConfigName<>("layer.test.a", StringParser.class);
+
+		/** プロパティB */
+		static final TestConfigName<String> B = new TestConfigName<>("layer.test.b", StringParser.class);
+
+		/** プロパティC */
+		static final TestConfigName<String> C = new TestConfigName<>("layer.test.c", StringParser.class);
+
+		/** プロパティD */
+		static final TestConfigName<String> D = new TestConfigName<>("layer.test.d", StringParser.class);
+
+		/** プロパティE */
+		static final TestConfigName<String> E = new TestConfigName<>("layer.test.e", StringParser.class);
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		private TestConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+}
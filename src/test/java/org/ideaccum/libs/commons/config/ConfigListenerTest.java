@@ -0,0 +1,140 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigListener}への変更通知を検証するテストクラスです。<br>
+ * <p>
+ * リスナの例外が変更操作に影響しないこと、通知中も変更操作が待機せずに変更操作の順に通知されること、
+ * 変更キーが特定できないレイヤの変更も通知されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigListenerTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * リスナからスローされた例外が変更操作及び、他のリスナへの通知に影響しないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testFailure() throws IOException {
+		Config config = Config.create(false);
+		List<String> values = new ArrayList<>();
+		config.addListener(event -> {
+			throw new IllegalStateException("listener");
+		}, "a");
+		config.addListener(event -> values.add(event.getNewValue("a")), "a");
+		List<Throwable> failures = new ArrayList<>();
+		Thread thread = Thread.currentThread();
+		Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler() == thread.getThreadGroup() ? null : thread.getUncaughtExceptionHandler();
+		try {
+			thread.setUncaughtExceptionHandler((t, e) -> failures.add(e));
+			config.load(write("failure.properties", "a=1"));
+		} finally {
+			thread.setUncaughtExceptionHandler(handler);
+		}
+		assertEquals("1", config.map().get("a"));
+		assertEquals(Arrays.asList("1"), values);
+		assertEquals(1, failures.size());
+		assertEquals("listener", failures.get(0).getMessage());
+	}
+
+	/**
+	 * 通知中も他のスレッドの参照及び、変更操作が待機せず、変更内容が変更操作の順に通知されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * @throws InterruptedException 割り込みが発生した場合にスローされます
+	 */
+	@Test
+	public void testDispatching() throws IOException, InterruptedException {
+		String first = write("first.properties", "a=1");
+		String second = write("second.properties", "a=2");
+		Config config = Config.create(false);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> values = new CopyOnWriteArrayList<>();
+		config.addListener(event -> {
+			values.add(event.getNewValue("a"));
+			entered.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, "a");
+		Thread thread = new Thread(() -> config.load(first));
+		thread.start();
+		try {
+			assertTrue(entered.await(10, TimeUnit.SECONDS));
+			// 通知中のスレッドが続けて通知するため、変更操作は通知の完了を待機せずに復帰する
+			config.load(second);
+			assertEquals("2", config.map().get("a"));
+			assertEquals(Arrays.asList("1"), values);
+		} finally {
+			release.countDown();
+			thread.join(10000);
+		}
+		assertFalse(thread.isAlive());
+		assertEquals(Arrays.asList("1", "2"), values);
+	}
+
+	/**
+	 * 全てのプロパティが置き換えられたレイヤの変更が、登録キー及び、接頭文字列の範囲で比較されて通知されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testLayer() throws IOException {
+		Config base = Config.create(false);
+		base.load(write("base.properties", "a=1", "b.x=1", "b.y=1", "c=1"));
+		Config config = Config.layered(ConfigLayer.local(), ConfigLayer.of("base", base));
+		List<ConfigChangeEvent> events = new ArrayList<>();
+		config.addListener(events::add, "b.");
+		base.load(write("replaced.properties", "a=2", "b.x=2", "c=2"));
+		assertEquals(1, events.size());
+		assertEquals(2, events.get(0).getKeys().size());
+		assertEquals("2", events.get(0).getNewValue("b.x"));
+		assertEquals("1", events.get(0).getOldValue("b.y"));
+		assertNull(events.get(0).getNewValue("b.y"));
+		base.load(write("extended.properties", "b.x=3"), ConfigLoadMode.REPLACE_EXISTS);
+		assertEquals(2, events.size());
+		assertEquals("3", events.get(1).getNewValue("b.x"));
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file.getPath();
+	}
+}
@@ -0,0 +1,167 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.ideaccum.libs.commons.config.exception.ConfigException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 差分プロパティリソースを含む読み込み手順の並列解析及び、反映を検証するテストクラスです。<br>
+ * <p>
+ * 並列に解析した読み込み手順が読み込みモードを含めて順に読み込んだ場合と同一の結果となること、
+ * いずれかのリソースの解析に失敗した場合はいずれのリソースも反映されないこと、
+ * 1回の読み込みで変化したプロパティのみがリスナにまとめて通知されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigLoadTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/** リソース解析処理の実行オブジェクト */
+	private ExecutorService executor;
+
+	/**
+	 * リソース解析処理の実行オブジェクトを生成します。<br>
+	 */
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	/**
+	 * リソース解析処理の実行オブジェクトを終了します。<br>
+	 */
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 並列に解析した読み込み手順が、読み込みモードを含めて順に読み込んだ場合と同一の結果となることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testChain() throws IOException {
+		String base = write("base.properties", "a=base", "b=base", "c=base");
+		List<String> extend = new ArrayList<>();
+		for (int i = 0; i <= 9; i++) {
+			extend.add(write("extend" + i + ".properties", "b=extend" + i, "e" + i + "=" + i));
+		}
+		String skip = write("skip.properties", "a=skip", "d=skip");
+		String exists = write("exists.properties", "c=exists");
+		String[] extendProps = extend.toArray(new String[extend.size()]);
+
+		Config serial = Config.create(false);
+		serial.load(base, extendProps);
+		serial.load(skip, ConfigLoadMode.SKIP_EXISTS);
+		serial.load(exists, ConfigLoadMode.REPLACE_EXISTS, skip);
+
+		Config parallel = Config.create(false);
+		parallel.setLoadExecutor(executor);
+		parallel.load(base, extendProps);
+		parallel.load(skip, ConfigLoadMode.SKIP_EXISTS);
+		parallel.load(exists, ConfigLoadMode.REPLACE_EXISTS, skip);
+
+		Map<String, Object> map = parallel.map();
+		assertEquals(serial.map(), map);
+		assertEquals("skip", map.get("a"));
+		assertEquals("extend9", map.get("b"));
+		assertEquals("exists", map.get("c"));
+		assertEquals("skip", map.get("d"));
+		assertEquals(14, map.size());
+
+		parallel.load(base, ConfigLoadMode.REPLACE_ALL, exists);
+		assertEquals(3, parallel.map().size());
+		assertEquals("exists", parallel.map().get("c"));
+	}
+
+	/**
+	 * いずれかのリソースの解析に失敗した場合、いずれのリソースも反映されないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testFailure() throws IOException {
+		Config config = Config.create(false);
+		config.setLoadExecutor(executor);
+		config.load(write("before.properties", "a=before"));
+		String base = write("base.xml", "<root><a>base</a></root>");
+		String broken = write("broken.xml", "<root><a>broken</a>");
+		try {
+			config.loadXml(base, broken);
+			fail();
+		} catch (ConfigException e) {
+			// 想定された例外
+		}
+		assertEquals(Collections.singletonMap("a", "before"), config.map());
+	}
+
+	/**
+	 * 差分プロパティリソースを含む1回の読み込みで、最終的に変化したプロパティのみが1つのイベントで通知されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testNetChange() throws IOException {
+		Config config = Config.create(false);
+		config.setLoadExecutor(executor);
+		config.load(write("before.properties", "a=0", "b=1", "c=1"));
+		List<ConfigChangeEvent> events = new ArrayList<>();
+		config.addListener(events::add, "");
+		config.load(write("base.properties", "a=1", "b=2", "c=1"), write("extend.properties", "b=1", "d=1"));
+		assertEquals(1, events.size());
+		ConfigChangeEvent event = events.get(0);
+		Set<String> keys = new TreeSet<>(event.getKeys());
+		assertEquals(new TreeSet<>(Arrays.asList("a", "d")), keys);
+		assertEquals("0", event.getOldValue("a"));
+		assertEquals("1", event.getNewValue("a"));
+		assertEquals(null, event.getOldValue("d"));
+		Map<String, Object> expected = new HashMap<>();
+		expected.put("a", "1");
+		expected.put("b", "1");
+		expected.put("c", "1");
+		expected.put("d", "1");
+		assertEquals(expected, config.map());
+
+		config.load(write("same.properties", "a=1", "b=1", "c=1", "d=1"));
+		assertEquals(1, events.size());
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file.getPath();
+	}
+}
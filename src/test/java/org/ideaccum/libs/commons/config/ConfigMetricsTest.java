@@ -0,0 +1,247 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.ideaccum.libs.commons.config.parser.IntParser;
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigMetrics}による参照及び、読み込みの計測を検証するテストクラスです。<br>
+ * <p>
+ * キャッシュからの参照とパースを伴う参照が区別して計測されること、サンプリング間隔を乗じた回数で参照回数が加算されること、読み込み及び、再読み込みの処理時間とリソースごとのサイズ及び、キー数が記録されることを検証します。<br>
+ * また、計測値が通知先及び、MXBeanとして提供され、通知先の例外が参照処理に影響しないことを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigMetricsTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 初回の参照がパースを伴う参照、以降の参照がキャッシュからの参照として計測されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testReads() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("reads.properties", "metrics.test.name=name", "metrics.test.size=10").getPath());
+		assertNull(config.getMetrics());
+		ConfigMetrics metrics = config.enableMetrics();
+		assertSame(metrics, config.getMetrics());
+		assertEquals(1, metrics.getSampling());
+		for (int i = 0; i <= 3 - 1; i++) {
+			assertEquals("name", config.get(TestConfigName.NAME));
+		}
+		assertEquals(10, config.getInt(TestConfigName.SIZE));
+		assertEquals(4, metrics.getReads());
+		assertEquals(2, metrics.getCacheHits());
+		assertEquals(2, metrics.getCacheMisses());
+		assertEquals(0.5, metrics.getCacheHitRatio(), 0.0);
+		assertEquals(2, metrics.getParseCount());
+		assertEquals(0, metrics.getRenderCount());
+		assertEquals(Long.valueOf(3), metrics.getKeyReads().get(TestConfigName.NAME.getKey()));
+		assertEquals(Long.valueOf(1), metrics.getKeyReads().get(TestConfigName.SIZE.getKey()));
+		config.setRenderer((name, value) -> value);
+		config.get(TestConfigName.NAME);
+		assertTrue(metrics.getRenderCount() >= 1);
+		metrics.reset();
+		assertEquals(0, metrics.getReads());
+		assertEquals(0, metrics.getParseCount());
+		assertEquals(0.0, metrics.getCacheHitRatio(), 0.0);
+		assertTrue(metrics.getKeyReads().isEmpty());
+		config.disableMetrics();
+		assertNull(config.getMetrics());
+		config.get(TestConfigName.NAME);
+		assertEquals(0, metrics.getReads());
+	}
+
+	/**
+	 * サンプリング間隔が2の累乗に切り上げられ、キャッシュからの参照がサンプリング間隔を乗じた回数で加算されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testSampling() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("sampling.properties", "metrics.test.name=name").getPath());
+		assertEquals(1, config.enableMetrics(0).getSampling());
+		assertEquals(8, config.enableMetrics(8).getSampling());
+		ConfigMetrics metrics = config.enableMetrics(5);
+		assertEquals(8, metrics.getSampling());
+		for (int i = 0; i <= 10000 - 1; i++) {
+			config.get(TestConfigName.NAME);
+		}
+		// パースを伴う参照は常に全件計測
+		assertEquals(1, metrics.getCacheMisses());
+		assertEquals(0, metrics.getCacheHits() % 8);
+		assertTrue(metrics.getCacheHits() > 0);
+		assertEquals(metrics.getReads(), (long) metrics.getKeyReads().get(TestConfigName.NAME.getKey()));
+	}
+
+	/**
+	 * 読み込み及び、再読み込みの回数とリソースのサイズ及び、キー数が記録されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testLoad() throws IOException {
+		File base = write("base.properties", "metrics.test.name=name", "metrics.test.size=10");
+		File extend = write("extend.properties", "metrics.test.other=other");
+		Config config = Config.create(false);
+		ConfigMetrics metrics = config.enableMetrics();
+		config.load(base.getPath(), extend.getPath());
+		assertEquals(1, metrics.getLoads());
+		assertEquals(0, metrics.getReloads());
+		assertEquals(3, metrics.getLastLoadKeys());
+		assertEquals(base.length() + extend.length(), metrics.getLastLoadBytes());
+		assertEquals(metrics.getLoadTimeNanos(), metrics.getLastLoadTimeNanos());
+		config.reload();
+		assertEquals(1, metrics.getLoads());
+		assertEquals(1, metrics.getReloads());
+		assertEquals(3, metrics.getLastLoadKeys());
+		assertEquals(metrics.getReloadTimeNanos(), metrics.getLastLoadTimeNanos());
+	}
+
+	/**
+	 * 通知先に参照及び、読み込みが通知され、通知先の例外が参照処理に影響しないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testReporter() throws IOException {
+		File file = write("reporter.properties", "metrics.test.name=name");
+		Config config = Config.create(false);
+		ConfigMetrics metrics = config.enableMetrics();
+		List<String> reported = Collections.synchronizedList(new ArrayList<>());
+		ConfigMetricsReporter reporter = new ConfigMetricsReporter() {
+
+			@Override
+			public void read(Config source, ConfigName<?> name, boolean hit, int weight) {
+				assertSame(config, source);
+				reported.add("read:" + name.getKey() + ":" + hit + ":" + weight);
+			}
+
+			@Override
+			public void loaded(Config source, String filePath, long bytes, int keys) {
+				reported.add("loaded:" + new File(filePath).getName() + ":" + bytes + ":" + keys);
+			}
+
+			@Override
+			public void completed(Config source, boolean reload, long nanos) {
+				reported.add("completed:" + reload);
+			}
+		};
+		metrics.addReporter(reporter);
+		metrics.addReporter(null);
+		metrics.addReporter(new ConfigMetricsReporter() {
+
+			@Override
+			public void read(Config source, ConfigName<?> name, boolean hit, int weight) {
+				throw new IllegalStateException("reporter");
+			}
+		});
+		config.load(file.getPath());
+		assertEquals("name", config.get(TestConfigName.NAME));
+		assertEquals("name", config.get(TestConfigName.NAME));
+		assertEquals(Arrays.asList( //
+				"loaded:reporter.properties:" + file.length() + ":1", //
+				"completed:false", //
+				"read:metrics.test.name:false:1", //
+				"read:metrics.test.name:true:1"), reported);
+		metrics.removeReporter(reporter);
+		config.get(TestConfigName.NAME);
+		assertEquals(4, reported.size());
+	}
+
+	/**
+	 * 計測値がMXBeanとして登録され、計測の無効化及び、再有効化で登録が解除されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * @throws JMException MXBeanの操作に失敗した場合にスローされます
+	 */
+	@Test
+	public void testMXBean() throws IOException, JMException {
+		Config config = Config.create(false);
+		config.load(write("mxbean.properties", "metrics.test.name=name").getPath());
+		ConfigMetrics metrics = config.enableMetrics();
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objectName = metrics.register("metrics-test");
+		try {
+			assertTrue(server.isRegistered(objectName));
+			config.get(TestConfigName.NAME);
+			config.get(TestConfigName.NAME);
+			assertEquals(2L, server.getAttribute(objectName, "Reads"));
+			assertEquals(0.5, (Double) server.getAttribute(objectName, "CacheHitRatio"), 0.0);
+			server.invoke(objectName, "reset", null, null);
+			assertEquals(0, metrics.getReads());
+			// 同名での再登録は以前の登録を置き換える
+			assertEquals(objectName, metrics.register("metrics-test"));
+			ConfigMetrics replaced = config.enableMetrics();
+			assertFalse(server.isRegistered(objectName));
+			assertEquals(objectName, replaced.register("metrics-test"));
+			config.disableMetrics();
+			assertFalse(server.isRegistered(objectName));
+		} finally {
+			metrics.unregister();
+			config.disableMetrics();
+		}
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソース
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private File write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file;
+	}
+
+	/**
+	 * 検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static final class TestConfigName<T> extends ConfigName<T> {
+
+		/** 名称 */
+		static final TestConfigName<String> NAME = new TestConfigName<>("metrics.test.name", StringParser.class);
+
+		/** 件数 */
+		static final TestConfigName<Integer> SIZE = new TestConfigName<>("metrics.test.size", IntParser.class);
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		private TestConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+}
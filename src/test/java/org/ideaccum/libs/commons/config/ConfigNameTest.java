@@ -0,0 +1,251 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigName}の登録及び、インデックスリソースからのサブクラスの登録を検証するテストクラスです。<br>
+ * <p>
+ * 接頭辞による検索が階層の途中で終わる接頭辞を含めて階層順に行われること、複数スレッドから同時に登録されたインスタンスが全て検索できることを検証します。<br>
+ * 参照前のサブクラスのプロパティアクセスキーが検索できること、静的初期化処理に失敗したサブクラスが通知されて他のサブクラスの登録が継続されること、
+ * 静的初期化処理から他スレッドで行われた検索が完了することを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ * 2026/10/17  agent            接頭辞による検索及び、同時登録の検証を追加
+ *-->
+ */
+public class ConfigNameTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * コンテキストクラスローダーのインデックスリソースに記載されたサブクラスが登録されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testDiscover() throws IOException {
+		File index = new File(folder.getRoot(), ConfigName.INDEX_RESOURCE);
+		index.getParentFile().mkdirs();
+		List<String> names = Arrays.asList( //
+				Listed.class.getName(), //
+				Broken.class.getName(), //
+				Spawner.class.getName(), //
+				ConfigNameTest.class.getName() + "$Deleted");
+		Files.write(index.toPath(), names, StandardCharsets.UTF_8);
+		List<Throwable> failures = new ArrayList<>();
+		Thread thread = Thread.currentThread();
+		ClassLoader context = thread.getContextClassLoader();
+		Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler() == thread.getThreadGroup() ? null : thread.getUncaughtExceptionHandler();
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { folder.getRoot().toURI().toURL() }, context)) {
+			thread.setContextClassLoader(loader);
+			thread.setUncaughtExceptionHandler((t, e) -> failures.add(e));
+			assertNotNull(ConfigName.valueOf("discovery.listed"));
+			assertNotNull(ConfigName.valueOf("discovery.spawner"));
+		} finally {
+			thread.setContextClassLoader(context);
+			thread.setUncaughtExceptionHandler(handler);
+		}
+		assertEquals(1, failures.size());
+		assertTrue(failures.get(0) instanceof ExceptionInInitializerError);
+		assertTrue(Spawner.completed);
+		assertEquals("discovery.listed", Lookup.found);
+	}
+
+	/**
+	 * 接頭辞で始まるプロパティアクセスキーが階層順に検索されることを検証します。<br>
+	 */
+	@Test
+	public void testValues() {
+		TestConfigName<String> b = new TestConfigName<>("registry.test.b", StringParser.class);
+		TestConfigName<String> ac = new TestConfigName<>("registry.test.a.c", StringParser.class);
+		TestConfigName<String> root = new TestConfigName<>("registry.test", StringParser.class);
+		TestConfigName<String> ab = new TestConfigName<>("registry.test.a.b", StringParser.class);
+		TestConfigName<String> other = new TestConfigName<>("registry.testing.x", StringParser.class);
+
+		assertEquals(Arrays.asList(ab, ac, b), ConfigName.values("registry.test."));
+		assertEquals(Arrays.asList(ab, ac), ConfigName.values("registry.test.a"));
+		List<ConfigName<?>> partial = ConfigName.values("registry.test");
+		assertEquals(5, partial.size());
+		assertSame(root, partial.get(0));
+		assertSame(other, partial.get(4));
+		assertTrue(ConfigName.values("registry.missing").isEmpty());
+		assertTrue(ConfigName.values(null).isEmpty());
+		assertTrue(ConfigName.values().containsAll(partial));
+		assertSame(ab, ConfigName.valueOf("registry.test.a.b"));
+	}
+
+	/**
+	 * 複数スレッドから同時に登録されたインスタンスが重複しないインデックスで全て検索できることを検証します。<br>
+	 * @throws InterruptedException 割り込みが発生した場合にスローされます
+	 */
+	@Test
+	public void testConcurrent() throws InterruptedException {
+		int threads = 8;
+		int count = 200;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t <= threads - 1; t++) {
+			String prefix = "concurrent.test.t" + t + ".";
+			Thread worker = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i <= count - 1; i++) {
+					new TestConfigName<>(prefix + i, StringParser.class);
+				}
+			});
+			worker.start();
+			workers.add(worker);
+		}
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join(10000);
+		}
+		List<ConfigName<?>> names = ConfigName.values("concurrent.test.");
+		assertEquals(threads * count, names.size());
+		Set<Integer> ordinals = new HashSet<>();
+		for (ConfigName<?> name : names) {
+			assertSame(name, ConfigName.valueOf(name.getKey()));
+			assertSame(name, ConfigName.valueOf(name.ordinal()));
+			ordinals.add(name.ordinal());
+		}
+		assertEquals(names.size(), ordinals.size());
+		assertTrue(ConfigName.bound() > names.size());
+	}
+
+	/**
+	 * 検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static class TestConfigName<T> extends ConfigName<T> {
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		TestConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+
+	/**
+	 * インデックスリソースに記載されるサブクラスです。<br>
+	 */
+	static final class Listed extends TestConfigName<String> {
+
+		/** 登録されるプロパティ */
+		static final Listed LISTED = new Listed("discovery.listed");
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 */
+		private Listed(String key) {
+			super(key, StringParser.class);
+		}
+	}
+
+	/**
+	 * 静的初期化処理に失敗するサブクラスです。<br>
+	 */
+	static final class Broken extends TestConfigName<String> {
+
+		/** 登録されないプロパティ */
+		static final Broken BROKEN = create();
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 */
+		private Broken(String key) {
+			super(key, StringParser.class);
+		}
+
+		/**
+		 * 静的初期化処理を失敗させます。<br>
+		 * @return 返却されません
+		 */
+		private static Broken create() {
+			throw new IllegalStateException("broken");
+		}
+	}
+
+	/**
+	 * 静的初期化処理から他スレッドで検索を行い、その完了を待機するサブクラスです。<br>
+	 */
+	static final class Spawner extends TestConfigName<String> {
+
+		/** 他スレッドの検索が完了した場合にtrue */
+		static final boolean completed;
+
+		/** 登録されるプロパティ */
+		static final Spawner SPAWNER = new Spawner("discovery.spawner");
+
+		static {
+			Thread thread = new Thread(new Lookup());
+			thread.start();
+			try {
+				thread.join(10000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			completed = !thread.isAlive();
+		}
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 */
+		private Spawner(String key) {
+			super(key, StringParser.class);
+		}
+	}
+
+	/**
+	 * 他スレッドで検索を行う処理です。<br>
+	 * 検索を行うスレッドが初期化中のサブクラスを参照しないよう、サブクラスとは別のクラスとして定義します。<br>
+	 */
+	static final class Lookup implements Runnable {
+
+		/** 検索されたプロパティキー */
+		static volatile String found;
+
+		/**
+		 * 検索を行います。<br>
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			ConfigName<?> name = ConfigName.valueOf("discovery.listed");
+			found = name == null ? null : name.getKey();
+		}
+	}
+}
@@ -0,0 +1,220 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.ideaccum.libs.commons.config.parser.IntParser;
+import org.ideaccum.libs.commons.config.parser.IntsParser;
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigParserRegistry}によるパーサーの共有及び、型に対するパーサーの登録を検証するテストクラスです。<br>
+ * <p>
+ * パーサークラスごとに単一のインスタンスが複数スレッドから共有され、{@link org.ideaccum.libs.commons.config.ConfigName}が初回参照時に取得したインスタンスを保持することを検証します。<br>
+ * また、登録したパーサーが設定クラスへの設定時に型に対するパーサーとして利用されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigParserRegistryTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * パーサークラスごとに単一のインスタンスが提供され、プリミティブ型とラッパー型で同一のパーサーが共有されることを検証します。<br>
+	 */
+	@Test
+	public void testShared() {
+		IntParser parser = ConfigParserRegistry.getParser(IntParser.class);
+		assertSame(parser, ConfigParserRegistry.getParser(IntParser.class));
+		assertSame(parser, ConfigParserRegistry.getTypeParser(int.class));
+		assertSame(parser, ConfigParserRegistry.getTypeParser(Integer.class));
+		assertSame(ConfigParserRegistry.getParser(IntsParser.class), ConfigParserRegistry.getTypeParser(int[].class));
+		assertSame(ConfigParserRegistry.getTypeParser(int[].class), ConfigParserRegistry.getTypeParser(Integer[].class));
+		assertSame(ConfigParserRegistry.getParser(StringParser.class), ConfigParserRegistry.getTypeParser(String.class));
+		assertNull(ConfigParserRegistry.getTypeParser(null));
+		assertNull(ConfigParserRegistry.getTypeParser(Object.class));
+	}
+
+	/**
+	 * 複数スレッドから同時に取得されたパーサーが同一のインスタンスであることを検証します。<br>
+	 * @throws InterruptedException 割り込みが発生した場合にスローされます
+	 * @throws ExecutionException 取得処理で例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testConcurrent() throws InterruptedException, ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Callable<ConfigValueParser<?>>> tasks = new ArrayList<>();
+			for (int i = 0; i <= 64 - 1; i++) {
+				tasks.add(() -> ConfigParserRegistry.getParser(ConcurrentParser.class));
+			}
+			List<Future<ConfigValueParser<?>>> results = executor.invokeAll(tasks);
+			ConfigValueParser<?> parser = ConfigParserRegistry.getParser(ConcurrentParser.class);
+			for (Future<ConfigValueParser<?>> result : results) {
+				assertSame(parser, result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * プロパティアクセスキーが登録簿の共有インスタンスを保持し、複数の環境設定情報で同一のパーサーが利用されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testName() throws IOException {
+		assertSame(ConfigParserRegistry.getParser(PortParser.class), TestConfigName.PORT.parser());
+		assertSame(TestConfigName.PORT.parser(), TestConfigName.PORT.parser());
+		String path = write("name.properties", "parser.test.port=8080");
+		Config first = Config.create(false);
+		first.load(path);
+		Config second = Config.create(false);
+		second.load(path);
+		Port port = first.get(TestConfigName.PORT);
+		assertEquals(8080, port.number);
+		assertEquals(8080, second.get(TestConfigName.PORT).number);
+		assertSame(ConfigParserRegistry.getParser(PortParser.class), TestConfigName.PORT.parser());
+	}
+
+	/**
+	 * 登録したパーサーが設定クラスへの設定時に型に対するパーサーとして利用され、不正な登録が無視されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testRegister() throws IOException {
+		PortParser parser = new PortParser();
+		ConfigParserRegistry.register(Port.class, parser);
+		assertSame(parser, ConfigParserRegistry.getTypeParser(Port.class));
+		ConfigParserRegistry.register(null, parser);
+		ConfigParserRegistry.register(Port.class, null);
+		assertSame(parser, ConfigParserRegistry.getTypeParser(Port.class));
+		Config config = Config.create(false);
+		config.load(write("register.properties", "server.test.port=8080", "server.test.backup.number=9090"));
+		Server server = config.bind("server.test", Server.class);
+		assertEquals(8080, server.port.number);
+		// 登録されていない型は下位の部分集合から生成
+		assertEquals(9090, server.backup.number);
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file.getPath();
+	}
+
+	/**
+	 * 検証に利用するポート番号クラスです。<br>
+	 */
+	public static final class Port {
+
+		/** ポート番号 */
+		public int number;
+	}
+
+	/**
+	 * 検証に利用する登録されない型のポート番号クラスです。<br>
+	 */
+	public static final class Backup {
+
+		/** ポート番号 */
+		public int number;
+	}
+
+	/**
+	 * 検証に利用する設定クラスです。<br>
+	 */
+	public static final class Server {
+
+		/** 登録されたパーサーで変換されるポート番号 */
+		public Port port;
+
+		/** 下位の部分集合から生成されるポート番号 */
+		public Backup backup;
+	}
+
+	/**
+	 * 定義値をポート番号としてパースするパーサーです。<br>
+	 */
+	public static final class PortParser implements ConfigValueParser<Port> {
+
+		/**
+		 * プロパティ定義値をポート番号にパースします。<br>
+		 * @param value プロパティ定義値
+		 * @return ポート番号
+		 * @see org.ideaccum.libs.commons.config.ConfigValueParser#parse(java.lang.String)
+		 */
+		@Override
+		public Port parse(String value) {
+			Port port = new Port();
+			port.number = Integer.parseInt(value.trim());
+			return port;
+		}
+	}
+
+	/**
+	 * 複数スレッドからの同時取得の検証に利用するパーサーです。<br>
+	 */
+	public static final class ConcurrentParser implements ConfigValueParser<String> {
+
+		/**
+		 * プロパティ定義値をそのまま返却します。<br>
+		 * @param value プロパティ定義値
+		 * @return プロパティ定義値
+		 * @see org.ideaccum.libs.commons.config.ConfigValueParser#parse(java.lang.String)
+		 */
+		@Override
+		public String parse(String value) {
+			return value;
+		}
+	}
+
+	/**
+	 * 検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static final class TestConfigName<T> extends ConfigName<T> {
+
+		/** ポート番号 */
+		static final TestConfigName<Port> PORT = new TestConfigName<>("parser.test.port", PortParser.class);
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		private TestConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+}
@@ -0,0 +1,247 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigPropertiesReader}の解析結果を{@link java.util.Properties#load(java.io.Reader)}と比較するテストクラスです。<br>
+ * <p>
+ * 行継続、"\\uXXXX"形式のエスケープ、各区切り文字、コメント行及び、末尾のバックスラッシュ等の境界条件と、固定シードで生成した定義内容の双方で解析結果が一致することを検証します。<br>
+ * </p>
+ * <p>
+ * Java 8の{@link java.util.Properties}は行継続から始まる論理行の扱いがJava 9以降と異なるため、固定シードで生成した定義内容との比較はJava 9以降の実行環境でのみ行い、
+ * 該当する境界条件はJava 9以降の解析結果を期待値として検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ * 2026/10/17  agent            接頭辞が共通するキーの検証を追加
+ *-->
+ */
+public class ConfigPropertiesReaderTest {
+
+	/** ランダム生成する定義内容の構成要素 */
+	private static final String[] FRAGMENTS = { "a", "b", "key", "値", "é", " ", "\t", "\f", "=", ":", "#", "!", "\\", "\\\\", "\\u0041", "\\u3042", "\\n", "\\t", "\\=", "\\:", "\\ ", "\n", "\r", "\r\n", "\\\n", "\\\r\n", "\\\n   " };
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 行継続の解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testContinuation() throws IOException {
+		assertSame("a=1\\\n  2\\\n\t3\nb=x\\\r\n   y\nc=\\\\\nd=e\\\\\\\n f\n");
+		assertSame("a\\\n b=1\n");
+		assertSame("a=1\\\n\n b=2\n");
+		assertSame("a=1\\\r\r b=2\n");
+	}
+
+	/**
+	 * "\\uXXXX"形式及び、その他のエスケープの解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testEscape() throws IOException {
+		assertSame("\\u0041\\u00e9=\\u3042\\u3044\\uFFFF\n");
+		assertSame("a=\\t\\n\\r\\f\\\\\\q\\\"\n");
+		assertSame("a\\=b\\:c\\ d\\#e=1\n");
+		assertSame("\\#a=1\n\\!b=2\n");
+	}
+
+	/**
+	 * 区切り文字の解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testSeparator() throws IOException {
+		assertSame("a=1\nb:2\nc 3\nd\t4\ne\f5\n");
+		assertSame("a = 1\nb : 2\nc   = 3\nd :=4\ne==5\nf::6\ng  h  i\n");
+		assertSame("a\nb=\nc:\nd \n=e\n:f\n");
+		assertSame("   a=1\n\t\fb=2\n");
+	}
+
+	/**
+	 * コメント行及び、空行の解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testComment() throws IOException {
+		assertSame("# comment\n! comment\n  # indented\na=1 # not comment\n\n\n   \nb=2!\n");
+		assertSame("# comment\\\na=1\n");
+		assertSame("#\r!\r\na=1");
+	}
+
+	/**
+	 * 末尾のバックスラッシュ及び、改行を含まない最終行の解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testTrailingBackslash() throws IOException {
+		assertSame("a=1\\");
+		assertSame("a=1\\\\");
+		assertSame("a=1\\\n");
+		assertSame("a\\");
+		assertSame("a=1\nb");
+		assertSame("");
+	}
+
+	/**
+	 * 行継続から始まる論理行の解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testLeadingContinuation() throws IOException {
+		assertRead("\\\n! =", map());
+		assertRead("#\\\n\\", map("", ""));
+		assertRead("\\\n   a=1\n", map("a", "1"));
+	}
+
+	/**
+	 * 改行コードの解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testLineSeparator() throws IOException {
+		assertSame("a=1\r\nb=2\rc=3\nd=4");
+		assertSame("a=1\r\n\r\nb=2\r\r");
+	}
+
+	/**
+	 * 重複したキーの解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testDuplicate() throws IOException {
+		assertSame("a=1\na=2\nb=x\nb=x\n");
+	}
+
+	/**
+	 * 直前のキーと接頭辞が共通するキーの解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testPrefix() throws IOException {
+		assertSame("a.b.c=1\na.b.d=2\na.bx.c=3\na.b.=4\na.b.c.d=5\nb.c=6\n.x=7\n.y=8\n");
+		assertSame("a.b.c=1\na.b\\u002ec=2\na.b.c\\=d=3\na.b.c\\ d=4\na.b.e=5\n");
+		assertSame("a.b\\\n  .c=1\na.b.d=2\na.b.\\\n  e=3\na.b.f=4\n");
+		assertSame("あ.い.う=1\nあ.い.え=2\nあ.いう.え=3\né.è=4\né.é=5\n");
+		assertSame("a.b.c=1\r\na.b.c\r\na.b.c:2\na.b.c d\n");
+	}
+
+	/**
+	 * 固定シードで生成した定義内容の解析結果を検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testRandom() throws IOException {
+		assumeTrue("行継続から始まる論理行の扱いがJava 9以降と異なる実行環境", conforms());
+		Random random = new Random(20261016L);
+		for (int i = 0; i <= 500 - 1; i++) {
+			StringBuilder builder = new StringBuilder();
+			int count = random.nextInt(60);
+			for (int j = 0; j <= count - 1; j++) {
+				builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+			}
+			assertSame(builder.toString());
+		}
+	}
+
+	/**
+	 * 実行環境の{@link java.util.Properties}がJava 9以降と同一の解析仕様であるか判定します。<br>
+	 * @return Java 9以降と同一の解析仕様の場合にtrueを返却
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static boolean conforms() throws IOException {
+		Properties properties = new Properties();
+		properties.load(new StringReader("\\\n! ="));
+		return properties.isEmpty();
+	}
+
+	/**
+	 * 解析結果が期待値と一致することを検証します。<br>
+	 * @param content 定義内容
+	 * @param expected 期待値
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private void assertRead(String content, Map<String, String> expected) throws IOException {
+		File file = folder.newFile();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		assertEquals(escape(content), expected, ConfigPropertiesReader.read(file.getPath(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * キー及び、値を交互に指定してマップを生成します。<br>
+	 * @param entries キー及び、値
+	 * @return マップ
+	 */
+	private static Map<String, String> map(String... entries) {
+		Map<String, String> map = new HashMap<>();
+		for (int i = 0; i <= entries.length - 2; i += 2) {
+			map.put(entries[i], entries[i + 1]);
+		}
+		return map;
+	}
+
+	/**
+	 * UTF-8及び、ISO-8859-1で解析結果が{@link java.util.Properties#load(java.io.Reader)}と一致することを検証します。<br>
+	 * ISO-8859-1で表現できない文字を含む定義内容はUTF-8のみで検証します。<br>
+	 * @param content 定義内容
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private void assertSame(String content) throws IOException {
+		assertSame(content, StandardCharsets.UTF_8);
+		if (StandardCharsets.ISO_8859_1.newEncoder().canEncode(content)) {
+			assertSame(content, StandardCharsets.ISO_8859_1);
+		}
+	}
+
+	/**
+	 * 指定された文字コードで解析結果が{@link java.util.Properties#load(java.io.Reader)}と一致することを検証します。<br>
+	 * @param content 定義内容
+	 * @param charset 文字コード
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private void assertSame(String content, Charset charset) throws IOException {
+		File file = folder.newFile();
+		Files.write(file.toPath(), content.getBytes(charset));
+		Properties properties = new Properties();
+		try (Reader reader = new InputStreamReader(Files.newInputStream(file.toPath()), charset)) {
+			properties.load(reader);
+		}
+		Map<String, String> expected = new HashMap<>();
+		for (String key : properties.stringPropertyNames()) {
+			expected.put(key, properties.getProperty(key));
+		}
+		assertEquals(charset + ":" + escape(content), expected, ConfigPropertiesReader.read(file.getPath(), charset));
+	}
+
+	/**
+	 * 失敗時のメッセージ向けに制御文字をエスケープします。<br>
+	 * @param content 定義内容
+	 * @return エスケープした定義内容
+	 */
+	private static String escape(String content) {
+		return content.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t").replace("\f", "\\f");
+	}
+}
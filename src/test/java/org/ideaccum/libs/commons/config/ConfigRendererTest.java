@@ -0,0 +1,204 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigRenderPolicy}に従ったレンダラ処理結果のキャッシュ及び、{@link org.ideaccum.libs.commons.config.ConfigRendererPipeline}を検証するテストクラスです。<br>
+ * <p>
+ * 純粋なレンダラは定義値が変わらない限り再読み込みを跨いで処理が省略されること、決定的なレンダラは状態の更新ごとに処理されること、
+ * その他のレンダラは取得の都度処理されること、パイプラインの各段が追加順に段ごとの方針で処理されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigRendererTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 純粋なレンダラの処理結果が、定義値が変わらない限り再読み込みを跨いで再利用されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testPure() throws IOException {
+		File file = write("pure.properties", TestConfigName.VALUE.getKey() + "=a", "other=1");
+		Config config = Config.create(false);
+		config.load(file.getPath());
+		CountingRenderer renderer = new CountingRenderer(ConfigRenderPolicy.PURE, "!");
+		config.setRenderer(renderer);
+		assertEquals("a!", config.get(TestConfigName.VALUE));
+		assertEquals("a!", config.get(TestConfigName.VALUE));
+		assertEquals(1, renderer.count.get());
+
+		write(file, TestConfigName.VALUE.getKey() + "=a", "other=2");
+		config.reload();
+		assertEquals("a!", config.get(TestConfigName.VALUE));
+		assertEquals(1, renderer.count.get());
+
+		write(file, TestConfigName.VALUE.getKey() + "=b");
+		config.reload();
+		assertEquals("b!", config.get(TestConfigName.VALUE));
+		assertEquals(2, renderer.count.get());
+	}
+
+	/**
+	 * 決定的なレンダラの処理結果が、状態が更新されるまで再利用されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testDeterministic() throws IOException {
+		File file = write("deterministic.properties", TestConfigName.VALUE.getKey() + "=a");
+		Config config = Config.create(false);
+		config.load(file.getPath());
+		CountingRenderer renderer = new CountingRenderer(ConfigRenderPolicy.DETERMINISTIC, "!");
+		config.setRenderer(renderer);
+		assertEquals("a!", config.get(TestConfigName.VALUE));
+		assertEquals("a!", config.get(TestConfigName.VALUE));
+		assertEquals(1, renderer.count.get());
+		config.reload();
+		assertEquals("a!", config.get(TestConfigName.VALUE));
+		assertEquals(2, renderer.count.get());
+	}
+
+	/**
+	 * キャッシュ方針を宣言しないレンダラが取得の都度処理されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testVolatile() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("volatile.properties", TestConfigName.VALUE.getKey() + "=a").getPath());
+		AtomicInteger count = new AtomicInteger();
+		config.setRenderer((name, value) -> value + count.incrementAndGet());
+		assertEquals("a1", config.get(TestConfigName.VALUE));
+		assertEquals("a2", config.get(TestConfigName.VALUE));
+	}
+
+	/**
+	 * パイプラインの各段が追加順に処理され、純粋な段のみ処理が省略されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testPipeline() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("pipeline.properties", TestConfigName.VALUE.getKey() + "=a").getPath());
+		CountingRenderer pure = new CountingRenderer(ConfigRenderPolicy.VOLATILE, "p");
+		CountingRenderer volatility = new CountingRenderer(ConfigRenderPolicy.VOLATILE, "v");
+		ConfigRendererPipeline pipeline = ConfigRendererPipeline.create().then(pure, ConfigRenderPolicy.PURE).then(volatility);
+		assertEquals(ConfigRenderPolicy.VOLATILE, pipeline.getRenderPolicy());
+		assertEquals(ConfigRenderPolicy.PURE, ConfigRendererPipeline.create().then(pure, ConfigRenderPolicy.PURE).getRenderPolicy());
+		config.setRenderer(pipeline);
+		assertEquals("apv", config.get(TestConfigName.VALUE));
+		assertEquals("apv", config.get(TestConfigName.VALUE));
+		assertEquals(1, pure.count.get());
+		assertEquals(2, volatility.count.get());
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソース
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private File write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		write(file, lines);
+		return file;
+	}
+
+	/**
+	 * プロパティリソースの内容を置き換えます。<br>
+	 * @param file プロパティリソース
+	 * @param lines プロパティ定義行
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static void write(File file, String... lines) throws IOException {
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * 処理回数を記録する、検証に利用するレンダラです。<br>
+	 */
+	static final class CountingRenderer implements ConfigValueRenderer {
+
+		/** キャッシュ方針 */
+		private final ConfigRenderPolicy policy;
+
+		/** 付加する文字列 */
+		private final String suffix;
+
+		/** 処理回数 */
+		private final AtomicInteger count = new AtomicInteger();
+
+		/**
+		 * コンストラクタ<br>
+		 * @param policy キャッシュ方針
+		 * @param suffix 付加する文字列
+		 */
+		CountingRenderer(ConfigRenderPolicy policy, String suffix) {
+			super();
+			this.policy = policy;
+			this.suffix = suffix;
+		}
+
+		/**
+		 * 定義値に文字列を付加します。<br>
+		 * @param name プロパティアクセスキー
+		 * @param value プロパティ定義値
+		 * @return 補正後の定義値
+		 * @see org.ideaccum.libs.commons.config.ConfigValueRenderer#render(org.ideaccum.libs.commons.config.ConfigName, java.lang.String)
+		 */
+		@Override
+		public String render(ConfigName<?> name, String value) {
+			count.incrementAndGet();
+			return value + suffix;
+		}
+
+		/**
+		 * キャッシュ方針を取得します。<br>
+		 * @return キャッシュ方針
+		 * @see org.ideaccum.libs.commons.config.ConfigValueRenderer#getRenderPolicy()
+		 */
+		@Override
+		public ConfigRenderPolicy getRenderPolicy() {
+			return policy;
+		}
+	}
+
+	/**
+	 * 検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static final class TestConfigName<T> extends ConfigName<T> {
+
+		/** レンダラ処理対象のプロパティ */
+		static final TestConfigName<String> VALUE = new TestConfigName<>("renderer.test.value", StringParser.class);
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		private TestConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+}
@@ -0,0 +1,257 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ideaccum.libs.commons.config.exception.ConfigException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigSnapshotFile}のスナップショットファイルの書き込み及び、読み込みを検証するテストクラスです。<br>
+ * <p>
+ * 書き込んだ解析結果が同一のフィンガープリントで復元されること、リソース及び、XML構造クラスの変更や破損したファイルが不一致となること、書き込みの失敗が通知されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/16  agent            新規作成
+ *-->
+ */
+public class ConfigSnapshotFileTest {
+
+	/** 更新日時による判定が行われる十分過去の更新日時 */
+	private static final long OLD = System.currentTimeMillis() - 60000;
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/** スナップショットファイル保存先ディレクトリ */
+	private File directory;
+
+	/** 書き込み失敗時に通知された例外 */
+	private List<ConfigException> failures;
+
+	/** スナップショットファイル */
+	private ConfigSnapshotFile snapshotFile;
+
+	/** 標準プロパティリソース */
+	private File base;
+
+	/** 差分プロパティリソース */
+	private File extension;
+
+	/**
+	 * テスト環境を準備します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Before
+	public void setUp() throws IOException {
+		directory = new File(folder.getRoot(), "snapshot");
+		failures = new ArrayList<>();
+		snapshotFile = new ConfigSnapshotFile(directory, failures::add);
+		base = write("base.properties", "a=1\n");
+		extension = write("extension.properties", "a=2\n");
+	}
+
+	/**
+	 * 書き込んだ解析結果が復元されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testRoundTrip() throws IOException {
+		Map<String, String> first = new HashMap<>();
+		first.put("a", "1");
+		first.put("日本語", "値😀");
+		Map<String, String> second = new HashMap<>();
+		second.put("a", "2");
+		List<Map<?, ?>> loaded = Arrays.asList(first, second, Collections.emptyMap());
+		String missing = new File(folder.getRoot(), "missing.properties").getPath();
+		assertNull(snapshotFile.read(fingerprint(base.getPath(), extension.getPath(), missing)));
+		snapshotFile.write(fingerprint(base.getPath(), extension.getPath(), missing), loaded);
+		assertTrue(failures.isEmpty());
+		assertEquals(1, directory.listFiles().length);
+		List<Map<?, ?>> restored = snapshotFile.read(fingerprint(base.getPath(), extension.getPath(), missing));
+		assertEquals(loaded, restored);
+		for (Map<?, ?> map : restored) {
+			// メモリマップしたバッファを複製せずに参照する
+			assertTrue(((ConfigCompactMap) map).isDirect());
+		}
+	}
+
+	/**
+	 * 更新日時が一致するリソースは内容を読み込まずに一致と判定されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testModified() throws IOException {
+		base.setLastModified(OLD);
+		snapshotFile.write(fingerprint(base.getPath()), loaded("1"));
+		ConfigSnapshotFile.Fingerprint fingerprint = fingerprint(base.getPath());
+		assertEquals(loaded("1"), snapshotFile.read(fingerprint));
+		assertFalse(fingerprint.isTouched());
+		// サイズ及び、更新日時が一致する場合は内容の変更は判定されない
+		Files.write(base.toPath(), "a=3\n".getBytes(StandardCharsets.ISO_8859_1));
+		base.setLastModified(OLD);
+		assertEquals(loaded("1"), snapshotFile.read(fingerprint(base.getPath())));
+	}
+
+	/**
+	 * 更新日時のみが異なるリソースは内容で判定され、置き換えが必要な状態となることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testTouched() throws IOException {
+		base.setLastModified(OLD);
+		snapshotFile.write(fingerprint(base.getPath()), loaded("1"));
+		base.setLastModified(OLD + 5000);
+		ConfigSnapshotFile.Fingerprint fingerprint = fingerprint(base.getPath());
+		assertEquals(loaded("1"), snapshotFile.read(fingerprint));
+		assertTrue(fingerprint.isTouched());
+		snapshotFile.write(fingerprint, loaded("1"));
+		fingerprint = fingerprint(base.getPath());
+		assertEquals(loaded("1"), snapshotFile.read(fingerprint));
+		assertFalse(fingerprint.isTouched());
+	}
+
+	/**
+	 * リソースの内容が変更された場合に不一致となることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testChanged() throws IOException {
+		snapshotFile.write(fingerprint(base.getPath()), loaded("1"));
+		Files.write(base.toPath(), "a=10\n".getBytes(StandardCharsets.ISO_8859_1));
+		assertNull(snapshotFile.read(fingerprint(base.getPath())));
+		snapshotFile.write(fingerprint(base.getPath()), loaded("10"));
+		// 更新から間もないリソースはサイズが同一でも内容で判定される
+		Files.write(base.toPath(), "a=11\n".getBytes(StandardCharsets.ISO_8859_1));
+		assertNull(snapshotFile.read(fingerprint(base.getPath())));
+		assertTrue(base.delete());
+		assertNull(snapshotFile.read(fingerprint(base.getPath())));
+	}
+
+	/**
+	 * XML構造クラスが異なる場合に不一致となることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testType() throws IOException {
+		List<String> descriptions = Collections.singletonList("<type>|" + base.getPath());
+		List<String> filePaths = Collections.singletonList(base.getPath());
+		snapshotFile.write(snapshotFile.fingerprint(descriptions, filePaths, Collections.<Class<?>> singletonList(Structure.class)), loaded("1"));
+		assertEquals(loaded("1"), snapshotFile.read(snapshotFile.fingerprint(descriptions, filePaths, Collections.<Class<?>> singletonList(Structure.class))));
+		assertNull(snapshotFile.read(snapshotFile.fingerprint(descriptions, filePaths, Collections.<Class<?>> singletonList(OtherStructure.class))));
+		assertNull(snapshotFile.read(snapshotFile.fingerprint(descriptions, filePaths, Collections.<Class<?>> singletonList(null))));
+	}
+
+	/**
+	 * 識別子が不正な又は、途中までしか書き込まれていないスナップショットファイルが不一致となることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testCorrupted() throws IOException {
+		snapshotFile.write(fingerprint(base.getPath()), loaded("1"));
+		File file = directory.listFiles()[0];
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		assertNotNull(snapshotFile.read(fingerprint(base.getPath())));
+		byte[] header = bytes.clone();
+		header[0] ^= 0x01;
+		Files.write(file.toPath(), header);
+		assertNull(snapshotFile.read(fingerprint(base.getPath())));
+		byte[] trailer = bytes.clone();
+		trailer[trailer.length - 1] ^= 0x01;
+		Files.write(file.toPath(), trailer);
+		assertNull(snapshotFile.read(fingerprint(base.getPath())));
+		Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 1));
+		assertNull(snapshotFile.read(fingerprint(base.getPath())));
+		Files.write(file.toPath(), Arrays.copyOf(bytes, 10));
+		assertNull(snapshotFile.read(fingerprint(base.getPath())));
+	}
+
+	/**
+	 * 書き込みの失敗が例外処理に通知されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testWriteFailure() throws IOException {
+		File blocker = folder.newFile("blocker");
+		ConfigSnapshotFile blocked = new ConfigSnapshotFile(blocker, failures::add);
+		blocked.write(blocked.fingerprint(Collections.singletonList(base.getPath()), Collections.singletonList(base.getPath()), Collections.<Class<?>> singletonList(null)), loaded("1"));
+		assertEquals(1, failures.size());
+		assertTrue(blocker.isFile());
+	}
+
+	/**
+	 * プロパティリソースのみの読み込み手順のフィンガープリントを生成します。<br>
+	 * @param filePaths リソースパス
+	 * @return フィンガープリント
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private ConfigSnapshotFile.Fingerprint fingerprint(String... filePaths) throws IOException {
+		List<String> descriptions = new ArrayList<>();
+		List<Class<?>> types = new ArrayList<>();
+		for (String filePath : filePaths) {
+			descriptions.add("|UTF-8|" + filePath);
+			types.add(null);
+		}
+		return snapshotFile.fingerprint(descriptions, Arrays.asList(filePaths), types);
+	}
+
+	/**
+	 * 単一のプロパティを持つ解析結果を生成します。<br>
+	 * @param value プロパティ"a"の定義値
+	 * @return 解析結果
+	 */
+	private static List<Map<?, ?>> loaded(String value) {
+		return Collections.<Map<?, ?>> singletonList(Collections.singletonMap("a", value));
+	}
+
+	/**
+	 * 一時ディレクトリにファイルを作成します。<br>
+	 * @param name ファイル名
+	 * @param content 内容
+	 * @return 作成したファイル
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private File write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.ISO_8859_1));
+		return file;
+	}
+
+	/**
+	 * 版の検証に利用するXML構造クラスです。<br>
+	 */
+	static class Structure {
+
+		/** 値 */
+		String value;
+	}
+
+	/**
+	 * 版の検証に利用する異なるXML構造クラスです。<br>
+	 */
+	static class OtherStructure {
+
+		/** 値 */
+		int value;
+	}
+}
@@ -0,0 +1,200 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ideaccum.libs.commons.config.parser.StringParser;
+import org.junit.Test;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigSnapshot}の読み込みモードごとの反映及び、スナップショットファイルから復元した解析結果の保持を検証するテストクラスです。<br>
+ * <p>
+ * 復元した解析結果を復号せずに保持したスナップショット及び、読み込まれた解析結果を複製せずに保持したスナップショットが、通常のスナップショットと同一のプロパティを重複なく提供することを検証します。<br>
+ * また、元のスナップショットのマップ側を共有して生成したスナップショットが元のスナップショットに影響せず、後から追加されたConfigNameのプロパティを提供することを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ * 2026/10/17  agent            読み込み処理が生成した解析結果の保持の検証を追加
+ * 2026/10/17  agent            マップ側を共有したスナップショットの検証を追加
+ *-->
+ */
+public class ConfigSnapshotTest {
+
+	/**
+	 * 復元した解析結果を置き換える形で反映したスナップショットが元の内容を重複なく提供することを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testRestored() throws IOException {
+		Map<String, String> map = new HashMap<>();
+		map.put(TestConfigName.NAMED.getKey(), "named");
+		map.put("plain.a", "1");
+		map.put("plain.b", "2");
+		ConfigSnapshot restored = ConfigSnapshot.EMPTY.apply(mapped(map), ConfigLoadMode.REPLACE_ALL);
+		ConfigSnapshot expected = ConfigSnapshot.EMPTY.apply(map, ConfigLoadMode.REPLACE_ALL);
+		assertTrue(restored.isMapped());
+		assertFalse(expected.isMapped());
+		assertEquals(3, restored.size());
+		assertEquals("named", restored.get(TestConfigName.NAMED));
+		assertEquals("1", restored.get("plain.a"));
+		assertEquals(map, restored.toMap());
+		assertEquals(map.keySet(), restored.keySet());
+		assertEquals(3, restored.sortedKeys().length);
+		assertEquals(expected, restored);
+		List<String> visited = new ArrayList<>();
+		restored.forEach((key, value) -> visited.add(key));
+		assertEquals(3, visited.size());
+	}
+
+	/**
+	 * 復元した解析結果を元に構築したスナップショットのプロパティ数が重複して数えられないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testDerived() throws IOException {
+		Map<String, String> map = new HashMap<>();
+		map.put(TestConfigName.NAMED.getKey(), "named");
+		map.put("plain.a", "1");
+		ConfigSnapshot restored = ConfigSnapshot.EMPTY.apply(mapped(map), null);
+		Map<String, String> extension = new HashMap<>();
+		extension.put(TestConfigName.NAMED.getKey(), "extended");
+		extension.put("plain.c", "3");
+		ConfigSnapshot extended = restored.apply(extension, ConfigLoadMode.REPLACE_EXISTS);
+		assertEquals(3, extended.size());
+		assertEquals("extended", extended.get(TestConfigName.NAMED));
+		assertEquals("1", extended.get("plain.a"));
+		ConfigSnapshot skipped = restored.apply(extension, ConfigLoadMode.SKIP_EXISTS);
+		assertEquals(3, skipped.size());
+		assertEquals("named", skipped.get(TestConfigName.NAMED));
+		ConfigSnapshot expanded = restored.compact(false);
+		assertFalse(expanded.isCompact());
+		assertEquals(2, expanded.size());
+		assertEquals(map, expanded.toMap());
+		assertNull(expanded.get("plain.c"));
+	}
+
+	/**
+	 * 読み込み処理が生成した解析結果を置き換える形で反映したスナップショットが、解析結果を複製せずに重複なく提供することを検証します。<br>
+	 */
+	@Test
+	public void testLoaded() {
+		ConfigSnapshot.Loaded loaded = new ConfigSnapshot.Loaded();
+		loaded.put(TestConfigName.NAMED.getKey(), "named");
+		loaded.put("plain.a", "1");
+		ConfigSnapshot adopted = ConfigSnapshot.EMPTY.apply(loaded, ConfigLoadMode.REPLACE_ALL);
+		assertFalse(adopted.isCompact());
+		assertEquals(2, adopted.size());
+		assertEquals("named", adopted.get(TestConfigName.NAMED));
+		assertEquals(loaded, adopted.toMap());
+		List<String> visited = new ArrayList<>();
+		adopted.forEach((key, value) -> visited.add(key));
+		assertEquals(2, visited.size());
+		ConfigSnapshot compacted = adopted.compact(true);
+		assertTrue(compacted.isCompact());
+		assertEquals(2, compacted.size());
+		assertEquals(loaded, compacted.toMap());
+		ConfigSnapshot extended = adopted.apply(loaded, ConfigLoadMode.SKIP_EXISTS);
+		assertEquals(2, extended.size());
+	}
+
+	/**
+	 * マップ側を共有して生成したスナップショットが、元のスナップショットを変更せず、生成後に追加されたConfigNameのプロパティを重複なく提供することを検証します。<br>
+	 */
+	@Test
+	public void testShared() {
+		Map<String, String> map = new HashMap<>();
+		map.put("snapshot.test.late", "late");
+		map.put("plain.a", "1");
+		ConfigSnapshot base = ConfigSnapshot.EMPTY.apply(map, ConfigLoadMode.REPLACE_ALL);
+		// 元のスナップショット生成後にConfigNameを追加
+		assertEquals("snapshot.test.late", LateConfigName.LATE.getKey());
+		Map<String, String> named = new HashMap<>();
+		named.put(TestConfigName.NAMED.getKey(), "named");
+		ConfigSnapshot derived = base.apply(named, ConfigLoadMode.REPLACE_EXISTS);
+		assertEquals(3, derived.size());
+		assertEquals("late", derived.get(LateConfigName.LATE));
+		List<String> visited = new ArrayList<>();
+		derived.forEach((key, value) -> visited.add(key));
+		assertEquals(3, visited.size());
+		Map<String, String> plain = new HashMap<>();
+		plain.put("plain.a", "2");
+		plain.put("plain.b", "3");
+		ConfigSnapshot modified = derived.apply(plain, ConfigLoadMode.REPLACE_EXISTS);
+		assertEquals(4, modified.size());
+		assertEquals("2", modified.get("plain.a"));
+		assertEquals("late", modified.get(LateConfigName.LATE));
+		assertEquals(4, modified.toMap().size());
+		assertEquals("1", derived.get("plain.a"));
+		assertNull(derived.get("plain.b"));
+		assertEquals(2, base.size());
+		assertEquals(map, base.toMap());
+		ConfigSnapshot compacted = derived.merge(base.compact(true));
+		assertTrue(compacted.isCompact());
+		assertEquals(derived, compacted);
+	}
+
+	/**
+	 * スナップショットファイルからの復元と同様にヒープ外のバッファから復元したマップを生成します。<br>
+	 * @param map 元のマップ
+	 * @return 復元したマップ
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static ConfigCompactMap mapped(Map<String, String> map) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ConfigCompactMap.of(map).write(new DataOutputStream(bytes));
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+		buffer.put(bytes.toByteArray()).flip();
+		return ConfigCompactMap.read(buffer);
+	}
+
+	/**
+	 * 検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static final class TestConfigName<T> extends ConfigName<T> {
+
+		/** 配列側に保持されるプロパティ */
+		static final TestConfigName<String> NAMED = new TestConfigName<>("snapshot.test.named", StringParser.class);
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		private TestConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+
+	/**
+	 * スナップショット生成後に追加される、検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static final class LateConfigName<T> extends ConfigName<T> {
+
+		/** スナップショット生成後に追加されるプロパティ */
+		static final LateConfigName<String> LATE = new LateConfigName<>("snapshot.test.late", StringParser.class);
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		private LateConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+}
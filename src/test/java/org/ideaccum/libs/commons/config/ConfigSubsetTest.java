@@ -0,0 +1,143 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigSubset}による部分集合の参照を検証するテストクラスです。<br>
+ * <p>
+ * 接頭辞が階層単位で扱われること、プロパティキーの昇順に反復されること、部分集合が取得時点のスナップショットを参照し続けること、
+ * 下位レイヤのプロパティを含むこと及び、変更できないことを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigSubsetTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 接頭辞が階層単位で扱われ、接頭辞を除いたキーの昇順で反復されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testPrefix() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("prefix.properties", "db.pool=self", "db.pool.min=1", "db.pool.max=10", "db.pool.idle.timeout=5", "db.poolsize=3", "db.url=jdbc"));
+		ConfigSubset subset = config.subset("db.pool");
+		assertEquals("db.pool.", subset.getPrefix());
+		assertEquals(subset, config.subset("db.pool."));
+		assertEquals(3, subset.size());
+		assertEquals("10", subset.get("max"));
+		assertTrue(subset.containsKey("idle.timeout"));
+		assertFalse(subset.containsKey("size"));
+		assertNull(subset.get(""));
+		List<String> keys = new ArrayList<>(subset.keySet());
+		assertEquals(Arrays.asList("idle.timeout", "max", "min"), keys);
+
+		ConfigSubset idle = subset.subset("idle");
+		assertEquals(1, idle.size());
+		assertEquals("5", idle.get("timeout"));
+		assertSame(subset, subset.subset(""));
+
+		assertEquals(6, config.subset("").size());
+		assertEquals(6, config.subset(null).size());
+		assertTrue(config.subset("missing").isEmpty());
+		assertTrue(config.subset("db.pool.max").isEmpty());
+	}
+
+	/**
+	 * 部分集合が取得時点のスナップショットを参照し続け、以降の読み込みは新たに取得した部分集合に反映されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testSnapshot() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("before.properties", "app.a=1", "app.b=2"));
+		ConfigSubset before = config.subset("app");
+		config.load(write("after.properties", "app.b=3", "app.c=4"), ConfigLoadMode.REPLACE_EXISTS);
+		assertEquals(2, before.size());
+		assertEquals("2", before.get("b"));
+		ConfigSubset after = config.subset("app");
+		assertEquals(3, after.size());
+		assertEquals("3", after.get("b"));
+		assertEquals("4", after.get("c"));
+	}
+
+	/**
+	 * 部分集合が下位レイヤのプロパティを含むことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testLayer() throws IOException {
+		Map<String, String> defaults = new HashMap<>();
+		defaults.put("app.a", "default");
+		defaults.put("app.d", "default");
+		Config config = Config.layered(ConfigLayer.local(), ConfigLayer.of("default", defaults));
+		config.load(write("local.properties", "app.a=local", "app.b=local"));
+		ConfigSubset subset = config.subset("app");
+		assertEquals(3, subset.size());
+		assertEquals("local", subset.get("a"));
+		assertEquals("default", subset.get("d"));
+	}
+
+	/**
+	 * 部分集合が変更できないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testUnmodifiable() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("unmodifiable.properties", "app.a=1"));
+		ConfigSubset subset = config.subset("app");
+		try {
+			subset.put("b", "2");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// 想定された例外
+		}
+		try {
+			subset.entrySet().iterator().next().setValue("2");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// 想定された例外
+		}
+		assertEquals("1", config.subset("app").get("a"));
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file.getPath();
+	}
+}
@@ -0,0 +1,187 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.ideaccum.libs.commons.config.parser.BooleanParser;
+import org.ideaccum.libs.commons.config.parser.DoubleParser;
+import org.ideaccum.libs.commons.config.parser.IntParser;
+import org.ideaccum.libs.commons.config.parser.IntsParser;
+import org.ideaccum.libs.commons.config.parser.LongParser;
+import org.ideaccum.libs.commons.config.parser.LongsParser;
+import org.ideaccum.libs.commons.config.parser.StringsParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.Config}のプロパティ取得を検証するテストクラスです。<br>
+ * <p>
+ * キャッシュされた配列が複製して提供され、取得した配列の変更が以降の取得に影響しないことを検証します。<br>
+ * また、プリミティブ型で取得した値がラッパークラスで取得した値と一致し、再読み込み後は再読み込み後の値が提供されることを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ * 2026/10/17  agent            プリミティブ型での取得の検証を追加
+ *-->
+ */
+public class ConfigTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 取得した配列を変更してもキャッシュされた値が変更されないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testArrayCopy() throws IOException {
+		File file = folder.newFile("array.properties");
+		Files.write(file.toPath(), Arrays.asList(TestConfigName.INTS.getKey() + "=1,2,3", TestConfigName.STRINGS.getKey() + "=a,b"), StandardCharsets.ISO_8859_1);
+		Config config = Config.create(false);
+		config.load(file.getPath());
+
+		Integer[] boxed = config.get(TestConfigName.INTS);
+		assertArrayEquals(new Integer[] { 1, 2, 3 }, boxed);
+		boxed[0] = 9;
+		assertArrayEquals(new Integer[] { 1, 2, 3 }, config.get(TestConfigName.INTS));
+		assertNotSame(config.get(TestConfigName.INTS), config.get(TestConfigName.INTS));
+
+		String[] strings = config.get(TestConfigName.STRINGS);
+		strings[1] = "z";
+		assertArrayEquals(new String[] { "a", "b" }, config.get(TestConfigName.STRINGS));
+
+		int[] ints = config.getInts(TestConfigName.INTS);
+		assertArrayEquals(new int[] { 1, 2, 3 }, ints);
+		ints[2] = 9;
+		assertArrayEquals(new int[] { 1, 2, 3 }, config.getInts(TestConfigName.INTS));
+		assertNotSame(config.getInts(TestConfigName.INTS), config.getInts(TestConfigName.INTS));
+	}
+
+	/**
+	 * プリミティブ型で取得した値がラッパークラスで取得した値と一致し、未定義の場合は初期値となることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testPrimitive() throws IOException {
+		File file = folder.newFile("primitive.properties");
+		Files.write(file.toPath(), Arrays.asList( //
+				TestConfigName.INT.getKey() + "=-12", //
+				TestConfigName.LONG.getKey() + "=9223372036854775807", //
+				TestConfigName.DOUBLE.getKey() + "=2.5", //
+				TestConfigName.BOOLEAN.getKey() + "=true", //
+				TestConfigName.LONGS.getKey() + "=1,#2,3", //
+				TestConfigName.BOXED.getKey() + "=1,,3"), StandardCharsets.ISO_8859_1);
+		Config config = Config.create(false);
+		config.load(file.getPath());
+
+		assertEquals(-12, config.getInt(TestConfigName.INT));
+		assertEquals(Integer.valueOf(-12), config.get(TestConfigName.INT));
+		assertEquals(Long.MAX_VALUE, config.getLong(TestConfigName.LONG));
+		assertEquals(2.5D, config.getDouble(TestConfigName.DOUBLE), 0D);
+		assertTrue(config.getBoolean(TestConfigName.BOOLEAN));
+		assertArrayEquals(new long[] { 1L, 3L }, config.getLongs(TestConfigName.LONGS));
+		// プリミティブ型配列を提供しないパーサーの場合はパース済みの値から変換
+		assertArrayEquals(new int[] { 1, 0, 3 }, config.getInts(TestConfigName.BOXED));
+
+		assertEquals(0, config.getInt(TestConfigName.UNDEFINED));
+		assertEquals(0, config.getInts(TestConfigName.INTS).length);
+		assertEquals(0, config.getInts(null).length);
+	}
+
+	/**
+	 * プリミティブ型で取得した値が再読み込み後に再読み込み後の値となることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testPrimitiveReload() throws IOException {
+		File file = folder.newFile("reload.properties");
+		Files.write(file.toPath(), Arrays.asList(TestConfigName.INT.getKey() + "=1", TestConfigName.INTS.getKey() + "=1,2"), StandardCharsets.ISO_8859_1);
+		Config config = Config.create(false);
+		config.load(file.getPath());
+		assertEquals(1, config.getInt(TestConfigName.INT));
+		assertArrayEquals(new int[] { 1, 2 }, config.getInts(TestConfigName.INTS));
+		Files.write(file.toPath(), Arrays.asList(TestConfigName.INT.getKey() + "=2", TestConfigName.BOOLEAN.getKey() + "=false"), StandardCharsets.ISO_8859_1);
+		config.reload();
+		assertEquals(2, config.getInt(TestConfigName.INT));
+		assertEquals(0, config.getInts(TestConfigName.INTS).length);
+		assertFalse(config.getBoolean(TestConfigName.BOOLEAN));
+	}
+
+	/**
+	 * プリミティブ型配列を提供しない、検証に利用するパーサーです。<br>
+	 */
+	public static final class BoxedParser implements ConfigValueParser<Integer[]> {
+
+		/**
+		 * 空の要素をnullとして整数値配列にパースします。<br>
+		 * @param value プロパティ定義値
+		 * @return パース後定義値
+		 * @see org.ideaccum.libs.commons.config.ConfigValueParser#parse(java.lang.String)
+		 */
+		@Override
+		public Integer[] parse(String value) {
+			String[] tokens = value == null ? new String[0] : value.split(",");
+			Integer[] result = new Integer[tokens.length];
+			for (int i = 0; i <= tokens.length - 1; i++) {
+				result[i] = tokens[i].isEmpty() ? null : Integer.valueOf(tokens[i]);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * 検証に利用するプロパティアクセスキーです。<br>
+	 * @param <T> プロパティ値型
+	 */
+	static final class TestConfigName<T> extends ConfigName<T> {
+
+		/** 整数値配列プロパティ */
+		static final TestConfigName<Integer[]> INTS = new TestConfigName<>("config.test.ints", IntsParser.class);
+
+		/** 文字列配列プロパティ */
+		static final TestConfigName<String[]> STRINGS = new TestConfigName<>("config.test.strings", StringsParser.class);
+
+		/** 整数値プロパティ */
+		static final TestConfigName<Integer> INT = new TestConfigName<>("config.test.int", IntParser.class);
+
+		/** 長整数値プロパティ */
+		static final TestConfigName<Long> LONG = new TestConfigName<>("config.test.long", LongParser.class);
+
+		/** 長浮動小数値プロパティ */
+		static final TestConfigName<Double> DOUBLE = new TestConfigName<>("config.test.double", DoubleParser.class);
+
+		/** 真偽値プロパティ */
+		static final TestConfigName<Boolean> BOOLEAN = new TestConfigName<>("config.test.boolean", BooleanParser.class);
+
+		/** 長整数値配列プロパティ */
+		static final TestConfigName<Long[]> LONGS = new TestConfigName<>("config.test.longs", LongsParser.class);
+
+		/** プリミティブ型配列を提供しないパーサーの整数値配列プロパティ */
+		static final TestConfigName<Integer[]> BOXED = new TestConfigName<>("config.test.boxed", BoxedParser.class);
+
+		/** 定義されない整数値プロパティ */
+		static final TestConfigName<Integer> UNDEFINED = new TestConfigName<>("config.test.undefined", IntParser.class);
+
+		/**
+		 * コンストラクタ<br>
+		 * @param key プロパティキー
+		 * @param parserClass プロパティパーサークラス
+		 */
+		private TestConfigName(String key, Class<? extends ConfigValueParser<T>> parserClass) {
+			super(key, parserClass);
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.Config#tree()}が提供する階層形式のビューを検証するテストクラスです。<br>
+ * <p>
+ * プロパティキーが階層ごとのマップに展開されること、値を持つと同時に階層途中となるキーの値が空文字列をキーとして保持されること、
+ * 末尾の空の階層が無視されること、プロパティ定義情報が更新されるまで同一のインスタンスが提供されること及び、変更できないことを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigTreeTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * プロパティキーが階層ごとのマップに展開されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testNested() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("nested.properties", "a.b.c=1", "a.b.d=2", "a.e=3", "x=4"));
+		Map<String, Object> tree = config.tree();
+		assertEquals(2, tree.size());
+		assertEquals("4", tree.get("x"));
+		Map<?, ?> a = (Map<?, ?>) tree.get("a");
+		assertEquals(2, a.size());
+		assertEquals("3", a.get("e"));
+		Map<String, Object> b = new HashMap<>();
+		b.put("c", "1");
+		b.put("d", "2");
+		assertEquals(b, a.get("b"));
+		assertNull(tree.get("a.b"));
+		assertNull(tree.get("missing"));
+	}
+
+	/**
+	 * 値を持つと同時に階層途中となるキーの値が、下位階層のマップ内に空文字列をキーとして保持されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testLeafAndParent() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("leaf.properties", "foo=1", "foo.bar=2", "foo.bar.baz=3"));
+		Map<?, ?> foo = (Map<?, ?>) config.tree().get("foo");
+		assertEquals(2, foo.size());
+		assertEquals("1", foo.get(""));
+		Map<?, ?> bar = (Map<?, ?>) foo.get("bar");
+		assertEquals("2", bar.get(""));
+		assertEquals("3", bar.get("baz"));
+		assertEquals(1, config.tree().size());
+	}
+
+	/**
+	 * 末尾の空の階層が無視され、同一の階層に配置されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testTrailing() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("trailing.properties", "k.v.=1", "k.w=2"));
+		Map<?, ?> k = (Map<?, ?>) config.tree().get("k");
+		assertEquals(2, k.size());
+		assertEquals("1", k.get("v"));
+		assertEquals("2", k.get("w"));
+	}
+
+	/**
+	 * プロパティ定義情報が更新されるまで同一のインスタンスが提供され、更新後は更新後の内容が提供されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testCached() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("before.properties", "a.b=1"));
+		Map<String, Object> before = config.tree();
+		assertSame(before, config.tree());
+		assertSame(before.get("a"), config.tree().get("a"));
+		config.load(write("after.properties", "a.b=2"));
+		Map<String, Object> after = config.tree();
+		assertNotSame(before, after);
+		assertEquals("1", ((Map<?, ?>) before.get("a")).get("b"));
+		assertEquals("2", ((Map<?, ?>) after.get("a")).get("b"));
+	}
+
+	/**
+	 * 各階層のマップが変更できないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testUnmodifiable() throws IOException {
+		Config config = Config.create(false);
+		config.load(write("unmodifiable.properties", "a.b=1"));
+		Map<String, Object> tree = config.tree();
+		try {
+			tree.put("c", "2");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// 想定された例外
+		}
+		@SuppressWarnings("unchecked")
+		Map<String, Object> a = (Map<String, Object>) tree.get("a");
+		try {
+			a.remove("b");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// 想定された例外
+		}
+		assertTrue(a.containsKey("b"));
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソースパス
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private String write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+		return file.getPath();
+	}
+}
@@ -0,0 +1,166 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.Config#reload()}及び、{@link org.ideaccum.libs.commons.config.ConfigWatcher}による再読み込みを検証するテストクラスです。<br>
+ * <p>
+ * 再読み込みが差分読み込み及び、読み込みモードを含めて最後に全てのプロパティを置き換えた読み込み以降の手順を再実行すること、
+ * 変更監視による再読み込みが一度に反映され、リスナが再読み込み途中の状態を参照しないことを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigWatcherTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 再読み込みが差分読み込み及び、読み込みモードを含めて読み込み手順を再実行することを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testReload() throws IOException {
+		File base = write("base.properties", "a=1", "b=1", "c=1");
+		File extend = write("extend.properties", "b=2");
+		File skip = write("skip.properties", "a=3", "d=3");
+		File exists = write("exists.properties", "c=4");
+		Config config = Config.create(false);
+		config.load(base.getPath(), extend.getPath());
+		config.load(skip.getPath(), ConfigLoadMode.SKIP_EXISTS);
+		config.load(exists.getPath(), ConfigLoadMode.REPLACE_EXISTS);
+		assertEquals(Arrays.asList("1", "2", "4", "3"), values(config, "a", "b", "c", "d"));
+
+		write(base, "b=5", "c=5");
+		write(extend, "a=6");
+		write(skip, "a=7", "b=7", "d=7");
+		config.reload();
+		assertEquals(Arrays.asList("6", "5", "4", "7"), values(config, "a", "b", "c", "d"));
+	}
+
+	/**
+	 * 全てのプロパティを置き換える読み込み以前の手順が再読み込みで再実行されないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testReplaced() throws IOException {
+		File first = write("first.properties", "a=1");
+		File second = write("second.properties", "b=2");
+		Config config = Config.create(false);
+		config.load(first.getPath());
+		config.load(second.getPath());
+		write(first, "a=3", "b=3");
+		write(second, "b=4");
+		config.reload();
+		assertEquals(Arrays.asList(null, "4"), values(config, "a", "b"));
+	}
+
+	/**
+	 * 変更監視による再読み込みで複数のプロパティの変更が一度に反映され、リスナが再読み込み途中の状態を参照しないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * @throws InterruptedException 割り込みが発生した場合にスローされます
+	 */
+	@Test
+	public void testWatch() throws IOException, InterruptedException {
+		File file = write("watch.properties", "a=1", "b=1");
+		Config config = Config.create(false);
+		config.load(file.getPath());
+		List<String> observed = new CopyOnWriteArrayList<>();
+		config.addListener(event -> observed.add(config.map().get("a") + ":" + config.map().get("b")), "");
+		config.watch(50);
+		try {
+			for (int i = 2; i <= 4; i++) {
+				write(file, "a=" + i, "b=" + i);
+			}
+			long limit = System.currentTimeMillis() + 10000;
+			while (!"4".equals(config.map().get("a")) && System.currentTimeMillis() < limit) {
+				Thread.sleep(20);
+			}
+		} finally {
+			config.unwatch();
+		}
+		assertEquals(Arrays.asList("4", "4"), values(config, "a", "b"));
+		assertFalse(observed.isEmpty());
+		for (String value : observed) {
+			String[] pair = value.split(":");
+			assertEquals(value, pair[0], pair[1]);
+		}
+		assertTrue(observed.get(observed.size() - 1).startsWith("4"));
+	}
+
+	/**
+	 * 監視を終了した後は変更が反映されないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 * @throws InterruptedException 割り込みが発生した場合にスローされます
+	 */
+	@Test
+	public void testUnwatch() throws IOException, InterruptedException {
+		File file = write("unwatch.properties", "a=1");
+		Config config = Config.create(false);
+		config.load(file.getPath());
+		config.watch(10);
+		config.unwatch();
+		write(file, "a=2");
+		Thread.sleep(200);
+		assertEquals("1", config.map().get("a"));
+		assertNull(config.map().get("b"));
+	}
+
+	/**
+	 * 一時ディレクトリにプロパティリソースを作成します。<br>
+	 * @param name ファイル名
+	 * @param lines プロパティ定義行
+	 * @return プロパティリソース
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private File write(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		write(file, lines);
+		return file;
+	}
+
+	/**
+	 * プロパティリソースの内容を置き換えます。<br>
+	 * @param file プロパティリソース
+	 * @param lines プロパティ定義行
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private static void write(File file, String... lines) throws IOException {
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * 環境設定情報自身に読み込まれたプロパティ定義値を取得します。<br>
+	 * @param config 環境設定情報
+	 * @param keys プロパティキー
+	 * @return プロパティ定義値(定義されていない場合はnull)
+	 */
+	private static List<Object> values(Config config, String... keys) {
+		List<Object> values = new ArrayList<>();
+		for (String key : keys) {
+			values.add(config.map().get(key));
+		}
+		return values;
+	}
+}
@@ -0,0 +1,141 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigXmlPlan}によるXML構造クラスのオブジェクトのプロパティへの展開を検証するテストクラスです。<br>
+ * <p>
+ * 展開手順がクラスごとに共有されること、要素名の指定及び、階層の連結、未設定の要素の展開、
+ * 子要素を持つ要素が展開されないことをXML構造クラスを指定した読み込みを含めて検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigXmlPlanTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 展開手順がクラスごとに一度だけ生成されて共有されることを検証します。<br>
+	 */
+	@Test
+	public void testCached() {
+		assertSame(ConfigXmlPlan.of(Root.class), ConfigXmlPlan.of(Root.class));
+		assertSame(ConfigXmlPlan.of(Database.class), ConfigXmlPlan.of(Database.class));
+	}
+
+	/**
+	 * オブジェクトが要素名を階層で連結したキーで展開され、未設定の要素は空文字列、子要素を持つ要素は展開されないことを検証します。<br>
+	 */
+	@Test
+	public void testAnalyze() {
+		Root root = new Root();
+		root.name = "app";
+		root.database = new Database();
+		root.database.url = "jdbc:test";
+		root.database.size = 5;
+		for (int i = 0; i <= 1; i++) {
+			// 同一の展開手順による再展開でも同一の結果となること
+			Map<Object, Object> properties = new HashMap<>();
+			assertTrue(ConfigXmlPlan.of(Root.class).analyze(properties, null, root));
+			assertEquals("app", properties.get("app-name"));
+			assertEquals("jdbc:test", properties.get("db.url"));
+			assertEquals(5, properties.get("db.size"));
+			assertEquals("", properties.get("db.user"));
+			assertEquals("", properties.get("extra"));
+			assertFalse(properties.containsKey("db"));
+			assertEquals(5, properties.size());
+		}
+		Map<Object, Object> properties = new HashMap<>();
+		assertTrue(ConfigXmlPlan.of(Database.class).analyze(properties, "prefix", root.database));
+		assertEquals("jdbc:test", properties.get("prefix.url"));
+	}
+
+	/**
+	 * XML構造クラスを指定した読み込みで展開されたプロパティが反映されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testLoad() throws IOException {
+		File file = folder.newFile("root.xml");
+		Files.write(file.toPath(), Arrays.asList( //
+				"<root>", //
+				"  <app-name>app</app-name>", //
+				"  <db><url>jdbc:test</url><size>3</size></db>", //
+				"</root>"), StandardCharsets.UTF_8);
+		Config config = Config.create(false);
+		config.load(Root.class, file.getPath());
+		Map<String, Object> map = config.map();
+		assertEquals("app", map.get("app-name"));
+		assertEquals("jdbc:test", map.get("db.url"));
+		assertEquals("3", map.get("db.size"));
+		assertFalse(map.containsKey("db"));
+	}
+
+	/**
+	 * 検証に利用するXML構造クラスです。<br>
+	 */
+	@XmlRootElement(name = "root")
+	@XmlAccessorType(XmlAccessType.FIELD)
+	public static class Root {
+
+		/** 名称 */
+		@XmlElement(name = "app-name")
+		private String name;
+
+		/** データベース設定 */
+		@XmlElement(name = "db")
+		private Database database;
+
+		/** 未設定の要素 */
+		@XmlElement
+		private String extra;
+
+		/** 展開されないフィールド */
+		private String ignored = "ignored";
+	}
+
+	/**
+	 * 検証に利用する入れ子のXML構造クラスです。<br>
+	 */
+	@XmlAccessorType(XmlAccessType.FIELD)
+	public static class Database {
+
+		/** 接続URL */
+		@XmlElement
+		private String url;
+
+		/** 接続数 */
+		@XmlElement
+		private Integer size;
+
+		/** 未設定の要素 */
+		@XmlElement
+		private String user;
+	}
+}
@@ -0,0 +1,147 @@
+package org.ideaccum.libs.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.ConfigXmlReader}によるXMLリソースのプロパティへの展開規則を検証するテストクラスです。<br>
+ * <p>
+ * 要素の階層の連結、属性の展開、子要素を持つ要素のテキストの除外、繰り返し要素の連結、名前空間接頭辞の除外及び、
+ * 外部エンティティが解決されないことを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigXmlReaderTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * 子要素を持たない要素が階層を連結したキーで前後の空白を除去したテキストを値として展開され、子要素を持つ要素のテキストは無視されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testElement() throws IOException {
+		Map<String, String> map = read("element.xml", //
+				"<root>", //
+				"  mixed", //
+				"  <db>", //
+				"    <url> jdbc:test </url>", //
+				"    <password><![CDATA[a<b]]></password>", //
+				"    <empty/>", //
+				"  </db>", //
+				"</root>");
+		assertEquals("jdbc:test", map.get("root.db.url"));
+		assertEquals("a<b", map.get("root.db.password"));
+		assertEquals("", map.get("root.db.empty"));
+		assertNull(map.get("root"));
+		assertNull(map.get("root.db"));
+		assertEquals(3, map.size());
+	}
+
+	/**
+	 * 属性が"要素のキー[@属性名]"で展開され、テキストが空の要素は属性のみが展開されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testAttribute() throws IOException {
+		Map<String, String> map = read("attribute.xml", //
+				"<root version=\"1\">", //
+				"  <server host=\"localhost\" port=\"80\"/>", //
+				"  <name lang=\"ja\">value</name>", //
+				"</root>");
+		assertEquals("1", map.get("root[@version]"));
+		assertEquals("localhost", map.get("root.server[@host]"));
+		assertEquals("80", map.get("root.server[@port]"));
+		assertFalse(map.containsKey("root.server"));
+		assertEquals("ja", map.get("root.name[@lang]"));
+		assertEquals("value", map.get("root.name"));
+		assertEquals(5, map.size());
+	}
+
+	/**
+	 * 同一のキーとなる要素及び、属性の値が出現順に","で連結されることを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testRepeated() throws IOException {
+		Map<String, String> map = read("repeated.xml", //
+				"<root>", //
+				"  <host id=\"1\">a</host>", //
+				"  <host id=\"2\">b</host>", //
+				"  <host id=\"3\">c</host>", //
+				"  <group><item>x</item></group>", //
+				"  <group><item>y</item></group>", //
+				"</root>");
+		assertEquals("a,b,c", map.get("root.host"));
+		assertEquals("1,2,3", map.get("root.host[@id]"));
+		assertEquals("x,y", map.get("root.group.item"));
+	}
+
+	/**
+	 * キーに名前空間接頭辞が含まれないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testNamespace() throws IOException {
+		Map<String, String> map = read("namespace.xml", //
+				"<c:root xmlns:c=\"urn:test\">", //
+				"  <c:value c:type=\"text\">v</c:value>", //
+				"</c:root>");
+		assertEquals("v", map.get("root.value"));
+		assertEquals("text", map.get("root.value[@type]"));
+	}
+
+	/**
+	 * 外部エンティティが解決されないことを検証します。<br>
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	@Test
+	public void testExternalEntity() throws IOException {
+		File secret = folder.newFile("secret.txt");
+		Files.write(secret.toPath(), Arrays.asList("secret"), StandardCharsets.UTF_8);
+		Map<String, String> map;
+		try {
+			map = read("entity.xml", //
+					"<?xml version=\"1.0\"?>", //
+					"<!DOCTYPE root [<!ENTITY secret SYSTEM \"" + secret.toURI() + "\">]>", //
+					"<root><value>&secret;</value></root>");
+		} catch (IOException e) {
+			// 未定義のエンティティとして解析に失敗する場合も解決されていないものとする
+			return;
+		}
+		for (String value : map.values()) {
+			assertFalse(value, value.contains("secret"));
+		}
+	}
+
+	/**
+	 * 一時ディレクトリにXMLリソースを作成して読み込みます。<br>
+	 * @param name ファイル名
+	 * @param lines XML行
+	 * @return 読み込まれたプロパティ情報
+	 * @throws IOException 入出力例外が発生した場合にスローされます
+	 */
+	private Map<String, String> read(String name, String... lines) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+		return ConfigXmlReader.read(file.getPath());
+	}
+}
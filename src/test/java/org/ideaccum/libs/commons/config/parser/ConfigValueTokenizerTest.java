@@ -0,0 +1,87 @@
+package org.ideaccum.libs.commons.config.parser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * {@link org.ideaccum.libs.commons.config.parser.ConfigValueTokenizer}の分割仕様を検証するテストクラスです。<br>
+ * <p>
+ * {@link java.lang.String#split(String)}と同様に分割されること、コメントトークンが除外されること、トリム指定時に前後空白が除去されること、
+ * 各要素型へのパース結果が文字列を経由したパースと一致することを検証します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/17  agent            新規作成
+ *-->
+ */
+public class ConfigValueTokenizerTest {
+
+	/**
+	 * コメントトークンを含まない定義値が{@link java.lang.String#split(String)}と同様に分割されることを検証します。<br>
+	 */
+	@Test
+	public void testSplit() {
+		ConfigValueTokenizer tokenizer = ConfigValueTokenizer.getInstance(false);
+		for (String value : new String[] { "a", "a,b", "a,,b", ",a", "a,b,,", " a , b ", ",", ",,a,," }) {
+			assertArrayEquals(value, value.split(","), tokenizer.toStrings(value));
+		}
+		assertEquals(0, tokenizer.toStrings(null).length);
+	}
+
+	/**
+	 * 先頭が"#"のトークンがコメントとして除外され、トークン途中の"#"は除外されないことを検証します。<br>
+	 */
+	@Test
+	public void testComment() {
+		ConfigValueTokenizer tokenizer = ConfigValueTokenizer.getInstance(false);
+		assertArrayEquals(new String[] { "a", "b#c" }, tokenizer.toStrings("a,#x,b#c,#y"));
+		assertArrayEquals(new String[] { "a", " #x" }, tokenizer.toStrings("a, #x"));
+		assertArrayEquals(new int[] { 1, 3 }, tokenizer.toInts("1,#2,3"));
+		assertEquals(0, tokenizer.toStrings("#a,#b").length);
+	}
+
+	/**
+	 * トリム指定時に前後空白を除去したうえでコメント判定及び、パースが行われることを検証します。<br>
+	 */
+	@Test
+	public void testTrim() {
+		ConfigValueTokenizer tokenizer = ConfigValueTokenizer.getInstance(true);
+		assertArrayEquals(new String[] { "a", "b c", "", "d" }, tokenizer.toStrings(" a , b c ,, d , "));
+		assertArrayEquals(new String[] { "a" }, tokenizer.toStrings("a, #x"));
+		assertArrayEquals(new int[] { 1, -2 }, tokenizer.toInts(" 1 ,\t-2 "));
+		assertArrayEquals(new boolean[] { true, false }, tokenizer.toBooleans(" true , false "));
+	}
+
+	/**
+	 * 各要素型へのパース結果が境界値及び、直接パースの桁数を超える値を含めて正しいことを検証します。<br>
+	 */
+	@Test
+	public void testParse() {
+		ConfigValueTokenizer tokenizer = ConfigValueTokenizer.getInstance(false);
+		assertArrayEquals(new int[] { 0, Integer.MAX_VALUE, Integer.MIN_VALUE, -7 }, tokenizer.toInts("0,2147483647,-2147483648,-7"));
+		assertArrayEquals(new long[] { 123456789012345678L, Long.MAX_VALUE, Long.MIN_VALUE }, tokenizer.toLongs("123456789012345678,9223372036854775807,-9223372036854775808"));
+		assertArrayEquals(new short[] { 1, -32768 }, tokenizer.toShorts("1,-32768"));
+		assertArrayEquals(new double[] { 1.5D, -0.25D }, tokenizer.toDoubles("1.5,-0.25"), 0D);
+		assertArrayEquals(new float[] { 1.5F }, tokenizer.toFloats("1.5"), 0F);
+	}
+
+	/**
+	 * 多数の要素を持つ定義値が全ての要素を順に提供することを検証します。<br>
+	 */
+	@Test
+	public void testLong() {
+		int count = 10000;
+		StringBuilder builder = new StringBuilder();
+		int[] expected = new int[count];
+		for (int i = 0; i <= count - 1; i++) {
+			builder.append(i == 0 ? "" : ",").append(i);
+			expected[i] = i;
+		}
+		String value = builder.toString();
+		assertArrayEquals(expected, ConfigValueTokenizer.getInstance(false).toInts(value));
+		assertArrayEquals(value.split(","), ConfigValueTokenizer.getInstance(false).toStrings(value));
+	}
+}